@@ -0,0 +1,486 @@
+package codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Generates unrolled BFS pathfinders (subclasses of simpleplayer.BFS) for a given vision radius.
+ * <p>
+ * The generated code has the same shape as the original hand-written BFSDroid: every tile in the search disk gets its
+ * own static fields (location, distance, first direction, rubble cost), and the relaxation is fully unrolled, since
+ * local and static variable access is much cheaper than array access. Tiles are relaxed in order of increasing
+ * distance from the center, and each tile only relaxes from neighbors that were processed before it.
+ * <p>
+ * The search runs as concentric rings. Before each ring, if fewer than BFS.SEARCH_BYTECODE_RESERVE bytecodes plus the
+ * ring's estimated cost (see ringCost) are left, it stops, and directions are looked up from the rings it has finished
+ * so far. The search (computeField) and the
+ * lookup (getBestDir) are separate, so that one search can be used to compare several targets.
+ * <p>
+ * Rubble costs are kept between turns. After moving one step, the cached costs are shifted to the new center, so only
+ * the band of newly visible tiles needs senseRubble() calls. Newly sensed rubble is also written to RubbleMemory.
+ * <p>
+ * Each ring is sensed by one of two variants: one with onTheMap() checks, and one without, which is used when the ring
+ * lies entirely inside the map. Which one runs is decided per ring from the distance to the nearest map edge, so in
+ * the interior none of the checks are run, and next to an edge or in a corner, only the outer rings pay for them.
+ * <p>
+ * Usage (normally invoked through `./gradlew generateBFS`):
+ * <pre>
+ *      java codegen.BFSGenerator &lt;output dir&gt; &lt;package&gt; &lt;ClassName:radiusSquared&gt;...
+ * </pre>
+ * The radius doubles as the bytecode tier: the number of tiles (and so the bytecode cost) grows with the radius, so a
+ * unit with a small bytecode budget should use a smaller radius than its vision allows.
+ */
+public class BFSGenerator {
+
+    private static final String[] DIRECTION_NAMES = {"NORTH", "NORTHEAST", "EAST", "SOUTHEAST", "SOUTH",
+            "SOUTHWEST", "WEST", "NORTHWEST"};
+    private static final int[] DIRECTION_DX = {0, 1, 1, 1, 0, -1, -1, -1};
+    private static final int[] DIRECTION_DY = {1, 1, 0, -1, -1, -1, 0, 1};
+
+    // rough bytecode costs of the generated code, per tile: computing its location and resetting it, sensing it with
+    // onTheMap() and writing it to RubbleMemory, and relaxing it from one neighbor
+    static final int TILE_SETUP_BYTECODES = 12;
+    static final int TILE_SENSING_BYTECODES = 45;
+    static final int RELAXATION_BYTECODES = 10;
+
+    static final class Tile {
+        final int dx, dy;
+        final int index;
+
+        Tile(int dx, int dy, int index) {
+            this.dx = dx;
+            this.dy = dy;
+            this.index = index;
+        }
+
+        int distSq() {
+            return dx * dx + dy * dy;
+        }
+
+        boolean isAdjacentToCenter() {
+            return distSq() <= 2;
+        }
+    }
+
+    final String packageName;
+    final String className;
+    final int radiusSquared;
+
+    // the tiles are laid out on a (width x width) grid, so that the names of the variables are stable for a given
+    // radius
+    final int offset;
+    final int width;
+    final Tile center;
+    // all tiles except the center, in the order in which they are relaxed
+    final List<Tile> tiles = new ArrayList<>();
+    final Tile[][] grid;
+
+    BFSGenerator(String packageName, String className, int radiusSquared) {
+        this.packageName = packageName;
+        this.className = className;
+        this.radiusSquared = radiusSquared;
+        int maxDelta = (int) Math.floor(Math.sqrt(radiusSquared));
+        offset = maxDelta + 2;
+        width = 2 * offset + 1;
+        grid = new Tile[width][width];
+        center = new Tile(0, 0, indexOf(0, 0));
+        grid[offset][offset] = center;
+        for (int dx = -maxDelta; dx <= maxDelta; ++dx) {
+            for (int dy = -maxDelta; dy <= maxDelta; ++dy) {
+                if ((dx == 0 && dy == 0) || dx * dx + dy * dy > radiusSquared) {
+                    continue;
+                }
+                Tile t = new Tile(dx, dy, indexOf(dx, dy));
+                grid[dx + offset][dy + offset] = t;
+                tiles.add(t);
+            }
+        }
+        // Ring by ring (a ring is the set of tiles a given number of moves away), and within a ring by increasing
+        // distance, then counter-clockwise. The tile one step closer to the center is always in the previous ring, so
+        // it's always processed first. Finishing a whole ring at a time lets us stop the search early.
+        tiles.sort(Comparator.comparingInt(BFSGenerator::chebyshev).thenComparingInt(Tile::distSq)
+                .thenComparingDouble(t -> Math.atan2(t.dy, t.dx)));
+    }
+
+    static int chebyshev(Tile t) {
+        return Math.max(Math.abs(t.dx), Math.abs(t.dy));
+    }
+
+    int numRings() {
+        return chebyshev(tiles.get(tiles.size() - 1));
+    }
+
+    List<Tile> ring(int ring) {
+        List<Tile> result = new ArrayList<>();
+        for (Tile t : tiles) {
+            if (chebyshev(t) == ring) {
+                result.add(t);
+            }
+        }
+        return result;
+    }
+
+    final int indexOf(int dx, int dy) {
+        return (dx + offset) * width + (dy + offset);
+    }
+
+    Tile get(int dx, int dy) {
+        if (dx < -offset || dx > offset || dy < -offset || dy > offset) {
+            return null;
+        }
+        return grid[dx + offset][dy + offset];
+    }
+
+    /**
+     * @return An upper estimate of the bytecodes it takes to search the given ring, assuming none of it was sensed yet
+     */
+    int ringCost(int ring) {
+        int cost = 0;
+        for (Tile t : ring(ring)) {
+            cost += TILE_SETUP_BYTECODES + TILE_SENSING_BYTECODES;
+            cost += RELAXATION_BYTECODES * (t.isAdjacentToCenter() ? 1 : predecessors(t).size());
+        }
+        return cost;
+    }
+
+    int order(Tile t) {
+        return tiles.indexOf(t);
+    }
+
+    static int directionIndex(int dx, int dy) {
+        for (int i = 0; i < 8; ++i) {
+            if (DIRECTION_DX[i] == dx && DIRECTION_DY[i] == dy) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("not a direction: " + dx + ", " + dy);
+    }
+
+    // neighbors that are relaxed before t (or the center, if adjacent)
+    List<Tile> predecessors(Tile t) {
+        List<Tile> result = new ArrayList<>();
+        int myOrder = order(t);
+        for (int i = 0; i < 8; ++i) {
+            Tile n = get(t.dx + DIRECTION_DX[i], t.dy + DIRECTION_DY[i]);
+            if (n == null || n == center) {
+                continue;
+            }
+            if (order(n) < myOrder) {
+                result.add(n);
+            }
+        }
+        // relax from the tile straight toward the center first, for stable output
+        Tile parent = parent(t);
+        result.remove(parent);
+        result.add(0, parent);
+        return result;
+    }
+
+    Tile parent(Tile t) {
+        return get(t.dx - Integer.signum(t.dx), t.dy - Integer.signum(t.dy));
+    }
+
+    boolean isFrontier(Tile t) {
+        for (int i = 0; i < 8; ++i) {
+            if (get(t.dx + DIRECTION_DX[i], t.dy + DIRECTION_DY[i]) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    String generate() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(packageName).append(";\n\n");
+        sb.append("import battlecode.common.Clock;\n");
+        sb.append("import battlecode.common.Direction;\n");
+        sb.append("import battlecode.common.GameActionException;\n");
+        sb.append("import battlecode.common.MapLocation;\n\n");
+        sb.append("import static ").append(packageName).append(".RobotPlayer.rc;\n\n");
+        sb.append("// Generated by codegen.BFSGenerator for radius^2 = ").append(radiusSquared)
+                .append(". Don't edit this by hand, run `./gradlew generateBFS` instead.\n");
+        sb.append("public class ").append(className).append(" extends BFS {\n\n");
+
+        int c = center.index;
+        List<Tile> byIndex = new ArrayList<>(tiles);
+        byIndex.add(center);
+        byIndex.sort(Comparator.comparingInt(t -> t.index));
+        for (Tile t : byIndex) {
+            int i = t.index;
+            sb.append("    static MapLocation l").append(i).append(";\n");
+            if (t == center) {
+                sb.append("    static final int v").append(i).append(" = 0;\n\n");
+                continue;
+            }
+            sb.append("    static int v").append(i).append(";\n");
+            sb.append("    static Direction d").append(i).append(";\n");
+            sb.append("    static int p").append(i).append(";\n\n");
+        }
+        sb.append("    // where we were the last time we searched. The p values are kept relative to this location.\n");
+        sb.append("    static MapLocation lastCenter = null;\n\n");
+        sb.append("    private static int maxElapsed = 0;\n\n");
+
+        sb.append("    int computeField() throws GameActionException {\n");
+        sb.append("        int before = Debug.tic();\n\n");
+        sb.append("        l").append(c).append(" = rc.getLocation();\n");
+        // Rubble never changes, so the rubble costs from last turn are still good. If we've moved at most one step,
+        // shift them over, and only the newly visible tiles need to be sensed.
+        sb.append("        if (lastCenter == null || lastCenter.distanceSquaredTo(l").append(c).append(") > 2) {\n");
+        sb.append("            clearRubbleCache();\n");
+        sb.append("        } else if (!lastCenter.equals(l").append(c).append(")) {\n");
+        sb.append("            shiftRubbleCache(lastCenter.directionTo(l").append(c).append("));\n");
+        sb.append("        }\n");
+        sb.append("        lastCenter = l").append(c).append(";\n");
+        // every tile in ring k is on the map if we're at least k tiles away from every edge
+        sb.append("        int margin = l").append(c).append(".x;\n");
+        sb.append("        if (l").append(c).append(".y < margin) margin = l").append(c).append(".y;\n");
+        sb.append("        int edge = rc.getMapWidth() - 1 - l").append(c).append(".x;\n");
+        sb.append("        if (edge < margin) margin = edge;\n");
+        sb.append("        edge = rc.getMapHeight() - 1 - l").append(c).append(".y;\n");
+        sb.append("        if (edge < margin) margin = edge;\n");
+        int numRings = numRings();
+        for (int ring = 1; ring <= numRings; ++ring) {
+            List<Tile> ringTiles = ring(ring);
+            sb.append("\n        // ring ").append(ring).append("\n");
+            for (Tile t : ringTiles) {
+                Tile parent = parent(t);
+                String dir = DIRECTION_NAMES[directionIndex(t.dx - parent.dx, t.dy - parent.dy)];
+                sb.append("        l").append(t.index).append(" = l").append(parent.index).append(".add(Direction.")
+                        .append(dir).append(");\n");
+                sb.append("        v").append(t.index).append(" = 1000000;\n");
+                sb.append("        d").append(t.index).append(" = null;\n");
+            }
+            sb.append("        if (margin >= ").append(ring).append(") {\n");
+            appendSensing(sb, ringTiles, false, "            ");
+            sb.append("        } else {\n");
+            appendSensing(sb, ringTiles, true, "            ");
+            sb.append("        }\n");
+            for (Tile t : ringTiles) {
+                appendRelaxation(sb, t);
+            }
+            if (ring < numRings) {
+                // not enough time for the next ring, so settle for the rings we've finished
+                sb.append("        if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + ").append(ringCost(ring + 1))
+                        .append(") {\n");
+                sb.append("            maxElapsed = Debug.toc(before, \"").append(className)
+                        .append("-search\", maxElapsed);\n");
+                sb.append("            return ").append(ring).append(";\n");
+                sb.append("        }\n");
+            }
+        }
+        sb.append("        maxElapsed = Debug.toc(before, \"").append(className).append("-search\", maxElapsed);\n");
+        sb.append("        return ").append(numRings).append(";\n");
+        sb.append("    }\n\n");
+
+        sb.append("    Direction getBestDir(MapLocation target, int rings) {\n");
+        sb.append("        switch (rings) {\n");
+        for (int ring = 1; ring < numRings; ++ring) {
+            sb.append("            case ").append(ring).append(":\n");
+            sb.append("                return getBestDirWithinRing").append(ring).append("(target);\n");
+        }
+        sb.append("            default:\n");
+        sb.append("                return getBestDirWithinRing").append(numRings).append("(target);\n");
+        sb.append("        }\n");
+        sb.append("    }\n");
+
+        appendRubbleCache(sb);
+
+        for (int ring = 1; ring <= numRings; ++ring) {
+            sb.append("\n");
+            sb.append("    private static Direction getBestDirWithinRing").append(ring)
+                    .append("(MapLocation target) {\n");
+            // if the target is within range, just follow the tree
+            sb.append("        int dx = target.x - l").append(c).append(".x;\n");
+            sb.append("        int dy = target.y - l").append(c).append(".y;\n");
+            List<Tile> searched = new ArrayList<>();
+            for (Tile t : tiles) {
+                if (chebyshev(t) <= ring) {
+                    searched.add(t);
+                }
+            }
+            appendTreeLookup(sb, searched, "        ");
+            // otherwise, pick the frontier tile with the best progress per unit of cost
+            if (ring < numRings) {
+                appendEstimation(sb, ring(ring));
+            } else {
+                List<Tile> frontier = new ArrayList<>();
+                for (Tile t : tiles) {
+                    if (isFrontier(t)) {
+                        frontier.add(t);
+                    }
+                }
+                appendEstimation(sb, frontier);
+            }
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    // Fills in the unknown p values of a ring. p values are 0 if unknown, -1 if off the map, and the movement cost
+    // otherwise. If the whole ring is known to be on the map, the onTheMap() checks (~8 bytecodes each) are skipped.
+    private void appendSensing(StringBuilder sb, List<Tile> ringTiles, boolean checked, String indent) {
+        for (Tile t : ringTiles) {
+            int i = t.index;
+            sb.append(indent).append("if (p").append(i).append(" == 0) {\n");
+            if (checked) {
+                sb.append(indent).append("    if (rc.onTheMap(l").append(i).append(")) {\n");
+                sb.append(indent).append("        int rubble = rc.senseRubble(l").append(i).append(");\n");
+                sb.append(indent).append("        RubbleMemory.record(l").append(i).append(", rubble);\n");
+                sb.append(indent).append("        p").append(i).append(" = 10 + rubble;\n");
+                sb.append(indent).append("    } else {\n");
+                sb.append(indent).append("        p").append(i).append(" = -1;\n");
+                sb.append(indent).append("    }\n");
+            } else {
+                sb.append(indent).append("    int rubble = rc.senseRubble(l").append(i).append(");\n");
+                sb.append(indent).append("    RubbleMemory.record(l").append(i).append(", rubble);\n");
+                sb.append(indent).append("    p").append(i).append(" = 10 + rubble;\n");
+            }
+            sb.append(indent).append("}\n");
+        }
+    }
+
+    private void appendRelaxation(StringBuilder sb, Tile t) {
+        int i = t.index;
+        if (t.isAdjacentToCenter()) {
+            // robots only block the first step, since they will probably have moved by the time we get further
+            sb.append("        if (p").append(i).append(" > 0 && !rc.canSenseRobotAtLocation(l").append(i).append(")) {\n");
+            sb.append("            v").append(i).append(" = v").append(center.index).append(" + p").append(i)
+                    .append(";\n");
+            sb.append("            d").append(i).append(" = Direction.")
+                    .append(DIRECTION_NAMES[directionIndex(t.dx, t.dy)]).append(";\n");
+        } else {
+            sb.append("        if (p").append(i).append(" > 0) {\n");
+            boolean first = true;
+            for (Tile n : predecessors(t)) {
+                int j = n.index;
+                if (first) {
+                    sb.append("            v").append(i).append(" = v").append(j).append(" + p").append(i).append(";\n");
+                    sb.append("            d").append(i).append(" = d").append(j).append(";\n");
+                    first = false;
+                } else {
+                    sb.append("            if (v").append(i).append(" > v").append(j).append(" + p").append(i)
+                            .append(") {\n");
+                    sb.append("                v").append(i).append(" = v").append(j).append(" + p").append(i)
+                            .append(";\n");
+                    sb.append("                d").append(i).append(" = d").append(j).append(";\n");
+                    sb.append("            }\n");
+                }
+            }
+        }
+        sb.append("        }\n");
+    }
+
+    private void appendRubbleCache(StringBuilder sb) {
+        sb.append("\n");
+        sb.append("    private static void clearRubbleCache() {\n");
+        for (Tile t : tiles) {
+            sb.append("        p").append(t.index).append(" = 0;\n");
+        }
+        sb.append("    }\n\n");
+
+        // After moving in direction dir, the tile at offset o used to be at offset o + dir. Go in increasing order
+        // along dir, so that every value is read before it's overwritten.
+        sb.append("    private static void shiftRubbleCache(Direction dir) {\n");
+        sb.append("        switch (dir) {\n");
+        for (int k = 0; k < 8; ++k) {
+            final int ddx = DIRECTION_DX[k];
+            final int ddy = DIRECTION_DY[k];
+            List<Tile> sorted = new ArrayList<>(tiles);
+            sorted.sort(Comparator.comparingInt(t -> t.dx * ddx + t.dy * ddy));
+            sb.append("            case ").append(DIRECTION_NAMES[k]).append(":\n");
+            for (Tile t : sorted) {
+                Tile old = get(t.dx + ddx, t.dy + ddy);
+                sb.append("                p").append(t.index).append(" = ");
+                if (old == null || old == center) {
+                    // newly visible, or where we used to stand
+                    sb.append("0;\n");
+                } else {
+                    sb.append("p").append(old.index).append(";\n");
+                }
+            }
+            sb.append("                break;\n");
+        }
+        sb.append("            default:\n");
+        sb.append("                break;\n");
+        sb.append("        }\n");
+        sb.append("    }\n");
+    }
+
+    // returns the first step toward the target, if it's one of the given tiles. Expects dx and dy to be in scope.
+    // Also sets BFS.pathCost, so that several targets can be compared.
+    private void appendTreeLookup(StringBuilder sb, List<Tile> searched, String indent) {
+        sb.append(indent).append("switch (dx) {\n");
+        for (int dx = -offset; dx <= offset; ++dx) {
+            List<Tile> column = new ArrayList<>();
+            for (int dy = -offset; dy <= offset; ++dy) {
+                Tile t = get(dx, dy);
+                if (t != null && t != center && searched.contains(t)) {
+                    column.add(t);
+                }
+            }
+            if (column.isEmpty()) {
+                continue;
+            }
+            sb.append(indent).append("    case ").append(dx).append(":\n");
+            sb.append(indent).append("        switch (dy) {\n");
+            for (Tile t : column) {
+                sb.append(indent).append("            case ").append(t.dy).append(":\n");
+                sb.append(indent).append("                pathCost = v").append(t.index).append(";\n");
+                sb.append(indent).append("                return d").append(t.index).append(";\n");
+            }
+            sb.append(indent).append("        }\n");
+            sb.append(indent).append("        break;\n");
+        }
+        sb.append(indent).append("}\n");
+    }
+
+    // The path cost of the chosen frontier tile is its distance plus the straight-line remainder at the cheapest
+    // possible cost of 10 per step. That makes it an estimate of the full path cost, which is what BFS.pathCost needs.
+    private void appendEstimation(StringBuilder sb, List<Tile> candidates) {
+        List<Tile> sorted = new ArrayList<>(candidates);
+        sorted.sort(Comparator.comparingInt(t -> t.index));
+        sb.append("        Direction ans = null;\n");
+        sb.append("        double bestEstimation = 0;\n");
+        sb.append("        double ansCost = 0;\n");
+        sb.append("        double initialDist = Math.sqrt(l").append(center.index).append(".distanceSquaredTo(target));\n");
+        for (Tile t : sorted) {
+            int i = t.index;
+            sb.append("        double remaining").append(i).append(" = Math.sqrt(l").append(i)
+                    .append(".distanceSquaredTo(target));\n");
+            sb.append("        double dist").append(i).append(" = (initialDist - remaining").append(i)
+                    .append(") / v").append(i).append(";\n");
+            sb.append("        if (dist").append(i).append(" > bestEstimation) {\n");
+            sb.append("            bestEstimation = dist").append(i).append(";\n");
+            sb.append("            ans = d").append(i).append(";\n");
+            sb.append("            ansCost = v").append(i).append(" + 10 * remaining").append(i).append(";\n");
+            sb.append("        }\n");
+        }
+        sb.append("        pathCost = (int) ansCost;\n");
+        sb.append("        return ans;\n");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: BFSGenerator <output dir> <package> <ClassName:radiusSquared>...");
+            System.exit(1);
+        }
+        File outputDir = new File(args[0]);
+        String packageName = args[1];
+        for (int i = 2; i < args.length; ++i) {
+            String[] tokens = args[i].split(":");
+            String className = tokens[0];
+            int radiusSquared = Integer.parseInt(tokens[1]);
+            BFSGenerator generator = new BFSGenerator(packageName, className, radiusSquared);
+            File outputFile = new File(outputDir, className + ".java");
+            try (PrintWriter writer = new PrintWriter(outputFile, "UTF-8")) {
+                writer.print(generator.generate());
+            }
+            System.out.println("Wrote " + outputFile + " (" + generator.tiles.size() + " tiles)");
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates typed, bit-packed accessors for the shared array from a schema file.
+ * <p>
+ * Every field gets constants for its position, and read/write methods whose shifts and masks are constants, so the
+ * only runtime arithmetic is for array indices (and even then, only shifts and ands). Writes to fields narrower than a
+ * word read the word first, so that neighboring fields are preserved. All accesses go through SharedArrayCache, so
+ * that read-modify-writes don't cost more than one engine read and write per word and turn.
+ * <p>
+ * The generator fails (with a non-zero exit code, which fails the build) if two fields overlap, or if a field doesn't
+ * fit into the shared array. See generators/schema/simpleplayer.schema for the schema format.
+ * <p>
+ * Usage (normally invoked through `./gradlew generateSharedArray`):
+ * <pre>
+ *      java codegen.SharedArrayGenerator &lt;schema&gt; &lt;output dir&gt; &lt;package&gt; &lt;ClassName&gt;
+ * </pre>
+ */
+public class SharedArrayGenerator {
+
+    private static final int NUM_WORDS = 64;
+    private static final int BITS_PER_WORD = 16;
+
+    static final class Field {
+        final String name;
+        final int firstWord, firstBit, bits, count;
+        final boolean isArray, down, perWord;
+        final int line;
+
+        Field(String name, int firstWord, int firstBit, int bits, int count, boolean isArray, boolean down,
+              boolean perWord, int line) {
+            this.name = name;
+            this.firstWord = firstWord;
+            this.firstBit = firstBit;
+            this.bits = bits;
+            this.count = count;
+            this.isArray = isArray;
+            this.down = down;
+            this.perWord = perWord;
+            this.line = line;
+        }
+
+        boolean fitsInFirstWord() {
+            return count == 1 || !perWord && firstBit + count * bits <= BITS_PER_WORD;
+        }
+
+        // the word and bit of the given bit of the given element
+        int wordOf(int element, int bit) {
+            if (perWord) {
+                return firstWord + element;
+            }
+            int offset = firstBit + element * bits + bit;
+            return down ? firstWord - offset / BITS_PER_WORD : firstWord + offset / BITS_PER_WORD;
+        }
+
+        int bitOf(int element, int bit) {
+            if (perWord) {
+                return firstBit + bit;
+            }
+            return (firstBit + element * bits + bit) % BITS_PER_WORD;
+        }
+
+        int numWords() {
+            return Math.abs(wordOf(count - 1, bits - 1) - firstWord) + 1;
+        }
+    }
+
+    final String packageName;
+    final String className;
+    final List<Field> fields = new ArrayList<>();
+    final List<String> errors = new ArrayList<>();
+
+    SharedArrayGenerator(String packageName, String className) {
+        this.packageName = packageName;
+        this.className = className;
+    }
+
+    void parse(List<String> lines) {
+        for (int lineNumber = 1; lineNumber <= lines.size(); ++lineNumber) {
+            String line = lines.get(lineNumber - 1);
+            int comment = line.indexOf('#');
+            if (comment >= 0) {
+                line = line.substring(0, comment);
+            }
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] tokens = line.split("\\s+");
+            if (tokens.length < 4 || tokens.length > 6) {
+                errors.add("line " + lineNumber
+                        + ": expected <name> <first word> <first bit> <bits> [<count> [up|down|perword]]");
+                continue;
+            }
+            try {
+                String name = tokens[0];
+                int firstWord = Integer.parseInt(tokens[1]);
+                int firstBit = Integer.parseInt(tokens[2]);
+                int bits = Integer.parseInt(tokens[3]);
+                boolean isArray = tokens.length >= 5;
+                int count = isArray ? Integer.parseInt(tokens[4]) : 1;
+                boolean down = false;
+                boolean perWord = false;
+                if (tokens.length == 6) {
+                    if (tokens[5].equals("down")) {
+                        down = true;
+                    } else if (tokens[5].equals("perword")) {
+                        perWord = true;
+                    } else if (!tokens[5].equals("up")) {
+                        errors.add("line " + lineNumber + ": layout must be up, down or perword, not " + tokens[5]);
+                        continue;
+                    }
+                }
+                Field field = new Field(name, firstWord, firstBit, bits, count, isArray, down, perWord, lineNumber);
+                if (validate(field)) {
+                    fields.add(field);
+                }
+            } catch (NumberFormatException e) {
+                errors.add("line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+        checkOverlaps();
+    }
+
+    private boolean validate(Field f) {
+        String where = "line " + f.line + " (" + f.name + "): ";
+        if (f.bits < 1 || f.bits > BITS_PER_WORD) {
+            errors.add(where + "bits per element must be between 1 and " + BITS_PER_WORD);
+            return false;
+        }
+        if (f.firstBit < 0 || f.firstBit + f.bits > BITS_PER_WORD) {
+            errors.add(where + "the first element doesn't fit into its word");
+            return false;
+        }
+        if (f.count < 1) {
+            errors.add(where + "count must be positive");
+            return false;
+        }
+        if (!f.fitsInFirstWord() && !f.perWord && (f.firstBit != 0 || Integer.bitCount(f.bits) != 1)) {
+            errors.add(where + "arrays that span several words must start at bit 0 and have a power-of-two size");
+            return false;
+        }
+        int lastWord = f.wordOf(f.count - 1, f.bits - 1);
+        if (f.firstWord < 0 || f.firstWord >= NUM_WORDS || lastWord < 0 || lastWord >= NUM_WORDS) {
+            errors.add(where + "doesn't fit into the shared array (words " + f.firstWord + " to " + lastWord + ")");
+            return false;
+        }
+        return true;
+    }
+
+    private void checkOverlaps() {
+        Field[] owner = new Field[NUM_WORDS * BITS_PER_WORD];
+        for (Field f : fields) {
+            for (int element = 0; element < f.count; ++element) {
+                for (int bit = 0; bit < f.bits; ++bit) {
+                    int word = f.wordOf(element, bit);
+                    int position = word * BITS_PER_WORD + f.bitOf(element, bit);
+                    Field other = owner[position];
+                    if (other != null) {
+                        errors.add("line " + f.line + " (" + f.name + ") overlaps line " + other.line + " ("
+                                + other.name + ") at word " + word + ", bit " + f.bitOf(element, bit));
+                        return;
+                    }
+                    owner[position] = f;
+                }
+            }
+        }
+    }
+
+    static String constantName(String name) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : name.toCharArray()) {
+            if (Character.isUpperCase(c)) {
+                sb.append('_');
+            }
+            sb.append(Character.toUpperCase(c));
+        }
+        return sb.toString();
+    }
+
+    static String methodSuffix(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    static int log2(int x) {
+        return Integer.numberOfTrailingZeros(x);
+    }
+
+    String generate(String schemaName) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package ").append(packageName).append(";\n\n");
+        sb.append("import battlecode.common.GameActionException;\n\n");
+        sb.append("// Generated by codegen.SharedArrayGenerator from ").append(schemaName).append(".\n");
+        sb.append("// Don't edit this by hand, run `./gradlew generateSharedArray` instead.\n");
+        sb.append("public final class ").append(className).append(" {\n");
+
+        for (Field f : fields) {
+            String c = constantName(f.name);
+            sb.append("\n");
+            sb.append("    public static final int ").append(c).append("_INDEX = ").append(f.firstWord).append(";\n");
+            sb.append("    public static final int ").append(c).append("_WORDS = ").append(f.numWords()).append(";\n");
+            sb.append("    public static final int ").append(c).append("_SHIFT = ").append(f.firstBit).append(";\n");
+            sb.append("    public static final int ").append(c).append("_BITS = ").append(f.bits).append(";\n");
+            sb.append("    public static final int ").append(c).append("_MASK = ").append((1 << f.bits) - 1)
+                    .append(";\n");
+            if (f.isArray) {
+                sb.append("    public static final int ").append(c).append("_COUNT = ").append(f.count).append(";\n");
+            }
+        }
+
+        for (Field f : fields) {
+            sb.append("\n");
+            if (f.isArray) {
+                appendArrayAccessors(sb, f);
+            } else {
+                appendScalarAccessors(sb, f);
+            }
+        }
+        sb.append("\n");
+        appendFieldsAt(sb);
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private void appendScalarAccessors(StringBuilder sb, Field f) {
+        String c = constantName(f.name);
+        String m = methodSuffix(f.name);
+        sb.append("    public static int read").append(m).append("() throws GameActionException {\n");
+        if (f.bits == BITS_PER_WORD) {
+            sb.append("        return SharedArrayCache.read(").append(c).append("_INDEX);\n");
+        } else {
+            sb.append("        return (SharedArrayCache.read(").append(c).append("_INDEX) >> ").append(f.firstBit)
+                    .append(") & ").append((1 << f.bits) - 1).append(";\n");
+        }
+        sb.append("    }\n\n");
+        sb.append("    public static void write").append(m).append("(int value) throws GameActionException {\n");
+        if (f.bits == BITS_PER_WORD) {
+            sb.append("        SharedArrayCache.write(").append(c).append("_INDEX, value);\n");
+        } else {
+            int mask = ((1 << f.bits) - 1) << f.firstBit;
+            sb.append("        SharedArrayCache.write(").append(c).append("_INDEX, (SharedArrayCache.read(").append(c)
+                    .append("_INDEX) & ").append(~mask & 0xFFFF).append(") | (value << ").append(f.firstBit)
+                    .append("));\n");
+        }
+        sb.append("    }\n");
+    }
+
+    private void appendArrayAccessors(StringBuilder sb, Field f) {
+        String c = constantName(f.name);
+        String m = methodSuffix(f.name);
+        String sign = f.down ? " - " : " + ";
+        String index;
+        String shift;
+        if (f.bits == BITS_PER_WORD) {
+            index = c + "_INDEX" + sign + "i";
+            shift = null;
+        } else if (f.perWord && f.firstBit == 0) {
+            index = c + "_INDEX + i";
+            shift = "";
+        } else if (f.perWord) {
+            index = c + "_INDEX + i";
+            shift = Integer.toString(f.firstBit);
+        } else if (f.fitsInFirstWord()) {
+            index = c + "_INDEX";
+            String offset = Integer.bitCount(f.bits) == 1
+                    ? (f.bits == 1 ? "i" : "(i << " + log2(f.bits) + ")")
+                    : "i * " + f.bits;
+            shift = f.firstBit == 0 ? offset : f.firstBit + " + " + offset;
+        } else {
+            int logPerWord = log2(BITS_PER_WORD / f.bits);
+            index = c + "_INDEX" + sign + "(i >> " + logPerWord + ")";
+            int elementMask = (BITS_PER_WORD / f.bits) - 1;
+            shift = f.bits == 1 ? "(i & " + elementMask + ")" : "((i & " + elementMask + ") << " + log2(f.bits) + ")";
+        }
+
+        sb.append("    public static int read").append(m).append("(int i) throws GameActionException {\n");
+        if (shift == null) {
+            sb.append("        return SharedArrayCache.read(").append(index).append(");\n");
+        } else if (shift.isEmpty()) {
+            sb.append("        return SharedArrayCache.read(").append(index).append(") & ").append((1 << f.bits) - 1)
+                    .append(";\n");
+        } else {
+            sb.append("        return (SharedArrayCache.read(").append(index).append(") >> ").append(shift)
+                    .append(") & ").append((1 << f.bits) - 1).append(";\n");
+        }
+        sb.append("    }\n\n");
+
+        sb.append("    public static void write").append(m).append("(int i, int value) throws GameActionException {\n");
+        if (shift == null) {
+            sb.append("        SharedArrayCache.write(").append(index).append(", value);\n");
+        } else if (shift.isEmpty()) {
+            sb.append("        int index = ").append(index).append(";\n");
+            int mask = (1 << f.bits) - 1;
+            sb.append("        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ").append(~mask & 0xFFFF)
+                    .append(") | value);\n");
+        } else {
+            sb.append("        int index = ").append(index).append(";\n");
+            sb.append("        int shift = ").append(shift).append(";\n");
+            sb.append("        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(")
+                    .append((1 << f.bits) - 1).append(" << shift)) | (value << shift));\n");
+        }
+        sb.append("    }\n");
+    }
+
+    // a switch rather than a table, so that it costs nothing unless it's called
+    private void appendFieldsAt(StringBuilder sb) {
+        Map<String, List<Integer>> wordsByLabel = new LinkedHashMap<>();
+        for (int word = 0; word < NUM_WORDS; ++word) {
+            Set<String> names = new LinkedHashSet<>();
+            for (Field f : fields) {
+                for (int element = 0; element < f.count; ++element) {
+                    if (f.wordOf(element, 0) == word || f.wordOf(element, f.bits - 1) == word) {
+                        names.add(f.name);
+                    }
+                }
+            }
+            if (!names.isEmpty()) {
+                wordsByLabel.computeIfAbsent(String.join("/", names), k -> new ArrayList<>()).add(word);
+            }
+        }
+        sb.append("    /**\n");
+        sb.append("     * @return The names of the fields stored in the given word, for SharedArrayProfiler\n");
+        sb.append("     */\n");
+        sb.append("    public static String fieldsAt(int index) {\n");
+        sb.append("        switch (index) {\n");
+        for (Map.Entry<String, List<Integer>> entry : wordsByLabel.entrySet()) {
+            StringBuilder cases = new StringBuilder("           ");
+            for (int word : entry.getValue()) {
+                String c = " case " + word + ":";
+                if (cases.length() + c.length() > 100) {
+                    sb.append(cases).append("\n");
+                    cases = new StringBuilder("           ");
+                }
+                cases.append(c);
+            }
+            sb.append(cases).append("\n");
+            sb.append("                return \"").append(entry.getKey()).append("\";\n");
+        }
+        sb.append("            default:\n");
+        sb.append("                return \"unused\";\n");
+        sb.append("        }\n");
+        sb.append("    }\n");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            System.err.println("usage: SharedArrayGenerator <schema> <output dir> <package> <ClassName>");
+            System.exit(1);
+        }
+        File schema = new File(args[0]);
+        SharedArrayGenerator generator = new SharedArrayGenerator(args[2], args[3]);
+        generator.parse(Files.readAllLines(schema.toPath(), StandardCharsets.UTF_8));
+        if (!generator.errors.isEmpty()) {
+            for (String error : generator.errors) {
+                System.err.println(schema + ": " + error);
+            }
+            System.exit(1);
+        }
+        File outputFile = new File(args[1], args[3] + ".java");
+        try (PrintWriter writer = new PrintWriter(outputFile, "UTF-8")) {
+            writer.print(generator.generate(schema.getName()));
+        }
+        System.out.println("Wrote " + outputFile + " (" + generator.fields.size() + " fields)");
+    }
+}
@@ -74,7 +74,7 @@ maps = [
     # gimicky maps
     #'AllRubble',
     #'XenosArrow',
-    #'HardToPathfind',
+    'HardToPathfind',
 
     # Official maps
     'chessboard',
@@ -0,0 +1,676 @@
+package simpleplayer;
+
+import battlecode.common.GameActionException;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotInfo;
+import battlecode.common.RobotType;
+
+import static simpleplayer.RobotPlayer.*;
+
+/**
+ * Splits the map into square blocks, and shares 2 bits per block: whether it needs workers, and whether it needs
+ * attackers.
+ * <p>
+ * The block size is the smallest one whose grid still fits into the GRID_BLOCK_COUNT blocks of the shared array, but
+ * never smaller than MIN_BLOCK_SIZE, since a unit has to see a whole block to scan it. The grid is rounded up, so the
+ * last row and column of blocks may be narrower than the rest, and every tile belongs to a block. That's 6x6 blocks on
+ * 60x60 maps, and 4x4 blocks on small maps, instead of dropping the leftover tiles at the edges.
+ * <p>
+ * The catch with 6x6 blocks is that units with a vision radius of 20 (miners, soldiers and builders) only see all of one
+ * from its middle 2x2 tiles. 5x7 blocks would fit 60x60 maps too, but the ring searches and FlowField assume
+ * square blocks, so instead, those units count a block as fully scanned once they see MOSTLY_SEEN_PERCENT of it, which
+ * they do from anywhere in a 6x6 block but its corners. A few corner tiles may go uncounted, but otherwise the blocks
+ * they stand in would hardly ever become confident.
+ * <p>
+ * Every unit scans its own block each turn. Units with long vision (archons, watchtowers, laboratories and sages) mostly
+ * sit still with bytecode to spare, so every MULTI_BLOCK_SCAN_INTERVAL rounds they scan every block they can see any
+ * of instead. Each block has a confidence bit, set when a scan saw the whole block, or saw enemies in it. A scan that
+ * only sees part of a block still writes it, but only if it isn't confident, so a partial view fills in blocks nobody
+ * has seen properly, without overwriting a full one. Enemies are the exception, they're always worth reporting.
+ * <p>
+ * The confidence bits double as freshness stamps. Every SWEEP_INTERVAL rounds, the first unit to run sweeps the next
+ * word of confidence bits (16 blocks), round-robin: blocks that still aren't confident since the last sweep of their
+ * word lose their needs attacker bit, since nobody has seen the fight for a while, and then the whole word is cleared
+ * for the next sweep. A fight expires between one and two sweeps of the grid after anyone last saw it, and meanwhile
+ * idle units go and re-scan the blocks nobody has seen lately (see findClosestStaleLocation).
+ * <p>
+ * The geometry is static, since FlowField uses the same grid.
+ * <p>
+ * On top of the blocks, there's one summary bit per super-block (MIN_SUPER_BLOCK_SIZE x MIN_SUPER_BLOCK_SIZE blocks,
+ * or bigger if the grid would need more super-blocks than there are bits). It's set if none of the super-block's blocks
+ * need anything: scan() clears it as soon as a block needs something, and sets it again when the last block stops
+ * needing anything. Searches skip straight past the rings of blocks that are only in satisfied super-blocks, and when
+ * the whole map is satisfied, they only cost one read.
+ */
+public class AdaptiveGridStrategy extends GridStrategy {
+
+    private static final int MIN_BLOCK_SIZE = 4;
+    private static final int MIN_SUPER_BLOCK_SIZE = 4;
+
+    // -1 until initGeometry()
+    public static int blockSize = -1;
+    public static int rows, cols;
+
+    // each block gets 2 bits in the shared array (see SharedArrayLayout.readGridBlock)
+    // 0 denotes needing a worker, the default
+    private static final int ENOUGH_WORKERS_BIT = 1;
+    // 1 denotes needing an attacker
+    private static final int NEEDS_ATTACKER_BIT = 2;
+
+    // each bit repeated for all 8 blocks in a word
+    private static final int ENOUGH_WORKERS_PATTERN = 0x5555;
+    private static final int NEEDS_ATTACKER_PATTERN = 0xAAAA;
+    private static final int BLOCK_MASK = SharedArrayLayout.GRID_BLOCK_MASK;
+
+    // Block offsets (dx, dy) from the center outward: rings of increasing Chebyshev distance, and within each ring,
+    // increasing Euclidean distance (the 4 orthogonal offsets first, the 4 diagonal ones last). Entries are
+    // ((dx + 32) << 6) | (dy + 32), which keeps them clear of the characters that can't be escaped in a string
+    // literal. It covers rings up to 14, enough for a 15 x 15 grid from any block in it.
+    private static final String RING_ORDER = "\u0820\u07e0\u0860\u081f\u0821\u07df\u07e1\u085f\u0861\u07a0\u08a0\u081e\u0822\u079f\u07a1\u089f"
+            + "\u08a1\u07de\u085e\u07e2\u0862\u079e\u07a2\u089e\u08a2\u0760\u08e0\u081d\u0823\u075f\u0761\u08df"
+            + "\u08e1\u07dd\u085d\u07e3\u0863\u075e\u0762\u08de\u08e2\u079d\u089d\u07a3\u08a3\u075d\u0763\u08dd"
+            + "\u08e3\u0720\u0920\u081c\u0824\u071f\u0721\u091f\u0921\u07dc\u085c\u07e4\u0864\u071e\u0722\u091e"
+            + "\u0922\u079c\u089c\u07a4\u08a4\u071d\u0723\u091d\u0923\u075c\u08dc\u0764\u08e4\u071c\u0724\u091c"
+            + "\u0924\u06e0\u0960\u081b\u0825\u06df\u06e1\u095f\u0961\u07db\u085b\u07e5\u0865\u06de\u06e2\u095e"
+            + "\u0962\u079b\u089b\u07a5\u08a5\u06dd\u06e3\u095d\u0963\u075b\u08db\u0765\u08e5\u06dc\u06e4\u095c"
+            + "\u0964\u071b\u091b\u0725\u0925\u06db\u06e5\u095b\u0965\u06a0\u09a0\u081a\u0826\u069f\u06a1\u099f"
+            + "\u09a1\u07da\u085a\u07e6\u0866\u069e\u06a2\u099e\u09a2\u079a\u089a\u07a6\u08a6\u069d\u06a3\u099d"
+            + "\u09a3\u075a\u08da\u0766\u08e6\u069c\u06a4\u099c\u09a4\u071a\u091a\u0726\u0926\u069b\u06a5\u099b"
+            + "\u09a5\u06da\u095a\u06e6\u0966\u069a\u06a6\u099a\u09a6\u0660\u09e0\u0819\u0827\u065f\u0661\u09df"
+            + "\u09e1\u07d9\u0859\u07e7\u0867\u065e\u0662\u09de\u09e2\u0799\u0899\u07a7\u08a7\u065d\u0663\u09dd"
+            + "\u09e3\u0759\u08d9\u0767\u08e7\u065c\u0664\u09dc\u09e4\u0719\u0919\u0727\u0927\u065b\u0665\u09db"
+            + "\u09e5\u06d9\u0959\u06e7\u0967\u065a\u0666\u09da\u09e6\u0699\u0999\u06a7\u09a7\u0659\u0667\u09d9"
+            + "\u09e7\u0620\u0a20\u0818\u0828\u061f\u0621\u0a1f\u0a21\u07d8\u0858\u07e8\u0868\u061e\u0622\u0a1e"
+            + "\u0a22\u0798\u0898\u07a8\u08a8\u061d\u0623\u0a1d\u0a23\u0758\u08d8\u0768\u08e8\u061c\u0624\u0a1c"
+            + "\u0a24\u0718\u0918\u0728\u0928\u061b\u0625\u0a1b\u0a25\u06d8\u0958\u06e8\u0968\u061a\u0626\u0a1a"
+            + "\u0a26\u0698\u0998\u06a8\u09a8\u0619\u0627\u0a19\u0a27\u0658\u09d8\u0668\u09e8\u0618\u0628\u0a18"
+            + "\u0a28\u05e0\u0a60\u0817\u0829\u05df\u05e1\u0a5f\u0a61\u07d7\u0857\u07e9\u0869\u05de\u05e2\u0a5e"
+            + "\u0a62\u0797\u0897\u07a9\u08a9\u05dd\u05e3\u0a5d\u0a63\u0757\u08d7\u0769\u08e9\u05dc\u05e4\u0a5c"
+            + "\u0a64\u0717\u0917\u0729\u0929\u05db\u05e5\u0a5b\u0a65\u06d7\u0957\u06e9\u0969\u05da\u05e6\u0a5a"
+            + "\u0a66\u0697\u0997\u06a9\u09a9\u05d9\u05e7\u0a59\u0a67\u0657\u09d7\u0669\u09e9\u05d8\u05e8\u0a58"
+            + "\u0a68\u0617\u0a17\u0629\u0a29\u05d7\u05e9\u0a57\u0a69\u05a0\u0aa0\u0816\u082a\u059f\u05a1\u0a9f"
+            + "\u0aa1\u07d6\u0856\u07ea\u086a\u059e\u05a2\u0a9e\u0aa2\u0796\u0896\u07aa\u08aa\u059d\u05a3\u0a9d"
+            + "\u0aa3\u0756\u08d6\u076a\u08ea\u059c\u05a4\u0a9c\u0aa4\u0716\u0916\u072a\u092a\u059b\u05a5\u0a9b"
+            + "\u0aa5\u06d6\u0956\u06ea\u096a\u059a\u05a6\u0a9a\u0aa6\u0696\u0996\u06aa\u09aa\u0599\u05a7\u0a99"
+            + "\u0aa7\u0656\u09d6\u066a\u09ea\u0598\u05a8\u0a98\u0aa8\u0616\u0a16\u062a\u0a2a\u0597\u05a9\u0a97"
+            + "\u0aa9\u05d6\u0a56\u05ea\u0a6a\u0596\u05aa\u0a96\u0aaa\u0560\u0ae0\u0815\u082b\u055f\u0561\u0adf"
+            + "\u0ae1\u07d5\u0855\u07eb\u086b\u055e\u0562\u0ade\u0ae2\u0795\u0895\u07ab\u08ab\u055d\u0563\u0add"
+            + "\u0ae3\u0755\u08d5\u076b\u08eb\u055c\u0564\u0adc\u0ae4\u0715\u0915\u072b\u092b\u055b\u0565\u0adb"
+            + "\u0ae5\u06d5\u0955\u06eb\u096b\u055a\u0566\u0ada\u0ae6\u0695\u0995\u06ab\u09ab\u0559\u0567\u0ad9"
+            + "\u0ae7\u0655\u09d5\u066b\u09eb\u0558\u0568\u0ad8\u0ae8\u0615\u0a15\u062b\u0a2b\u0557\u0569\u0ad7"
+            + "\u0ae9\u05d5\u0a55\u05eb\u0a6b\u0556\u056a\u0ad6\u0aea\u0595\u0a95\u05ab\u0aab\u0555\u056b\u0ad5"
+            + "\u0aeb\u0520\u0b20\u0814\u082c\u051f\u0521\u0b1f\u0b21\u07d4\u0854\u07ec\u086c\u051e\u0522\u0b1e"
+            + "\u0b22\u0794\u0894\u07ac\u08ac\u051d\u0523\u0b1d\u0b23\u0754\u08d4\u076c\u08ec\u051c\u0524\u0b1c"
+            + "\u0b24\u0714\u0914\u072c\u092c\u051b\u0525\u0b1b\u0b25\u06d4\u0954\u06ec\u096c\u051a\u0526\u0b1a"
+            + "\u0b26\u0694\u0994\u06ac\u09ac\u0519\u0527\u0b19\u0b27\u0654\u09d4\u066c\u09ec\u0518\u0528\u0b18"
+            + "\u0b28\u0614\u0a14\u062c\u0a2c\u0517\u0529\u0b17\u0b29\u05d4\u0a54\u05ec\u0a6c\u0516\u052a\u0b16"
+            + "\u0b2a\u0594\u0a94\u05ac\u0aac\u0515\u052b\u0b15\u0b2b\u0554\u0ad4\u056c\u0aec\u0514\u052c\u0b14"
+            + "\u0b2c\u04e0\u0b60\u0813\u082d\u04df\u04e1\u0b5f\u0b61\u07d3\u0853\u07ed\u086d\u04de\u04e2\u0b5e"
+            + "\u0b62\u0793\u0893\u07ad\u08ad\u04dd\u04e3\u0b5d\u0b63\u0753\u08d3\u076d\u08ed\u04dc\u04e4\u0b5c"
+            + "\u0b64\u0713\u0913\u072d\u092d\u04db\u04e5\u0b5b\u0b65\u06d3\u0953\u06ed\u096d\u04da\u04e6\u0b5a"
+            + "\u0b66\u0693\u0993\u06ad\u09ad\u04d9\u04e7\u0b59\u0b67\u0653\u09d3\u066d\u09ed\u04d8\u04e8\u0b58"
+            + "\u0b68\u0613\u0a13\u062d\u0a2d\u04d7\u04e9\u0b57\u0b69\u05d3\u0a53\u05ed\u0a6d\u04d6\u04ea\u0b56"
+            + "\u0b6a\u0593\u0a93\u05ad\u0aad\u04d5\u04eb\u0b55\u0b6b\u0553\u0ad3\u056d\u0aed\u04d4\u04ec\u0b54"
+            + "\u0b6c\u0513\u0b13\u052d\u0b2d\u04d3\u04ed\u0b53\u0b6d\u04a0\u0ba0\u0812\u082e\u049f\u04a1\u0b9f"
+            + "\u0ba1\u07d2\u0852\u07ee\u086e\u049e\u04a2\u0b9e\u0ba2\u0792\u0892\u07ae\u08ae\u049d\u04a3\u0b9d"
+            + "\u0ba3\u0752\u08d2\u076e\u08ee\u049c\u04a4\u0b9c\u0ba4\u0712\u0912\u072e\u092e\u049b\u04a5\u0b9b"
+            + "\u0ba5\u06d2\u0952\u06ee\u096e\u049a\u04a6\u0b9a\u0ba6\u0692\u0992\u06ae\u09ae\u0499\u04a7\u0b99"
+            + "\u0ba7\u0652\u09d2\u066e\u09ee\u0498\u04a8\u0b98\u0ba8\u0612\u0a12\u062e\u0a2e\u0497\u04a9\u0b97"
+            + "\u0ba9\u05d2\u0a52\u05ee\u0a6e\u0496\u04aa\u0b96\u0baa\u0592\u0a92\u05ae\u0aae\u0495\u04ab\u0b95"
+            + "\u0bab\u0552\u0ad2\u056e\u0aee\u0494\u04ac\u0b94\u0bac\u0512\u0b12\u052e\u0b2e\u0493\u04ad\u0b93"
+            + "\u0bad\u04d2\u0b52\u04ee\u0b6e\u0492\u04ae\u0b92\u0bae";
+    private static final int RING_ENTRY_SHIFT = 6;
+    private static final int RING_ENTRY_MASK = (1 << RING_ENTRY_SHIFT) - 1;
+    private static final int RING_ENTRY_OFFSET = 32;
+
+    // units that can see further than this map all the blocks around them, not just their own
+    private static final int SHORT_VISION_RADIUS_SQUARED = 20;
+    // units with short vision count a block they see this much of as fully scanned
+    private static final int MOSTLY_SEEN_PERCENT = 75;
+    // units with long vision mostly sit still, so they don't need to map everything every turn
+    private static final int MULTI_BLOCK_SCAN_INTERVAL = 5;
+    // rounds between sweeps of one word of confidence bits
+    private static final int SWEEP_INTERVAL = 8;
+    // idle units spread out over this many of the closest stale blocks, by robot ID, so they don't all go to the same one
+    private static final int STALE_CHOICES = 4;
+    // the most blocks that a unit can see any of, even with 4x4 blocks and a laboratory's vision radius
+    private static final int MAX_SCANNED_BLOCKS = 25;
+
+    // per scanned block, see scan()
+    private final double[] resources = new double[MAX_SCANNED_BLOCKS];
+    private final int[] ourWorkers = new int[MAX_SCANNED_BLOCKS];
+    private final int[] ourAttackers = new int[MAX_SCANNED_BLOCKS];
+    private final int[] theirAttackers = new int[MAX_SCANNED_BLOCKS];
+    private final int[] theirNonAttackers = new int[MAX_SCANNED_BLOCKS];
+    private final int[] robots = new int[MAX_SCANNED_BLOCKS];
+
+    private int numWords;
+    // the blocks in the last word that are part of the grid
+    private int lastWordMask;
+    // the same for the confidence bits
+    private int numConfidenceWords;
+    private int lastConfidenceWordMask;
+    // in blocks
+    private int superBlockSize;
+    private int superBlockRows, superBlockCols;
+    // one bit for every super-block in the grid
+    private int allSuperBlocksMask;
+    private final int[] matches = new int[SharedArrayLayout.GRID_BLOCK_WORDS];
+    // one bit for every block nobody has seen lately, see findClosestStaleLocation()
+    private final int[] stale = new int[SharedArrayLayout.GRID_CONFIDENCE_WORDS];
+    private boolean initialized = false;
+
+    public static void initGeometry() {
+        if (blockSize != -1) {
+            return;
+        }
+        int width = rc.getMapWidth();
+        int height = rc.getMapHeight();
+        blockSize = MIN_BLOCK_SIZE;
+        while (((width + blockSize - 1) / blockSize) * ((height + blockSize - 1) / blockSize)
+                > SharedArrayLayout.GRID_BLOCK_COUNT) {
+            ++blockSize;
+        }
+        cols = (width + blockSize - 1) / blockSize;
+        rows = (height + blockSize - 1) / blockSize;
+    }
+
+    /**
+     * @return The center of the block, which is inside the map even for the narrower blocks at the edges
+     */
+    public static MapLocation getBlockCenter(int gridX, int gridY) {
+        int left = gridX * blockSize;
+        int bot = gridY * blockSize;
+        return new MapLocation(left + (Math.min(left + blockSize, rc.getMapWidth()) - left) / 2,
+                bot + (Math.min(bot + blockSize, rc.getMapHeight()) - bot) / 2);
+    }
+
+    private void init() {
+        initGeometry();
+        superBlockSize = MIN_SUPER_BLOCK_SIZE;
+        while (((cols + superBlockSize - 1) / superBlockSize) * ((rows + superBlockSize - 1) / superBlockSize)
+                > SharedArrayLayout.GRID_SUMMARY_COUNT) {
+            ++superBlockSize;
+        }
+        superBlockCols = (cols + superBlockSize - 1) / superBlockSize;
+        superBlockRows = (rows + superBlockSize - 1) / superBlockSize;
+        allSuperBlocksMask = (1 << (superBlockCols * superBlockRows)) - 1;
+        int numBlocks = cols * rows;
+        numWords = (numBlocks + 7) >> 3;
+        int blocksInLastWord = numBlocks - ((numWords - 1) << 3);
+        lastWordMask = blocksInLastWord == 8 ? 0xFFFF : (1 << (blocksInLastWord << 1)) - 1;
+        numConfidenceWords = (numBlocks + 15) >> 4;
+        lastConfidenceWordMask = (1 << (numBlocks - ((numConfidenceWords - 1) << 4))) - 1;
+        initialized = true;
+    }
+
+    public void updatePerTurn() throws GameActionException {
+        if (!initialized) {
+            init();
+        }
+        int epoch = rc.getRoundNum() / SWEEP_INTERVAL;
+        // only the low bits are stored, which is enough since someone runs in every epoch
+        if (SharedArrayLayout.readGridSweepEpoch() != (epoch & SharedArrayLayout.GRID_SWEEP_EPOCH_MASK)) {
+            sweep(epoch);
+        }
+        MapLocation loc = rc.getLocation();
+        int gridX = loc.x / blockSize;
+        int gridY = loc.y / blockSize;
+        if (myType.visionRadiusSquared > SHORT_VISION_RADIUS_SQUARED
+                && rc.getRoundNum() % MULTI_BLOCK_SCAN_INTERVAL == 0) {
+            // every block we can see any of
+            int r = Util.sqrt(myType.visionRadiusSquared);
+            scan(loc, Math.max(loc.x - r, 0) / blockSize, Math.min(loc.x + r, rc.getMapWidth() - 1) / blockSize,
+                    Math.max(loc.y - r, 0) / blockSize, Math.min(loc.y + r, rc.getMapHeight() - 1) / blockSize);
+        } else {
+            scan(loc, gridX, gridX, gridY, gridY);
+        }
+    }
+
+    // expires the fights in one word of blocks that nobody saw since the last time this word was swept
+    private void sweep(int epoch) throws GameActionException {
+        SharedArrayLayout.writeGridSweepEpoch(epoch & SharedArrayLayout.GRID_SWEEP_EPOCH_MASK);
+        int word = epoch % numConfidenceWords;
+        int index = SharedArrayLayout.GRID_CONFIDENCE_INDEX + word;
+        int stale = ~SharedArrayCache.read(index) & (word == numConfidenceWords - 1 ? lastConfidenceWordMask : 0xFFFF);
+        while (stale != 0) {
+            int gridIdx = (word << 4) + Integer.numberOfTrailingZeros(stale);
+            stale &= stale - 1;
+            int value = SharedArrayLayout.readGridBlock(gridIdx);
+            if ((value & NEEDS_ATTACKER_BIT) != 0) {
+                writeBlock(gridIdx / rows, gridIdx % rows, value & ~NEEDS_ATTACKER_BIT);
+            }
+        }
+        SharedArrayCache.write(index, 0);
+    }
+
+    @Override
+    public void setAttackLocation(MapLocation loc) throws GameActionException {
+        if (!initialized) {
+            init();
+        }
+
+        int gridX = loc.x / blockSize;
+        int gridY = loc.y / blockSize;
+
+        writeBlock(gridX, gridY, SharedArrayLayout.readGridBlock(gridX * rows + gridY) | NEEDS_ATTACKER_BIT);
+        // so that it lasts until the next sweep, like a fight someone saw
+        SharedArrayLayout.writeGridConfidence(gridX * rows + gridY, 1);
+    }
+
+    // writes the block, and keeps the summary bit of its super-block up to date
+    private void writeBlock(int gridX, int gridY, int value) throws GameActionException {
+        int gridIdx = gridX * rows + gridY;
+        int before = SharedArrayLayout.readGridBlock(gridIdx);
+        SharedArrayLayout.writeGridBlock(gridIdx, value);
+        int superX = gridX / superBlockSize;
+        int superY = gridY / superBlockSize;
+        int superIdx = superX * superBlockRows + superY;
+        if (value != ENOUGH_WORKERS_BIT) {
+            SharedArrayLayout.writeGridSummary(superIdx, 0);
+            return;
+        }
+        if (before == ENOUGH_WORKERS_BIT) {
+            // nothing changed, so neither did the summary
+            return;
+        }
+        // this block is satisfied now, see if it was the last one
+        int left = superX * superBlockSize;
+        int bot = superY * superBlockSize;
+        int right = Math.min(left + superBlockSize, cols);
+        int top = Math.min(bot + superBlockSize, rows);
+        for (int x = left; x < right; ++x) {
+            for (int y = bot; y < top; ++y) {
+                if (SharedArrayLayout.readGridBlock(x * rows + y) != ENOUGH_WORKERS_BIT) {
+                    return;
+                }
+            }
+        }
+        SharedArrayLayout.writeGridSummary(superIdx, 1);
+    }
+
+    /**
+     * Scans the blocks from (minGridX, minGridY) to (maxGridX, maxGridY) that are at least partly in vision. Blocks that
+     * are entirely in vision (or mostly, for units with short vision), or that need attackers, are marked as confident. Blocks we can only see part of are only
+     * written if they aren't confident, so that a partial view never overwrites a full one, except to add the needs
+     * attacker bit.
+     * <p>
+     * Resources are sensed once, within the smallest circle around the scanned blocks if that's smaller than our vision
+     * (usually when we only scan our own block), and robots come from the ones sensed at the start of the turn. Both are
+     * sorted into blocks, instead of sensing every tile of every block. All the writes go through SharedArrayCache, so
+     * each word costs one write at the end of the turn, however many of its blocks changed.
+     */
+    private void scan(MapLocation loc, int minGridX, int maxGridX, int minGridY, int maxGridY)
+            throws GameActionException {
+        final int visionRadiusSquared = myType.visionRadiusSquared;
+        final int spanX = maxGridX - minGridX + 1;
+        final int spanY = maxGridY - minGridY + 1;
+        final int numScanned = spanX * spanY;
+        final double[] resources = this.resources;
+        final int[] ourWorkers = this.ourWorkers;
+        final int[] ourAttackers = this.ourAttackers;
+        final int[] theirAttackers = this.theirAttackers;
+        final int[] theirNonAttackers = this.theirNonAttackers;
+        final int[] robots = this.robots;
+        for (int i = numScanned; --i >= 0; ) {
+            resources[i] = 0;
+            ourWorkers[i] = 0;
+            ourAttackers[i] = 0;
+            theirAttackers[i] = 0;
+            theirNonAttackers[i] = 0;
+            robots[i] = 0;
+        }
+
+        final int width = rc.getMapWidth();
+        final int height = rc.getMapHeight();
+        // the smallest circle around the scanned blocks, with its center on a tile
+        int minX = minGridX * blockSize;
+        int maxX = Math.min((maxGridX + 1) * blockSize, width) - 1;
+        int minY = minGridY * blockSize;
+        int maxY = Math.min((maxGridY + 1) * blockSize, height) - 1;
+        MapLocation center = new MapLocation((minX + maxX) / 2, (minY + maxY) / 2);
+        int dx = Math.max(center.x - minX, maxX - center.x);
+        int dy = Math.max(center.y - minY, maxY - center.y);
+        int radiusSquared = dx * dx + dy * dy;
+        if (radiusSquared >= visionRadiusSquared) {
+            center = loc;
+            radiusSquared = visionRadiusSquared;
+        }
+
+        MapLocation[] locations = rc.senseNearbyLocationsWithLead(center, radiusSquared);
+        for (int i = locations.length; --i >= 0; ) {
+            MapLocation tile = locations[i];
+            int bx = tile.x / blockSize - minGridX;
+            int by = tile.y / blockSize - minGridY;
+            if (bx < 0 || by < 0 || bx >= spanX || by >= spanY) {
+                continue;
+            }
+            // the base lead only gives us 3 lead every 50 turns, so only count it as that.
+            // if there's a lot of lead, we can only mine a small amount of it
+            resources[bx * spanY + by] += Math.min(rc.senseLead(tile) - 1, 45) + 3. / 50.;
+        }
+        locations = rc.senseNearbyLocationsWithGold(center, radiusSquared);
+        for (int i = locations.length; --i >= 0; ) {
+            MapLocation tile = locations[i];
+            int bx = tile.x / blockSize - minGridX;
+            int by = tile.y / blockSize - minGridY;
+            if (bx < 0 || by < 0 || bx >= spanX || by >= spanY) {
+                continue;
+            }
+            resources[bx * spanY + by] += rc.senseGold(tile);
+        }
+
+        for (int i = visibleAllies.length; --i >= 0; ) {
+            RobotInfo robot = visibleAllies[i];
+            int bx = robot.location.x / blockSize - minGridX;
+            int by = robot.location.y / blockSize - minGridY;
+            if (bx < 0 || by < 0 || bx >= spanX || by >= spanY) {
+                continue;
+            }
+            int b = bx * spanY + by;
+            ++robots[b];
+            if (robot.type == RobotType.MINER) {
+                ++ourWorkers[b];
+            } else if (robot.type.canAttack()) {
+                ++ourAttackers[b];
+            }
+        }
+        for (int i = visibleEnemies.length; --i >= 0; ) {
+            RobotInfo robot = visibleEnemies[i];
+            int bx = robot.location.x / blockSize - minGridX;
+            int by = robot.location.y / blockSize - minGridY;
+            if (bx < 0 || by < 0 || bx >= spanX || by >= spanY) {
+                continue;
+            }
+            int b = bx * spanY + by;
+            ++robots[b];
+            if (robot.type.canAttack() || robot.type == RobotType.ARCHON) {
+                ++theirAttackers[b];
+            } else {
+                ++theirNonAttackers[b];
+            }
+        }
+        {
+            // we're in our own block as well
+            int b = (loc.x / blockSize - minGridX) * spanY + loc.y / blockSize - minGridY;
+            if (myType == RobotType.MINER) {
+                ++ourWorkers[b];
+            } else if (myType.canAttack()) {
+                ++ourAttackers[b];
+            }
+        }
+
+        for (int gridX = maxGridX; gridX >= minGridX; --gridX) {
+            int left = gridX * blockSize;
+            int right = Math.min(left + blockSize, width) - 1;
+            int farX = Math.max(loc.x - left, right - loc.x);
+            int nearX = Math.max(0, Math.max(left - loc.x, loc.x - right));
+            for (int gridY = maxGridY; gridY >= minGridY; --gridY) {
+                int bot = gridY * blockSize;
+                int top = Math.min(bot + blockSize, height) - 1;
+                int farY = Math.max(loc.y - bot, top - loc.y);
+                int nearY = Math.max(0, Math.max(bot - loc.y, loc.y - top));
+                boolean full = farX * farX + farY * farY <= visionRadiusSquared;
+                if (!full && nearX * nearX + nearY * nearY > visionRadiusSquared) {
+                    continue;
+                }
+                if (!full && visionRadiusSquared <= SHORT_VISION_RADIUS_SQUARED) {
+                    full = isMostlySeen(loc, left, right, bot, top, visionRadiusSquared);
+                }
+
+                int b = (gridX - minGridX) * spanY + gridY - minGridY;
+                double crowdedFactor = 0.75;
+                boolean tooCrowded = robots[b] > (right - left + 1) * (top - bot + 1) * crowdedFactor;
+                double unclaimedResources = resources[b] - ourWorkers[b] * 5;
+                boolean needsWorker = unclaimedResources > 0 && !tooCrowded;
+                boolean needsAttacker = (ourAttackers[b] < theirAttackers[b])
+                        || (theirAttackers[b] == 0 && theirNonAttackers[b] > 0);
+                int value = 0;
+                if (!needsWorker) {
+                    value |= ENOUGH_WORKERS_BIT;
+                }
+                if (needsAttacker) {
+                    value |= NEEDS_ATTACKER_BIT;
+                }
+                int gridIdx = gridX * rows + gridY;
+                if (full) {
+                    writeBlock(gridX, gridY, value);
+                    SharedArrayLayout.writeGridConfidence(gridIdx, 1);
+                    LeadDensity.report(getBlockCenter(gridX, gridY), tooCrowded ? 0 : unclaimedResources);
+                } else if (SharedArrayLayout.readGridConfidence(gridIdx) == 0) {
+                    writeBlock(gridX, gridY, value);
+                    if (needsAttacker) {
+                        SharedArrayLayout.writeGridConfidence(gridIdx, 1);
+                    }
+                } else if (needsAttacker) {
+                    writeBlock(gridX, gridY, SharedArrayLayout.readGridBlock(gridIdx) | NEEDS_ATTACKER_BIT);
+                }
+            }
+        }
+        LeadDensity.publish();
+    }
+
+    /**
+     * @return Whether at least MOSTLY_SEEN_PERCENT of the tiles from (left, bot) to (right, top) are within
+     * radiusSquared of loc
+     */
+    static boolean isMostlySeen(MapLocation loc, int left, int right, int bot, int top, int radiusSquared) {
+        int seen = 0;
+        for (int x = right; x >= left; --x) {
+            int dx = x - loc.x;
+            int rest = radiusSquared - dx * dx;
+            if (rest < 0) {
+                continue;
+            }
+            int h = Util.sqrt(rest);
+            int lo = Math.max(bot, loc.y - h);
+            int hi = Math.min(top, loc.y + h);
+            if (hi >= lo) {
+                seen += hi - lo + 1;
+            }
+        }
+        return 100 * seen >= MOSTLY_SEEN_PERCENT * (right - left + 1) * (top - bot + 1);
+    }
+
+    @Override
+    public MapLocation findClosestMiningLocation() throws GameActionException {
+        // blocks that don't have the enough workers bit
+        return findClosestBlock(ENOUGH_WORKERS_PATTERN, ENOUGH_WORKERS_PATTERN);
+    }
+
+    @Override
+    public MapLocation findClosestAttackLocation() throws GameActionException {
+        return findClosestBlock(NEEDS_ATTACKER_PATTERN, 0);
+    }
+
+    /**
+     * Finds the closest block that matches, visiting blocks in RING_ORDER. A block matches if any of its bits in pattern
+     * are set after flipping the bits in flip.
+     * <p>
+     * If every super-block is satisfied, which is when miners and soldiers call this every turn, it only costs one
+     * read. Otherwise, the matching blocks are found a whole word (8 blocks) at a time, and only the rings that reach a
+     * super-block that needs something are walked.
+     *
+     * @return The center of the closest matching block, or null if there is none
+     */
+    private MapLocation findClosestBlock(int pattern, int flip) throws GameActionException {
+        if (!initialized) {
+            init();
+        }
+        int open = ~(SharedArrayCache.read(SharedArrayLayout.GRID_SUMMARY_INDEX) >> SharedArrayLayout.GRID_SUMMARY_SHIFT)
+                & allSuperBlocksMask;
+        if (open == 0) {
+            return null;
+        }
+
+        // only the rings that reach a super-block that needs something are worth walking
+        int gridX = locAtStartOfTurn.x / blockSize;
+        int gridY = locAtStartOfTurn.y / blockSize;
+        int minRing = Integer.MAX_VALUE;
+        int maxRing = 0;
+        while (open != 0) {
+            int superIdx = Integer.numberOfTrailingZeros(open);
+            open &= open - 1;
+            int left = superIdx / superBlockRows * superBlockSize;
+            int bot = superIdx % superBlockRows * superBlockSize;
+            int right = Math.min(left + superBlockSize, cols) - 1;
+            int top = Math.min(bot + superBlockSize, rows) - 1;
+            int near = Math.max(Math.max(left - gridX, gridX - right), Math.max(bot - gridY, gridY - top));
+            if (near < minRing) {
+                minRing = near;
+            }
+            int far = Math.max(Math.max(right - gridX, gridX - left), Math.max(top - gridY, gridY - bot));
+            if (far > maxRing) {
+                maxRing = far;
+            }
+        }
+
+        // blocks past the end of the grid aren't real
+        int w = numWords - 1;
+        int any = matches[w] = (SharedArrayCache.read(SharedArrayLayout.GRID_BLOCK_INDEX - w) ^ flip) & pattern
+                & lastWordMask;
+        while (--w >= 0) {
+            any |= matches[w] = (SharedArrayCache.read(SharedArrayLayout.GRID_BLOCK_INDEX - w) ^ flip) & pattern;
+        }
+        if (any == 0) {
+            return null;
+        }
+
+        // ring r starts at entry (2r - 1)^2
+        int start = minRing > 0 ? (2 * minRing - 1) * (2 * minRing - 1) : 0;
+        int end = (2 * maxRing + 1) * (2 * maxRing + 1);
+        for (int i = start; i < end; ++i) {
+            int entry = RING_ORDER.charAt(i);
+            int x = gridX + (entry >> RING_ENTRY_SHIFT) - RING_ENTRY_OFFSET;
+            int y = gridY + (entry & RING_ENTRY_MASK) - RING_ENTRY_OFFSET;
+            if (x < 0 || y < 0 || x >= cols || y >= rows) {
+                continue;
+            }
+            int idx = x * rows + y;
+            if ((matches[idx >> 3] & (BLOCK_MASK << ((idx & 7) << 1))) != 0) {
+                return getBlockCenter(x, y);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds one of the STALE_CHOICES closest blocks nobody has seen lately, other than our own, visiting blocks in
+     * RING_ORDER like findClosestBlock(). The confidence bits are read a whole word (16 blocks) at a time, and each
+     * word's stale blocks bound the rings worth walking: a word holds consecutive blocks, so they lie within the columns
+     * of its first and last stale block (and within their rows too, if that's the same column).
+     *
+     * @return The center of the chosen stale block, or null if there is none
+     */
+    @Override
+    public MapLocation findClosestStaleLocation() throws GameActionException {
+        if (!initialized) {
+            init();
+        }
+        int gridX = locAtStartOfTurn.x / blockSize;
+        int gridY = locAtStartOfTurn.y / blockSize;
+        int minRing = Integer.MAX_VALUE;
+        int maxRing = 0;
+        for (int w = numConfidenceWords; --w >= 0; ) {
+            int bits = ~SharedArrayCache.read(SharedArrayLayout.GRID_CONFIDENCE_INDEX + w)
+                    & (w == numConfidenceWords - 1 ? lastConfidenceWordMask : 0xFFFF);
+            stale[w] = bits;
+            if (bits == 0) {
+                continue;
+            }
+            int first = (w << 4) + Integer.numberOfTrailingZeros(bits);
+            int last = (w << 4) + 31 - Integer.numberOfLeadingZeros(bits);
+            int left = first / rows;
+            int right = last / rows;
+            int bot = 0;
+            int top = rows - 1;
+            if (left == right) {
+                bot = first % rows;
+                top = last % rows;
+            }
+            int near = Math.max(Math.max(left - gridX, gridX - right), Math.max(bot - gridY, gridY - top));
+            if (near < minRing) {
+                minRing = near;
+            }
+            int far = Math.max(Math.max(right - gridX, gridX - left), Math.max(top - gridY, gridY - bot));
+            if (far > maxRing) {
+                maxRing = far;
+            }
+        }
+        if (minRing == Integer.MAX_VALUE) {
+            return null;
+        }
+
+        // not our own block, we can already see as much of it as we're going to
+        // ring r starts at entry (2r - 1)^2
+        int start = minRing > 0 ? (2 * minRing - 1) * (2 * minRing - 1) : 1;
+        int end = (2 * maxRing + 1) * (2 * maxRing + 1);
+        // the closest stale blocks, but no further than one ring out from the closest one
+        int choice = rc.getID() % STALE_CHOICES;
+        int found = 0;
+        int foundX = 0, foundY = 0;
+        for (int i = start; i < end; ++i) {
+            int entry = RING_ORDER.charAt(i);
+            int dx = (entry >> RING_ENTRY_SHIFT) - RING_ENTRY_OFFSET;
+            int dy = (entry & RING_ENTRY_MASK) - RING_ENTRY_OFFSET;
+            int x = gridX + dx;
+            int y = gridY + dy;
+            if (x < 0 || y < 0 || x >= cols || y >= rows) {
+                continue;
+            }
+            int idx = x * rows + y;
+            if ((stale[idx >> 4] & (1 << (idx & 15))) != 0) {
+                if (found == 0) {
+                    // ring r ends at index (2r + 1)^2
+                    int nextRing = Math.max(Math.abs(dx), Math.abs(dy)) + 1;
+                    end = Math.min(end, (2 * nextRing + 1) * (2 * nextRing + 1));
+                }
+                // if there are fewer than STALE_CHOICES, the last one found stands in for the rest
+                foundX = x;
+                foundY = y;
+                if (found++ == choice) {
+                    break;
+                }
+            }
+        }
+        return found == 0 ? null : getBlockCenter(foundX, foundY);
+    }
+
+    @Override
+    public boolean isStale(MapLocation loc) throws GameActionException {
+        if (!initialized) {
+            init();
+        }
+        return SharedArrayLayout.readGridConfidence(loc.x / blockSize * rows + loc.y / blockSize) == 0;
+    }
+
+    @Override
+    public void showDebug() throws GameActionException {
+        if (!Debug.SHOULD_SHOW_VISUALIZATIONS) {
+            return;
+        }
+        if (!initialized) {
+            init();
+        }
+        for (int c = 0; c < cols; ++c) {
+            for (int r = 0; r < rows; ++r) {
+                int value = SharedArrayLayout.readGridBlock(c * rows + r);
+                boolean needsWorker = (value & ENOUGH_WORKERS_BIT) == 0;
+                boolean needsAttacker = (value & NEEDS_ATTACKER_BIT) != 0;
+                MapLocation loc1 = new MapLocation(c * blockSize, r * blockSize);
+                MapLocation loc2 = new MapLocation(Math.min(c * blockSize + 1, rc.getMapWidth() - 1), r * blockSize);
+                if (needsWorker) {
+                    rc.setIndicatorDot(loc1, 0, 255, 0);
+                } else {
+                    rc.setIndicatorDot(loc1, 255, 0, 0);
+                }
+                if (needsAttacker) {
+                    rc.setIndicatorDot(loc2, 0, 0, 255);
+                } else {
+                    rc.setIndicatorDot(loc2, 127, 0, 32);
+                }
+            }
+        }
+
+    }
+}
@@ -7,10 +7,10 @@ import static simpleplayer.RobotPlayer.*;
 
 public class Archon {
 
-    private static int[] unitCounts;
+    private static final int[] unitCounts = new int[Census.NUM_TYPES];
 
     public static void initArchon() throws GameActionException {
-        Communication.writeArchonLocation();
+        ArchonRegistry.heartbeat();
 
         guessSymmetricArchonLocations();
     }
@@ -27,52 +27,52 @@ public class Archon {
 
     public static void runArchon() throws GameActionException {
 
-        Communication.clearUnitCounts();
+        ArchonRegistry.heartbeat();
+        Events.expire();
 
         checkUnderAttack();
 
-        unitCounts = Communication.getLastTurnUnitCount();
+        Census.readLastRoundTypeCounts(unitCounts);
 
         if (!rc.isActionReady()) {
             return;
         }
 
+        // we either built what we claimed last turn, or we're about to claim it again
+        LeadLedger.claim(LeadLedger.NONE);
 
         if (areWeUnderAttackAndShouldGiveUp) {
             tryHealingNearbyUnits();
             return;
         }
-        if (areWeUnderAttack) {
-            if (areWeUnderAttackAndWinning) {
-                if (anyOtherArchonsNeedMoney && ourLead < (RobotType.SOLDIER.buildCostLead + RobotType.MINER.buildCostLead)) {
-                    // let the other archons have the money
-                    tryHealingNearbyUnits();
-                    return;
-                } else {
-                    // follow normal build order
-                    handleNormalBuildOrder();
-                    tryHealingNearbyUnits();
-                    return;
-                }
-            } else {
-                handleUnderAttackBuildOrder();
-                tryHealingNearbyUnits();
-                return;
-            }
+        if (areWeUnderAttack && !areWeUnderAttackAndWinning) {
+            handleUnderAttackBuildOrder();
         } else {
-            if (anyOtherArchonsNeedMoney && ourLead < (RobotType.SOLDIER.buildCostLead + RobotType.MINER.buildCostLead)) {
-                // let the other archons have the money
-                tryHealingNearbyUnits();
-                return;
-            } else {
-                // follow normal build order
-                handleNormalBuildOrder();
-                tryHealingNearbyUnits();
-                return;
-            }
+            // the ledger makes us wait if an archon that's under attack needs the lead
+            handleNormalBuildOrder();
         }
+        tryHealingNearbyUnits();
+    }
 
-
+    /**
+     * Claims the lead for type with the given priority (see LeadLedger), and builds it if no other archon claimed the
+     * lead with a higher priority.
+     *
+     * @return Whether we built it
+     */
+    private static boolean tryBuild(RobotType type, int priority) throws GameActionException {
+        LeadLedger.claim(priority);
+        if (type.buildCostLead > LeadLedger.getAvailableLead(priority)) {
+            return false;
+        }
+        for (final Direction d : Directions.RANDOM_DIRECTION_PERMUTATION) {
+            if (rc.canBuildRobot(type, d)) {
+                rc.buildRobot(type, d);
+                LeadLedger.claim(LeadLedger.NONE);
+                return true;
+            }
+        }
+        return false;
     }
 
     private static void handleNormalBuildOrder() throws GameActionException {
@@ -111,6 +111,13 @@ public class Archon {
             MapLocation loc = GridStrategy.instance.findClosestMiningLocation();
             if (loc != null && loc.distanceSquaredTo(locAtStartOfTurn) < 10 * 10) {
                 effectiveNumNearbyLeadWorkersNeeded = numNearbyMiners + 1;
+            } else {
+                // or a rich field that isn't too far away
+                loc = LeadDensity.findBestField(locAtStartOfTurn);
+                if (loc != null && LeadDensity.bestLevel == LeadDensity.RICH
+                        && loc.distanceSquaredTo(locAtStartOfTurn) < 20 * 20) {
+                    effectiveNumNearbyLeadWorkersNeeded = numNearbyMiners + 1;
+                }
             }
         }
         // soldiers take up some space, so don't build miners if it's too crowded
@@ -118,55 +125,25 @@ public class Archon {
 
         if (effectiveNumNearbyLeadWorkersNeeded > numNearbyMiners) {
             // build workers
-            if (RobotType.MINER.buildCostLead <= ourLead) {
-                for (final Direction d : Directions.RANDOM_DIRECTION_PERMUTATION) {
-                    if (rc.canBuildRobot(RobotType.MINER, d)) {
-                        rc.buildRobot(RobotType.MINER, d);
-                        return;
-                    }
-                }
-            }
+            tryBuild(RobotType.MINER, LeadLedger.ECONOMY);
         } else {
             // Build workers if it's necessary to bootstrap, otherwise soldiers
             if (rc.getRoundNum() < 10 && (unitCounts[RobotType.MINER.ordinal()] < 2)) {
                 // build workers
-                if (RobotType.MINER.buildCostLead <= ourLead) {
-                    for (final Direction d : Directions.RANDOM_DIRECTION_PERMUTATION) {
-                        if (rc.canBuildRobot(RobotType.MINER, d)) {
-                            rc.buildRobot(RobotType.MINER, d);
-                            return;
-                        }
-                    }
-                }
+                tryBuild(RobotType.MINER, LeadLedger.ECONOMY);
             } else {
                 if (unitCounts[RobotType.SOLDIER.ordinal()] < soldierThreshold) {
                     // build soldiers
-                    if (RobotType.SOLDIER.buildCostLead <= ourLead) {
-                        for (final Direction d : Directions.RANDOM_DIRECTION_PERMUTATION) {
-                            if (rc.canBuildRobot(RobotType.SOLDIER, d)) {
-                                rc.buildRobot(RobotType.SOLDIER, d);
-                                return;
-                            }
-                        }
-                    }
+                    tryBuild(RobotType.SOLDIER, LeadLedger.ARMY);
                 } else {
                     if (unitCounts[RobotType.BUILDER.ordinal()] <= 0.25 * Math.min(200, unitCounts[RobotType.WATCHTOWER.ordinal()])) {
                         // build builders
-                        for (final Direction d : Directions.RANDOM_DIRECTION_PERMUTATION) {
-                            if (rc.canBuildRobot(RobotType.BUILDER, d)) {
-                                rc.buildRobot(RobotType.BUILDER, d);
-                                return;
-                            }
-                        }
+                        tryBuild(RobotType.BUILDER, LeadLedger.ECONOMY);
                     } else {
                         // let the builders build watchtowers. only add other stuff if we're loaded
-                        if (ourLead > RobotType.WATCHTOWER.buildCostLead + RobotType.SOLDIER.buildCostLead) {
-                            for (final Direction d : Directions.RANDOM_DIRECTION_PERMUTATION) {
-                                if (rc.canBuildRobot(RobotType.SOLDIER, d)) {
-                                    rc.buildRobot(RobotType.SOLDIER, d);
-                                    return;
-                                }
-                            }
+                        if (LeadLedger.getAvailableLead(LeadLedger.ECONOMY)
+                                > RobotType.WATCHTOWER.buildCostLead + RobotType.SOLDIER.buildCostLead) {
+                            tryBuild(RobotType.SOLDIER, LeadLedger.ECONOMY);
                         }
                     }
                 }
@@ -178,24 +155,10 @@ public class Archon {
         // There are attackers nearby. Build workers if it's necessary to bootstrap, otherwise soldiers
         if (rc.getRoundNum() < 10 || (unitCounts[RobotType.MINER.ordinal()] < 2 * archonCount)) {
             // build workers
-            if (RobotType.MINER.buildCostLead <= ourLead) {
-                for (final Direction d : Directions.RANDOM_DIRECTION_PERMUTATION) {
-                    if (rc.canBuildRobot(RobotType.MINER, d)) {
-                        rc.buildRobot(RobotType.MINER, d);
-                        return;
-                    }
-                }
-            }
+            tryBuild(RobotType.MINER, LeadLedger.DEFENSE);
         } else {
             // build soldiers
-            if (RobotType.SOLDIER.buildCostLead <= ourLead) {
-                for (final Direction d : Directions.RANDOM_DIRECTION_PERMUTATION) {
-                    if (rc.canBuildRobot(RobotType.SOLDIER, d)) {
-                        rc.buildRobot(RobotType.SOLDIER, d);
-                        return;
-                    }
-                }
-            }
+            tryBuild(RobotType.SOLDIER, LeadLedger.DEFENSE);
         }
     }
 
@@ -238,11 +201,9 @@ public class Archon {
     private static boolean areWeUnderAttack = false;
     private static boolean areWeUnderAttackAndWinning = false;
     private static boolean areWeUnderAttackAndShouldGiveUp = false;
-    private static boolean anyOtherArchonsNeedMoney = false;
 
     private static void checkUnderAttack() throws GameActionException {
-        // TODO: if archons get destroyed, this can be left with stale value. Check the archon count and re-initialize.
-        Communication.cacheArchonsUnderAttack();
+        ArchonRegistry.cacheFlags();
 
         int numFriendlyAttackers = 0;
         for (int i = 0; i < visibleAllies.length; ++i) {
@@ -271,16 +232,13 @@ public class Archon {
         }
 
         boolean anyOtherArchonsOkay = false;
-        for (int i = rc.getArchonCount(); --i >= 0; ) {
-            if (i == Communication.myArchonIndex) {
+        for (int i = ArchonRegistry.NUM_SLOTS; --i >= 0; ) {
+            if (i == ArchonRegistry.myArchonIndex || !ArchonRegistry.isAlive(i)) {
                 continue;
             }
-            if (!Communication.readArchonUnderAttack(i)) {
+            if (!ArchonRegistry.readUnderAttack(i)) {
                 anyOtherArchonsOkay = true;
             }
-            if (Communication.readArchonNeedsMoneyForSoldier(i)) {
-                anyOtherArchonsNeedMoney = true;
-            }
         }
 
         areWeUnderAttack = numEnemyAttackers > 0;
@@ -312,12 +270,15 @@ public class Archon {
                 }
             }
 
-            if (!Communication.readArchonUnderAttack(Communication.myArchonIndex) || (Communication.readArchonNeedsMoneyForSoldier(Communication.myArchonIndex) == areWeUnderAttackAndShouldGiveUp)) {
-                Communication.writeArchonUnderAttack(true, !areWeUnderAttackAndShouldGiveUp);
+            if (!areWeUnderAttackAndWinning && !shouldRush) {
+                Events.broadcast(Events.DISTRESS, locAtStartOfTurn);
+            }
+            if (!ArchonRegistry.readUnderAttack(ArchonRegistry.myArchonIndex)) {
+                ArchonRegistry.writeUnderAttack(true);
             }
         } else {
-            if (Communication.readArchonUnderAttack(Communication.myArchonIndex) || Communication.readArchonNeedsMoneyForSoldier(Communication.myArchonIndex)) {
-                Communication.writeArchonUnderAttack(false, false);
+            if (ArchonRegistry.readUnderAttack(ArchonRegistry.myArchonIndex)) {
+                ArchonRegistry.writeUnderAttack(false);
             }
         }
 
@@ -0,0 +1,164 @@
+package simpleplayer;
+
+import battlecode.common.*;
+
+import static simpleplayer.RobotPlayer.*;
+
+/**
+ * Our archons' slots in the shared array: their locations, under attack flags, lead claims (see LeadLedger), and
+ * heartbeats.
+ * <p>
+ * Every archon calls heartbeat() at the start of its turn, which stamps its slot with the round number (modulo 4). An
+ * archon that ran last round has a heartbeat at most 1 round old, so a slot with an older heartbeat belongs to an
+ * archon that died. The next live archon to run removes it, and moves the highest live slot into the hole, so that the
+ * live archons always occupy slots 0 to rc.getArchonCount() - 1, and a dead archon's flags and claims can't hold
+ * anyone back. Every live archon runs in the round the heartbeat turns 2 rounds old, so dead slots are removed before
+ * their heartbeat wraps around and looks fresh again.
+ * <p>
+ * Archons find their slot again by the location they last wrote, so they keep it if they move, and notice if another
+ * archon moved them to fill a hole.
+ */
+public final class ArchonRegistry {
+
+    public static final int NUM_SLOTS = SharedArrayLayout.ARCHON_LOCATION_COUNT;
+
+    // a heartbeat this old means the archon missed a round
+    private static final int DEAD_AGE = 2;
+
+    // -1 until the first heartbeat
+    public static int myArchonIndex = -1;
+    // what we wrote into our slot last turn
+    private static int myLastEncodedLocation = 0;
+
+    private static int cachedFlags;
+
+    private static int encode(MapLocation loc) {
+        // offset by 1, so that 0 represents an empty slot
+        return loc.x * GameConstants.MAP_MAX_HEIGHT + loc.y + 1;
+    }
+
+    private static MapLocation decode(int encoded) {
+        encoded -= 1;
+        return new MapLocation(encoded / GameConstants.MAP_MAX_HEIGHT, encoded % GameConstants.MAP_MAX_HEIGHT);
+    }
+
+    private static boolean isOccupied(int slot) throws GameActionException {
+        return SharedArrayLayout.readArchonLocation(slot) != 0;
+    }
+
+    /**
+     * @return Whether an archon holds this slot, and has run either this round or last round
+     */
+    public static boolean isAlive(int slot) throws GameActionException {
+        if (!isOccupied(slot)) {
+            return false;
+        }
+        int age = (rc.getRoundNum() - SharedArrayLayout.readArchonHeartbeat(slot)) & SharedArrayLayout.ARCHON_HEARTBEAT_MASK;
+        return age < DEAD_AGE;
+    }
+
+    /**
+     * Claims or refreshes our slot, and removes the slots of dead archons. Archons must call this at the start of every
+     * turn.
+     */
+    public static void heartbeat() throws GameActionException {
+        if (myArchonIndex == -1 || SharedArrayLayout.readArchonLocation(myArchonIndex) != myLastEncodedLocation) {
+            findOrClaimSlot();
+        }
+        myLastEncodedLocation = encode(locAtStartOfTurn);
+        SharedArrayLayout.writeArchonLocation(myArchonIndex, myLastEncodedLocation);
+        SharedArrayLayout.writeArchonHeartbeat(myArchonIndex, rc.getRoundNum() & SharedArrayLayout.ARCHON_HEARTBEAT_MASK);
+
+        for (int slot = 0; slot < NUM_SLOTS; ++slot) {
+            while (isOccupied(slot) && !isAlive(slot)) {
+                removeSlot(slot);
+            }
+        }
+    }
+
+    private static void findOrClaimSlot() throws GameActionException {
+        if (myArchonIndex != -1) {
+            // someone moved us into a hole
+            for (int slot = NUM_SLOTS; --slot >= 0; ) {
+                if (SharedArrayLayout.readArchonLocation(slot) == myLastEncodedLocation) {
+                    myArchonIndex = slot;
+                    return;
+                }
+            }
+        }
+        for (int slot = 0; slot < NUM_SLOTS; ++slot) {
+            if (!isAlive(slot)) {
+                clearSlot(slot);
+                myArchonIndex = slot;
+                return;
+            }
+        }
+        // can't happen, there are never more than 4 archons
+        myArchonIndex = NUM_SLOTS - 1;
+    }
+
+    private static void clearSlot(int slot) throws GameActionException {
+        SharedArrayLayout.writeArchonLocation(slot, 0);
+        SharedArrayLayout.writeArchonHeartbeat(slot, 0);
+        SharedArrayLayout.writeArchonUnderAttack(slot, 0);
+        SharedArrayLayout.writeLeadClaim(slot, 0);
+    }
+
+    // fills the slot of a dead archon with the highest live slot, so that the live ones stay at the front
+    private static void removeSlot(int slot) throws GameActionException {
+        int last = NUM_SLOTS - 1;
+        while (last > slot && !isAlive(last)) {
+            --last;
+        }
+        if (last > slot) {
+            SharedArrayLayout.writeArchonLocation(slot, SharedArrayLayout.readArchonLocation(last));
+            SharedArrayLayout.writeArchonHeartbeat(slot, SharedArrayLayout.readArchonHeartbeat(last));
+            SharedArrayLayout.writeArchonUnderAttack(slot, SharedArrayLayout.readArchonUnderAttack(last));
+            SharedArrayLayout.writeLeadClaim(slot, SharedArrayLayout.readLeadClaim(last));
+            if (last == myArchonIndex) {
+                myArchonIndex = slot;
+            }
+        }
+        clearSlot(last > slot ? last : slot);
+    }
+
+    /**
+     * @return The locations of our live archons
+     */
+    public static MapLocation[] readArchonLocations() throws GameActionException {
+        int numAlive = 0;
+        for (int slot = NUM_SLOTS; --slot >= 0; ) {
+            if (isAlive(slot)) {
+                ++numAlive;
+            }
+        }
+        MapLocation[] result = new MapLocation[numAlive];
+        for (int slot = NUM_SLOTS; --slot >= 0; ) {
+            if (isAlive(slot)) {
+                result[--numAlive] = decode(SharedArrayLayout.readArchonLocation(slot));
+            }
+        }
+        return result;
+    }
+
+    public static void writeUnderAttack(boolean amIUnderAttack) throws GameActionException {
+        SharedArrayLayout.writeArchonUnderAttack(myArchonIndex, amIUnderAttack ? 1 : 0);
+    }
+
+    /**
+     * Reads the flags of every archon, with the flags of dead archons that haven't been removed yet cleared.
+     */
+    public static void cacheFlags() throws GameActionException {
+        int flags = SharedArrayCache.read(SharedArrayLayout.ARCHON_UNDER_ATTACK_INDEX);
+        for (int slot = NUM_SLOTS; --slot >= 0; ) {
+            if (!isAlive(slot)) {
+                flags &= ~(1 << (SharedArrayLayout.ARCHON_UNDER_ATTACK_SHIFT + slot));
+            }
+        }
+        cachedFlags = flags;
+    }
+
+    public static boolean readUnderAttack(int slot) {
+        return (cachedFlags & (1 << (SharedArrayLayout.ARCHON_UNDER_ATTACK_SHIFT + slot))) != 0;
+    }
+}
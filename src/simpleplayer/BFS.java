@@ -10,14 +10,32 @@ public abstract class BFS {
 
     final int BYTECODE_REMAINING = 2500;
     final int GREEDY_TURNS = 4;
+    // the search only starts a ring if it can finish it with this many bytecodes to spare, so that there's still time
+    // to act after moving
+    final int SEARCH_BYTECODE_RESERVE = getSearchBytecodeReserve(myType);
 
     Pathfinding path = new Pathfinding();
+    LongRangePlanner planner = new LongRangePlanner();
     BooleanGrid visitedLocation = new BooleanGrid();
 
     int turnsGreedy = 0;
 
     MapLocation currentTarget = null;
 
+    // the cost (in the same units as the rubble costs) of the path found by the last getBestDir call, so that targets
+    // can be compared
+    static int pathCost;
+
+    // the search doesn't depend on the target, so it's only redone once we've moved or a new turn has started
+    private int fieldRound = -1;
+    private MapLocation fieldCenter = null;
+    private int fieldRings;
+
+    // the target picked by the last rankTargets call, and the first step toward it. Only valid until the field is
+    // recomputed.
+    private MapLocation rankedTarget = null;
+    private Direction bestDirToTarget = null;
+
     void reset() {
         turnsGreedy = 0;
         visitedLocation.reset();
@@ -26,6 +44,7 @@ public abstract class BFS {
     void update(MapLocation target) {
         if (currentTarget == null || target.distanceSquaredTo(currentTarget) > 0) {
             reset();
+            planner.setGoal(target);
         } else --turnsGreedy;
         currentTarget = target;
         visitedLocation.setTrue(rc.getLocation());
@@ -39,6 +58,11 @@ public abstract class BFS {
         path.initTurn();
     }
 
+    // spends whatever is left of this turn on long-range planning
+    void endTurn() {
+        planner.run();
+    }
+
     void move(MapLocation target) throws GameActionException {
         move(target, false);
     }
@@ -50,6 +74,20 @@ public abstract class BFS {
 
         update(target);
 
+        if (!hasRankedStep(target)) {
+            // far away targets are approached through the waypoints of the long-range plan, if it's ready
+            MapLocation waypoint = planner.getWaypoint(rc.getLocation());
+            if (waypoint != null) {
+                target = waypoint;
+            } else {
+                // until then, follow the archons' flow field if they've computed one for this target
+                MapLocation nextStop = FlowField.getNextStop(rc.getLocation(), target);
+                if (nextStop != null) {
+                    target = nextStop;
+                }
+            }
+        }
+
         if (!greedy && turnsGreedy <= 0) {
 
             //System.err.println("Using bfs");
@@ -72,7 +110,92 @@ public abstract class BFS {
         }
     }
 
-    abstract Direction getBestDir(MapLocation target) throws GameActionException;
+    /**
+     * Runs the search around the current location.
+     *
+     * @return The number of rings that were finished before running out of bytecodes
+     */
+    abstract int computeField() throws GameActionException;
+
+    /**
+     * @return The first step toward the target, based on the given number of finished rings. Also sets pathCost.
+     */
+    abstract Direction getBestDir(MapLocation target, int rings);
+
+    private int getField() throws GameActionException {
+        MapLocation myLoc = rc.getLocation();
+        int round = rc.getRoundNum();
+        if (fieldRound != round || !myLoc.equals(fieldCenter)) {
+            rankedTarget = null;
+            fieldRings = computeField();
+            fieldRound = round;
+            fieldCenter = myLoc;
+        }
+        return fieldRings;
+    }
+
+    // whether rankTargets picked this target from the current field, so the search already reaches it and its step beats
+    // any waypoint
+    private boolean hasRankedStep(MapLocation target) {
+        return target == rankedTarget && fieldRound == rc.getRoundNum() && rc.getLocation().equals(fieldCenter);
+    }
+
+    Direction getBestDir(MapLocation target) throws GameActionException {
+        int rings = getField();
+        if (target == rankedTarget) {
+            // rankTargets already found it
+            return bestDirToTarget;
+        }
+        return getBestDir(target, rings);
+    }
+
+    /**
+     * Compares several targets by their estimated path cost, instead of by straight-line distance, using a single
+     * search. A following move() toward the chosen target in the same turn takes the step this found, without looking it
+     * up again.
+     *
+     * @param targets Candidate targets, null entries are skipped
+     * @param numTargets The number of entries of targets to consider
+     * @return The target that is cheapest to reach, or null if none of them are reachable
+     */
+    MapLocation rankTargets(MapLocation[] targets, int numTargets) throws GameActionException {
+        int rings = getField();
+        MapLocation best = null;
+        int bestCost = Integer.MAX_VALUE;
+        Direction bestDir = null;
+        for (int i = numTargets; --i >= 0; ) {
+            MapLocation target = targets[i];
+            if (target == null) {
+                continue;
+            }
+            Direction dir = getBestDir(target, rings);
+            if (dir != null && pathCost < bestCost) {
+                bestCost = pathCost;
+                best = target;
+                bestDir = dir;
+            }
+        }
+        rankedTarget = best;
+        bestDirToTarget = bestDir;
+        return best;
+    }
+
+    private static int getSearchBytecodeReserve(RobotType type) {
+        switch (type) {
+            case SOLDIER:
+            case SAGE:
+            case WATCHTOWER:
+                // these still need to pick an attack target after moving
+                return 1500;
+            case MINER:
+            case BUILDER:
+                return 1000;
+            case ARCHON:
+                return 2000;
+            default:
+                return 500;
+        }
+    }
 
 
 }
\ No newline at end of file
@@ -0,0 +1,2655 @@
+package simpleplayer;
+
+import battlecode.common.Clock;
+import battlecode.common.Direction;
+import battlecode.common.GameActionException;
+import battlecode.common.MapLocation;
+
+import static simpleplayer.RobotPlayer.rc;
+
+// Generated by codegen.BFSGenerator for radius^2 = 13. Don't edit this by hand, run `./gradlew generateBFS` instead.
+public class BFS13 extends BFS {
+
+    static MapLocation l25;
+    static int v25;
+    static Direction d25;
+    static int p25;
+
+    static MapLocation l26;
+    static int v26;
+    static Direction d26;
+    static int p26;
+
+    static MapLocation l27;
+    static int v27;
+    static Direction d27;
+    static int p27;
+
+    static MapLocation l28;
+    static int v28;
+    static Direction d28;
+    static int p28;
+
+    static MapLocation l29;
+    static int v29;
+    static Direction d29;
+    static int p29;
+
+    static MapLocation l35;
+    static int v35;
+    static Direction d35;
+    static int p35;
+
+    static MapLocation l36;
+    static int v36;
+    static Direction d36;
+    static int p36;
+
+    static MapLocation l37;
+    static int v37;
+    static Direction d37;
+    static int p37;
+
+    static MapLocation l38;
+    static int v38;
+    static Direction d38;
+    static int p38;
+
+    static MapLocation l39;
+    static int v39;
+    static Direction d39;
+    static int p39;
+
+    static MapLocation l40;
+    static int v40;
+    static Direction d40;
+    static int p40;
+
+    static MapLocation l41;
+    static int v41;
+    static Direction d41;
+    static int p41;
+
+    static MapLocation l46;
+    static int v46;
+    static Direction d46;
+    static int p46;
+
+    static MapLocation l47;
+    static int v47;
+    static Direction d47;
+    static int p47;
+
+    static MapLocation l48;
+    static int v48;
+    static Direction d48;
+    static int p48;
+
+    static MapLocation l49;
+    static int v49;
+    static Direction d49;
+    static int p49;
+
+    static MapLocation l50;
+    static int v50;
+    static Direction d50;
+    static int p50;
+
+    static MapLocation l51;
+    static int v51;
+    static Direction d51;
+    static int p51;
+
+    static MapLocation l52;
+    static int v52;
+    static Direction d52;
+    static int p52;
+
+    static MapLocation l57;
+    static int v57;
+    static Direction d57;
+    static int p57;
+
+    static MapLocation l58;
+    static int v58;
+    static Direction d58;
+    static int p58;
+
+    static MapLocation l59;
+    static int v59;
+    static Direction d59;
+    static int p59;
+
+    static MapLocation l60;
+    static final int v60 = 0;
+
+    static MapLocation l61;
+    static int v61;
+    static Direction d61;
+    static int p61;
+
+    static MapLocation l62;
+    static int v62;
+    static Direction d62;
+    static int p62;
+
+    static MapLocation l63;
+    static int v63;
+    static Direction d63;
+    static int p63;
+
+    static MapLocation l68;
+    static int v68;
+    static Direction d68;
+    static int p68;
+
+    static MapLocation l69;
+    static int v69;
+    static Direction d69;
+    static int p69;
+
+    static MapLocation l70;
+    static int v70;
+    static Direction d70;
+    static int p70;
+
+    static MapLocation l71;
+    static int v71;
+    static Direction d71;
+    static int p71;
+
+    static MapLocation l72;
+    static int v72;
+    static Direction d72;
+    static int p72;
+
+    static MapLocation l73;
+    static int v73;
+    static Direction d73;
+    static int p73;
+
+    static MapLocation l74;
+    static int v74;
+    static Direction d74;
+    static int p74;
+
+    static MapLocation l79;
+    static int v79;
+    static Direction d79;
+    static int p79;
+
+    static MapLocation l80;
+    static int v80;
+    static Direction d80;
+    static int p80;
+
+    static MapLocation l81;
+    static int v81;
+    static Direction d81;
+    static int p81;
+
+    static MapLocation l82;
+    static int v82;
+    static Direction d82;
+    static int p82;
+
+    static MapLocation l83;
+    static int v83;
+    static Direction d83;
+    static int p83;
+
+    static MapLocation l84;
+    static int v84;
+    static Direction d84;
+    static int p84;
+
+    static MapLocation l85;
+    static int v85;
+    static Direction d85;
+    static int p85;
+
+    static MapLocation l91;
+    static int v91;
+    static Direction d91;
+    static int p91;
+
+    static MapLocation l92;
+    static int v92;
+    static Direction d92;
+    static int p92;
+
+    static MapLocation l93;
+    static int v93;
+    static Direction d93;
+    static int p93;
+
+    static MapLocation l94;
+    static int v94;
+    static Direction d94;
+    static int p94;
+
+    static MapLocation l95;
+    static int v95;
+    static Direction d95;
+    static int p95;
+
+    // where we were the last time we searched. The p values are kept relative to this location.
+    static MapLocation lastCenter = null;
+
+    private static int maxElapsed = 0;
+
+    int computeField() throws GameActionException {
+        int before = Debug.tic();
+
+        l60 = rc.getLocation();
+        if (lastCenter == null || lastCenter.distanceSquaredTo(l60) > 2) {
+            clearRubbleCache();
+        } else if (!lastCenter.equals(l60)) {
+            shiftRubbleCache(lastCenter.directionTo(l60));
+        }
+        lastCenter = l60;
+        int margin = l60.x;
+        if (l60.y < margin) margin = l60.y;
+        int edge = rc.getMapWidth() - 1 - l60.x;
+        if (edge < margin) margin = edge;
+        edge = rc.getMapHeight() - 1 - l60.y;
+        if (edge < margin) margin = edge;
+
+        // ring 1
+        l59 = l60.add(Direction.SOUTH);
+        v59 = 1000000;
+        d59 = null;
+        l71 = l60.add(Direction.EAST);
+        v71 = 1000000;
+        d71 = null;
+        l61 = l60.add(Direction.NORTH);
+        v61 = 1000000;
+        d61 = null;
+        l49 = l60.add(Direction.WEST);
+        v49 = 1000000;
+        d49 = null;
+        l48 = l60.add(Direction.SOUTHWEST);
+        v48 = 1000000;
+        d48 = null;
+        l70 = l60.add(Direction.SOUTHEAST);
+        v70 = 1000000;
+        d70 = null;
+        l72 = l60.add(Direction.NORTHEAST);
+        v72 = 1000000;
+        d72 = null;
+        l50 = l60.add(Direction.NORTHWEST);
+        v50 = 1000000;
+        d50 = null;
+        if (margin >= 1) {
+            if (p59 == 0) {
+                int rubble = rc.senseRubble(l59);
+                RubbleMemory.record(l59, rubble);
+                p59 = 10 + rubble;
+            }
+            if (p71 == 0) {
+                int rubble = rc.senseRubble(l71);
+                RubbleMemory.record(l71, rubble);
+                p71 = 10 + rubble;
+            }
+            if (p61 == 0) {
+                int rubble = rc.senseRubble(l61);
+                RubbleMemory.record(l61, rubble);
+                p61 = 10 + rubble;
+            }
+            if (p49 == 0) {
+                int rubble = rc.senseRubble(l49);
+                RubbleMemory.record(l49, rubble);
+                p49 = 10 + rubble;
+            }
+            if (p48 == 0) {
+                int rubble = rc.senseRubble(l48);
+                RubbleMemory.record(l48, rubble);
+                p48 = 10 + rubble;
+            }
+            if (p70 == 0) {
+                int rubble = rc.senseRubble(l70);
+                RubbleMemory.record(l70, rubble);
+                p70 = 10 + rubble;
+            }
+            if (p72 == 0) {
+                int rubble = rc.senseRubble(l72);
+                RubbleMemory.record(l72, rubble);
+                p72 = 10 + rubble;
+            }
+            if (p50 == 0) {
+                int rubble = rc.senseRubble(l50);
+                RubbleMemory.record(l50, rubble);
+                p50 = 10 + rubble;
+            }
+        } else {
+            if (p59 == 0) {
+                if (rc.onTheMap(l59)) {
+                    int rubble = rc.senseRubble(l59);
+                    RubbleMemory.record(l59, rubble);
+                    p59 = 10 + rubble;
+                } else {
+                    p59 = -1;
+                }
+            }
+            if (p71 == 0) {
+                if (rc.onTheMap(l71)) {
+                    int rubble = rc.senseRubble(l71);
+                    RubbleMemory.record(l71, rubble);
+                    p71 = 10 + rubble;
+                } else {
+                    p71 = -1;
+                }
+            }
+            if (p61 == 0) {
+                if (rc.onTheMap(l61)) {
+                    int rubble = rc.senseRubble(l61);
+                    RubbleMemory.record(l61, rubble);
+                    p61 = 10 + rubble;
+                } else {
+                    p61 = -1;
+                }
+            }
+            if (p49 == 0) {
+                if (rc.onTheMap(l49)) {
+                    int rubble = rc.senseRubble(l49);
+                    RubbleMemory.record(l49, rubble);
+                    p49 = 10 + rubble;
+                } else {
+                    p49 = -1;
+                }
+            }
+            if (p48 == 0) {
+                if (rc.onTheMap(l48)) {
+                    int rubble = rc.senseRubble(l48);
+                    RubbleMemory.record(l48, rubble);
+                    p48 = 10 + rubble;
+                } else {
+                    p48 = -1;
+                }
+            }
+            if (p70 == 0) {
+                if (rc.onTheMap(l70)) {
+                    int rubble = rc.senseRubble(l70);
+                    RubbleMemory.record(l70, rubble);
+                    p70 = 10 + rubble;
+                } else {
+                    p70 = -1;
+                }
+            }
+            if (p72 == 0) {
+                if (rc.onTheMap(l72)) {
+                    int rubble = rc.senseRubble(l72);
+                    RubbleMemory.record(l72, rubble);
+                    p72 = 10 + rubble;
+                } else {
+                    p72 = -1;
+                }
+            }
+            if (p50 == 0) {
+                if (rc.onTheMap(l50)) {
+                    int rubble = rc.senseRubble(l50);
+                    RubbleMemory.record(l50, rubble);
+                    p50 = 10 + rubble;
+                } else {
+                    p50 = -1;
+                }
+            }
+        }
+        if (p59 > 0 && !rc.canSenseRobotAtLocation(l59)) {
+            v59 = v60 + p59;
+            d59 = Direction.SOUTH;
+        }
+        if (p71 > 0 && !rc.canSenseRobotAtLocation(l71)) {
+            v71 = v60 + p71;
+            d71 = Direction.EAST;
+        }
+        if (p61 > 0 && !rc.canSenseRobotAtLocation(l61)) {
+            v61 = v60 + p61;
+            d61 = Direction.NORTH;
+        }
+        if (p49 > 0 && !rc.canSenseRobotAtLocation(l49)) {
+            v49 = v60 + p49;
+            d49 = Direction.WEST;
+        }
+        if (p48 > 0 && !rc.canSenseRobotAtLocation(l48)) {
+            v48 = v60 + p48;
+            d48 = Direction.SOUTHWEST;
+        }
+        if (p70 > 0 && !rc.canSenseRobotAtLocation(l70)) {
+            v70 = v60 + p70;
+            d70 = Direction.SOUTHEAST;
+        }
+        if (p72 > 0 && !rc.canSenseRobotAtLocation(l72)) {
+            v72 = v60 + p72;
+            d72 = Direction.NORTHEAST;
+        }
+        if (p50 > 0 && !rc.canSenseRobotAtLocation(l50)) {
+            v50 = v60 + p50;
+            d50 = Direction.NORTHWEST;
+        }
+        if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + 1432) {
+            maxElapsed = Debug.toc(before, "BFS13-search", maxElapsed);
+            return 1;
+        }
+
+        // ring 2
+        l58 = l59.add(Direction.SOUTH);
+        v58 = 1000000;
+        d58 = null;
+        l82 = l71.add(Direction.EAST);
+        v82 = 1000000;
+        d82 = null;
+        l62 = l61.add(Direction.NORTH);
+        v62 = 1000000;
+        d62 = null;
+        l38 = l49.add(Direction.WEST);
+        v38 = 1000000;
+        d38 = null;
+        l37 = l49.add(Direction.SOUTHWEST);
+        v37 = 1000000;
+        d37 = null;
+        l47 = l59.add(Direction.SOUTHWEST);
+        v47 = 1000000;
+        d47 = null;
+        l69 = l59.add(Direction.SOUTHEAST);
+        v69 = 1000000;
+        d69 = null;
+        l81 = l71.add(Direction.SOUTHEAST);
+        v81 = 1000000;
+        d81 = null;
+        l83 = l71.add(Direction.NORTHEAST);
+        v83 = 1000000;
+        d83 = null;
+        l73 = l61.add(Direction.NORTHEAST);
+        v73 = 1000000;
+        d73 = null;
+        l51 = l61.add(Direction.NORTHWEST);
+        v51 = 1000000;
+        d51 = null;
+        l39 = l49.add(Direction.NORTHWEST);
+        v39 = 1000000;
+        d39 = null;
+        l36 = l48.add(Direction.SOUTHWEST);
+        v36 = 1000000;
+        d36 = null;
+        l80 = l70.add(Direction.SOUTHEAST);
+        v80 = 1000000;
+        d80 = null;
+        l84 = l72.add(Direction.NORTHEAST);
+        v84 = 1000000;
+        d84 = null;
+        l40 = l50.add(Direction.NORTHWEST);
+        v40 = 1000000;
+        d40 = null;
+        if (margin >= 2) {
+            if (p58 == 0) {
+                int rubble = rc.senseRubble(l58);
+                RubbleMemory.record(l58, rubble);
+                p58 = 10 + rubble;
+            }
+            if (p82 == 0) {
+                int rubble = rc.senseRubble(l82);
+                RubbleMemory.record(l82, rubble);
+                p82 = 10 + rubble;
+            }
+            if (p62 == 0) {
+                int rubble = rc.senseRubble(l62);
+                RubbleMemory.record(l62, rubble);
+                p62 = 10 + rubble;
+            }
+            if (p38 == 0) {
+                int rubble = rc.senseRubble(l38);
+                RubbleMemory.record(l38, rubble);
+                p38 = 10 + rubble;
+            }
+            if (p37 == 0) {
+                int rubble = rc.senseRubble(l37);
+                RubbleMemory.record(l37, rubble);
+                p37 = 10 + rubble;
+            }
+            if (p47 == 0) {
+                int rubble = rc.senseRubble(l47);
+                RubbleMemory.record(l47, rubble);
+                p47 = 10 + rubble;
+            }
+            if (p69 == 0) {
+                int rubble = rc.senseRubble(l69);
+                RubbleMemory.record(l69, rubble);
+                p69 = 10 + rubble;
+            }
+            if (p81 == 0) {
+                int rubble = rc.senseRubble(l81);
+                RubbleMemory.record(l81, rubble);
+                p81 = 10 + rubble;
+            }
+            if (p83 == 0) {
+                int rubble = rc.senseRubble(l83);
+                RubbleMemory.record(l83, rubble);
+                p83 = 10 + rubble;
+            }
+            if (p73 == 0) {
+                int rubble = rc.senseRubble(l73);
+                RubbleMemory.record(l73, rubble);
+                p73 = 10 + rubble;
+            }
+            if (p51 == 0) {
+                int rubble = rc.senseRubble(l51);
+                RubbleMemory.record(l51, rubble);
+                p51 = 10 + rubble;
+            }
+            if (p39 == 0) {
+                int rubble = rc.senseRubble(l39);
+                RubbleMemory.record(l39, rubble);
+                p39 = 10 + rubble;
+            }
+            if (p36 == 0) {
+                int rubble = rc.senseRubble(l36);
+                RubbleMemory.record(l36, rubble);
+                p36 = 10 + rubble;
+            }
+            if (p80 == 0) {
+                int rubble = rc.senseRubble(l80);
+                RubbleMemory.record(l80, rubble);
+                p80 = 10 + rubble;
+            }
+            if (p84 == 0) {
+                int rubble = rc.senseRubble(l84);
+                RubbleMemory.record(l84, rubble);
+                p84 = 10 + rubble;
+            }
+            if (p40 == 0) {
+                int rubble = rc.senseRubble(l40);
+                RubbleMemory.record(l40, rubble);
+                p40 = 10 + rubble;
+            }
+        } else {
+            if (p58 == 0) {
+                if (rc.onTheMap(l58)) {
+                    int rubble = rc.senseRubble(l58);
+                    RubbleMemory.record(l58, rubble);
+                    p58 = 10 + rubble;
+                } else {
+                    p58 = -1;
+                }
+            }
+            if (p82 == 0) {
+                if (rc.onTheMap(l82)) {
+                    int rubble = rc.senseRubble(l82);
+                    RubbleMemory.record(l82, rubble);
+                    p82 = 10 + rubble;
+                } else {
+                    p82 = -1;
+                }
+            }
+            if (p62 == 0) {
+                if (rc.onTheMap(l62)) {
+                    int rubble = rc.senseRubble(l62);
+                    RubbleMemory.record(l62, rubble);
+                    p62 = 10 + rubble;
+                } else {
+                    p62 = -1;
+                }
+            }
+            if (p38 == 0) {
+                if (rc.onTheMap(l38)) {
+                    int rubble = rc.senseRubble(l38);
+                    RubbleMemory.record(l38, rubble);
+                    p38 = 10 + rubble;
+                } else {
+                    p38 = -1;
+                }
+            }
+            if (p37 == 0) {
+                if (rc.onTheMap(l37)) {
+                    int rubble = rc.senseRubble(l37);
+                    RubbleMemory.record(l37, rubble);
+                    p37 = 10 + rubble;
+                } else {
+                    p37 = -1;
+                }
+            }
+            if (p47 == 0) {
+                if (rc.onTheMap(l47)) {
+                    int rubble = rc.senseRubble(l47);
+                    RubbleMemory.record(l47, rubble);
+                    p47 = 10 + rubble;
+                } else {
+                    p47 = -1;
+                }
+            }
+            if (p69 == 0) {
+                if (rc.onTheMap(l69)) {
+                    int rubble = rc.senseRubble(l69);
+                    RubbleMemory.record(l69, rubble);
+                    p69 = 10 + rubble;
+                } else {
+                    p69 = -1;
+                }
+            }
+            if (p81 == 0) {
+                if (rc.onTheMap(l81)) {
+                    int rubble = rc.senseRubble(l81);
+                    RubbleMemory.record(l81, rubble);
+                    p81 = 10 + rubble;
+                } else {
+                    p81 = -1;
+                }
+            }
+            if (p83 == 0) {
+                if (rc.onTheMap(l83)) {
+                    int rubble = rc.senseRubble(l83);
+                    RubbleMemory.record(l83, rubble);
+                    p83 = 10 + rubble;
+                } else {
+                    p83 = -1;
+                }
+            }
+            if (p73 == 0) {
+                if (rc.onTheMap(l73)) {
+                    int rubble = rc.senseRubble(l73);
+                    RubbleMemory.record(l73, rubble);
+                    p73 = 10 + rubble;
+                } else {
+                    p73 = -1;
+                }
+            }
+            if (p51 == 0) {
+                if (rc.onTheMap(l51)) {
+                    int rubble = rc.senseRubble(l51);
+                    RubbleMemory.record(l51, rubble);
+                    p51 = 10 + rubble;
+                } else {
+                    p51 = -1;
+                }
+            }
+            if (p39 == 0) {
+                if (rc.onTheMap(l39)) {
+                    int rubble = rc.senseRubble(l39);
+                    RubbleMemory.record(l39, rubble);
+                    p39 = 10 + rubble;
+                } else {
+                    p39 = -1;
+                }
+            }
+            if (p36 == 0) {
+                if (rc.onTheMap(l36)) {
+                    int rubble = rc.senseRubble(l36);
+                    RubbleMemory.record(l36, rubble);
+                    p36 = 10 + rubble;
+                } else {
+                    p36 = -1;
+                }
+            }
+            if (p80 == 0) {
+                if (rc.onTheMap(l80)) {
+                    int rubble = rc.senseRubble(l80);
+                    RubbleMemory.record(l80, rubble);
+                    p80 = 10 + rubble;
+                } else {
+                    p80 = -1;
+                }
+            }
+            if (p84 == 0) {
+                if (rc.onTheMap(l84)) {
+                    int rubble = rc.senseRubble(l84);
+                    RubbleMemory.record(l84, rubble);
+                    p84 = 10 + rubble;
+                } else {
+                    p84 = -1;
+                }
+            }
+            if (p40 == 0) {
+                if (rc.onTheMap(l40)) {
+                    int rubble = rc.senseRubble(l40);
+                    RubbleMemory.record(l40, rubble);
+                    p40 = 10 + rubble;
+                } else {
+                    p40 = -1;
+                }
+            }
+        }
+        if (p58 > 0) {
+            v58 = v59 + p58;
+            d58 = d59;
+            if (v58 > v70 + p58) {
+                v58 = v70 + p58;
+                d58 = d70;
+            }
+            if (v58 > v48 + p58) {
+                v58 = v48 + p58;
+                d58 = d48;
+            }
+        }
+        if (p82 > 0) {
+            v82 = v71 + p82;
+            d82 = d71;
+            if (v82 > v70 + p82) {
+                v82 = v70 + p82;
+                d82 = d70;
+            }
+            if (v82 > v72 + p82) {
+                v82 = v72 + p82;
+                d82 = d72;
+            }
+        }
+        if (p62 > 0) {
+            v62 = v61 + p62;
+            d62 = d61;
+            if (v62 > v72 + p62) {
+                v62 = v72 + p62;
+                d62 = d72;
+            }
+            if (v62 > v50 + p62) {
+                v62 = v50 + p62;
+                d62 = d50;
+            }
+        }
+        if (p38 > 0) {
+            v38 = v49 + p38;
+            d38 = d49;
+            if (v38 > v50 + p38) {
+                v38 = v50 + p38;
+                d38 = d50;
+            }
+            if (v38 > v48 + p38) {
+                v38 = v48 + p38;
+                d38 = d48;
+            }
+        }
+        if (p37 > 0) {
+            v37 = v49 + p37;
+            d37 = d49;
+            if (v37 > v38 + p37) {
+                v37 = v38 + p37;
+                d37 = d38;
+            }
+            if (v37 > v48 + p37) {
+                v37 = v48 + p37;
+                d37 = d48;
+            }
+        }
+        if (p47 > 0) {
+            v47 = v59 + p47;
+            d47 = d59;
+            if (v47 > v48 + p47) {
+                v47 = v48 + p47;
+                d47 = d48;
+            }
+            if (v47 > v58 + p47) {
+                v47 = v58 + p47;
+                d47 = d58;
+            }
+            if (v47 > v37 + p47) {
+                v47 = v37 + p47;
+                d47 = d37;
+            }
+        }
+        if (p69 > 0) {
+            v69 = v59 + p69;
+            d69 = d59;
+            if (v69 > v70 + p69) {
+                v69 = v70 + p69;
+                d69 = d70;
+            }
+            if (v69 > v58 + p69) {
+                v69 = v58 + p69;
+                d69 = d58;
+            }
+        }
+        if (p81 > 0) {
+            v81 = v71 + p81;
+            d81 = d71;
+            if (v81 > v82 + p81) {
+                v81 = v82 + p81;
+                d81 = d82;
+            }
+            if (v81 > v69 + p81) {
+                v81 = v69 + p81;
+                d81 = d69;
+            }
+            if (v81 > v70 + p81) {
+                v81 = v70 + p81;
+                d81 = d70;
+            }
+        }
+        if (p83 > 0) {
+            v83 = v71 + p83;
+            d83 = d71;
+            if (v83 > v82 + p83) {
+                v83 = v82 + p83;
+                d83 = d82;
+            }
+            if (v83 > v72 + p83) {
+                v83 = v72 + p83;
+                d83 = d72;
+            }
+        }
+        if (p73 > 0) {
+            v73 = v61 + p73;
+            d73 = d61;
+            if (v73 > v83 + p73) {
+                v73 = v83 + p73;
+                d73 = d83;
+            }
+            if (v73 > v72 + p73) {
+                v73 = v72 + p73;
+                d73 = d72;
+            }
+            if (v73 > v62 + p73) {
+                v73 = v62 + p73;
+                d73 = d62;
+            }
+        }
+        if (p51 > 0) {
+            v51 = v61 + p51;
+            d51 = d61;
+            if (v51 > v62 + p51) {
+                v51 = v62 + p51;
+                d51 = d62;
+            }
+            if (v51 > v50 + p51) {
+                v51 = v50 + p51;
+                d51 = d50;
+            }
+        }
+        if (p39 > 0) {
+            v39 = v49 + p39;
+            d39 = d49;
+            if (v39 > v51 + p39) {
+                v39 = v51 + p39;
+                d39 = d51;
+            }
+            if (v39 > v50 + p39) {
+                v39 = v50 + p39;
+                d39 = d50;
+            }
+            if (v39 > v38 + p39) {
+                v39 = v38 + p39;
+                d39 = d38;
+            }
+        }
+        if (p36 > 0) {
+            v36 = v48 + p36;
+            d36 = d48;
+            if (v36 > v37 + p36) {
+                v36 = v37 + p36;
+                d36 = d37;
+            }
+            if (v36 > v47 + p36) {
+                v36 = v47 + p36;
+                d36 = d47;
+            }
+        }
+        if (p80 > 0) {
+            v80 = v70 + p80;
+            d80 = d70;
+            if (v80 > v81 + p80) {
+                v80 = v81 + p80;
+                d80 = d81;
+            }
+            if (v80 > v69 + p80) {
+                v80 = v69 + p80;
+                d80 = d69;
+            }
+        }
+        if (p84 > 0) {
+            v84 = v72 + p84;
+            d84 = d72;
+            if (v84 > v83 + p84) {
+                v84 = v83 + p84;
+                d84 = d83;
+            }
+            if (v84 > v73 + p84) {
+                v84 = v73 + p84;
+                d84 = d73;
+            }
+        }
+        if (p40 > 0) {
+            v40 = v50 + p40;
+            d40 = d50;
+            if (v40 > v51 + p40) {
+                v40 = v51 + p40;
+                d40 = d51;
+            }
+            if (v40 > v39 + p40) {
+                v40 = v39 + p40;
+                d40 = d39;
+            }
+        }
+        if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + 1860) {
+            maxElapsed = Debug.toc(before, "BFS13-search", maxElapsed);
+            return 2;
+        }
+
+        // ring 3
+        l57 = l58.add(Direction.SOUTH);
+        v57 = 1000000;
+        d57 = null;
+        l93 = l82.add(Direction.EAST);
+        v93 = 1000000;
+        d93 = null;
+        l63 = l62.add(Direction.NORTH);
+        v63 = 1000000;
+        d63 = null;
+        l27 = l38.add(Direction.WEST);
+        v27 = 1000000;
+        d27 = null;
+        l26 = l38.add(Direction.SOUTHWEST);
+        v26 = 1000000;
+        d26 = null;
+        l46 = l58.add(Direction.SOUTHWEST);
+        v46 = 1000000;
+        d46 = null;
+        l68 = l58.add(Direction.SOUTHEAST);
+        v68 = 1000000;
+        d68 = null;
+        l92 = l82.add(Direction.SOUTHEAST);
+        v92 = 1000000;
+        d92 = null;
+        l94 = l82.add(Direction.NORTHEAST);
+        v94 = 1000000;
+        d94 = null;
+        l74 = l62.add(Direction.NORTHEAST);
+        v74 = 1000000;
+        d74 = null;
+        l52 = l62.add(Direction.NORTHWEST);
+        v52 = 1000000;
+        d52 = null;
+        l28 = l38.add(Direction.NORTHWEST);
+        v28 = 1000000;
+        d28 = null;
+        l25 = l37.add(Direction.SOUTHWEST);
+        v25 = 1000000;
+        d25 = null;
+        l35 = l47.add(Direction.SOUTHWEST);
+        v35 = 1000000;
+        d35 = null;
+        l79 = l69.add(Direction.SOUTHEAST);
+        v79 = 1000000;
+        d79 = null;
+        l91 = l81.add(Direction.SOUTHEAST);
+        v91 = 1000000;
+        d91 = null;
+        l95 = l83.add(Direction.NORTHEAST);
+        v95 = 1000000;
+        d95 = null;
+        l85 = l73.add(Direction.NORTHEAST);
+        v85 = 1000000;
+        d85 = null;
+        l41 = l51.add(Direction.NORTHWEST);
+        v41 = 1000000;
+        d41 = null;
+        l29 = l39.add(Direction.NORTHWEST);
+        v29 = 1000000;
+        d29 = null;
+        if (margin >= 3) {
+            if (p57 == 0) {
+                int rubble = rc.senseRubble(l57);
+                RubbleMemory.record(l57, rubble);
+                p57 = 10 + rubble;
+            }
+            if (p93 == 0) {
+                int rubble = rc.senseRubble(l93);
+                RubbleMemory.record(l93, rubble);
+                p93 = 10 + rubble;
+            }
+            if (p63 == 0) {
+                int rubble = rc.senseRubble(l63);
+                RubbleMemory.record(l63, rubble);
+                p63 = 10 + rubble;
+            }
+            if (p27 == 0) {
+                int rubble = rc.senseRubble(l27);
+                RubbleMemory.record(l27, rubble);
+                p27 = 10 + rubble;
+            }
+            if (p26 == 0) {
+                int rubble = rc.senseRubble(l26);
+                RubbleMemory.record(l26, rubble);
+                p26 = 10 + rubble;
+            }
+            if (p46 == 0) {
+                int rubble = rc.senseRubble(l46);
+                RubbleMemory.record(l46, rubble);
+                p46 = 10 + rubble;
+            }
+            if (p68 == 0) {
+                int rubble = rc.senseRubble(l68);
+                RubbleMemory.record(l68, rubble);
+                p68 = 10 + rubble;
+            }
+            if (p92 == 0) {
+                int rubble = rc.senseRubble(l92);
+                RubbleMemory.record(l92, rubble);
+                p92 = 10 + rubble;
+            }
+            if (p94 == 0) {
+                int rubble = rc.senseRubble(l94);
+                RubbleMemory.record(l94, rubble);
+                p94 = 10 + rubble;
+            }
+            if (p74 == 0) {
+                int rubble = rc.senseRubble(l74);
+                RubbleMemory.record(l74, rubble);
+                p74 = 10 + rubble;
+            }
+            if (p52 == 0) {
+                int rubble = rc.senseRubble(l52);
+                RubbleMemory.record(l52, rubble);
+                p52 = 10 + rubble;
+            }
+            if (p28 == 0) {
+                int rubble = rc.senseRubble(l28);
+                RubbleMemory.record(l28, rubble);
+                p28 = 10 + rubble;
+            }
+            if (p25 == 0) {
+                int rubble = rc.senseRubble(l25);
+                RubbleMemory.record(l25, rubble);
+                p25 = 10 + rubble;
+            }
+            if (p35 == 0) {
+                int rubble = rc.senseRubble(l35);
+                RubbleMemory.record(l35, rubble);
+                p35 = 10 + rubble;
+            }
+            if (p79 == 0) {
+                int rubble = rc.senseRubble(l79);
+                RubbleMemory.record(l79, rubble);
+                p79 = 10 + rubble;
+            }
+            if (p91 == 0) {
+                int rubble = rc.senseRubble(l91);
+                RubbleMemory.record(l91, rubble);
+                p91 = 10 + rubble;
+            }
+            if (p95 == 0) {
+                int rubble = rc.senseRubble(l95);
+                RubbleMemory.record(l95, rubble);
+                p95 = 10 + rubble;
+            }
+            if (p85 == 0) {
+                int rubble = rc.senseRubble(l85);
+                RubbleMemory.record(l85, rubble);
+                p85 = 10 + rubble;
+            }
+            if (p41 == 0) {
+                int rubble = rc.senseRubble(l41);
+                RubbleMemory.record(l41, rubble);
+                p41 = 10 + rubble;
+            }
+            if (p29 == 0) {
+                int rubble = rc.senseRubble(l29);
+                RubbleMemory.record(l29, rubble);
+                p29 = 10 + rubble;
+            }
+        } else {
+            if (p57 == 0) {
+                if (rc.onTheMap(l57)) {
+                    int rubble = rc.senseRubble(l57);
+                    RubbleMemory.record(l57, rubble);
+                    p57 = 10 + rubble;
+                } else {
+                    p57 = -1;
+                }
+            }
+            if (p93 == 0) {
+                if (rc.onTheMap(l93)) {
+                    int rubble = rc.senseRubble(l93);
+                    RubbleMemory.record(l93, rubble);
+                    p93 = 10 + rubble;
+                } else {
+                    p93 = -1;
+                }
+            }
+            if (p63 == 0) {
+                if (rc.onTheMap(l63)) {
+                    int rubble = rc.senseRubble(l63);
+                    RubbleMemory.record(l63, rubble);
+                    p63 = 10 + rubble;
+                } else {
+                    p63 = -1;
+                }
+            }
+            if (p27 == 0) {
+                if (rc.onTheMap(l27)) {
+                    int rubble = rc.senseRubble(l27);
+                    RubbleMemory.record(l27, rubble);
+                    p27 = 10 + rubble;
+                } else {
+                    p27 = -1;
+                }
+            }
+            if (p26 == 0) {
+                if (rc.onTheMap(l26)) {
+                    int rubble = rc.senseRubble(l26);
+                    RubbleMemory.record(l26, rubble);
+                    p26 = 10 + rubble;
+                } else {
+                    p26 = -1;
+                }
+            }
+            if (p46 == 0) {
+                if (rc.onTheMap(l46)) {
+                    int rubble = rc.senseRubble(l46);
+                    RubbleMemory.record(l46, rubble);
+                    p46 = 10 + rubble;
+                } else {
+                    p46 = -1;
+                }
+            }
+            if (p68 == 0) {
+                if (rc.onTheMap(l68)) {
+                    int rubble = rc.senseRubble(l68);
+                    RubbleMemory.record(l68, rubble);
+                    p68 = 10 + rubble;
+                } else {
+                    p68 = -1;
+                }
+            }
+            if (p92 == 0) {
+                if (rc.onTheMap(l92)) {
+                    int rubble = rc.senseRubble(l92);
+                    RubbleMemory.record(l92, rubble);
+                    p92 = 10 + rubble;
+                } else {
+                    p92 = -1;
+                }
+            }
+            if (p94 == 0) {
+                if (rc.onTheMap(l94)) {
+                    int rubble = rc.senseRubble(l94);
+                    RubbleMemory.record(l94, rubble);
+                    p94 = 10 + rubble;
+                } else {
+                    p94 = -1;
+                }
+            }
+            if (p74 == 0) {
+                if (rc.onTheMap(l74)) {
+                    int rubble = rc.senseRubble(l74);
+                    RubbleMemory.record(l74, rubble);
+                    p74 = 10 + rubble;
+                } else {
+                    p74 = -1;
+                }
+            }
+            if (p52 == 0) {
+                if (rc.onTheMap(l52)) {
+                    int rubble = rc.senseRubble(l52);
+                    RubbleMemory.record(l52, rubble);
+                    p52 = 10 + rubble;
+                } else {
+                    p52 = -1;
+                }
+            }
+            if (p28 == 0) {
+                if (rc.onTheMap(l28)) {
+                    int rubble = rc.senseRubble(l28);
+                    RubbleMemory.record(l28, rubble);
+                    p28 = 10 + rubble;
+                } else {
+                    p28 = -1;
+                }
+            }
+            if (p25 == 0) {
+                if (rc.onTheMap(l25)) {
+                    int rubble = rc.senseRubble(l25);
+                    RubbleMemory.record(l25, rubble);
+                    p25 = 10 + rubble;
+                } else {
+                    p25 = -1;
+                }
+            }
+            if (p35 == 0) {
+                if (rc.onTheMap(l35)) {
+                    int rubble = rc.senseRubble(l35);
+                    RubbleMemory.record(l35, rubble);
+                    p35 = 10 + rubble;
+                } else {
+                    p35 = -1;
+                }
+            }
+            if (p79 == 0) {
+                if (rc.onTheMap(l79)) {
+                    int rubble = rc.senseRubble(l79);
+                    RubbleMemory.record(l79, rubble);
+                    p79 = 10 + rubble;
+                } else {
+                    p79 = -1;
+                }
+            }
+            if (p91 == 0) {
+                if (rc.onTheMap(l91)) {
+                    int rubble = rc.senseRubble(l91);
+                    RubbleMemory.record(l91, rubble);
+                    p91 = 10 + rubble;
+                } else {
+                    p91 = -1;
+                }
+            }
+            if (p95 == 0) {
+                if (rc.onTheMap(l95)) {
+                    int rubble = rc.senseRubble(l95);
+                    RubbleMemory.record(l95, rubble);
+                    p95 = 10 + rubble;
+                } else {
+                    p95 = -1;
+                }
+            }
+            if (p85 == 0) {
+                if (rc.onTheMap(l85)) {
+                    int rubble = rc.senseRubble(l85);
+                    RubbleMemory.record(l85, rubble);
+                    p85 = 10 + rubble;
+                } else {
+                    p85 = -1;
+                }
+            }
+            if (p41 == 0) {
+                if (rc.onTheMap(l41)) {
+                    int rubble = rc.senseRubble(l41);
+                    RubbleMemory.record(l41, rubble);
+                    p41 = 10 + rubble;
+                } else {
+                    p41 = -1;
+                }
+            }
+            if (p29 == 0) {
+                if (rc.onTheMap(l29)) {
+                    int rubble = rc.senseRubble(l29);
+                    RubbleMemory.record(l29, rubble);
+                    p29 = 10 + rubble;
+                } else {
+                    p29 = -1;
+                }
+            }
+        }
+        if (p57 > 0) {
+            v57 = v58 + p57;
+            d57 = d58;
+            if (v57 > v69 + p57) {
+                v57 = v69 + p57;
+                d57 = d69;
+            }
+            if (v57 > v47 + p57) {
+                v57 = v47 + p57;
+                d57 = d47;
+            }
+        }
+        if (p93 > 0) {
+            v93 = v82 + p93;
+            d93 = d82;
+            if (v93 > v81 + p93) {
+                v93 = v81 + p93;
+                d93 = d81;
+            }
+            if (v93 > v83 + p93) {
+                v93 = v83 + p93;
+                d93 = d83;
+            }
+        }
+        if (p63 > 0) {
+            v63 = v62 + p63;
+            d63 = d62;
+            if (v63 > v73 + p63) {
+                v63 = v73 + p63;
+                d63 = d73;
+            }
+            if (v63 > v51 + p63) {
+                v63 = v51 + p63;
+                d63 = d51;
+            }
+        }
+        if (p27 > 0) {
+            v27 = v38 + p27;
+            d27 = d38;
+            if (v27 > v39 + p27) {
+                v27 = v39 + p27;
+                d27 = d39;
+            }
+            if (v27 > v37 + p27) {
+                v27 = v37 + p27;
+                d27 = d37;
+            }
+        }
+        if (p26 > 0) {
+            v26 = v38 + p26;
+            d26 = d38;
+            if (v26 > v27 + p26) {
+                v26 = v27 + p26;
+                d26 = d27;
+            }
+            if (v26 > v37 + p26) {
+                v26 = v37 + p26;
+                d26 = d37;
+            }
+            if (v26 > v36 + p26) {
+                v26 = v36 + p26;
+                d26 = d36;
+            }
+        }
+        if (p46 > 0) {
+            v46 = v58 + p46;
+            d46 = d58;
+            if (v46 > v47 + p46) {
+                v46 = v47 + p46;
+                d46 = d47;
+            }
+            if (v46 > v57 + p46) {
+                v46 = v57 + p46;
+                d46 = d57;
+            }
+            if (v46 > v36 + p46) {
+                v46 = v36 + p46;
+                d46 = d36;
+            }
+        }
+        if (p68 > 0) {
+            v68 = v58 + p68;
+            d68 = d58;
+            if (v68 > v69 + p68) {
+                v68 = v69 + p68;
+                d68 = d69;
+            }
+            if (v68 > v80 + p68) {
+                v68 = v80 + p68;
+                d68 = d80;
+            }
+            if (v68 > v57 + p68) {
+                v68 = v57 + p68;
+                d68 = d57;
+            }
+        }
+        if (p92 > 0) {
+            v92 = v82 + p92;
+            d92 = d82;
+            if (v92 > v93 + p92) {
+                v92 = v93 + p92;
+                d92 = d93;
+            }
+            if (v92 > v80 + p92) {
+                v92 = v80 + p92;
+                d92 = d80;
+            }
+            if (v92 > v81 + p92) {
+                v92 = v81 + p92;
+                d92 = d81;
+            }
+        }
+        if (p94 > 0) {
+            v94 = v82 + p94;
+            d94 = d82;
+            if (v94 > v93 + p94) {
+                v94 = v93 + p94;
+                d94 = d93;
+            }
+            if (v94 > v83 + p94) {
+                v94 = v83 + p94;
+                d94 = d83;
+            }
+            if (v94 > v84 + p94) {
+                v94 = v84 + p94;
+                d94 = d84;
+            }
+        }
+        if (p74 > 0) {
+            v74 = v62 + p74;
+            d74 = d62;
+            if (v74 > v84 + p74) {
+                v74 = v84 + p74;
+                d74 = d84;
+            }
+            if (v74 > v73 + p74) {
+                v74 = v73 + p74;
+                d74 = d73;
+            }
+            if (v74 > v63 + p74) {
+                v74 = v63 + p74;
+                d74 = d63;
+            }
+        }
+        if (p52 > 0) {
+            v52 = v62 + p52;
+            d52 = d62;
+            if (v52 > v63 + p52) {
+                v52 = v63 + p52;
+                d52 = d63;
+            }
+            if (v52 > v51 + p52) {
+                v52 = v51 + p52;
+                d52 = d51;
+            }
+            if (v52 > v40 + p52) {
+                v52 = v40 + p52;
+                d52 = d40;
+            }
+        }
+        if (p28 > 0) {
+            v28 = v38 + p28;
+            d28 = d38;
+            if (v28 > v40 + p28) {
+                v28 = v40 + p28;
+                d28 = d40;
+            }
+            if (v28 > v39 + p28) {
+                v28 = v39 + p28;
+                d28 = d39;
+            }
+            if (v28 > v27 + p28) {
+                v28 = v27 + p28;
+                d28 = d27;
+            }
+        }
+        if (p25 > 0) {
+            v25 = v37 + p25;
+            d25 = d37;
+            if (v25 > v26 + p25) {
+                v25 = v26 + p25;
+                d25 = d26;
+            }
+            if (v25 > v36 + p25) {
+                v25 = v36 + p25;
+                d25 = d36;
+            }
+        }
+        if (p35 > 0) {
+            v35 = v47 + p35;
+            d35 = d47;
+            if (v35 > v36 + p35) {
+                v35 = v36 + p35;
+                d35 = d36;
+            }
+            if (v35 > v46 + p35) {
+                v35 = v46 + p35;
+                d35 = d46;
+            }
+            if (v35 > v25 + p35) {
+                v35 = v25 + p35;
+                d35 = d25;
+            }
+        }
+        if (p79 > 0) {
+            v79 = v69 + p79;
+            d79 = d69;
+            if (v79 > v80 + p79) {
+                v79 = v80 + p79;
+                d79 = d80;
+            }
+            if (v79 > v68 + p79) {
+                v79 = v68 + p79;
+                d79 = d68;
+            }
+        }
+        if (p91 > 0) {
+            v91 = v81 + p91;
+            d91 = d81;
+            if (v91 > v92 + p91) {
+                v91 = v92 + p91;
+                d91 = d92;
+            }
+            if (v91 > v79 + p91) {
+                v91 = v79 + p91;
+                d91 = d79;
+            }
+            if (v91 > v80 + p91) {
+                v91 = v80 + p91;
+                d91 = d80;
+            }
+        }
+        if (p95 > 0) {
+            v95 = v83 + p95;
+            d95 = d83;
+            if (v95 > v94 + p95) {
+                v95 = v94 + p95;
+                d95 = d94;
+            }
+            if (v95 > v84 + p95) {
+                v95 = v84 + p95;
+                d95 = d84;
+            }
+        }
+        if (p85 > 0) {
+            v85 = v73 + p85;
+            d85 = d73;
+            if (v85 > v95 + p85) {
+                v85 = v95 + p85;
+                d85 = d95;
+            }
+            if (v85 > v84 + p85) {
+                v85 = v84 + p85;
+                d85 = d84;
+            }
+            if (v85 > v74 + p85) {
+                v85 = v74 + p85;
+                d85 = d74;
+            }
+        }
+        if (p41 > 0) {
+            v41 = v51 + p41;
+            d41 = d51;
+            if (v41 > v52 + p41) {
+                v41 = v52 + p41;
+                d41 = d52;
+            }
+            if (v41 > v40 + p41) {
+                v41 = v40 + p41;
+                d41 = d40;
+            }
+        }
+        if (p29 > 0) {
+            v29 = v39 + p29;
+            d29 = d39;
+            if (v29 > v41 + p29) {
+                v29 = v41 + p29;
+                d29 = d41;
+            }
+            if (v29 > v40 + p29) {
+                v29 = v40 + p29;
+                d29 = d40;
+            }
+            if (v29 > v28 + p29) {
+                v29 = v28 + p29;
+                d29 = d28;
+            }
+        }
+        maxElapsed = Debug.toc(before, "BFS13-search", maxElapsed);
+        return 3;
+    }
+
+    Direction getBestDir(MapLocation target, int rings) {
+        switch (rings) {
+            case 1:
+                return getBestDirWithinRing1(target);
+            case 2:
+                return getBestDirWithinRing2(target);
+            default:
+                return getBestDirWithinRing3(target);
+        }
+    }
+
+    private static void clearRubbleCache() {
+        p59 = 0;
+        p71 = 0;
+        p61 = 0;
+        p49 = 0;
+        p48 = 0;
+        p70 = 0;
+        p72 = 0;
+        p50 = 0;
+        p58 = 0;
+        p82 = 0;
+        p62 = 0;
+        p38 = 0;
+        p37 = 0;
+        p47 = 0;
+        p69 = 0;
+        p81 = 0;
+        p83 = 0;
+        p73 = 0;
+        p51 = 0;
+        p39 = 0;
+        p36 = 0;
+        p80 = 0;
+        p84 = 0;
+        p40 = 0;
+        p57 = 0;
+        p93 = 0;
+        p63 = 0;
+        p27 = 0;
+        p26 = 0;
+        p46 = 0;
+        p68 = 0;
+        p92 = 0;
+        p94 = 0;
+        p74 = 0;
+        p52 = 0;
+        p28 = 0;
+        p25 = 0;
+        p35 = 0;
+        p79 = 0;
+        p91 = 0;
+        p95 = 0;
+        p85 = 0;
+        p41 = 0;
+        p29 = 0;
+    }
+
+    private static void shiftRubbleCache(Direction dir) {
+        switch (dir) {
+            case NORTH:
+                p57 = p58;
+                p46 = p47;
+                p68 = p69;
+                p35 = p36;
+                p79 = p80;
+                p58 = p59;
+                p47 = p48;
+                p69 = p70;
+                p36 = p37;
+                p80 = p81;
+                p25 = p26;
+                p91 = p92;
+                p59 = 0;
+                p48 = p49;
+                p70 = p71;
+                p37 = p38;
+                p81 = p82;
+                p26 = p27;
+                p92 = p93;
+                p71 = p72;
+                p49 = p50;
+                p82 = p83;
+                p38 = p39;
+                p93 = p94;
+                p27 = p28;
+                p61 = p62;
+                p72 = p73;
+                p50 = p51;
+                p83 = p84;
+                p39 = p40;
+                p94 = p95;
+                p28 = p29;
+                p62 = p63;
+                p73 = p74;
+                p51 = p52;
+                p84 = p85;
+                p40 = p41;
+                p95 = 0;
+                p29 = 0;
+                p63 = 0;
+                p74 = 0;
+                p52 = 0;
+                p85 = 0;
+                p41 = 0;
+                break;
+            case NORTHEAST:
+                p25 = p37;
+                p35 = p47;
+                p36 = p48;
+                p26 = p38;
+                p46 = p58;
+                p37 = p49;
+                p47 = p59;
+                p57 = p69;
+                p27 = p39;
+                p48 = 0;
+                p58 = p70;
+                p38 = p50;
+                p68 = p80;
+                p28 = p40;
+                p59 = p71;
+                p49 = p61;
+                p69 = p81;
+                p39 = p51;
+                p79 = p91;
+                p29 = p41;
+                p70 = p82;
+                p50 = p62;
+                p80 = p92;
+                p40 = p52;
+                p71 = p83;
+                p61 = p73;
+                p81 = p93;
+                p51 = p63;
+                p91 = 0;
+                p41 = 0;
+                p72 = p84;
+                p82 = p94;
+                p62 = p74;
+                p92 = 0;
+                p52 = 0;
+                p83 = p95;
+                p73 = p85;
+                p93 = 0;
+                p63 = 0;
+                p84 = 0;
+                p94 = 0;
+                p74 = 0;
+                p95 = 0;
+                p85 = 0;
+                break;
+            case EAST:
+                p27 = p38;
+                p26 = p37;
+                p28 = p39;
+                p25 = p36;
+                p29 = p40;
+                p38 = p49;
+                p37 = p48;
+                p39 = p50;
+                p36 = p47;
+                p40 = p51;
+                p35 = p46;
+                p41 = p52;
+                p49 = 0;
+                p48 = p59;
+                p50 = p61;
+                p47 = p58;
+                p51 = p62;
+                p46 = p57;
+                p52 = p63;
+                p59 = p70;
+                p61 = p72;
+                p58 = p69;
+                p62 = p73;
+                p57 = p68;
+                p63 = p74;
+                p71 = p82;
+                p70 = p81;
+                p72 = p83;
+                p69 = p80;
+                p73 = p84;
+                p68 = p79;
+                p74 = p85;
+                p82 = p93;
+                p81 = p92;
+                p83 = p94;
+                p80 = p91;
+                p84 = p95;
+                p79 = 0;
+                p85 = 0;
+                p93 = 0;
+                p92 = 0;
+                p94 = 0;
+                p91 = 0;
+                p95 = 0;
+                break;
+            case SOUTHEAST:
+                p41 = p51;
+                p29 = p39;
+                p40 = p50;
+                p52 = p62;
+                p28 = p38;
+                p51 = p61;
+                p39 = p49;
+                p63 = p73;
+                p27 = p37;
+                p50 = 0;
+                p62 = p72;
+                p38 = p48;
+                p26 = p36;
+                p74 = p84;
+                p61 = p71;
+                p49 = p59;
+                p37 = p47;
+                p73 = p83;
+                p25 = p35;
+                p85 = p95;
+                p48 = p58;
+                p72 = p82;
+                p36 = p46;
+                p84 = p94;
+                p59 = p69;
+                p71 = p81;
+                p47 = p57;
+                p83 = p93;
+                p35 = 0;
+                p95 = 0;
+                p70 = p80;
+                p58 = p68;
+                p82 = p92;
+                p46 = 0;
+                p94 = 0;
+                p69 = p79;
+                p81 = p91;
+                p57 = 0;
+                p93 = 0;
+                p80 = 0;
+                p68 = 0;
+                p92 = 0;
+                p79 = 0;
+                p91 = 0;
+                break;
+            case SOUTH:
+                p63 = p62;
+                p74 = p73;
+                p52 = p51;
+                p85 = p84;
+                p41 = p40;
+                p62 = p61;
+                p73 = p72;
+                p51 = p50;
+                p84 = p83;
+                p40 = p39;
+                p95 = p94;
+                p29 = p28;
+                p61 = 0;
+                p72 = p71;
+                p50 = p49;
+                p83 = p82;
+                p39 = p38;
+                p94 = p93;
+                p28 = p27;
+                p71 = p70;
+                p49 = p48;
+                p82 = p81;
+                p38 = p37;
+                p93 = p92;
+                p27 = p26;
+                p59 = p58;
+                p48 = p47;
+                p70 = p69;
+                p37 = p36;
+                p81 = p80;
+                p26 = p25;
+                p92 = p91;
+                p58 = p57;
+                p47 = p46;
+                p69 = p68;
+                p36 = p35;
+                p80 = p79;
+                p25 = 0;
+                p91 = 0;
+                p57 = 0;
+                p46 = 0;
+                p68 = 0;
+                p35 = 0;
+                p79 = 0;
+                break;
+            case SOUTHWEST:
+                p95 = p83;
+                p85 = p73;
+                p84 = p72;
+                p94 = p82;
+                p74 = p62;
+                p83 = p71;
+                p73 = p61;
+                p93 = p81;
+                p63 = p51;
+                p72 = 0;
+                p82 = p70;
+                p62 = p50;
+                p92 = p80;
+                p52 = p40;
+                p71 = p59;
+                p61 = p49;
+                p81 = p69;
+                p51 = p39;
+                p91 = p79;
+                p41 = p29;
+                p70 = p58;
+                p50 = p38;
+                p80 = p68;
+                p40 = p28;
+                p59 = p47;
+                p49 = p37;
+                p69 = p57;
+                p39 = p27;
+                p79 = 0;
+                p29 = 0;
+                p48 = p36;
+                p58 = p46;
+                p38 = p26;
+                p68 = 0;
+                p28 = 0;
+                p37 = p25;
+                p47 = p35;
+                p57 = 0;
+                p27 = 0;
+                p36 = 0;
+                p26 = 0;
+                p46 = 0;
+                p25 = 0;
+                p35 = 0;
+                break;
+            case WEST:
+                p93 = p82;
+                p92 = p81;
+                p94 = p83;
+                p91 = p80;
+                p95 = p84;
+                p82 = p71;
+                p81 = p70;
+                p83 = p72;
+                p80 = p69;
+                p84 = p73;
+                p79 = p68;
+                p85 = p74;
+                p71 = 0;
+                p70 = p59;
+                p72 = p61;
+                p69 = p58;
+                p73 = p62;
+                p68 = p57;
+                p74 = p63;
+                p59 = p48;
+                p61 = p50;
+                p58 = p47;
+                p62 = p51;
+                p57 = p46;
+                p63 = p52;
+                p49 = p38;
+                p48 = p37;
+                p50 = p39;
+                p47 = p36;
+                p51 = p40;
+                p46 = p35;
+                p52 = p41;
+                p38 = p27;
+                p37 = p26;
+                p39 = p28;
+                p36 = p25;
+                p40 = p29;
+                p35 = 0;
+                p41 = 0;
+                p27 = 0;
+                p26 = 0;
+                p28 = 0;
+                p25 = 0;
+                p29 = 0;
+                break;
+            case NORTHWEST:
+                p79 = p69;
+                p91 = p81;
+                p80 = p70;
+                p68 = p58;
+                p92 = p82;
+                p69 = p59;
+                p81 = p71;
+                p57 = p47;
+                p93 = p83;
+                p70 = 0;
+                p58 = p48;
+                p82 = p72;
+                p46 = p36;
+                p94 = p84;
+                p59 = p49;
+                p71 = p61;
+                p47 = p37;
+                p83 = p73;
+                p35 = p25;
+                p95 = p85;
+                p48 = p38;
+                p72 = p62;
+                p36 = p26;
+                p84 = p74;
+                p61 = p51;
+                p49 = p39;
+                p37 = p27;
+                p73 = p63;
+                p25 = 0;
+                p85 = 0;
+                p50 = p40;
+                p62 = p52;
+                p38 = p28;
+                p26 = 0;
+                p74 = 0;
+                p51 = p41;
+                p39 = p29;
+                p63 = 0;
+                p27 = 0;
+                p40 = 0;
+                p52 = 0;
+                p28 = 0;
+                p41 = 0;
+                p29 = 0;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static Direction getBestDirWithinRing1(MapLocation target) {
+        int dx = target.x - l60.x;
+        int dy = target.y - l60.y;
+        switch (dx) {
+            case -1:
+                switch (dy) {
+                    case -1:
+                        pathCost = v48;
+                        return d48;
+                    case 0:
+                        pathCost = v49;
+                        return d49;
+                    case 1:
+                        pathCost = v50;
+                        return d50;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -1:
+                        pathCost = v59;
+                        return d59;
+                    case 1:
+                        pathCost = v61;
+                        return d61;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -1:
+                        pathCost = v70;
+                        return d70;
+                    case 0:
+                        pathCost = v71;
+                        return d71;
+                    case 1:
+                        pathCost = v72;
+                        return d72;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l60.distanceSquaredTo(target));
+        double remaining48 = Math.sqrt(l48.distanceSquaredTo(target));
+        double dist48 = (initialDist - remaining48) / v48;
+        if (dist48 > bestEstimation) {
+            bestEstimation = dist48;
+            ans = d48;
+            ansCost = v48 + 10 * remaining48;
+        }
+        double remaining49 = Math.sqrt(l49.distanceSquaredTo(target));
+        double dist49 = (initialDist - remaining49) / v49;
+        if (dist49 > bestEstimation) {
+            bestEstimation = dist49;
+            ans = d49;
+            ansCost = v49 + 10 * remaining49;
+        }
+        double remaining50 = Math.sqrt(l50.distanceSquaredTo(target));
+        double dist50 = (initialDist - remaining50) / v50;
+        if (dist50 > bestEstimation) {
+            bestEstimation = dist50;
+            ans = d50;
+            ansCost = v50 + 10 * remaining50;
+        }
+        double remaining59 = Math.sqrt(l59.distanceSquaredTo(target));
+        double dist59 = (initialDist - remaining59) / v59;
+        if (dist59 > bestEstimation) {
+            bestEstimation = dist59;
+            ans = d59;
+            ansCost = v59 + 10 * remaining59;
+        }
+        double remaining61 = Math.sqrt(l61.distanceSquaredTo(target));
+        double dist61 = (initialDist - remaining61) / v61;
+        if (dist61 > bestEstimation) {
+            bestEstimation = dist61;
+            ans = d61;
+            ansCost = v61 + 10 * remaining61;
+        }
+        double remaining70 = Math.sqrt(l70.distanceSquaredTo(target));
+        double dist70 = (initialDist - remaining70) / v70;
+        if (dist70 > bestEstimation) {
+            bestEstimation = dist70;
+            ans = d70;
+            ansCost = v70 + 10 * remaining70;
+        }
+        double remaining71 = Math.sqrt(l71.distanceSquaredTo(target));
+        double dist71 = (initialDist - remaining71) / v71;
+        if (dist71 > bestEstimation) {
+            bestEstimation = dist71;
+            ans = d71;
+            ansCost = v71 + 10 * remaining71;
+        }
+        double remaining72 = Math.sqrt(l72.distanceSquaredTo(target));
+        double dist72 = (initialDist - remaining72) / v72;
+        if (dist72 > bestEstimation) {
+            bestEstimation = dist72;
+            ans = d72;
+            ansCost = v72 + 10 * remaining72;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+
+    private static Direction getBestDirWithinRing2(MapLocation target) {
+        int dx = target.x - l60.x;
+        int dy = target.y - l60.y;
+        switch (dx) {
+            case -2:
+                switch (dy) {
+                    case -2:
+                        pathCost = v36;
+                        return d36;
+                    case -1:
+                        pathCost = v37;
+                        return d37;
+                    case 0:
+                        pathCost = v38;
+                        return d38;
+                    case 1:
+                        pathCost = v39;
+                        return d39;
+                    case 2:
+                        pathCost = v40;
+                        return d40;
+                }
+                break;
+            case -1:
+                switch (dy) {
+                    case -2:
+                        pathCost = v47;
+                        return d47;
+                    case -1:
+                        pathCost = v48;
+                        return d48;
+                    case 0:
+                        pathCost = v49;
+                        return d49;
+                    case 1:
+                        pathCost = v50;
+                        return d50;
+                    case 2:
+                        pathCost = v51;
+                        return d51;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -2:
+                        pathCost = v58;
+                        return d58;
+                    case -1:
+                        pathCost = v59;
+                        return d59;
+                    case 1:
+                        pathCost = v61;
+                        return d61;
+                    case 2:
+                        pathCost = v62;
+                        return d62;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -2:
+                        pathCost = v69;
+                        return d69;
+                    case -1:
+                        pathCost = v70;
+                        return d70;
+                    case 0:
+                        pathCost = v71;
+                        return d71;
+                    case 1:
+                        pathCost = v72;
+                        return d72;
+                    case 2:
+                        pathCost = v73;
+                        return d73;
+                }
+                break;
+            case 2:
+                switch (dy) {
+                    case -2:
+                        pathCost = v80;
+                        return d80;
+                    case -1:
+                        pathCost = v81;
+                        return d81;
+                    case 0:
+                        pathCost = v82;
+                        return d82;
+                    case 1:
+                        pathCost = v83;
+                        return d83;
+                    case 2:
+                        pathCost = v84;
+                        return d84;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l60.distanceSquaredTo(target));
+        double remaining36 = Math.sqrt(l36.distanceSquaredTo(target));
+        double dist36 = (initialDist - remaining36) / v36;
+        if (dist36 > bestEstimation) {
+            bestEstimation = dist36;
+            ans = d36;
+            ansCost = v36 + 10 * remaining36;
+        }
+        double remaining37 = Math.sqrt(l37.distanceSquaredTo(target));
+        double dist37 = (initialDist - remaining37) / v37;
+        if (dist37 > bestEstimation) {
+            bestEstimation = dist37;
+            ans = d37;
+            ansCost = v37 + 10 * remaining37;
+        }
+        double remaining38 = Math.sqrt(l38.distanceSquaredTo(target));
+        double dist38 = (initialDist - remaining38) / v38;
+        if (dist38 > bestEstimation) {
+            bestEstimation = dist38;
+            ans = d38;
+            ansCost = v38 + 10 * remaining38;
+        }
+        double remaining39 = Math.sqrt(l39.distanceSquaredTo(target));
+        double dist39 = (initialDist - remaining39) / v39;
+        if (dist39 > bestEstimation) {
+            bestEstimation = dist39;
+            ans = d39;
+            ansCost = v39 + 10 * remaining39;
+        }
+        double remaining40 = Math.sqrt(l40.distanceSquaredTo(target));
+        double dist40 = (initialDist - remaining40) / v40;
+        if (dist40 > bestEstimation) {
+            bestEstimation = dist40;
+            ans = d40;
+            ansCost = v40 + 10 * remaining40;
+        }
+        double remaining47 = Math.sqrt(l47.distanceSquaredTo(target));
+        double dist47 = (initialDist - remaining47) / v47;
+        if (dist47 > bestEstimation) {
+            bestEstimation = dist47;
+            ans = d47;
+            ansCost = v47 + 10 * remaining47;
+        }
+        double remaining51 = Math.sqrt(l51.distanceSquaredTo(target));
+        double dist51 = (initialDist - remaining51) / v51;
+        if (dist51 > bestEstimation) {
+            bestEstimation = dist51;
+            ans = d51;
+            ansCost = v51 + 10 * remaining51;
+        }
+        double remaining58 = Math.sqrt(l58.distanceSquaredTo(target));
+        double dist58 = (initialDist - remaining58) / v58;
+        if (dist58 > bestEstimation) {
+            bestEstimation = dist58;
+            ans = d58;
+            ansCost = v58 + 10 * remaining58;
+        }
+        double remaining62 = Math.sqrt(l62.distanceSquaredTo(target));
+        double dist62 = (initialDist - remaining62) / v62;
+        if (dist62 > bestEstimation) {
+            bestEstimation = dist62;
+            ans = d62;
+            ansCost = v62 + 10 * remaining62;
+        }
+        double remaining69 = Math.sqrt(l69.distanceSquaredTo(target));
+        double dist69 = (initialDist - remaining69) / v69;
+        if (dist69 > bestEstimation) {
+            bestEstimation = dist69;
+            ans = d69;
+            ansCost = v69 + 10 * remaining69;
+        }
+        double remaining73 = Math.sqrt(l73.distanceSquaredTo(target));
+        double dist73 = (initialDist - remaining73) / v73;
+        if (dist73 > bestEstimation) {
+            bestEstimation = dist73;
+            ans = d73;
+            ansCost = v73 + 10 * remaining73;
+        }
+        double remaining80 = Math.sqrt(l80.distanceSquaredTo(target));
+        double dist80 = (initialDist - remaining80) / v80;
+        if (dist80 > bestEstimation) {
+            bestEstimation = dist80;
+            ans = d80;
+            ansCost = v80 + 10 * remaining80;
+        }
+        double remaining81 = Math.sqrt(l81.distanceSquaredTo(target));
+        double dist81 = (initialDist - remaining81) / v81;
+        if (dist81 > bestEstimation) {
+            bestEstimation = dist81;
+            ans = d81;
+            ansCost = v81 + 10 * remaining81;
+        }
+        double remaining82 = Math.sqrt(l82.distanceSquaredTo(target));
+        double dist82 = (initialDist - remaining82) / v82;
+        if (dist82 > bestEstimation) {
+            bestEstimation = dist82;
+            ans = d82;
+            ansCost = v82 + 10 * remaining82;
+        }
+        double remaining83 = Math.sqrt(l83.distanceSquaredTo(target));
+        double dist83 = (initialDist - remaining83) / v83;
+        if (dist83 > bestEstimation) {
+            bestEstimation = dist83;
+            ans = d83;
+            ansCost = v83 + 10 * remaining83;
+        }
+        double remaining84 = Math.sqrt(l84.distanceSquaredTo(target));
+        double dist84 = (initialDist - remaining84) / v84;
+        if (dist84 > bestEstimation) {
+            bestEstimation = dist84;
+            ans = d84;
+            ansCost = v84 + 10 * remaining84;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+
+    private static Direction getBestDirWithinRing3(MapLocation target) {
+        int dx = target.x - l60.x;
+        int dy = target.y - l60.y;
+        switch (dx) {
+            case -3:
+                switch (dy) {
+                    case -2:
+                        pathCost = v25;
+                        return d25;
+                    case -1:
+                        pathCost = v26;
+                        return d26;
+                    case 0:
+                        pathCost = v27;
+                        return d27;
+                    case 1:
+                        pathCost = v28;
+                        return d28;
+                    case 2:
+                        pathCost = v29;
+                        return d29;
+                }
+                break;
+            case -2:
+                switch (dy) {
+                    case -3:
+                        pathCost = v35;
+                        return d35;
+                    case -2:
+                        pathCost = v36;
+                        return d36;
+                    case -1:
+                        pathCost = v37;
+                        return d37;
+                    case 0:
+                        pathCost = v38;
+                        return d38;
+                    case 1:
+                        pathCost = v39;
+                        return d39;
+                    case 2:
+                        pathCost = v40;
+                        return d40;
+                    case 3:
+                        pathCost = v41;
+                        return d41;
+                }
+                break;
+            case -1:
+                switch (dy) {
+                    case -3:
+                        pathCost = v46;
+                        return d46;
+                    case -2:
+                        pathCost = v47;
+                        return d47;
+                    case -1:
+                        pathCost = v48;
+                        return d48;
+                    case 0:
+                        pathCost = v49;
+                        return d49;
+                    case 1:
+                        pathCost = v50;
+                        return d50;
+                    case 2:
+                        pathCost = v51;
+                        return d51;
+                    case 3:
+                        pathCost = v52;
+                        return d52;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -3:
+                        pathCost = v57;
+                        return d57;
+                    case -2:
+                        pathCost = v58;
+                        return d58;
+                    case -1:
+                        pathCost = v59;
+                        return d59;
+                    case 1:
+                        pathCost = v61;
+                        return d61;
+                    case 2:
+                        pathCost = v62;
+                        return d62;
+                    case 3:
+                        pathCost = v63;
+                        return d63;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -3:
+                        pathCost = v68;
+                        return d68;
+                    case -2:
+                        pathCost = v69;
+                        return d69;
+                    case -1:
+                        pathCost = v70;
+                        return d70;
+                    case 0:
+                        pathCost = v71;
+                        return d71;
+                    case 1:
+                        pathCost = v72;
+                        return d72;
+                    case 2:
+                        pathCost = v73;
+                        return d73;
+                    case 3:
+                        pathCost = v74;
+                        return d74;
+                }
+                break;
+            case 2:
+                switch (dy) {
+                    case -3:
+                        pathCost = v79;
+                        return d79;
+                    case -2:
+                        pathCost = v80;
+                        return d80;
+                    case -1:
+                        pathCost = v81;
+                        return d81;
+                    case 0:
+                        pathCost = v82;
+                        return d82;
+                    case 1:
+                        pathCost = v83;
+                        return d83;
+                    case 2:
+                        pathCost = v84;
+                        return d84;
+                    case 3:
+                        pathCost = v85;
+                        return d85;
+                }
+                break;
+            case 3:
+                switch (dy) {
+                    case -2:
+                        pathCost = v91;
+                        return d91;
+                    case -1:
+                        pathCost = v92;
+                        return d92;
+                    case 0:
+                        pathCost = v93;
+                        return d93;
+                    case 1:
+                        pathCost = v94;
+                        return d94;
+                    case 2:
+                        pathCost = v95;
+                        return d95;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l60.distanceSquaredTo(target));
+        double remaining25 = Math.sqrt(l25.distanceSquaredTo(target));
+        double dist25 = (initialDist - remaining25) / v25;
+        if (dist25 > bestEstimation) {
+            bestEstimation = dist25;
+            ans = d25;
+            ansCost = v25 + 10 * remaining25;
+        }
+        double remaining26 = Math.sqrt(l26.distanceSquaredTo(target));
+        double dist26 = (initialDist - remaining26) / v26;
+        if (dist26 > bestEstimation) {
+            bestEstimation = dist26;
+            ans = d26;
+            ansCost = v26 + 10 * remaining26;
+        }
+        double remaining27 = Math.sqrt(l27.distanceSquaredTo(target));
+        double dist27 = (initialDist - remaining27) / v27;
+        if (dist27 > bestEstimation) {
+            bestEstimation = dist27;
+            ans = d27;
+            ansCost = v27 + 10 * remaining27;
+        }
+        double remaining28 = Math.sqrt(l28.distanceSquaredTo(target));
+        double dist28 = (initialDist - remaining28) / v28;
+        if (dist28 > bestEstimation) {
+            bestEstimation = dist28;
+            ans = d28;
+            ansCost = v28 + 10 * remaining28;
+        }
+        double remaining29 = Math.sqrt(l29.distanceSquaredTo(target));
+        double dist29 = (initialDist - remaining29) / v29;
+        if (dist29 > bestEstimation) {
+            bestEstimation = dist29;
+            ans = d29;
+            ansCost = v29 + 10 * remaining29;
+        }
+        double remaining35 = Math.sqrt(l35.distanceSquaredTo(target));
+        double dist35 = (initialDist - remaining35) / v35;
+        if (dist35 > bestEstimation) {
+            bestEstimation = dist35;
+            ans = d35;
+            ansCost = v35 + 10 * remaining35;
+        }
+        double remaining36 = Math.sqrt(l36.distanceSquaredTo(target));
+        double dist36 = (initialDist - remaining36) / v36;
+        if (dist36 > bestEstimation) {
+            bestEstimation = dist36;
+            ans = d36;
+            ansCost = v36 + 10 * remaining36;
+        }
+        double remaining40 = Math.sqrt(l40.distanceSquaredTo(target));
+        double dist40 = (initialDist - remaining40) / v40;
+        if (dist40 > bestEstimation) {
+            bestEstimation = dist40;
+            ans = d40;
+            ansCost = v40 + 10 * remaining40;
+        }
+        double remaining41 = Math.sqrt(l41.distanceSquaredTo(target));
+        double dist41 = (initialDist - remaining41) / v41;
+        if (dist41 > bestEstimation) {
+            bestEstimation = dist41;
+            ans = d41;
+            ansCost = v41 + 10 * remaining41;
+        }
+        double remaining46 = Math.sqrt(l46.distanceSquaredTo(target));
+        double dist46 = (initialDist - remaining46) / v46;
+        if (dist46 > bestEstimation) {
+            bestEstimation = dist46;
+            ans = d46;
+            ansCost = v46 + 10 * remaining46;
+        }
+        double remaining52 = Math.sqrt(l52.distanceSquaredTo(target));
+        double dist52 = (initialDist - remaining52) / v52;
+        if (dist52 > bestEstimation) {
+            bestEstimation = dist52;
+            ans = d52;
+            ansCost = v52 + 10 * remaining52;
+        }
+        double remaining57 = Math.sqrt(l57.distanceSquaredTo(target));
+        double dist57 = (initialDist - remaining57) / v57;
+        if (dist57 > bestEstimation) {
+            bestEstimation = dist57;
+            ans = d57;
+            ansCost = v57 + 10 * remaining57;
+        }
+        double remaining63 = Math.sqrt(l63.distanceSquaredTo(target));
+        double dist63 = (initialDist - remaining63) / v63;
+        if (dist63 > bestEstimation) {
+            bestEstimation = dist63;
+            ans = d63;
+            ansCost = v63 + 10 * remaining63;
+        }
+        double remaining68 = Math.sqrt(l68.distanceSquaredTo(target));
+        double dist68 = (initialDist - remaining68) / v68;
+        if (dist68 > bestEstimation) {
+            bestEstimation = dist68;
+            ans = d68;
+            ansCost = v68 + 10 * remaining68;
+        }
+        double remaining74 = Math.sqrt(l74.distanceSquaredTo(target));
+        double dist74 = (initialDist - remaining74) / v74;
+        if (dist74 > bestEstimation) {
+            bestEstimation = dist74;
+            ans = d74;
+            ansCost = v74 + 10 * remaining74;
+        }
+        double remaining79 = Math.sqrt(l79.distanceSquaredTo(target));
+        double dist79 = (initialDist - remaining79) / v79;
+        if (dist79 > bestEstimation) {
+            bestEstimation = dist79;
+            ans = d79;
+            ansCost = v79 + 10 * remaining79;
+        }
+        double remaining80 = Math.sqrt(l80.distanceSquaredTo(target));
+        double dist80 = (initialDist - remaining80) / v80;
+        if (dist80 > bestEstimation) {
+            bestEstimation = dist80;
+            ans = d80;
+            ansCost = v80 + 10 * remaining80;
+        }
+        double remaining84 = Math.sqrt(l84.distanceSquaredTo(target));
+        double dist84 = (initialDist - remaining84) / v84;
+        if (dist84 > bestEstimation) {
+            bestEstimation = dist84;
+            ans = d84;
+            ansCost = v84 + 10 * remaining84;
+        }
+        double remaining85 = Math.sqrt(l85.distanceSquaredTo(target));
+        double dist85 = (initialDist - remaining85) / v85;
+        if (dist85 > bestEstimation) {
+            bestEstimation = dist85;
+            ans = d85;
+            ansCost = v85 + 10 * remaining85;
+        }
+        double remaining91 = Math.sqrt(l91.distanceSquaredTo(target));
+        double dist91 = (initialDist - remaining91) / v91;
+        if (dist91 > bestEstimation) {
+            bestEstimation = dist91;
+            ans = d91;
+            ansCost = v91 + 10 * remaining91;
+        }
+        double remaining92 = Math.sqrt(l92.distanceSquaredTo(target));
+        double dist92 = (initialDist - remaining92) / v92;
+        if (dist92 > bestEstimation) {
+            bestEstimation = dist92;
+            ans = d92;
+            ansCost = v92 + 10 * remaining92;
+        }
+        double remaining93 = Math.sqrt(l93.distanceSquaredTo(target));
+        double dist93 = (initialDist - remaining93) / v93;
+        if (dist93 > bestEstimation) {
+            bestEstimation = dist93;
+            ans = d93;
+            ansCost = v93 + 10 * remaining93;
+        }
+        double remaining94 = Math.sqrt(l94.distanceSquaredTo(target));
+        double dist94 = (initialDist - remaining94) / v94;
+        if (dist94 > bestEstimation) {
+            bestEstimation = dist94;
+            ans = d94;
+            ansCost = v94 + 10 * remaining94;
+        }
+        double remaining95 = Math.sqrt(l95.distanceSquaredTo(target));
+        double dist95 = (initialDist - remaining95) / v95;
+        if (dist95 > bestEstimation) {
+            bestEstimation = dist95;
+            ans = d95;
+            ansCost = v95 + 10 * remaining95;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+}
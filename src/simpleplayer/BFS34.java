@@ -0,0 +1,6791 @@
+package simpleplayer;
+
+import battlecode.common.Clock;
+import battlecode.common.Direction;
+import battlecode.common.GameActionException;
+import battlecode.common.MapLocation;
+
+import static simpleplayer.RobotPlayer.rc;
+
+// Generated by codegen.BFSGenerator for radius^2 = 34. Don't edit this by hand, run `./gradlew generateBFS` instead.
+public class BFS34 extends BFS {
+
+    static MapLocation l34;
+    static int v34;
+    static Direction d34;
+    static int p34;
+
+    static MapLocation l35;
+    static int v35;
+    static Direction d35;
+    static int p35;
+
+    static MapLocation l36;
+    static int v36;
+    static Direction d36;
+    static int p36;
+
+    static MapLocation l37;
+    static int v37;
+    static Direction d37;
+    static int p37;
+
+    static MapLocation l38;
+    static int v38;
+    static Direction d38;
+    static int p38;
+
+    static MapLocation l39;
+    static int v39;
+    static Direction d39;
+    static int p39;
+
+    static MapLocation l40;
+    static int v40;
+    static Direction d40;
+    static int p40;
+
+    static MapLocation l48;
+    static int v48;
+    static Direction d48;
+    static int p48;
+
+    static MapLocation l49;
+    static int v49;
+    static Direction d49;
+    static int p49;
+
+    static MapLocation l50;
+    static int v50;
+    static Direction d50;
+    static int p50;
+
+    static MapLocation l51;
+    static int v51;
+    static Direction d51;
+    static int p51;
+
+    static MapLocation l52;
+    static int v52;
+    static Direction d52;
+    static int p52;
+
+    static MapLocation l53;
+    static int v53;
+    static Direction d53;
+    static int p53;
+
+    static MapLocation l54;
+    static int v54;
+    static Direction d54;
+    static int p54;
+
+    static MapLocation l55;
+    static int v55;
+    static Direction d55;
+    static int p55;
+
+    static MapLocation l56;
+    static int v56;
+    static Direction d56;
+    static int p56;
+
+    static MapLocation l62;
+    static int v62;
+    static Direction d62;
+    static int p62;
+
+    static MapLocation l63;
+    static int v63;
+    static Direction d63;
+    static int p63;
+
+    static MapLocation l64;
+    static int v64;
+    static Direction d64;
+    static int p64;
+
+    static MapLocation l65;
+    static int v65;
+    static Direction d65;
+    static int p65;
+
+    static MapLocation l66;
+    static int v66;
+    static Direction d66;
+    static int p66;
+
+    static MapLocation l67;
+    static int v67;
+    static Direction d67;
+    static int p67;
+
+    static MapLocation l68;
+    static int v68;
+    static Direction d68;
+    static int p68;
+
+    static MapLocation l69;
+    static int v69;
+    static Direction d69;
+    static int p69;
+
+    static MapLocation l70;
+    static int v70;
+    static Direction d70;
+    static int p70;
+
+    static MapLocation l71;
+    static int v71;
+    static Direction d71;
+    static int p71;
+
+    static MapLocation l72;
+    static int v72;
+    static Direction d72;
+    static int p72;
+
+    static MapLocation l77;
+    static int v77;
+    static Direction d77;
+    static int p77;
+
+    static MapLocation l78;
+    static int v78;
+    static Direction d78;
+    static int p78;
+
+    static MapLocation l79;
+    static int v79;
+    static Direction d79;
+    static int p79;
+
+    static MapLocation l80;
+    static int v80;
+    static Direction d80;
+    static int p80;
+
+    static MapLocation l81;
+    static int v81;
+    static Direction d81;
+    static int p81;
+
+    static MapLocation l82;
+    static int v82;
+    static Direction d82;
+    static int p82;
+
+    static MapLocation l83;
+    static int v83;
+    static Direction d83;
+    static int p83;
+
+    static MapLocation l84;
+    static int v84;
+    static Direction d84;
+    static int p84;
+
+    static MapLocation l85;
+    static int v85;
+    static Direction d85;
+    static int p85;
+
+    static MapLocation l86;
+    static int v86;
+    static Direction d86;
+    static int p86;
+
+    static MapLocation l87;
+    static int v87;
+    static Direction d87;
+    static int p87;
+
+    static MapLocation l92;
+    static int v92;
+    static Direction d92;
+    static int p92;
+
+    static MapLocation l93;
+    static int v93;
+    static Direction d93;
+    static int p93;
+
+    static MapLocation l94;
+    static int v94;
+    static Direction d94;
+    static int p94;
+
+    static MapLocation l95;
+    static int v95;
+    static Direction d95;
+    static int p95;
+
+    static MapLocation l96;
+    static int v96;
+    static Direction d96;
+    static int p96;
+
+    static MapLocation l97;
+    static int v97;
+    static Direction d97;
+    static int p97;
+
+    static MapLocation l98;
+    static int v98;
+    static Direction d98;
+    static int p98;
+
+    static MapLocation l99;
+    static int v99;
+    static Direction d99;
+    static int p99;
+
+    static MapLocation l100;
+    static int v100;
+    static Direction d100;
+    static int p100;
+
+    static MapLocation l101;
+    static int v101;
+    static Direction d101;
+    static int p101;
+
+    static MapLocation l102;
+    static int v102;
+    static Direction d102;
+    static int p102;
+
+    static MapLocation l107;
+    static int v107;
+    static Direction d107;
+    static int p107;
+
+    static MapLocation l108;
+    static int v108;
+    static Direction d108;
+    static int p108;
+
+    static MapLocation l109;
+    static int v109;
+    static Direction d109;
+    static int p109;
+
+    static MapLocation l110;
+    static int v110;
+    static Direction d110;
+    static int p110;
+
+    static MapLocation l111;
+    static int v111;
+    static Direction d111;
+    static int p111;
+
+    static MapLocation l112;
+    static final int v112 = 0;
+
+    static MapLocation l113;
+    static int v113;
+    static Direction d113;
+    static int p113;
+
+    static MapLocation l114;
+    static int v114;
+    static Direction d114;
+    static int p114;
+
+    static MapLocation l115;
+    static int v115;
+    static Direction d115;
+    static int p115;
+
+    static MapLocation l116;
+    static int v116;
+    static Direction d116;
+    static int p116;
+
+    static MapLocation l117;
+    static int v117;
+    static Direction d117;
+    static int p117;
+
+    static MapLocation l122;
+    static int v122;
+    static Direction d122;
+    static int p122;
+
+    static MapLocation l123;
+    static int v123;
+    static Direction d123;
+    static int p123;
+
+    static MapLocation l124;
+    static int v124;
+    static Direction d124;
+    static int p124;
+
+    static MapLocation l125;
+    static int v125;
+    static Direction d125;
+    static int p125;
+
+    static MapLocation l126;
+    static int v126;
+    static Direction d126;
+    static int p126;
+
+    static MapLocation l127;
+    static int v127;
+    static Direction d127;
+    static int p127;
+
+    static MapLocation l128;
+    static int v128;
+    static Direction d128;
+    static int p128;
+
+    static MapLocation l129;
+    static int v129;
+    static Direction d129;
+    static int p129;
+
+    static MapLocation l130;
+    static int v130;
+    static Direction d130;
+    static int p130;
+
+    static MapLocation l131;
+    static int v131;
+    static Direction d131;
+    static int p131;
+
+    static MapLocation l132;
+    static int v132;
+    static Direction d132;
+    static int p132;
+
+    static MapLocation l137;
+    static int v137;
+    static Direction d137;
+    static int p137;
+
+    static MapLocation l138;
+    static int v138;
+    static Direction d138;
+    static int p138;
+
+    static MapLocation l139;
+    static int v139;
+    static Direction d139;
+    static int p139;
+
+    static MapLocation l140;
+    static int v140;
+    static Direction d140;
+    static int p140;
+
+    static MapLocation l141;
+    static int v141;
+    static Direction d141;
+    static int p141;
+
+    static MapLocation l142;
+    static int v142;
+    static Direction d142;
+    static int p142;
+
+    static MapLocation l143;
+    static int v143;
+    static Direction d143;
+    static int p143;
+
+    static MapLocation l144;
+    static int v144;
+    static Direction d144;
+    static int p144;
+
+    static MapLocation l145;
+    static int v145;
+    static Direction d145;
+    static int p145;
+
+    static MapLocation l146;
+    static int v146;
+    static Direction d146;
+    static int p146;
+
+    static MapLocation l147;
+    static int v147;
+    static Direction d147;
+    static int p147;
+
+    static MapLocation l152;
+    static int v152;
+    static Direction d152;
+    static int p152;
+
+    static MapLocation l153;
+    static int v153;
+    static Direction d153;
+    static int p153;
+
+    static MapLocation l154;
+    static int v154;
+    static Direction d154;
+    static int p154;
+
+    static MapLocation l155;
+    static int v155;
+    static Direction d155;
+    static int p155;
+
+    static MapLocation l156;
+    static int v156;
+    static Direction d156;
+    static int p156;
+
+    static MapLocation l157;
+    static int v157;
+    static Direction d157;
+    static int p157;
+
+    static MapLocation l158;
+    static int v158;
+    static Direction d158;
+    static int p158;
+
+    static MapLocation l159;
+    static int v159;
+    static Direction d159;
+    static int p159;
+
+    static MapLocation l160;
+    static int v160;
+    static Direction d160;
+    static int p160;
+
+    static MapLocation l161;
+    static int v161;
+    static Direction d161;
+    static int p161;
+
+    static MapLocation l162;
+    static int v162;
+    static Direction d162;
+    static int p162;
+
+    static MapLocation l168;
+    static int v168;
+    static Direction d168;
+    static int p168;
+
+    static MapLocation l169;
+    static int v169;
+    static Direction d169;
+    static int p169;
+
+    static MapLocation l170;
+    static int v170;
+    static Direction d170;
+    static int p170;
+
+    static MapLocation l171;
+    static int v171;
+    static Direction d171;
+    static int p171;
+
+    static MapLocation l172;
+    static int v172;
+    static Direction d172;
+    static int p172;
+
+    static MapLocation l173;
+    static int v173;
+    static Direction d173;
+    static int p173;
+
+    static MapLocation l174;
+    static int v174;
+    static Direction d174;
+    static int p174;
+
+    static MapLocation l175;
+    static int v175;
+    static Direction d175;
+    static int p175;
+
+    static MapLocation l176;
+    static int v176;
+    static Direction d176;
+    static int p176;
+
+    static MapLocation l184;
+    static int v184;
+    static Direction d184;
+    static int p184;
+
+    static MapLocation l185;
+    static int v185;
+    static Direction d185;
+    static int p185;
+
+    static MapLocation l186;
+    static int v186;
+    static Direction d186;
+    static int p186;
+
+    static MapLocation l187;
+    static int v187;
+    static Direction d187;
+    static int p187;
+
+    static MapLocation l188;
+    static int v188;
+    static Direction d188;
+    static int p188;
+
+    static MapLocation l189;
+    static int v189;
+    static Direction d189;
+    static int p189;
+
+    static MapLocation l190;
+    static int v190;
+    static Direction d190;
+    static int p190;
+
+    // where we were the last time we searched. The p values are kept relative to this location.
+    static MapLocation lastCenter = null;
+
+    private static int maxElapsed = 0;
+
+    int computeField() throws GameActionException {
+        int before = Debug.tic();
+
+        l112 = rc.getLocation();
+        if (lastCenter == null || lastCenter.distanceSquaredTo(l112) > 2) {
+            clearRubbleCache();
+        } else if (!lastCenter.equals(l112)) {
+            shiftRubbleCache(lastCenter.directionTo(l112));
+        }
+        lastCenter = l112;
+        int margin = l112.x;
+        if (l112.y < margin) margin = l112.y;
+        int edge = rc.getMapWidth() - 1 - l112.x;
+        if (edge < margin) margin = edge;
+        edge = rc.getMapHeight() - 1 - l112.y;
+        if (edge < margin) margin = edge;
+
+        // ring 1
+        l111 = l112.add(Direction.SOUTH);
+        v111 = 1000000;
+        d111 = null;
+        l127 = l112.add(Direction.EAST);
+        v127 = 1000000;
+        d127 = null;
+        l113 = l112.add(Direction.NORTH);
+        v113 = 1000000;
+        d113 = null;
+        l97 = l112.add(Direction.WEST);
+        v97 = 1000000;
+        d97 = null;
+        l96 = l112.add(Direction.SOUTHWEST);
+        v96 = 1000000;
+        d96 = null;
+        l126 = l112.add(Direction.SOUTHEAST);
+        v126 = 1000000;
+        d126 = null;
+        l128 = l112.add(Direction.NORTHEAST);
+        v128 = 1000000;
+        d128 = null;
+        l98 = l112.add(Direction.NORTHWEST);
+        v98 = 1000000;
+        d98 = null;
+        if (margin >= 1) {
+            if (p111 == 0) {
+                int rubble = rc.senseRubble(l111);
+                RubbleMemory.record(l111, rubble);
+                p111 = 10 + rubble;
+            }
+            if (p127 == 0) {
+                int rubble = rc.senseRubble(l127);
+                RubbleMemory.record(l127, rubble);
+                p127 = 10 + rubble;
+            }
+            if (p113 == 0) {
+                int rubble = rc.senseRubble(l113);
+                RubbleMemory.record(l113, rubble);
+                p113 = 10 + rubble;
+            }
+            if (p97 == 0) {
+                int rubble = rc.senseRubble(l97);
+                RubbleMemory.record(l97, rubble);
+                p97 = 10 + rubble;
+            }
+            if (p96 == 0) {
+                int rubble = rc.senseRubble(l96);
+                RubbleMemory.record(l96, rubble);
+                p96 = 10 + rubble;
+            }
+            if (p126 == 0) {
+                int rubble = rc.senseRubble(l126);
+                RubbleMemory.record(l126, rubble);
+                p126 = 10 + rubble;
+            }
+            if (p128 == 0) {
+                int rubble = rc.senseRubble(l128);
+                RubbleMemory.record(l128, rubble);
+                p128 = 10 + rubble;
+            }
+            if (p98 == 0) {
+                int rubble = rc.senseRubble(l98);
+                RubbleMemory.record(l98, rubble);
+                p98 = 10 + rubble;
+            }
+        } else {
+            if (p111 == 0) {
+                if (rc.onTheMap(l111)) {
+                    int rubble = rc.senseRubble(l111);
+                    RubbleMemory.record(l111, rubble);
+                    p111 = 10 + rubble;
+                } else {
+                    p111 = -1;
+                }
+            }
+            if (p127 == 0) {
+                if (rc.onTheMap(l127)) {
+                    int rubble = rc.senseRubble(l127);
+                    RubbleMemory.record(l127, rubble);
+                    p127 = 10 + rubble;
+                } else {
+                    p127 = -1;
+                }
+            }
+            if (p113 == 0) {
+                if (rc.onTheMap(l113)) {
+                    int rubble = rc.senseRubble(l113);
+                    RubbleMemory.record(l113, rubble);
+                    p113 = 10 + rubble;
+                } else {
+                    p113 = -1;
+                }
+            }
+            if (p97 == 0) {
+                if (rc.onTheMap(l97)) {
+                    int rubble = rc.senseRubble(l97);
+                    RubbleMemory.record(l97, rubble);
+                    p97 = 10 + rubble;
+                } else {
+                    p97 = -1;
+                }
+            }
+            if (p96 == 0) {
+                if (rc.onTheMap(l96)) {
+                    int rubble = rc.senseRubble(l96);
+                    RubbleMemory.record(l96, rubble);
+                    p96 = 10 + rubble;
+                } else {
+                    p96 = -1;
+                }
+            }
+            if (p126 == 0) {
+                if (rc.onTheMap(l126)) {
+                    int rubble = rc.senseRubble(l126);
+                    RubbleMemory.record(l126, rubble);
+                    p126 = 10 + rubble;
+                } else {
+                    p126 = -1;
+                }
+            }
+            if (p128 == 0) {
+                if (rc.onTheMap(l128)) {
+                    int rubble = rc.senseRubble(l128);
+                    RubbleMemory.record(l128, rubble);
+                    p128 = 10 + rubble;
+                } else {
+                    p128 = -1;
+                }
+            }
+            if (p98 == 0) {
+                if (rc.onTheMap(l98)) {
+                    int rubble = rc.senseRubble(l98);
+                    RubbleMemory.record(l98, rubble);
+                    p98 = 10 + rubble;
+                } else {
+                    p98 = -1;
+                }
+            }
+        }
+        if (p111 > 0 && !rc.canSenseRobotAtLocation(l111)) {
+            v111 = v112 + p111;
+            d111 = Direction.SOUTH;
+        }
+        if (p127 > 0 && !rc.canSenseRobotAtLocation(l127)) {
+            v127 = v112 + p127;
+            d127 = Direction.EAST;
+        }
+        if (p113 > 0 && !rc.canSenseRobotAtLocation(l113)) {
+            v113 = v112 + p113;
+            d113 = Direction.NORTH;
+        }
+        if (p97 > 0 && !rc.canSenseRobotAtLocation(l97)) {
+            v97 = v112 + p97;
+            d97 = Direction.WEST;
+        }
+        if (p96 > 0 && !rc.canSenseRobotAtLocation(l96)) {
+            v96 = v112 + p96;
+            d96 = Direction.SOUTHWEST;
+        }
+        if (p126 > 0 && !rc.canSenseRobotAtLocation(l126)) {
+            v126 = v112 + p126;
+            d126 = Direction.SOUTHEAST;
+        }
+        if (p128 > 0 && !rc.canSenseRobotAtLocation(l128)) {
+            v128 = v112 + p128;
+            d128 = Direction.NORTHEAST;
+        }
+        if (p98 > 0 && !rc.canSenseRobotAtLocation(l98)) {
+            v98 = v112 + p98;
+            d98 = Direction.NORTHWEST;
+        }
+        if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + 1432) {
+            maxElapsed = Debug.toc(before, "BFS34-search", maxElapsed);
+            return 1;
+        }
+
+        // ring 2
+        l110 = l111.add(Direction.SOUTH);
+        v110 = 1000000;
+        d110 = null;
+        l142 = l127.add(Direction.EAST);
+        v142 = 1000000;
+        d142 = null;
+        l114 = l113.add(Direction.NORTH);
+        v114 = 1000000;
+        d114 = null;
+        l82 = l97.add(Direction.WEST);
+        v82 = 1000000;
+        d82 = null;
+        l81 = l97.add(Direction.SOUTHWEST);
+        v81 = 1000000;
+        d81 = null;
+        l95 = l111.add(Direction.SOUTHWEST);
+        v95 = 1000000;
+        d95 = null;
+        l125 = l111.add(Direction.SOUTHEAST);
+        v125 = 1000000;
+        d125 = null;
+        l141 = l127.add(Direction.SOUTHEAST);
+        v141 = 1000000;
+        d141 = null;
+        l143 = l127.add(Direction.NORTHEAST);
+        v143 = 1000000;
+        d143 = null;
+        l129 = l113.add(Direction.NORTHEAST);
+        v129 = 1000000;
+        d129 = null;
+        l99 = l113.add(Direction.NORTHWEST);
+        v99 = 1000000;
+        d99 = null;
+        l83 = l97.add(Direction.NORTHWEST);
+        v83 = 1000000;
+        d83 = null;
+        l80 = l96.add(Direction.SOUTHWEST);
+        v80 = 1000000;
+        d80 = null;
+        l140 = l126.add(Direction.SOUTHEAST);
+        v140 = 1000000;
+        d140 = null;
+        l144 = l128.add(Direction.NORTHEAST);
+        v144 = 1000000;
+        d144 = null;
+        l84 = l98.add(Direction.NORTHWEST);
+        v84 = 1000000;
+        d84 = null;
+        if (margin >= 2) {
+            if (p110 == 0) {
+                int rubble = rc.senseRubble(l110);
+                RubbleMemory.record(l110, rubble);
+                p110 = 10 + rubble;
+            }
+            if (p142 == 0) {
+                int rubble = rc.senseRubble(l142);
+                RubbleMemory.record(l142, rubble);
+                p142 = 10 + rubble;
+            }
+            if (p114 == 0) {
+                int rubble = rc.senseRubble(l114);
+                RubbleMemory.record(l114, rubble);
+                p114 = 10 + rubble;
+            }
+            if (p82 == 0) {
+                int rubble = rc.senseRubble(l82);
+                RubbleMemory.record(l82, rubble);
+                p82 = 10 + rubble;
+            }
+            if (p81 == 0) {
+                int rubble = rc.senseRubble(l81);
+                RubbleMemory.record(l81, rubble);
+                p81 = 10 + rubble;
+            }
+            if (p95 == 0) {
+                int rubble = rc.senseRubble(l95);
+                RubbleMemory.record(l95, rubble);
+                p95 = 10 + rubble;
+            }
+            if (p125 == 0) {
+                int rubble = rc.senseRubble(l125);
+                RubbleMemory.record(l125, rubble);
+                p125 = 10 + rubble;
+            }
+            if (p141 == 0) {
+                int rubble = rc.senseRubble(l141);
+                RubbleMemory.record(l141, rubble);
+                p141 = 10 + rubble;
+            }
+            if (p143 == 0) {
+                int rubble = rc.senseRubble(l143);
+                RubbleMemory.record(l143, rubble);
+                p143 = 10 + rubble;
+            }
+            if (p129 == 0) {
+                int rubble = rc.senseRubble(l129);
+                RubbleMemory.record(l129, rubble);
+                p129 = 10 + rubble;
+            }
+            if (p99 == 0) {
+                int rubble = rc.senseRubble(l99);
+                RubbleMemory.record(l99, rubble);
+                p99 = 10 + rubble;
+            }
+            if (p83 == 0) {
+                int rubble = rc.senseRubble(l83);
+                RubbleMemory.record(l83, rubble);
+                p83 = 10 + rubble;
+            }
+            if (p80 == 0) {
+                int rubble = rc.senseRubble(l80);
+                RubbleMemory.record(l80, rubble);
+                p80 = 10 + rubble;
+            }
+            if (p140 == 0) {
+                int rubble = rc.senseRubble(l140);
+                RubbleMemory.record(l140, rubble);
+                p140 = 10 + rubble;
+            }
+            if (p144 == 0) {
+                int rubble = rc.senseRubble(l144);
+                RubbleMemory.record(l144, rubble);
+                p144 = 10 + rubble;
+            }
+            if (p84 == 0) {
+                int rubble = rc.senseRubble(l84);
+                RubbleMemory.record(l84, rubble);
+                p84 = 10 + rubble;
+            }
+        } else {
+            if (p110 == 0) {
+                if (rc.onTheMap(l110)) {
+                    int rubble = rc.senseRubble(l110);
+                    RubbleMemory.record(l110, rubble);
+                    p110 = 10 + rubble;
+                } else {
+                    p110 = -1;
+                }
+            }
+            if (p142 == 0) {
+                if (rc.onTheMap(l142)) {
+                    int rubble = rc.senseRubble(l142);
+                    RubbleMemory.record(l142, rubble);
+                    p142 = 10 + rubble;
+                } else {
+                    p142 = -1;
+                }
+            }
+            if (p114 == 0) {
+                if (rc.onTheMap(l114)) {
+                    int rubble = rc.senseRubble(l114);
+                    RubbleMemory.record(l114, rubble);
+                    p114 = 10 + rubble;
+                } else {
+                    p114 = -1;
+                }
+            }
+            if (p82 == 0) {
+                if (rc.onTheMap(l82)) {
+                    int rubble = rc.senseRubble(l82);
+                    RubbleMemory.record(l82, rubble);
+                    p82 = 10 + rubble;
+                } else {
+                    p82 = -1;
+                }
+            }
+            if (p81 == 0) {
+                if (rc.onTheMap(l81)) {
+                    int rubble = rc.senseRubble(l81);
+                    RubbleMemory.record(l81, rubble);
+                    p81 = 10 + rubble;
+                } else {
+                    p81 = -1;
+                }
+            }
+            if (p95 == 0) {
+                if (rc.onTheMap(l95)) {
+                    int rubble = rc.senseRubble(l95);
+                    RubbleMemory.record(l95, rubble);
+                    p95 = 10 + rubble;
+                } else {
+                    p95 = -1;
+                }
+            }
+            if (p125 == 0) {
+                if (rc.onTheMap(l125)) {
+                    int rubble = rc.senseRubble(l125);
+                    RubbleMemory.record(l125, rubble);
+                    p125 = 10 + rubble;
+                } else {
+                    p125 = -1;
+                }
+            }
+            if (p141 == 0) {
+                if (rc.onTheMap(l141)) {
+                    int rubble = rc.senseRubble(l141);
+                    RubbleMemory.record(l141, rubble);
+                    p141 = 10 + rubble;
+                } else {
+                    p141 = -1;
+                }
+            }
+            if (p143 == 0) {
+                if (rc.onTheMap(l143)) {
+                    int rubble = rc.senseRubble(l143);
+                    RubbleMemory.record(l143, rubble);
+                    p143 = 10 + rubble;
+                } else {
+                    p143 = -1;
+                }
+            }
+            if (p129 == 0) {
+                if (rc.onTheMap(l129)) {
+                    int rubble = rc.senseRubble(l129);
+                    RubbleMemory.record(l129, rubble);
+                    p129 = 10 + rubble;
+                } else {
+                    p129 = -1;
+                }
+            }
+            if (p99 == 0) {
+                if (rc.onTheMap(l99)) {
+                    int rubble = rc.senseRubble(l99);
+                    RubbleMemory.record(l99, rubble);
+                    p99 = 10 + rubble;
+                } else {
+                    p99 = -1;
+                }
+            }
+            if (p83 == 0) {
+                if (rc.onTheMap(l83)) {
+                    int rubble = rc.senseRubble(l83);
+                    RubbleMemory.record(l83, rubble);
+                    p83 = 10 + rubble;
+                } else {
+                    p83 = -1;
+                }
+            }
+            if (p80 == 0) {
+                if (rc.onTheMap(l80)) {
+                    int rubble = rc.senseRubble(l80);
+                    RubbleMemory.record(l80, rubble);
+                    p80 = 10 + rubble;
+                } else {
+                    p80 = -1;
+                }
+            }
+            if (p140 == 0) {
+                if (rc.onTheMap(l140)) {
+                    int rubble = rc.senseRubble(l140);
+                    RubbleMemory.record(l140, rubble);
+                    p140 = 10 + rubble;
+                } else {
+                    p140 = -1;
+                }
+            }
+            if (p144 == 0) {
+                if (rc.onTheMap(l144)) {
+                    int rubble = rc.senseRubble(l144);
+                    RubbleMemory.record(l144, rubble);
+                    p144 = 10 + rubble;
+                } else {
+                    p144 = -1;
+                }
+            }
+            if (p84 == 0) {
+                if (rc.onTheMap(l84)) {
+                    int rubble = rc.senseRubble(l84);
+                    RubbleMemory.record(l84, rubble);
+                    p84 = 10 + rubble;
+                } else {
+                    p84 = -1;
+                }
+            }
+        }
+        if (p110 > 0) {
+            v110 = v111 + p110;
+            d110 = d111;
+            if (v110 > v126 + p110) {
+                v110 = v126 + p110;
+                d110 = d126;
+            }
+            if (v110 > v96 + p110) {
+                v110 = v96 + p110;
+                d110 = d96;
+            }
+        }
+        if (p142 > 0) {
+            v142 = v127 + p142;
+            d142 = d127;
+            if (v142 > v126 + p142) {
+                v142 = v126 + p142;
+                d142 = d126;
+            }
+            if (v142 > v128 + p142) {
+                v142 = v128 + p142;
+                d142 = d128;
+            }
+        }
+        if (p114 > 0) {
+            v114 = v113 + p114;
+            d114 = d113;
+            if (v114 > v128 + p114) {
+                v114 = v128 + p114;
+                d114 = d128;
+            }
+            if (v114 > v98 + p114) {
+                v114 = v98 + p114;
+                d114 = d98;
+            }
+        }
+        if (p82 > 0) {
+            v82 = v97 + p82;
+            d82 = d97;
+            if (v82 > v98 + p82) {
+                v82 = v98 + p82;
+                d82 = d98;
+            }
+            if (v82 > v96 + p82) {
+                v82 = v96 + p82;
+                d82 = d96;
+            }
+        }
+        if (p81 > 0) {
+            v81 = v97 + p81;
+            d81 = d97;
+            if (v81 > v82 + p81) {
+                v81 = v82 + p81;
+                d81 = d82;
+            }
+            if (v81 > v96 + p81) {
+                v81 = v96 + p81;
+                d81 = d96;
+            }
+        }
+        if (p95 > 0) {
+            v95 = v111 + p95;
+            d95 = d111;
+            if (v95 > v96 + p95) {
+                v95 = v96 + p95;
+                d95 = d96;
+            }
+            if (v95 > v110 + p95) {
+                v95 = v110 + p95;
+                d95 = d110;
+            }
+            if (v95 > v81 + p95) {
+                v95 = v81 + p95;
+                d95 = d81;
+            }
+        }
+        if (p125 > 0) {
+            v125 = v111 + p125;
+            d125 = d111;
+            if (v125 > v126 + p125) {
+                v125 = v126 + p125;
+                d125 = d126;
+            }
+            if (v125 > v110 + p125) {
+                v125 = v110 + p125;
+                d125 = d110;
+            }
+        }
+        if (p141 > 0) {
+            v141 = v127 + p141;
+            d141 = d127;
+            if (v141 > v142 + p141) {
+                v141 = v142 + p141;
+                d141 = d142;
+            }
+            if (v141 > v125 + p141) {
+                v141 = v125 + p141;
+                d141 = d125;
+            }
+            if (v141 > v126 + p141) {
+                v141 = v126 + p141;
+                d141 = d126;
+            }
+        }
+        if (p143 > 0) {
+            v143 = v127 + p143;
+            d143 = d127;
+            if (v143 > v142 + p143) {
+                v143 = v142 + p143;
+                d143 = d142;
+            }
+            if (v143 > v128 + p143) {
+                v143 = v128 + p143;
+                d143 = d128;
+            }
+        }
+        if (p129 > 0) {
+            v129 = v113 + p129;
+            d129 = d113;
+            if (v129 > v143 + p129) {
+                v129 = v143 + p129;
+                d129 = d143;
+            }
+            if (v129 > v128 + p129) {
+                v129 = v128 + p129;
+                d129 = d128;
+            }
+            if (v129 > v114 + p129) {
+                v129 = v114 + p129;
+                d129 = d114;
+            }
+        }
+        if (p99 > 0) {
+            v99 = v113 + p99;
+            d99 = d113;
+            if (v99 > v114 + p99) {
+                v99 = v114 + p99;
+                d99 = d114;
+            }
+            if (v99 > v98 + p99) {
+                v99 = v98 + p99;
+                d99 = d98;
+            }
+        }
+        if (p83 > 0) {
+            v83 = v97 + p83;
+            d83 = d97;
+            if (v83 > v99 + p83) {
+                v83 = v99 + p83;
+                d83 = d99;
+            }
+            if (v83 > v98 + p83) {
+                v83 = v98 + p83;
+                d83 = d98;
+            }
+            if (v83 > v82 + p83) {
+                v83 = v82 + p83;
+                d83 = d82;
+            }
+        }
+        if (p80 > 0) {
+            v80 = v96 + p80;
+            d80 = d96;
+            if (v80 > v81 + p80) {
+                v80 = v81 + p80;
+                d80 = d81;
+            }
+            if (v80 > v95 + p80) {
+                v80 = v95 + p80;
+                d80 = d95;
+            }
+        }
+        if (p140 > 0) {
+            v140 = v126 + p140;
+            d140 = d126;
+            if (v140 > v141 + p140) {
+                v140 = v141 + p140;
+                d140 = d141;
+            }
+            if (v140 > v125 + p140) {
+                v140 = v125 + p140;
+                d140 = d125;
+            }
+        }
+        if (p144 > 0) {
+            v144 = v128 + p144;
+            d144 = d128;
+            if (v144 > v143 + p144) {
+                v144 = v143 + p144;
+                d144 = d143;
+            }
+            if (v144 > v129 + p144) {
+                v144 = v129 + p144;
+                d144 = d129;
+            }
+        }
+        if (p84 > 0) {
+            v84 = v98 + p84;
+            d84 = d98;
+            if (v84 > v99 + p84) {
+                v84 = v99 + p84;
+                d84 = d99;
+            }
+            if (v84 > v83 + p84) {
+                v84 = v83 + p84;
+                d84 = d83;
+            }
+        }
+        if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + 2208) {
+            maxElapsed = Debug.toc(before, "BFS34-search", maxElapsed);
+            return 2;
+        }
+
+        // ring 3
+        l109 = l110.add(Direction.SOUTH);
+        v109 = 1000000;
+        d109 = null;
+        l157 = l142.add(Direction.EAST);
+        v157 = 1000000;
+        d157 = null;
+        l115 = l114.add(Direction.NORTH);
+        v115 = 1000000;
+        d115 = null;
+        l67 = l82.add(Direction.WEST);
+        v67 = 1000000;
+        d67 = null;
+        l66 = l82.add(Direction.SOUTHWEST);
+        v66 = 1000000;
+        d66 = null;
+        l94 = l110.add(Direction.SOUTHWEST);
+        v94 = 1000000;
+        d94 = null;
+        l124 = l110.add(Direction.SOUTHEAST);
+        v124 = 1000000;
+        d124 = null;
+        l156 = l142.add(Direction.SOUTHEAST);
+        v156 = 1000000;
+        d156 = null;
+        l158 = l142.add(Direction.NORTHEAST);
+        v158 = 1000000;
+        d158 = null;
+        l130 = l114.add(Direction.NORTHEAST);
+        v130 = 1000000;
+        d130 = null;
+        l100 = l114.add(Direction.NORTHWEST);
+        v100 = 1000000;
+        d100 = null;
+        l68 = l82.add(Direction.NORTHWEST);
+        v68 = 1000000;
+        d68 = null;
+        l65 = l81.add(Direction.SOUTHWEST);
+        v65 = 1000000;
+        d65 = null;
+        l79 = l95.add(Direction.SOUTHWEST);
+        v79 = 1000000;
+        d79 = null;
+        l139 = l125.add(Direction.SOUTHEAST);
+        v139 = 1000000;
+        d139 = null;
+        l155 = l141.add(Direction.SOUTHEAST);
+        v155 = 1000000;
+        d155 = null;
+        l159 = l143.add(Direction.NORTHEAST);
+        v159 = 1000000;
+        d159 = null;
+        l145 = l129.add(Direction.NORTHEAST);
+        v145 = 1000000;
+        d145 = null;
+        l85 = l99.add(Direction.NORTHWEST);
+        v85 = 1000000;
+        d85 = null;
+        l69 = l83.add(Direction.NORTHWEST);
+        v69 = 1000000;
+        d69 = null;
+        l64 = l80.add(Direction.SOUTHWEST);
+        v64 = 1000000;
+        d64 = null;
+        l154 = l140.add(Direction.SOUTHEAST);
+        v154 = 1000000;
+        d154 = null;
+        l160 = l144.add(Direction.NORTHEAST);
+        v160 = 1000000;
+        d160 = null;
+        l70 = l84.add(Direction.NORTHWEST);
+        v70 = 1000000;
+        d70 = null;
+        if (margin >= 3) {
+            if (p109 == 0) {
+                int rubble = rc.senseRubble(l109);
+                RubbleMemory.record(l109, rubble);
+                p109 = 10 + rubble;
+            }
+            if (p157 == 0) {
+                int rubble = rc.senseRubble(l157);
+                RubbleMemory.record(l157, rubble);
+                p157 = 10 + rubble;
+            }
+            if (p115 == 0) {
+                int rubble = rc.senseRubble(l115);
+                RubbleMemory.record(l115, rubble);
+                p115 = 10 + rubble;
+            }
+            if (p67 == 0) {
+                int rubble = rc.senseRubble(l67);
+                RubbleMemory.record(l67, rubble);
+                p67 = 10 + rubble;
+            }
+            if (p66 == 0) {
+                int rubble = rc.senseRubble(l66);
+                RubbleMemory.record(l66, rubble);
+                p66 = 10 + rubble;
+            }
+            if (p94 == 0) {
+                int rubble = rc.senseRubble(l94);
+                RubbleMemory.record(l94, rubble);
+                p94 = 10 + rubble;
+            }
+            if (p124 == 0) {
+                int rubble = rc.senseRubble(l124);
+                RubbleMemory.record(l124, rubble);
+                p124 = 10 + rubble;
+            }
+            if (p156 == 0) {
+                int rubble = rc.senseRubble(l156);
+                RubbleMemory.record(l156, rubble);
+                p156 = 10 + rubble;
+            }
+            if (p158 == 0) {
+                int rubble = rc.senseRubble(l158);
+                RubbleMemory.record(l158, rubble);
+                p158 = 10 + rubble;
+            }
+            if (p130 == 0) {
+                int rubble = rc.senseRubble(l130);
+                RubbleMemory.record(l130, rubble);
+                p130 = 10 + rubble;
+            }
+            if (p100 == 0) {
+                int rubble = rc.senseRubble(l100);
+                RubbleMemory.record(l100, rubble);
+                p100 = 10 + rubble;
+            }
+            if (p68 == 0) {
+                int rubble = rc.senseRubble(l68);
+                RubbleMemory.record(l68, rubble);
+                p68 = 10 + rubble;
+            }
+            if (p65 == 0) {
+                int rubble = rc.senseRubble(l65);
+                RubbleMemory.record(l65, rubble);
+                p65 = 10 + rubble;
+            }
+            if (p79 == 0) {
+                int rubble = rc.senseRubble(l79);
+                RubbleMemory.record(l79, rubble);
+                p79 = 10 + rubble;
+            }
+            if (p139 == 0) {
+                int rubble = rc.senseRubble(l139);
+                RubbleMemory.record(l139, rubble);
+                p139 = 10 + rubble;
+            }
+            if (p155 == 0) {
+                int rubble = rc.senseRubble(l155);
+                RubbleMemory.record(l155, rubble);
+                p155 = 10 + rubble;
+            }
+            if (p159 == 0) {
+                int rubble = rc.senseRubble(l159);
+                RubbleMemory.record(l159, rubble);
+                p159 = 10 + rubble;
+            }
+            if (p145 == 0) {
+                int rubble = rc.senseRubble(l145);
+                RubbleMemory.record(l145, rubble);
+                p145 = 10 + rubble;
+            }
+            if (p85 == 0) {
+                int rubble = rc.senseRubble(l85);
+                RubbleMemory.record(l85, rubble);
+                p85 = 10 + rubble;
+            }
+            if (p69 == 0) {
+                int rubble = rc.senseRubble(l69);
+                RubbleMemory.record(l69, rubble);
+                p69 = 10 + rubble;
+            }
+            if (p64 == 0) {
+                int rubble = rc.senseRubble(l64);
+                RubbleMemory.record(l64, rubble);
+                p64 = 10 + rubble;
+            }
+            if (p154 == 0) {
+                int rubble = rc.senseRubble(l154);
+                RubbleMemory.record(l154, rubble);
+                p154 = 10 + rubble;
+            }
+            if (p160 == 0) {
+                int rubble = rc.senseRubble(l160);
+                RubbleMemory.record(l160, rubble);
+                p160 = 10 + rubble;
+            }
+            if (p70 == 0) {
+                int rubble = rc.senseRubble(l70);
+                RubbleMemory.record(l70, rubble);
+                p70 = 10 + rubble;
+            }
+        } else {
+            if (p109 == 0) {
+                if (rc.onTheMap(l109)) {
+                    int rubble = rc.senseRubble(l109);
+                    RubbleMemory.record(l109, rubble);
+                    p109 = 10 + rubble;
+                } else {
+                    p109 = -1;
+                }
+            }
+            if (p157 == 0) {
+                if (rc.onTheMap(l157)) {
+                    int rubble = rc.senseRubble(l157);
+                    RubbleMemory.record(l157, rubble);
+                    p157 = 10 + rubble;
+                } else {
+                    p157 = -1;
+                }
+            }
+            if (p115 == 0) {
+                if (rc.onTheMap(l115)) {
+                    int rubble = rc.senseRubble(l115);
+                    RubbleMemory.record(l115, rubble);
+                    p115 = 10 + rubble;
+                } else {
+                    p115 = -1;
+                }
+            }
+            if (p67 == 0) {
+                if (rc.onTheMap(l67)) {
+                    int rubble = rc.senseRubble(l67);
+                    RubbleMemory.record(l67, rubble);
+                    p67 = 10 + rubble;
+                } else {
+                    p67 = -1;
+                }
+            }
+            if (p66 == 0) {
+                if (rc.onTheMap(l66)) {
+                    int rubble = rc.senseRubble(l66);
+                    RubbleMemory.record(l66, rubble);
+                    p66 = 10 + rubble;
+                } else {
+                    p66 = -1;
+                }
+            }
+            if (p94 == 0) {
+                if (rc.onTheMap(l94)) {
+                    int rubble = rc.senseRubble(l94);
+                    RubbleMemory.record(l94, rubble);
+                    p94 = 10 + rubble;
+                } else {
+                    p94 = -1;
+                }
+            }
+            if (p124 == 0) {
+                if (rc.onTheMap(l124)) {
+                    int rubble = rc.senseRubble(l124);
+                    RubbleMemory.record(l124, rubble);
+                    p124 = 10 + rubble;
+                } else {
+                    p124 = -1;
+                }
+            }
+            if (p156 == 0) {
+                if (rc.onTheMap(l156)) {
+                    int rubble = rc.senseRubble(l156);
+                    RubbleMemory.record(l156, rubble);
+                    p156 = 10 + rubble;
+                } else {
+                    p156 = -1;
+                }
+            }
+            if (p158 == 0) {
+                if (rc.onTheMap(l158)) {
+                    int rubble = rc.senseRubble(l158);
+                    RubbleMemory.record(l158, rubble);
+                    p158 = 10 + rubble;
+                } else {
+                    p158 = -1;
+                }
+            }
+            if (p130 == 0) {
+                if (rc.onTheMap(l130)) {
+                    int rubble = rc.senseRubble(l130);
+                    RubbleMemory.record(l130, rubble);
+                    p130 = 10 + rubble;
+                } else {
+                    p130 = -1;
+                }
+            }
+            if (p100 == 0) {
+                if (rc.onTheMap(l100)) {
+                    int rubble = rc.senseRubble(l100);
+                    RubbleMemory.record(l100, rubble);
+                    p100 = 10 + rubble;
+                } else {
+                    p100 = -1;
+                }
+            }
+            if (p68 == 0) {
+                if (rc.onTheMap(l68)) {
+                    int rubble = rc.senseRubble(l68);
+                    RubbleMemory.record(l68, rubble);
+                    p68 = 10 + rubble;
+                } else {
+                    p68 = -1;
+                }
+            }
+            if (p65 == 0) {
+                if (rc.onTheMap(l65)) {
+                    int rubble = rc.senseRubble(l65);
+                    RubbleMemory.record(l65, rubble);
+                    p65 = 10 + rubble;
+                } else {
+                    p65 = -1;
+                }
+            }
+            if (p79 == 0) {
+                if (rc.onTheMap(l79)) {
+                    int rubble = rc.senseRubble(l79);
+                    RubbleMemory.record(l79, rubble);
+                    p79 = 10 + rubble;
+                } else {
+                    p79 = -1;
+                }
+            }
+            if (p139 == 0) {
+                if (rc.onTheMap(l139)) {
+                    int rubble = rc.senseRubble(l139);
+                    RubbleMemory.record(l139, rubble);
+                    p139 = 10 + rubble;
+                } else {
+                    p139 = -1;
+                }
+            }
+            if (p155 == 0) {
+                if (rc.onTheMap(l155)) {
+                    int rubble = rc.senseRubble(l155);
+                    RubbleMemory.record(l155, rubble);
+                    p155 = 10 + rubble;
+                } else {
+                    p155 = -1;
+                }
+            }
+            if (p159 == 0) {
+                if (rc.onTheMap(l159)) {
+                    int rubble = rc.senseRubble(l159);
+                    RubbleMemory.record(l159, rubble);
+                    p159 = 10 + rubble;
+                } else {
+                    p159 = -1;
+                }
+            }
+            if (p145 == 0) {
+                if (rc.onTheMap(l145)) {
+                    int rubble = rc.senseRubble(l145);
+                    RubbleMemory.record(l145, rubble);
+                    p145 = 10 + rubble;
+                } else {
+                    p145 = -1;
+                }
+            }
+            if (p85 == 0) {
+                if (rc.onTheMap(l85)) {
+                    int rubble = rc.senseRubble(l85);
+                    RubbleMemory.record(l85, rubble);
+                    p85 = 10 + rubble;
+                } else {
+                    p85 = -1;
+                }
+            }
+            if (p69 == 0) {
+                if (rc.onTheMap(l69)) {
+                    int rubble = rc.senseRubble(l69);
+                    RubbleMemory.record(l69, rubble);
+                    p69 = 10 + rubble;
+                } else {
+                    p69 = -1;
+                }
+            }
+            if (p64 == 0) {
+                if (rc.onTheMap(l64)) {
+                    int rubble = rc.senseRubble(l64);
+                    RubbleMemory.record(l64, rubble);
+                    p64 = 10 + rubble;
+                } else {
+                    p64 = -1;
+                }
+            }
+            if (p154 == 0) {
+                if (rc.onTheMap(l154)) {
+                    int rubble = rc.senseRubble(l154);
+                    RubbleMemory.record(l154, rubble);
+                    p154 = 10 + rubble;
+                } else {
+                    p154 = -1;
+                }
+            }
+            if (p160 == 0) {
+                if (rc.onTheMap(l160)) {
+                    int rubble = rc.senseRubble(l160);
+                    RubbleMemory.record(l160, rubble);
+                    p160 = 10 + rubble;
+                } else {
+                    p160 = -1;
+                }
+            }
+            if (p70 == 0) {
+                if (rc.onTheMap(l70)) {
+                    int rubble = rc.senseRubble(l70);
+                    RubbleMemory.record(l70, rubble);
+                    p70 = 10 + rubble;
+                } else {
+                    p70 = -1;
+                }
+            }
+        }
+        if (p109 > 0) {
+            v109 = v110 + p109;
+            d109 = d110;
+            if (v109 > v125 + p109) {
+                v109 = v125 + p109;
+                d109 = d125;
+            }
+            if (v109 > v95 + p109) {
+                v109 = v95 + p109;
+                d109 = d95;
+            }
+        }
+        if (p157 > 0) {
+            v157 = v142 + p157;
+            d157 = d142;
+            if (v157 > v141 + p157) {
+                v157 = v141 + p157;
+                d157 = d141;
+            }
+            if (v157 > v143 + p157) {
+                v157 = v143 + p157;
+                d157 = d143;
+            }
+        }
+        if (p115 > 0) {
+            v115 = v114 + p115;
+            d115 = d114;
+            if (v115 > v129 + p115) {
+                v115 = v129 + p115;
+                d115 = d129;
+            }
+            if (v115 > v99 + p115) {
+                v115 = v99 + p115;
+                d115 = d99;
+            }
+        }
+        if (p67 > 0) {
+            v67 = v82 + p67;
+            d67 = d82;
+            if (v67 > v83 + p67) {
+                v67 = v83 + p67;
+                d67 = d83;
+            }
+            if (v67 > v81 + p67) {
+                v67 = v81 + p67;
+                d67 = d81;
+            }
+        }
+        if (p66 > 0) {
+            v66 = v82 + p66;
+            d66 = d82;
+            if (v66 > v67 + p66) {
+                v66 = v67 + p66;
+                d66 = d67;
+            }
+            if (v66 > v81 + p66) {
+                v66 = v81 + p66;
+                d66 = d81;
+            }
+            if (v66 > v80 + p66) {
+                v66 = v80 + p66;
+                d66 = d80;
+            }
+        }
+        if (p94 > 0) {
+            v94 = v110 + p94;
+            d94 = d110;
+            if (v94 > v95 + p94) {
+                v94 = v95 + p94;
+                d94 = d95;
+            }
+            if (v94 > v109 + p94) {
+                v94 = v109 + p94;
+                d94 = d109;
+            }
+            if (v94 > v80 + p94) {
+                v94 = v80 + p94;
+                d94 = d80;
+            }
+        }
+        if (p124 > 0) {
+            v124 = v110 + p124;
+            d124 = d110;
+            if (v124 > v125 + p124) {
+                v124 = v125 + p124;
+                d124 = d125;
+            }
+            if (v124 > v140 + p124) {
+                v124 = v140 + p124;
+                d124 = d140;
+            }
+            if (v124 > v109 + p124) {
+                v124 = v109 + p124;
+                d124 = d109;
+            }
+        }
+        if (p156 > 0) {
+            v156 = v142 + p156;
+            d156 = d142;
+            if (v156 > v157 + p156) {
+                v156 = v157 + p156;
+                d156 = d157;
+            }
+            if (v156 > v140 + p156) {
+                v156 = v140 + p156;
+                d156 = d140;
+            }
+            if (v156 > v141 + p156) {
+                v156 = v141 + p156;
+                d156 = d141;
+            }
+        }
+        if (p158 > 0) {
+            v158 = v142 + p158;
+            d158 = d142;
+            if (v158 > v157 + p158) {
+                v158 = v157 + p158;
+                d158 = d157;
+            }
+            if (v158 > v143 + p158) {
+                v158 = v143 + p158;
+                d158 = d143;
+            }
+            if (v158 > v144 + p158) {
+                v158 = v144 + p158;
+                d158 = d144;
+            }
+        }
+        if (p130 > 0) {
+            v130 = v114 + p130;
+            d130 = d114;
+            if (v130 > v144 + p130) {
+                v130 = v144 + p130;
+                d130 = d144;
+            }
+            if (v130 > v129 + p130) {
+                v130 = v129 + p130;
+                d130 = d129;
+            }
+            if (v130 > v115 + p130) {
+                v130 = v115 + p130;
+                d130 = d115;
+            }
+        }
+        if (p100 > 0) {
+            v100 = v114 + p100;
+            d100 = d114;
+            if (v100 > v115 + p100) {
+                v100 = v115 + p100;
+                d100 = d115;
+            }
+            if (v100 > v99 + p100) {
+                v100 = v99 + p100;
+                d100 = d99;
+            }
+            if (v100 > v84 + p100) {
+                v100 = v84 + p100;
+                d100 = d84;
+            }
+        }
+        if (p68 > 0) {
+            v68 = v82 + p68;
+            d68 = d82;
+            if (v68 > v84 + p68) {
+                v68 = v84 + p68;
+                d68 = d84;
+            }
+            if (v68 > v83 + p68) {
+                v68 = v83 + p68;
+                d68 = d83;
+            }
+            if (v68 > v67 + p68) {
+                v68 = v67 + p68;
+                d68 = d67;
+            }
+        }
+        if (p65 > 0) {
+            v65 = v81 + p65;
+            d65 = d81;
+            if (v65 > v66 + p65) {
+                v65 = v66 + p65;
+                d65 = d66;
+            }
+            if (v65 > v80 + p65) {
+                v65 = v80 + p65;
+                d65 = d80;
+            }
+        }
+        if (p79 > 0) {
+            v79 = v95 + p79;
+            d79 = d95;
+            if (v79 > v80 + p79) {
+                v79 = v80 + p79;
+                d79 = d80;
+            }
+            if (v79 > v94 + p79) {
+                v79 = v94 + p79;
+                d79 = d94;
+            }
+            if (v79 > v65 + p79) {
+                v79 = v65 + p79;
+                d79 = d65;
+            }
+        }
+        if (p139 > 0) {
+            v139 = v125 + p139;
+            d139 = d125;
+            if (v139 > v140 + p139) {
+                v139 = v140 + p139;
+                d139 = d140;
+            }
+            if (v139 > v124 + p139) {
+                v139 = v124 + p139;
+                d139 = d124;
+            }
+        }
+        if (p155 > 0) {
+            v155 = v141 + p155;
+            d155 = d141;
+            if (v155 > v156 + p155) {
+                v155 = v156 + p155;
+                d155 = d156;
+            }
+            if (v155 > v139 + p155) {
+                v155 = v139 + p155;
+                d155 = d139;
+            }
+            if (v155 > v140 + p155) {
+                v155 = v140 + p155;
+                d155 = d140;
+            }
+        }
+        if (p159 > 0) {
+            v159 = v143 + p159;
+            d159 = d143;
+            if (v159 > v158 + p159) {
+                v159 = v158 + p159;
+                d159 = d158;
+            }
+            if (v159 > v144 + p159) {
+                v159 = v144 + p159;
+                d159 = d144;
+            }
+        }
+        if (p145 > 0) {
+            v145 = v129 + p145;
+            d145 = d129;
+            if (v145 > v159 + p145) {
+                v145 = v159 + p145;
+                d145 = d159;
+            }
+            if (v145 > v144 + p145) {
+                v145 = v144 + p145;
+                d145 = d144;
+            }
+            if (v145 > v130 + p145) {
+                v145 = v130 + p145;
+                d145 = d130;
+            }
+        }
+        if (p85 > 0) {
+            v85 = v99 + p85;
+            d85 = d99;
+            if (v85 > v100 + p85) {
+                v85 = v100 + p85;
+                d85 = d100;
+            }
+            if (v85 > v84 + p85) {
+                v85 = v84 + p85;
+                d85 = d84;
+            }
+        }
+        if (p69 > 0) {
+            v69 = v83 + p69;
+            d69 = d83;
+            if (v69 > v85 + p69) {
+                v69 = v85 + p69;
+                d69 = d85;
+            }
+            if (v69 > v84 + p69) {
+                v69 = v84 + p69;
+                d69 = d84;
+            }
+            if (v69 > v68 + p69) {
+                v69 = v68 + p69;
+                d69 = d68;
+            }
+        }
+        if (p64 > 0) {
+            v64 = v80 + p64;
+            d64 = d80;
+            if (v64 > v65 + p64) {
+                v64 = v65 + p64;
+                d64 = d65;
+            }
+            if (v64 > v79 + p64) {
+                v64 = v79 + p64;
+                d64 = d79;
+            }
+        }
+        if (p154 > 0) {
+            v154 = v140 + p154;
+            d154 = d140;
+            if (v154 > v155 + p154) {
+                v154 = v155 + p154;
+                d154 = d155;
+            }
+            if (v154 > v139 + p154) {
+                v154 = v139 + p154;
+                d154 = d139;
+            }
+        }
+        if (p160 > 0) {
+            v160 = v144 + p160;
+            d160 = d144;
+            if (v160 > v159 + p160) {
+                v160 = v159 + p160;
+                d160 = d159;
+            }
+            if (v160 > v145 + p160) {
+                v160 = v145 + p160;
+                d160 = d145;
+            }
+        }
+        if (p70 > 0) {
+            v70 = v84 + p70;
+            d70 = d84;
+            if (v70 > v85 + p70) {
+                v70 = v85 + p70;
+                d70 = d85;
+            }
+            if (v70 > v69 + p70) {
+                v70 = v69 + p70;
+                d70 = d69;
+            }
+        }
+        if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + 2984) {
+            maxElapsed = Debug.toc(before, "BFS34-search", maxElapsed);
+            return 3;
+        }
+
+        // ring 4
+        l108 = l109.add(Direction.SOUTH);
+        v108 = 1000000;
+        d108 = null;
+        l172 = l157.add(Direction.EAST);
+        v172 = 1000000;
+        d172 = null;
+        l116 = l115.add(Direction.NORTH);
+        v116 = 1000000;
+        d116 = null;
+        l52 = l67.add(Direction.WEST);
+        v52 = 1000000;
+        d52 = null;
+        l51 = l67.add(Direction.SOUTHWEST);
+        v51 = 1000000;
+        d51 = null;
+        l93 = l109.add(Direction.SOUTHWEST);
+        v93 = 1000000;
+        d93 = null;
+        l123 = l109.add(Direction.SOUTHEAST);
+        v123 = 1000000;
+        d123 = null;
+        l171 = l157.add(Direction.SOUTHEAST);
+        v171 = 1000000;
+        d171 = null;
+        l173 = l157.add(Direction.NORTHEAST);
+        v173 = 1000000;
+        d173 = null;
+        l131 = l115.add(Direction.NORTHEAST);
+        v131 = 1000000;
+        d131 = null;
+        l101 = l115.add(Direction.NORTHWEST);
+        v101 = 1000000;
+        d101 = null;
+        l53 = l67.add(Direction.NORTHWEST);
+        v53 = 1000000;
+        d53 = null;
+        l50 = l66.add(Direction.SOUTHWEST);
+        v50 = 1000000;
+        d50 = null;
+        l78 = l94.add(Direction.SOUTHWEST);
+        v78 = 1000000;
+        d78 = null;
+        l138 = l124.add(Direction.SOUTHEAST);
+        v138 = 1000000;
+        d138 = null;
+        l170 = l156.add(Direction.SOUTHEAST);
+        v170 = 1000000;
+        d170 = null;
+        l174 = l158.add(Direction.NORTHEAST);
+        v174 = 1000000;
+        d174 = null;
+        l146 = l130.add(Direction.NORTHEAST);
+        v146 = 1000000;
+        d146 = null;
+        l86 = l100.add(Direction.NORTHWEST);
+        v86 = 1000000;
+        d86 = null;
+        l54 = l68.add(Direction.NORTHWEST);
+        v54 = 1000000;
+        d54 = null;
+        l49 = l65.add(Direction.SOUTHWEST);
+        v49 = 1000000;
+        d49 = null;
+        l63 = l79.add(Direction.SOUTHWEST);
+        v63 = 1000000;
+        d63 = null;
+        l153 = l139.add(Direction.SOUTHEAST);
+        v153 = 1000000;
+        d153 = null;
+        l169 = l155.add(Direction.SOUTHEAST);
+        v169 = 1000000;
+        d169 = null;
+        l175 = l159.add(Direction.NORTHEAST);
+        v175 = 1000000;
+        d175 = null;
+        l161 = l145.add(Direction.NORTHEAST);
+        v161 = 1000000;
+        d161 = null;
+        l71 = l85.add(Direction.NORTHWEST);
+        v71 = 1000000;
+        d71 = null;
+        l55 = l69.add(Direction.NORTHWEST);
+        v55 = 1000000;
+        d55 = null;
+        l48 = l64.add(Direction.SOUTHWEST);
+        v48 = 1000000;
+        d48 = null;
+        l168 = l154.add(Direction.SOUTHEAST);
+        v168 = 1000000;
+        d168 = null;
+        l176 = l160.add(Direction.NORTHEAST);
+        v176 = 1000000;
+        d176 = null;
+        l56 = l70.add(Direction.NORTHWEST);
+        v56 = 1000000;
+        d56 = null;
+        if (margin >= 4) {
+            if (p108 == 0) {
+                int rubble = rc.senseRubble(l108);
+                RubbleMemory.record(l108, rubble);
+                p108 = 10 + rubble;
+            }
+            if (p172 == 0) {
+                int rubble = rc.senseRubble(l172);
+                RubbleMemory.record(l172, rubble);
+                p172 = 10 + rubble;
+            }
+            if (p116 == 0) {
+                int rubble = rc.senseRubble(l116);
+                RubbleMemory.record(l116, rubble);
+                p116 = 10 + rubble;
+            }
+            if (p52 == 0) {
+                int rubble = rc.senseRubble(l52);
+                RubbleMemory.record(l52, rubble);
+                p52 = 10 + rubble;
+            }
+            if (p51 == 0) {
+                int rubble = rc.senseRubble(l51);
+                RubbleMemory.record(l51, rubble);
+                p51 = 10 + rubble;
+            }
+            if (p93 == 0) {
+                int rubble = rc.senseRubble(l93);
+                RubbleMemory.record(l93, rubble);
+                p93 = 10 + rubble;
+            }
+            if (p123 == 0) {
+                int rubble = rc.senseRubble(l123);
+                RubbleMemory.record(l123, rubble);
+                p123 = 10 + rubble;
+            }
+            if (p171 == 0) {
+                int rubble = rc.senseRubble(l171);
+                RubbleMemory.record(l171, rubble);
+                p171 = 10 + rubble;
+            }
+            if (p173 == 0) {
+                int rubble = rc.senseRubble(l173);
+                RubbleMemory.record(l173, rubble);
+                p173 = 10 + rubble;
+            }
+            if (p131 == 0) {
+                int rubble = rc.senseRubble(l131);
+                RubbleMemory.record(l131, rubble);
+                p131 = 10 + rubble;
+            }
+            if (p101 == 0) {
+                int rubble = rc.senseRubble(l101);
+                RubbleMemory.record(l101, rubble);
+                p101 = 10 + rubble;
+            }
+            if (p53 == 0) {
+                int rubble = rc.senseRubble(l53);
+                RubbleMemory.record(l53, rubble);
+                p53 = 10 + rubble;
+            }
+            if (p50 == 0) {
+                int rubble = rc.senseRubble(l50);
+                RubbleMemory.record(l50, rubble);
+                p50 = 10 + rubble;
+            }
+            if (p78 == 0) {
+                int rubble = rc.senseRubble(l78);
+                RubbleMemory.record(l78, rubble);
+                p78 = 10 + rubble;
+            }
+            if (p138 == 0) {
+                int rubble = rc.senseRubble(l138);
+                RubbleMemory.record(l138, rubble);
+                p138 = 10 + rubble;
+            }
+            if (p170 == 0) {
+                int rubble = rc.senseRubble(l170);
+                RubbleMemory.record(l170, rubble);
+                p170 = 10 + rubble;
+            }
+            if (p174 == 0) {
+                int rubble = rc.senseRubble(l174);
+                RubbleMemory.record(l174, rubble);
+                p174 = 10 + rubble;
+            }
+            if (p146 == 0) {
+                int rubble = rc.senseRubble(l146);
+                RubbleMemory.record(l146, rubble);
+                p146 = 10 + rubble;
+            }
+            if (p86 == 0) {
+                int rubble = rc.senseRubble(l86);
+                RubbleMemory.record(l86, rubble);
+                p86 = 10 + rubble;
+            }
+            if (p54 == 0) {
+                int rubble = rc.senseRubble(l54);
+                RubbleMemory.record(l54, rubble);
+                p54 = 10 + rubble;
+            }
+            if (p49 == 0) {
+                int rubble = rc.senseRubble(l49);
+                RubbleMemory.record(l49, rubble);
+                p49 = 10 + rubble;
+            }
+            if (p63 == 0) {
+                int rubble = rc.senseRubble(l63);
+                RubbleMemory.record(l63, rubble);
+                p63 = 10 + rubble;
+            }
+            if (p153 == 0) {
+                int rubble = rc.senseRubble(l153);
+                RubbleMemory.record(l153, rubble);
+                p153 = 10 + rubble;
+            }
+            if (p169 == 0) {
+                int rubble = rc.senseRubble(l169);
+                RubbleMemory.record(l169, rubble);
+                p169 = 10 + rubble;
+            }
+            if (p175 == 0) {
+                int rubble = rc.senseRubble(l175);
+                RubbleMemory.record(l175, rubble);
+                p175 = 10 + rubble;
+            }
+            if (p161 == 0) {
+                int rubble = rc.senseRubble(l161);
+                RubbleMemory.record(l161, rubble);
+                p161 = 10 + rubble;
+            }
+            if (p71 == 0) {
+                int rubble = rc.senseRubble(l71);
+                RubbleMemory.record(l71, rubble);
+                p71 = 10 + rubble;
+            }
+            if (p55 == 0) {
+                int rubble = rc.senseRubble(l55);
+                RubbleMemory.record(l55, rubble);
+                p55 = 10 + rubble;
+            }
+            if (p48 == 0) {
+                int rubble = rc.senseRubble(l48);
+                RubbleMemory.record(l48, rubble);
+                p48 = 10 + rubble;
+            }
+            if (p168 == 0) {
+                int rubble = rc.senseRubble(l168);
+                RubbleMemory.record(l168, rubble);
+                p168 = 10 + rubble;
+            }
+            if (p176 == 0) {
+                int rubble = rc.senseRubble(l176);
+                RubbleMemory.record(l176, rubble);
+                p176 = 10 + rubble;
+            }
+            if (p56 == 0) {
+                int rubble = rc.senseRubble(l56);
+                RubbleMemory.record(l56, rubble);
+                p56 = 10 + rubble;
+            }
+        } else {
+            if (p108 == 0) {
+                if (rc.onTheMap(l108)) {
+                    int rubble = rc.senseRubble(l108);
+                    RubbleMemory.record(l108, rubble);
+                    p108 = 10 + rubble;
+                } else {
+                    p108 = -1;
+                }
+            }
+            if (p172 == 0) {
+                if (rc.onTheMap(l172)) {
+                    int rubble = rc.senseRubble(l172);
+                    RubbleMemory.record(l172, rubble);
+                    p172 = 10 + rubble;
+                } else {
+                    p172 = -1;
+                }
+            }
+            if (p116 == 0) {
+                if (rc.onTheMap(l116)) {
+                    int rubble = rc.senseRubble(l116);
+                    RubbleMemory.record(l116, rubble);
+                    p116 = 10 + rubble;
+                } else {
+                    p116 = -1;
+                }
+            }
+            if (p52 == 0) {
+                if (rc.onTheMap(l52)) {
+                    int rubble = rc.senseRubble(l52);
+                    RubbleMemory.record(l52, rubble);
+                    p52 = 10 + rubble;
+                } else {
+                    p52 = -1;
+                }
+            }
+            if (p51 == 0) {
+                if (rc.onTheMap(l51)) {
+                    int rubble = rc.senseRubble(l51);
+                    RubbleMemory.record(l51, rubble);
+                    p51 = 10 + rubble;
+                } else {
+                    p51 = -1;
+                }
+            }
+            if (p93 == 0) {
+                if (rc.onTheMap(l93)) {
+                    int rubble = rc.senseRubble(l93);
+                    RubbleMemory.record(l93, rubble);
+                    p93 = 10 + rubble;
+                } else {
+                    p93 = -1;
+                }
+            }
+            if (p123 == 0) {
+                if (rc.onTheMap(l123)) {
+                    int rubble = rc.senseRubble(l123);
+                    RubbleMemory.record(l123, rubble);
+                    p123 = 10 + rubble;
+                } else {
+                    p123 = -1;
+                }
+            }
+            if (p171 == 0) {
+                if (rc.onTheMap(l171)) {
+                    int rubble = rc.senseRubble(l171);
+                    RubbleMemory.record(l171, rubble);
+                    p171 = 10 + rubble;
+                } else {
+                    p171 = -1;
+                }
+            }
+            if (p173 == 0) {
+                if (rc.onTheMap(l173)) {
+                    int rubble = rc.senseRubble(l173);
+                    RubbleMemory.record(l173, rubble);
+                    p173 = 10 + rubble;
+                } else {
+                    p173 = -1;
+                }
+            }
+            if (p131 == 0) {
+                if (rc.onTheMap(l131)) {
+                    int rubble = rc.senseRubble(l131);
+                    RubbleMemory.record(l131, rubble);
+                    p131 = 10 + rubble;
+                } else {
+                    p131 = -1;
+                }
+            }
+            if (p101 == 0) {
+                if (rc.onTheMap(l101)) {
+                    int rubble = rc.senseRubble(l101);
+                    RubbleMemory.record(l101, rubble);
+                    p101 = 10 + rubble;
+                } else {
+                    p101 = -1;
+                }
+            }
+            if (p53 == 0) {
+                if (rc.onTheMap(l53)) {
+                    int rubble = rc.senseRubble(l53);
+                    RubbleMemory.record(l53, rubble);
+                    p53 = 10 + rubble;
+                } else {
+                    p53 = -1;
+                }
+            }
+            if (p50 == 0) {
+                if (rc.onTheMap(l50)) {
+                    int rubble = rc.senseRubble(l50);
+                    RubbleMemory.record(l50, rubble);
+                    p50 = 10 + rubble;
+                } else {
+                    p50 = -1;
+                }
+            }
+            if (p78 == 0) {
+                if (rc.onTheMap(l78)) {
+                    int rubble = rc.senseRubble(l78);
+                    RubbleMemory.record(l78, rubble);
+                    p78 = 10 + rubble;
+                } else {
+                    p78 = -1;
+                }
+            }
+            if (p138 == 0) {
+                if (rc.onTheMap(l138)) {
+                    int rubble = rc.senseRubble(l138);
+                    RubbleMemory.record(l138, rubble);
+                    p138 = 10 + rubble;
+                } else {
+                    p138 = -1;
+                }
+            }
+            if (p170 == 0) {
+                if (rc.onTheMap(l170)) {
+                    int rubble = rc.senseRubble(l170);
+                    RubbleMemory.record(l170, rubble);
+                    p170 = 10 + rubble;
+                } else {
+                    p170 = -1;
+                }
+            }
+            if (p174 == 0) {
+                if (rc.onTheMap(l174)) {
+                    int rubble = rc.senseRubble(l174);
+                    RubbleMemory.record(l174, rubble);
+                    p174 = 10 + rubble;
+                } else {
+                    p174 = -1;
+                }
+            }
+            if (p146 == 0) {
+                if (rc.onTheMap(l146)) {
+                    int rubble = rc.senseRubble(l146);
+                    RubbleMemory.record(l146, rubble);
+                    p146 = 10 + rubble;
+                } else {
+                    p146 = -1;
+                }
+            }
+            if (p86 == 0) {
+                if (rc.onTheMap(l86)) {
+                    int rubble = rc.senseRubble(l86);
+                    RubbleMemory.record(l86, rubble);
+                    p86 = 10 + rubble;
+                } else {
+                    p86 = -1;
+                }
+            }
+            if (p54 == 0) {
+                if (rc.onTheMap(l54)) {
+                    int rubble = rc.senseRubble(l54);
+                    RubbleMemory.record(l54, rubble);
+                    p54 = 10 + rubble;
+                } else {
+                    p54 = -1;
+                }
+            }
+            if (p49 == 0) {
+                if (rc.onTheMap(l49)) {
+                    int rubble = rc.senseRubble(l49);
+                    RubbleMemory.record(l49, rubble);
+                    p49 = 10 + rubble;
+                } else {
+                    p49 = -1;
+                }
+            }
+            if (p63 == 0) {
+                if (rc.onTheMap(l63)) {
+                    int rubble = rc.senseRubble(l63);
+                    RubbleMemory.record(l63, rubble);
+                    p63 = 10 + rubble;
+                } else {
+                    p63 = -1;
+                }
+            }
+            if (p153 == 0) {
+                if (rc.onTheMap(l153)) {
+                    int rubble = rc.senseRubble(l153);
+                    RubbleMemory.record(l153, rubble);
+                    p153 = 10 + rubble;
+                } else {
+                    p153 = -1;
+                }
+            }
+            if (p169 == 0) {
+                if (rc.onTheMap(l169)) {
+                    int rubble = rc.senseRubble(l169);
+                    RubbleMemory.record(l169, rubble);
+                    p169 = 10 + rubble;
+                } else {
+                    p169 = -1;
+                }
+            }
+            if (p175 == 0) {
+                if (rc.onTheMap(l175)) {
+                    int rubble = rc.senseRubble(l175);
+                    RubbleMemory.record(l175, rubble);
+                    p175 = 10 + rubble;
+                } else {
+                    p175 = -1;
+                }
+            }
+            if (p161 == 0) {
+                if (rc.onTheMap(l161)) {
+                    int rubble = rc.senseRubble(l161);
+                    RubbleMemory.record(l161, rubble);
+                    p161 = 10 + rubble;
+                } else {
+                    p161 = -1;
+                }
+            }
+            if (p71 == 0) {
+                if (rc.onTheMap(l71)) {
+                    int rubble = rc.senseRubble(l71);
+                    RubbleMemory.record(l71, rubble);
+                    p71 = 10 + rubble;
+                } else {
+                    p71 = -1;
+                }
+            }
+            if (p55 == 0) {
+                if (rc.onTheMap(l55)) {
+                    int rubble = rc.senseRubble(l55);
+                    RubbleMemory.record(l55, rubble);
+                    p55 = 10 + rubble;
+                } else {
+                    p55 = -1;
+                }
+            }
+            if (p48 == 0) {
+                if (rc.onTheMap(l48)) {
+                    int rubble = rc.senseRubble(l48);
+                    RubbleMemory.record(l48, rubble);
+                    p48 = 10 + rubble;
+                } else {
+                    p48 = -1;
+                }
+            }
+            if (p168 == 0) {
+                if (rc.onTheMap(l168)) {
+                    int rubble = rc.senseRubble(l168);
+                    RubbleMemory.record(l168, rubble);
+                    p168 = 10 + rubble;
+                } else {
+                    p168 = -1;
+                }
+            }
+            if (p176 == 0) {
+                if (rc.onTheMap(l176)) {
+                    int rubble = rc.senseRubble(l176);
+                    RubbleMemory.record(l176, rubble);
+                    p176 = 10 + rubble;
+                } else {
+                    p176 = -1;
+                }
+            }
+            if (p56 == 0) {
+                if (rc.onTheMap(l56)) {
+                    int rubble = rc.senseRubble(l56);
+                    RubbleMemory.record(l56, rubble);
+                    p56 = 10 + rubble;
+                } else {
+                    p56 = -1;
+                }
+            }
+        }
+        if (p108 > 0) {
+            v108 = v109 + p108;
+            d108 = d109;
+            if (v108 > v124 + p108) {
+                v108 = v124 + p108;
+                d108 = d124;
+            }
+            if (v108 > v94 + p108) {
+                v108 = v94 + p108;
+                d108 = d94;
+            }
+        }
+        if (p172 > 0) {
+            v172 = v157 + p172;
+            d172 = d157;
+            if (v172 > v156 + p172) {
+                v172 = v156 + p172;
+                d172 = d156;
+            }
+            if (v172 > v158 + p172) {
+                v172 = v158 + p172;
+                d172 = d158;
+            }
+        }
+        if (p116 > 0) {
+            v116 = v115 + p116;
+            d116 = d115;
+            if (v116 > v130 + p116) {
+                v116 = v130 + p116;
+                d116 = d130;
+            }
+            if (v116 > v100 + p116) {
+                v116 = v100 + p116;
+                d116 = d100;
+            }
+        }
+        if (p52 > 0) {
+            v52 = v67 + p52;
+            d52 = d67;
+            if (v52 > v68 + p52) {
+                v52 = v68 + p52;
+                d52 = d68;
+            }
+            if (v52 > v66 + p52) {
+                v52 = v66 + p52;
+                d52 = d66;
+            }
+        }
+        if (p51 > 0) {
+            v51 = v67 + p51;
+            d51 = d67;
+            if (v51 > v52 + p51) {
+                v51 = v52 + p51;
+                d51 = d52;
+            }
+            if (v51 > v66 + p51) {
+                v51 = v66 + p51;
+                d51 = d66;
+            }
+            if (v51 > v65 + p51) {
+                v51 = v65 + p51;
+                d51 = d65;
+            }
+        }
+        if (p93 > 0) {
+            v93 = v109 + p93;
+            d93 = d109;
+            if (v93 > v94 + p93) {
+                v93 = v94 + p93;
+                d93 = d94;
+            }
+            if (v93 > v108 + p93) {
+                v93 = v108 + p93;
+                d93 = d108;
+            }
+            if (v93 > v79 + p93) {
+                v93 = v79 + p93;
+                d93 = d79;
+            }
+        }
+        if (p123 > 0) {
+            v123 = v109 + p123;
+            d123 = d109;
+            if (v123 > v124 + p123) {
+                v123 = v124 + p123;
+                d123 = d124;
+            }
+            if (v123 > v139 + p123) {
+                v123 = v139 + p123;
+                d123 = d139;
+            }
+            if (v123 > v108 + p123) {
+                v123 = v108 + p123;
+                d123 = d108;
+            }
+        }
+        if (p171 > 0) {
+            v171 = v157 + p171;
+            d171 = d157;
+            if (v171 > v172 + p171) {
+                v171 = v172 + p171;
+                d171 = d172;
+            }
+            if (v171 > v155 + p171) {
+                v171 = v155 + p171;
+                d171 = d155;
+            }
+            if (v171 > v156 + p171) {
+                v171 = v156 + p171;
+                d171 = d156;
+            }
+        }
+        if (p173 > 0) {
+            v173 = v157 + p173;
+            d173 = d157;
+            if (v173 > v172 + p173) {
+                v173 = v172 + p173;
+                d173 = d172;
+            }
+            if (v173 > v158 + p173) {
+                v173 = v158 + p173;
+                d173 = d158;
+            }
+            if (v173 > v159 + p173) {
+                v173 = v159 + p173;
+                d173 = d159;
+            }
+        }
+        if (p131 > 0) {
+            v131 = v115 + p131;
+            d131 = d115;
+            if (v131 > v145 + p131) {
+                v131 = v145 + p131;
+                d131 = d145;
+            }
+            if (v131 > v130 + p131) {
+                v131 = v130 + p131;
+                d131 = d130;
+            }
+            if (v131 > v116 + p131) {
+                v131 = v116 + p131;
+                d131 = d116;
+            }
+        }
+        if (p101 > 0) {
+            v101 = v115 + p101;
+            d101 = d115;
+            if (v101 > v116 + p101) {
+                v101 = v116 + p101;
+                d101 = d116;
+            }
+            if (v101 > v100 + p101) {
+                v101 = v100 + p101;
+                d101 = d100;
+            }
+            if (v101 > v85 + p101) {
+                v101 = v85 + p101;
+                d101 = d85;
+            }
+        }
+        if (p53 > 0) {
+            v53 = v67 + p53;
+            d53 = d67;
+            if (v53 > v69 + p53) {
+                v53 = v69 + p53;
+                d53 = d69;
+            }
+            if (v53 > v68 + p53) {
+                v53 = v68 + p53;
+                d53 = d68;
+            }
+            if (v53 > v52 + p53) {
+                v53 = v52 + p53;
+                d53 = d52;
+            }
+        }
+        if (p50 > 0) {
+            v50 = v66 + p50;
+            d50 = d66;
+            if (v50 > v51 + p50) {
+                v50 = v51 + p50;
+                d50 = d51;
+            }
+            if (v50 > v65 + p50) {
+                v50 = v65 + p50;
+                d50 = d65;
+            }
+            if (v50 > v64 + p50) {
+                v50 = v64 + p50;
+                d50 = d64;
+            }
+        }
+        if (p78 > 0) {
+            v78 = v94 + p78;
+            d78 = d94;
+            if (v78 > v79 + p78) {
+                v78 = v79 + p78;
+                d78 = d79;
+            }
+            if (v78 > v93 + p78) {
+                v78 = v93 + p78;
+                d78 = d93;
+            }
+            if (v78 > v64 + p78) {
+                v78 = v64 + p78;
+                d78 = d64;
+            }
+        }
+        if (p138 > 0) {
+            v138 = v124 + p138;
+            d138 = d124;
+            if (v138 > v139 + p138) {
+                v138 = v139 + p138;
+                d138 = d139;
+            }
+            if (v138 > v154 + p138) {
+                v138 = v154 + p138;
+                d138 = d154;
+            }
+            if (v138 > v123 + p138) {
+                v138 = v123 + p138;
+                d138 = d123;
+            }
+        }
+        if (p170 > 0) {
+            v170 = v156 + p170;
+            d170 = d156;
+            if (v170 > v171 + p170) {
+                v170 = v171 + p170;
+                d170 = d171;
+            }
+            if (v170 > v154 + p170) {
+                v170 = v154 + p170;
+                d170 = d154;
+            }
+            if (v170 > v155 + p170) {
+                v170 = v155 + p170;
+                d170 = d155;
+            }
+        }
+        if (p174 > 0) {
+            v174 = v158 + p174;
+            d174 = d158;
+            if (v174 > v173 + p174) {
+                v174 = v173 + p174;
+                d174 = d173;
+            }
+            if (v174 > v159 + p174) {
+                v174 = v159 + p174;
+                d174 = d159;
+            }
+            if (v174 > v160 + p174) {
+                v174 = v160 + p174;
+                d174 = d160;
+            }
+        }
+        if (p146 > 0) {
+            v146 = v130 + p146;
+            d146 = d130;
+            if (v146 > v160 + p146) {
+                v146 = v160 + p146;
+                d146 = d160;
+            }
+            if (v146 > v145 + p146) {
+                v146 = v145 + p146;
+                d146 = d145;
+            }
+            if (v146 > v131 + p146) {
+                v146 = v131 + p146;
+                d146 = d131;
+            }
+        }
+        if (p86 > 0) {
+            v86 = v100 + p86;
+            d86 = d100;
+            if (v86 > v101 + p86) {
+                v86 = v101 + p86;
+                d86 = d101;
+            }
+            if (v86 > v85 + p86) {
+                v86 = v85 + p86;
+                d86 = d85;
+            }
+            if (v86 > v70 + p86) {
+                v86 = v70 + p86;
+                d86 = d70;
+            }
+        }
+        if (p54 > 0) {
+            v54 = v68 + p54;
+            d54 = d68;
+            if (v54 > v70 + p54) {
+                v54 = v70 + p54;
+                d54 = d70;
+            }
+            if (v54 > v69 + p54) {
+                v54 = v69 + p54;
+                d54 = d69;
+            }
+            if (v54 > v53 + p54) {
+                v54 = v53 + p54;
+                d54 = d53;
+            }
+        }
+        if (p49 > 0) {
+            v49 = v65 + p49;
+            d49 = d65;
+            if (v49 > v50 + p49) {
+                v49 = v50 + p49;
+                d49 = d50;
+            }
+            if (v49 > v64 + p49) {
+                v49 = v64 + p49;
+                d49 = d64;
+            }
+        }
+        if (p63 > 0) {
+            v63 = v79 + p63;
+            d63 = d79;
+            if (v63 > v64 + p63) {
+                v63 = v64 + p63;
+                d63 = d64;
+            }
+            if (v63 > v78 + p63) {
+                v63 = v78 + p63;
+                d63 = d78;
+            }
+            if (v63 > v49 + p63) {
+                v63 = v49 + p63;
+                d63 = d49;
+            }
+        }
+        if (p153 > 0) {
+            v153 = v139 + p153;
+            d153 = d139;
+            if (v153 > v154 + p153) {
+                v153 = v154 + p153;
+                d153 = d154;
+            }
+            if (v153 > v138 + p153) {
+                v153 = v138 + p153;
+                d153 = d138;
+            }
+        }
+        if (p169 > 0) {
+            v169 = v155 + p169;
+            d169 = d155;
+            if (v169 > v170 + p169) {
+                v169 = v170 + p169;
+                d169 = d170;
+            }
+            if (v169 > v153 + p169) {
+                v169 = v153 + p169;
+                d169 = d153;
+            }
+            if (v169 > v154 + p169) {
+                v169 = v154 + p169;
+                d169 = d154;
+            }
+        }
+        if (p175 > 0) {
+            v175 = v159 + p175;
+            d175 = d159;
+            if (v175 > v174 + p175) {
+                v175 = v174 + p175;
+                d175 = d174;
+            }
+            if (v175 > v160 + p175) {
+                v175 = v160 + p175;
+                d175 = d160;
+            }
+        }
+        if (p161 > 0) {
+            v161 = v145 + p161;
+            d161 = d145;
+            if (v161 > v175 + p161) {
+                v161 = v175 + p161;
+                d161 = d175;
+            }
+            if (v161 > v160 + p161) {
+                v161 = v160 + p161;
+                d161 = d160;
+            }
+            if (v161 > v146 + p161) {
+                v161 = v146 + p161;
+                d161 = d146;
+            }
+        }
+        if (p71 > 0) {
+            v71 = v85 + p71;
+            d71 = d85;
+            if (v71 > v86 + p71) {
+                v71 = v86 + p71;
+                d71 = d86;
+            }
+            if (v71 > v70 + p71) {
+                v71 = v70 + p71;
+                d71 = d70;
+            }
+        }
+        if (p55 > 0) {
+            v55 = v69 + p55;
+            d55 = d69;
+            if (v55 > v71 + p55) {
+                v55 = v71 + p55;
+                d55 = d71;
+            }
+            if (v55 > v70 + p55) {
+                v55 = v70 + p55;
+                d55 = d70;
+            }
+            if (v55 > v54 + p55) {
+                v55 = v54 + p55;
+                d55 = d54;
+            }
+        }
+        if (p48 > 0) {
+            v48 = v64 + p48;
+            d48 = d64;
+            if (v48 > v49 + p48) {
+                v48 = v49 + p48;
+                d48 = d49;
+            }
+            if (v48 > v63 + p48) {
+                v48 = v63 + p48;
+                d48 = d63;
+            }
+        }
+        if (p168 > 0) {
+            v168 = v154 + p168;
+            d168 = d154;
+            if (v168 > v169 + p168) {
+                v168 = v169 + p168;
+                d168 = d169;
+            }
+            if (v168 > v153 + p168) {
+                v168 = v153 + p168;
+                d168 = d153;
+            }
+        }
+        if (p176 > 0) {
+            v176 = v160 + p176;
+            d176 = d160;
+            if (v176 > v175 + p176) {
+                v176 = v175 + p176;
+                d176 = d175;
+            }
+            if (v176 > v161 + p176) {
+                v176 = v161 + p176;
+                d176 = d161;
+            }
+        }
+        if (p56 > 0) {
+            v56 = v70 + p56;
+            d56 = d70;
+            if (v56 > v71 + p56) {
+                v56 = v71 + p56;
+                d56 = d71;
+            }
+            if (v56 > v55 + p56) {
+                v56 = v55 + p56;
+                d56 = d55;
+            }
+        }
+        if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + 2676) {
+            maxElapsed = Debug.toc(before, "BFS34-search", maxElapsed);
+            return 4;
+        }
+
+        // ring 5
+        l107 = l108.add(Direction.SOUTH);
+        v107 = 1000000;
+        d107 = null;
+        l187 = l172.add(Direction.EAST);
+        v187 = 1000000;
+        d187 = null;
+        l117 = l116.add(Direction.NORTH);
+        v117 = 1000000;
+        d117 = null;
+        l37 = l52.add(Direction.WEST);
+        v37 = 1000000;
+        d37 = null;
+        l36 = l52.add(Direction.SOUTHWEST);
+        v36 = 1000000;
+        d36 = null;
+        l92 = l108.add(Direction.SOUTHWEST);
+        v92 = 1000000;
+        d92 = null;
+        l122 = l108.add(Direction.SOUTHEAST);
+        v122 = 1000000;
+        d122 = null;
+        l186 = l172.add(Direction.SOUTHEAST);
+        v186 = 1000000;
+        d186 = null;
+        l188 = l172.add(Direction.NORTHEAST);
+        v188 = 1000000;
+        d188 = null;
+        l132 = l116.add(Direction.NORTHEAST);
+        v132 = 1000000;
+        d132 = null;
+        l102 = l116.add(Direction.NORTHWEST);
+        v102 = 1000000;
+        d102 = null;
+        l38 = l52.add(Direction.NORTHWEST);
+        v38 = 1000000;
+        d38 = null;
+        l35 = l51.add(Direction.SOUTHWEST);
+        v35 = 1000000;
+        d35 = null;
+        l77 = l93.add(Direction.SOUTHWEST);
+        v77 = 1000000;
+        d77 = null;
+        l137 = l123.add(Direction.SOUTHEAST);
+        v137 = 1000000;
+        d137 = null;
+        l185 = l171.add(Direction.SOUTHEAST);
+        v185 = 1000000;
+        d185 = null;
+        l189 = l173.add(Direction.NORTHEAST);
+        v189 = 1000000;
+        d189 = null;
+        l147 = l131.add(Direction.NORTHEAST);
+        v147 = 1000000;
+        d147 = null;
+        l87 = l101.add(Direction.NORTHWEST);
+        v87 = 1000000;
+        d87 = null;
+        l39 = l53.add(Direction.NORTHWEST);
+        v39 = 1000000;
+        d39 = null;
+        l34 = l50.add(Direction.SOUTHWEST);
+        v34 = 1000000;
+        d34 = null;
+        l62 = l78.add(Direction.SOUTHWEST);
+        v62 = 1000000;
+        d62 = null;
+        l152 = l138.add(Direction.SOUTHEAST);
+        v152 = 1000000;
+        d152 = null;
+        l184 = l170.add(Direction.SOUTHEAST);
+        v184 = 1000000;
+        d184 = null;
+        l190 = l174.add(Direction.NORTHEAST);
+        v190 = 1000000;
+        d190 = null;
+        l162 = l146.add(Direction.NORTHEAST);
+        v162 = 1000000;
+        d162 = null;
+        l72 = l86.add(Direction.NORTHWEST);
+        v72 = 1000000;
+        d72 = null;
+        l40 = l54.add(Direction.NORTHWEST);
+        v40 = 1000000;
+        d40 = null;
+        if (margin >= 5) {
+            if (p107 == 0) {
+                int rubble = rc.senseRubble(l107);
+                RubbleMemory.record(l107, rubble);
+                p107 = 10 + rubble;
+            }
+            if (p187 == 0) {
+                int rubble = rc.senseRubble(l187);
+                RubbleMemory.record(l187, rubble);
+                p187 = 10 + rubble;
+            }
+            if (p117 == 0) {
+                int rubble = rc.senseRubble(l117);
+                RubbleMemory.record(l117, rubble);
+                p117 = 10 + rubble;
+            }
+            if (p37 == 0) {
+                int rubble = rc.senseRubble(l37);
+                RubbleMemory.record(l37, rubble);
+                p37 = 10 + rubble;
+            }
+            if (p36 == 0) {
+                int rubble = rc.senseRubble(l36);
+                RubbleMemory.record(l36, rubble);
+                p36 = 10 + rubble;
+            }
+            if (p92 == 0) {
+                int rubble = rc.senseRubble(l92);
+                RubbleMemory.record(l92, rubble);
+                p92 = 10 + rubble;
+            }
+            if (p122 == 0) {
+                int rubble = rc.senseRubble(l122);
+                RubbleMemory.record(l122, rubble);
+                p122 = 10 + rubble;
+            }
+            if (p186 == 0) {
+                int rubble = rc.senseRubble(l186);
+                RubbleMemory.record(l186, rubble);
+                p186 = 10 + rubble;
+            }
+            if (p188 == 0) {
+                int rubble = rc.senseRubble(l188);
+                RubbleMemory.record(l188, rubble);
+                p188 = 10 + rubble;
+            }
+            if (p132 == 0) {
+                int rubble = rc.senseRubble(l132);
+                RubbleMemory.record(l132, rubble);
+                p132 = 10 + rubble;
+            }
+            if (p102 == 0) {
+                int rubble = rc.senseRubble(l102);
+                RubbleMemory.record(l102, rubble);
+                p102 = 10 + rubble;
+            }
+            if (p38 == 0) {
+                int rubble = rc.senseRubble(l38);
+                RubbleMemory.record(l38, rubble);
+                p38 = 10 + rubble;
+            }
+            if (p35 == 0) {
+                int rubble = rc.senseRubble(l35);
+                RubbleMemory.record(l35, rubble);
+                p35 = 10 + rubble;
+            }
+            if (p77 == 0) {
+                int rubble = rc.senseRubble(l77);
+                RubbleMemory.record(l77, rubble);
+                p77 = 10 + rubble;
+            }
+            if (p137 == 0) {
+                int rubble = rc.senseRubble(l137);
+                RubbleMemory.record(l137, rubble);
+                p137 = 10 + rubble;
+            }
+            if (p185 == 0) {
+                int rubble = rc.senseRubble(l185);
+                RubbleMemory.record(l185, rubble);
+                p185 = 10 + rubble;
+            }
+            if (p189 == 0) {
+                int rubble = rc.senseRubble(l189);
+                RubbleMemory.record(l189, rubble);
+                p189 = 10 + rubble;
+            }
+            if (p147 == 0) {
+                int rubble = rc.senseRubble(l147);
+                RubbleMemory.record(l147, rubble);
+                p147 = 10 + rubble;
+            }
+            if (p87 == 0) {
+                int rubble = rc.senseRubble(l87);
+                RubbleMemory.record(l87, rubble);
+                p87 = 10 + rubble;
+            }
+            if (p39 == 0) {
+                int rubble = rc.senseRubble(l39);
+                RubbleMemory.record(l39, rubble);
+                p39 = 10 + rubble;
+            }
+            if (p34 == 0) {
+                int rubble = rc.senseRubble(l34);
+                RubbleMemory.record(l34, rubble);
+                p34 = 10 + rubble;
+            }
+            if (p62 == 0) {
+                int rubble = rc.senseRubble(l62);
+                RubbleMemory.record(l62, rubble);
+                p62 = 10 + rubble;
+            }
+            if (p152 == 0) {
+                int rubble = rc.senseRubble(l152);
+                RubbleMemory.record(l152, rubble);
+                p152 = 10 + rubble;
+            }
+            if (p184 == 0) {
+                int rubble = rc.senseRubble(l184);
+                RubbleMemory.record(l184, rubble);
+                p184 = 10 + rubble;
+            }
+            if (p190 == 0) {
+                int rubble = rc.senseRubble(l190);
+                RubbleMemory.record(l190, rubble);
+                p190 = 10 + rubble;
+            }
+            if (p162 == 0) {
+                int rubble = rc.senseRubble(l162);
+                RubbleMemory.record(l162, rubble);
+                p162 = 10 + rubble;
+            }
+            if (p72 == 0) {
+                int rubble = rc.senseRubble(l72);
+                RubbleMemory.record(l72, rubble);
+                p72 = 10 + rubble;
+            }
+            if (p40 == 0) {
+                int rubble = rc.senseRubble(l40);
+                RubbleMemory.record(l40, rubble);
+                p40 = 10 + rubble;
+            }
+        } else {
+            if (p107 == 0) {
+                if (rc.onTheMap(l107)) {
+                    int rubble = rc.senseRubble(l107);
+                    RubbleMemory.record(l107, rubble);
+                    p107 = 10 + rubble;
+                } else {
+                    p107 = -1;
+                }
+            }
+            if (p187 == 0) {
+                if (rc.onTheMap(l187)) {
+                    int rubble = rc.senseRubble(l187);
+                    RubbleMemory.record(l187, rubble);
+                    p187 = 10 + rubble;
+                } else {
+                    p187 = -1;
+                }
+            }
+            if (p117 == 0) {
+                if (rc.onTheMap(l117)) {
+                    int rubble = rc.senseRubble(l117);
+                    RubbleMemory.record(l117, rubble);
+                    p117 = 10 + rubble;
+                } else {
+                    p117 = -1;
+                }
+            }
+            if (p37 == 0) {
+                if (rc.onTheMap(l37)) {
+                    int rubble = rc.senseRubble(l37);
+                    RubbleMemory.record(l37, rubble);
+                    p37 = 10 + rubble;
+                } else {
+                    p37 = -1;
+                }
+            }
+            if (p36 == 0) {
+                if (rc.onTheMap(l36)) {
+                    int rubble = rc.senseRubble(l36);
+                    RubbleMemory.record(l36, rubble);
+                    p36 = 10 + rubble;
+                } else {
+                    p36 = -1;
+                }
+            }
+            if (p92 == 0) {
+                if (rc.onTheMap(l92)) {
+                    int rubble = rc.senseRubble(l92);
+                    RubbleMemory.record(l92, rubble);
+                    p92 = 10 + rubble;
+                } else {
+                    p92 = -1;
+                }
+            }
+            if (p122 == 0) {
+                if (rc.onTheMap(l122)) {
+                    int rubble = rc.senseRubble(l122);
+                    RubbleMemory.record(l122, rubble);
+                    p122 = 10 + rubble;
+                } else {
+                    p122 = -1;
+                }
+            }
+            if (p186 == 0) {
+                if (rc.onTheMap(l186)) {
+                    int rubble = rc.senseRubble(l186);
+                    RubbleMemory.record(l186, rubble);
+                    p186 = 10 + rubble;
+                } else {
+                    p186 = -1;
+                }
+            }
+            if (p188 == 0) {
+                if (rc.onTheMap(l188)) {
+                    int rubble = rc.senseRubble(l188);
+                    RubbleMemory.record(l188, rubble);
+                    p188 = 10 + rubble;
+                } else {
+                    p188 = -1;
+                }
+            }
+            if (p132 == 0) {
+                if (rc.onTheMap(l132)) {
+                    int rubble = rc.senseRubble(l132);
+                    RubbleMemory.record(l132, rubble);
+                    p132 = 10 + rubble;
+                } else {
+                    p132 = -1;
+                }
+            }
+            if (p102 == 0) {
+                if (rc.onTheMap(l102)) {
+                    int rubble = rc.senseRubble(l102);
+                    RubbleMemory.record(l102, rubble);
+                    p102 = 10 + rubble;
+                } else {
+                    p102 = -1;
+                }
+            }
+            if (p38 == 0) {
+                if (rc.onTheMap(l38)) {
+                    int rubble = rc.senseRubble(l38);
+                    RubbleMemory.record(l38, rubble);
+                    p38 = 10 + rubble;
+                } else {
+                    p38 = -1;
+                }
+            }
+            if (p35 == 0) {
+                if (rc.onTheMap(l35)) {
+                    int rubble = rc.senseRubble(l35);
+                    RubbleMemory.record(l35, rubble);
+                    p35 = 10 + rubble;
+                } else {
+                    p35 = -1;
+                }
+            }
+            if (p77 == 0) {
+                if (rc.onTheMap(l77)) {
+                    int rubble = rc.senseRubble(l77);
+                    RubbleMemory.record(l77, rubble);
+                    p77 = 10 + rubble;
+                } else {
+                    p77 = -1;
+                }
+            }
+            if (p137 == 0) {
+                if (rc.onTheMap(l137)) {
+                    int rubble = rc.senseRubble(l137);
+                    RubbleMemory.record(l137, rubble);
+                    p137 = 10 + rubble;
+                } else {
+                    p137 = -1;
+                }
+            }
+            if (p185 == 0) {
+                if (rc.onTheMap(l185)) {
+                    int rubble = rc.senseRubble(l185);
+                    RubbleMemory.record(l185, rubble);
+                    p185 = 10 + rubble;
+                } else {
+                    p185 = -1;
+                }
+            }
+            if (p189 == 0) {
+                if (rc.onTheMap(l189)) {
+                    int rubble = rc.senseRubble(l189);
+                    RubbleMemory.record(l189, rubble);
+                    p189 = 10 + rubble;
+                } else {
+                    p189 = -1;
+                }
+            }
+            if (p147 == 0) {
+                if (rc.onTheMap(l147)) {
+                    int rubble = rc.senseRubble(l147);
+                    RubbleMemory.record(l147, rubble);
+                    p147 = 10 + rubble;
+                } else {
+                    p147 = -1;
+                }
+            }
+            if (p87 == 0) {
+                if (rc.onTheMap(l87)) {
+                    int rubble = rc.senseRubble(l87);
+                    RubbleMemory.record(l87, rubble);
+                    p87 = 10 + rubble;
+                } else {
+                    p87 = -1;
+                }
+            }
+            if (p39 == 0) {
+                if (rc.onTheMap(l39)) {
+                    int rubble = rc.senseRubble(l39);
+                    RubbleMemory.record(l39, rubble);
+                    p39 = 10 + rubble;
+                } else {
+                    p39 = -1;
+                }
+            }
+            if (p34 == 0) {
+                if (rc.onTheMap(l34)) {
+                    int rubble = rc.senseRubble(l34);
+                    RubbleMemory.record(l34, rubble);
+                    p34 = 10 + rubble;
+                } else {
+                    p34 = -1;
+                }
+            }
+            if (p62 == 0) {
+                if (rc.onTheMap(l62)) {
+                    int rubble = rc.senseRubble(l62);
+                    RubbleMemory.record(l62, rubble);
+                    p62 = 10 + rubble;
+                } else {
+                    p62 = -1;
+                }
+            }
+            if (p152 == 0) {
+                if (rc.onTheMap(l152)) {
+                    int rubble = rc.senseRubble(l152);
+                    RubbleMemory.record(l152, rubble);
+                    p152 = 10 + rubble;
+                } else {
+                    p152 = -1;
+                }
+            }
+            if (p184 == 0) {
+                if (rc.onTheMap(l184)) {
+                    int rubble = rc.senseRubble(l184);
+                    RubbleMemory.record(l184, rubble);
+                    p184 = 10 + rubble;
+                } else {
+                    p184 = -1;
+                }
+            }
+            if (p190 == 0) {
+                if (rc.onTheMap(l190)) {
+                    int rubble = rc.senseRubble(l190);
+                    RubbleMemory.record(l190, rubble);
+                    p190 = 10 + rubble;
+                } else {
+                    p190 = -1;
+                }
+            }
+            if (p162 == 0) {
+                if (rc.onTheMap(l162)) {
+                    int rubble = rc.senseRubble(l162);
+                    RubbleMemory.record(l162, rubble);
+                    p162 = 10 + rubble;
+                } else {
+                    p162 = -1;
+                }
+            }
+            if (p72 == 0) {
+                if (rc.onTheMap(l72)) {
+                    int rubble = rc.senseRubble(l72);
+                    RubbleMemory.record(l72, rubble);
+                    p72 = 10 + rubble;
+                } else {
+                    p72 = -1;
+                }
+            }
+            if (p40 == 0) {
+                if (rc.onTheMap(l40)) {
+                    int rubble = rc.senseRubble(l40);
+                    RubbleMemory.record(l40, rubble);
+                    p40 = 10 + rubble;
+                } else {
+                    p40 = -1;
+                }
+            }
+        }
+        if (p107 > 0) {
+            v107 = v108 + p107;
+            d107 = d108;
+            if (v107 > v123 + p107) {
+                v107 = v123 + p107;
+                d107 = d123;
+            }
+            if (v107 > v93 + p107) {
+                v107 = v93 + p107;
+                d107 = d93;
+            }
+        }
+        if (p187 > 0) {
+            v187 = v172 + p187;
+            d187 = d172;
+            if (v187 > v171 + p187) {
+                v187 = v171 + p187;
+                d187 = d171;
+            }
+            if (v187 > v173 + p187) {
+                v187 = v173 + p187;
+                d187 = d173;
+            }
+        }
+        if (p117 > 0) {
+            v117 = v116 + p117;
+            d117 = d116;
+            if (v117 > v131 + p117) {
+                v117 = v131 + p117;
+                d117 = d131;
+            }
+            if (v117 > v101 + p117) {
+                v117 = v101 + p117;
+                d117 = d101;
+            }
+        }
+        if (p37 > 0) {
+            v37 = v52 + p37;
+            d37 = d52;
+            if (v37 > v53 + p37) {
+                v37 = v53 + p37;
+                d37 = d53;
+            }
+            if (v37 > v51 + p37) {
+                v37 = v51 + p37;
+                d37 = d51;
+            }
+        }
+        if (p36 > 0) {
+            v36 = v52 + p36;
+            d36 = d52;
+            if (v36 > v37 + p36) {
+                v36 = v37 + p36;
+                d36 = d37;
+            }
+            if (v36 > v51 + p36) {
+                v36 = v51 + p36;
+                d36 = d51;
+            }
+            if (v36 > v50 + p36) {
+                v36 = v50 + p36;
+                d36 = d50;
+            }
+        }
+        if (p92 > 0) {
+            v92 = v108 + p92;
+            d92 = d108;
+            if (v92 > v93 + p92) {
+                v92 = v93 + p92;
+                d92 = d93;
+            }
+            if (v92 > v107 + p92) {
+                v92 = v107 + p92;
+                d92 = d107;
+            }
+            if (v92 > v78 + p92) {
+                v92 = v78 + p92;
+                d92 = d78;
+            }
+        }
+        if (p122 > 0) {
+            v122 = v108 + p122;
+            d122 = d108;
+            if (v122 > v123 + p122) {
+                v122 = v123 + p122;
+                d122 = d123;
+            }
+            if (v122 > v138 + p122) {
+                v122 = v138 + p122;
+                d122 = d138;
+            }
+            if (v122 > v107 + p122) {
+                v122 = v107 + p122;
+                d122 = d107;
+            }
+        }
+        if (p186 > 0) {
+            v186 = v172 + p186;
+            d186 = d172;
+            if (v186 > v187 + p186) {
+                v186 = v187 + p186;
+                d186 = d187;
+            }
+            if (v186 > v170 + p186) {
+                v186 = v170 + p186;
+                d186 = d170;
+            }
+            if (v186 > v171 + p186) {
+                v186 = v171 + p186;
+                d186 = d171;
+            }
+        }
+        if (p188 > 0) {
+            v188 = v172 + p188;
+            d188 = d172;
+            if (v188 > v187 + p188) {
+                v188 = v187 + p188;
+                d188 = d187;
+            }
+            if (v188 > v173 + p188) {
+                v188 = v173 + p188;
+                d188 = d173;
+            }
+            if (v188 > v174 + p188) {
+                v188 = v174 + p188;
+                d188 = d174;
+            }
+        }
+        if (p132 > 0) {
+            v132 = v116 + p132;
+            d132 = d116;
+            if (v132 > v146 + p132) {
+                v132 = v146 + p132;
+                d132 = d146;
+            }
+            if (v132 > v131 + p132) {
+                v132 = v131 + p132;
+                d132 = d131;
+            }
+            if (v132 > v117 + p132) {
+                v132 = v117 + p132;
+                d132 = d117;
+            }
+        }
+        if (p102 > 0) {
+            v102 = v116 + p102;
+            d102 = d116;
+            if (v102 > v117 + p102) {
+                v102 = v117 + p102;
+                d102 = d117;
+            }
+            if (v102 > v101 + p102) {
+                v102 = v101 + p102;
+                d102 = d101;
+            }
+            if (v102 > v86 + p102) {
+                v102 = v86 + p102;
+                d102 = d86;
+            }
+        }
+        if (p38 > 0) {
+            v38 = v52 + p38;
+            d38 = d52;
+            if (v38 > v54 + p38) {
+                v38 = v54 + p38;
+                d38 = d54;
+            }
+            if (v38 > v53 + p38) {
+                v38 = v53 + p38;
+                d38 = d53;
+            }
+            if (v38 > v37 + p38) {
+                v38 = v37 + p38;
+                d38 = d37;
+            }
+        }
+        if (p35 > 0) {
+            v35 = v51 + p35;
+            d35 = d51;
+            if (v35 > v36 + p35) {
+                v35 = v36 + p35;
+                d35 = d36;
+            }
+            if (v35 > v50 + p35) {
+                v35 = v50 + p35;
+                d35 = d50;
+            }
+            if (v35 > v49 + p35) {
+                v35 = v49 + p35;
+                d35 = d49;
+            }
+        }
+        if (p77 > 0) {
+            v77 = v93 + p77;
+            d77 = d93;
+            if (v77 > v78 + p77) {
+                v77 = v78 + p77;
+                d77 = d78;
+            }
+            if (v77 > v92 + p77) {
+                v77 = v92 + p77;
+                d77 = d92;
+            }
+            if (v77 > v63 + p77) {
+                v77 = v63 + p77;
+                d77 = d63;
+            }
+        }
+        if (p137 > 0) {
+            v137 = v123 + p137;
+            d137 = d123;
+            if (v137 > v138 + p137) {
+                v137 = v138 + p137;
+                d137 = d138;
+            }
+            if (v137 > v153 + p137) {
+                v137 = v153 + p137;
+                d137 = d153;
+            }
+            if (v137 > v122 + p137) {
+                v137 = v122 + p137;
+                d137 = d122;
+            }
+        }
+        if (p185 > 0) {
+            v185 = v171 + p185;
+            d185 = d171;
+            if (v185 > v186 + p185) {
+                v185 = v186 + p185;
+                d185 = d186;
+            }
+            if (v185 > v169 + p185) {
+                v185 = v169 + p185;
+                d185 = d169;
+            }
+            if (v185 > v170 + p185) {
+                v185 = v170 + p185;
+                d185 = d170;
+            }
+        }
+        if (p189 > 0) {
+            v189 = v173 + p189;
+            d189 = d173;
+            if (v189 > v188 + p189) {
+                v189 = v188 + p189;
+                d189 = d188;
+            }
+            if (v189 > v174 + p189) {
+                v189 = v174 + p189;
+                d189 = d174;
+            }
+            if (v189 > v175 + p189) {
+                v189 = v175 + p189;
+                d189 = d175;
+            }
+        }
+        if (p147 > 0) {
+            v147 = v131 + p147;
+            d147 = d131;
+            if (v147 > v161 + p147) {
+                v147 = v161 + p147;
+                d147 = d161;
+            }
+            if (v147 > v146 + p147) {
+                v147 = v146 + p147;
+                d147 = d146;
+            }
+            if (v147 > v132 + p147) {
+                v147 = v132 + p147;
+                d147 = d132;
+            }
+        }
+        if (p87 > 0) {
+            v87 = v101 + p87;
+            d87 = d101;
+            if (v87 > v102 + p87) {
+                v87 = v102 + p87;
+                d87 = d102;
+            }
+            if (v87 > v86 + p87) {
+                v87 = v86 + p87;
+                d87 = d86;
+            }
+            if (v87 > v71 + p87) {
+                v87 = v71 + p87;
+                d87 = d71;
+            }
+        }
+        if (p39 > 0) {
+            v39 = v53 + p39;
+            d39 = d53;
+            if (v39 > v55 + p39) {
+                v39 = v55 + p39;
+                d39 = d55;
+            }
+            if (v39 > v54 + p39) {
+                v39 = v54 + p39;
+                d39 = d54;
+            }
+            if (v39 > v38 + p39) {
+                v39 = v38 + p39;
+                d39 = d38;
+            }
+        }
+        if (p34 > 0) {
+            v34 = v50 + p34;
+            d34 = d50;
+            if (v34 > v35 + p34) {
+                v34 = v35 + p34;
+                d34 = d35;
+            }
+            if (v34 > v49 + p34) {
+                v34 = v49 + p34;
+                d34 = d49;
+            }
+            if (v34 > v48 + p34) {
+                v34 = v48 + p34;
+                d34 = d48;
+            }
+        }
+        if (p62 > 0) {
+            v62 = v78 + p62;
+            d62 = d78;
+            if (v62 > v63 + p62) {
+                v62 = v63 + p62;
+                d62 = d63;
+            }
+            if (v62 > v77 + p62) {
+                v62 = v77 + p62;
+                d62 = d77;
+            }
+            if (v62 > v48 + p62) {
+                v62 = v48 + p62;
+                d62 = d48;
+            }
+        }
+        if (p152 > 0) {
+            v152 = v138 + p152;
+            d152 = d138;
+            if (v152 > v153 + p152) {
+                v152 = v153 + p152;
+                d152 = d153;
+            }
+            if (v152 > v168 + p152) {
+                v152 = v168 + p152;
+                d152 = d168;
+            }
+            if (v152 > v137 + p152) {
+                v152 = v137 + p152;
+                d152 = d137;
+            }
+        }
+        if (p184 > 0) {
+            v184 = v170 + p184;
+            d184 = d170;
+            if (v184 > v185 + p184) {
+                v184 = v185 + p184;
+                d184 = d185;
+            }
+            if (v184 > v168 + p184) {
+                v184 = v168 + p184;
+                d184 = d168;
+            }
+            if (v184 > v169 + p184) {
+                v184 = v169 + p184;
+                d184 = d169;
+            }
+        }
+        if (p190 > 0) {
+            v190 = v174 + p190;
+            d190 = d174;
+            if (v190 > v189 + p190) {
+                v190 = v189 + p190;
+                d190 = d189;
+            }
+            if (v190 > v175 + p190) {
+                v190 = v175 + p190;
+                d190 = d175;
+            }
+            if (v190 > v176 + p190) {
+                v190 = v176 + p190;
+                d190 = d176;
+            }
+        }
+        if (p162 > 0) {
+            v162 = v146 + p162;
+            d162 = d146;
+            if (v162 > v176 + p162) {
+                v162 = v176 + p162;
+                d162 = d176;
+            }
+            if (v162 > v161 + p162) {
+                v162 = v161 + p162;
+                d162 = d161;
+            }
+            if (v162 > v147 + p162) {
+                v162 = v147 + p162;
+                d162 = d147;
+            }
+        }
+        if (p72 > 0) {
+            v72 = v86 + p72;
+            d72 = d86;
+            if (v72 > v87 + p72) {
+                v72 = v87 + p72;
+                d72 = d87;
+            }
+            if (v72 > v71 + p72) {
+                v72 = v71 + p72;
+                d72 = d71;
+            }
+            if (v72 > v56 + p72) {
+                v72 = v56 + p72;
+                d72 = d56;
+            }
+        }
+        if (p40 > 0) {
+            v40 = v54 + p40;
+            d40 = d54;
+            if (v40 > v56 + p40) {
+                v40 = v56 + p40;
+                d40 = d56;
+            }
+            if (v40 > v55 + p40) {
+                v40 = v55 + p40;
+                d40 = d55;
+            }
+            if (v40 > v39 + p40) {
+                v40 = v39 + p40;
+                d40 = d39;
+            }
+        }
+        maxElapsed = Debug.toc(before, "BFS34-search", maxElapsed);
+        return 5;
+    }
+
+    Direction getBestDir(MapLocation target, int rings) {
+        switch (rings) {
+            case 1:
+                return getBestDirWithinRing1(target);
+            case 2:
+                return getBestDirWithinRing2(target);
+            case 3:
+                return getBestDirWithinRing3(target);
+            case 4:
+                return getBestDirWithinRing4(target);
+            default:
+                return getBestDirWithinRing5(target);
+        }
+    }
+
+    private static void clearRubbleCache() {
+        p111 = 0;
+        p127 = 0;
+        p113 = 0;
+        p97 = 0;
+        p96 = 0;
+        p126 = 0;
+        p128 = 0;
+        p98 = 0;
+        p110 = 0;
+        p142 = 0;
+        p114 = 0;
+        p82 = 0;
+        p81 = 0;
+        p95 = 0;
+        p125 = 0;
+        p141 = 0;
+        p143 = 0;
+        p129 = 0;
+        p99 = 0;
+        p83 = 0;
+        p80 = 0;
+        p140 = 0;
+        p144 = 0;
+        p84 = 0;
+        p109 = 0;
+        p157 = 0;
+        p115 = 0;
+        p67 = 0;
+        p66 = 0;
+        p94 = 0;
+        p124 = 0;
+        p156 = 0;
+        p158 = 0;
+        p130 = 0;
+        p100 = 0;
+        p68 = 0;
+        p65 = 0;
+        p79 = 0;
+        p139 = 0;
+        p155 = 0;
+        p159 = 0;
+        p145 = 0;
+        p85 = 0;
+        p69 = 0;
+        p64 = 0;
+        p154 = 0;
+        p160 = 0;
+        p70 = 0;
+        p108 = 0;
+        p172 = 0;
+        p116 = 0;
+        p52 = 0;
+        p51 = 0;
+        p93 = 0;
+        p123 = 0;
+        p171 = 0;
+        p173 = 0;
+        p131 = 0;
+        p101 = 0;
+        p53 = 0;
+        p50 = 0;
+        p78 = 0;
+        p138 = 0;
+        p170 = 0;
+        p174 = 0;
+        p146 = 0;
+        p86 = 0;
+        p54 = 0;
+        p49 = 0;
+        p63 = 0;
+        p153 = 0;
+        p169 = 0;
+        p175 = 0;
+        p161 = 0;
+        p71 = 0;
+        p55 = 0;
+        p48 = 0;
+        p168 = 0;
+        p176 = 0;
+        p56 = 0;
+        p107 = 0;
+        p187 = 0;
+        p117 = 0;
+        p37 = 0;
+        p36 = 0;
+        p92 = 0;
+        p122 = 0;
+        p186 = 0;
+        p188 = 0;
+        p132 = 0;
+        p102 = 0;
+        p38 = 0;
+        p35 = 0;
+        p77 = 0;
+        p137 = 0;
+        p185 = 0;
+        p189 = 0;
+        p147 = 0;
+        p87 = 0;
+        p39 = 0;
+        p34 = 0;
+        p62 = 0;
+        p152 = 0;
+        p184 = 0;
+        p190 = 0;
+        p162 = 0;
+        p72 = 0;
+        p40 = 0;
+    }
+
+    private static void shiftRubbleCache(Direction dir) {
+        switch (dir) {
+            case NORTH:
+                p107 = p108;
+                p92 = p93;
+                p122 = p123;
+                p77 = p78;
+                p137 = p138;
+                p62 = p63;
+                p152 = p153;
+                p108 = p109;
+                p93 = p94;
+                p123 = p124;
+                p78 = p79;
+                p138 = p139;
+                p63 = p64;
+                p153 = p154;
+                p48 = p49;
+                p168 = p169;
+                p109 = p110;
+                p94 = p95;
+                p124 = p125;
+                p79 = p80;
+                p139 = p140;
+                p64 = p65;
+                p154 = p155;
+                p49 = p50;
+                p169 = p170;
+                p34 = p35;
+                p184 = p185;
+                p110 = p111;
+                p95 = p96;
+                p125 = p126;
+                p80 = p81;
+                p140 = p141;
+                p65 = p66;
+                p155 = p156;
+                p50 = p51;
+                p170 = p171;
+                p35 = p36;
+                p185 = p186;
+                p111 = 0;
+                p96 = p97;
+                p126 = p127;
+                p81 = p82;
+                p141 = p142;
+                p66 = p67;
+                p156 = p157;
+                p51 = p52;
+                p171 = p172;
+                p36 = p37;
+                p186 = p187;
+                p127 = p128;
+                p97 = p98;
+                p142 = p143;
+                p82 = p83;
+                p157 = p158;
+                p67 = p68;
+                p172 = p173;
+                p52 = p53;
+                p187 = p188;
+                p37 = p38;
+                p113 = p114;
+                p128 = p129;
+                p98 = p99;
+                p143 = p144;
+                p83 = p84;
+                p158 = p159;
+                p68 = p69;
+                p173 = p174;
+                p53 = p54;
+                p188 = p189;
+                p38 = p39;
+                p114 = p115;
+                p129 = p130;
+                p99 = p100;
+                p144 = p145;
+                p84 = p85;
+                p159 = p160;
+                p69 = p70;
+                p174 = p175;
+                p54 = p55;
+                p189 = p190;
+                p39 = p40;
+                p115 = p116;
+                p130 = p131;
+                p100 = p101;
+                p145 = p146;
+                p85 = p86;
+                p160 = p161;
+                p70 = p71;
+                p175 = p176;
+                p55 = p56;
+                p190 = 0;
+                p40 = 0;
+                p116 = p117;
+                p131 = p132;
+                p101 = p102;
+                p146 = p147;
+                p86 = p87;
+                p161 = p162;
+                p71 = p72;
+                p176 = 0;
+                p56 = 0;
+                p117 = 0;
+                p132 = 0;
+                p102 = 0;
+                p147 = 0;
+                p87 = 0;
+                p162 = 0;
+                p72 = 0;
+                break;
+            case NORTHEAST:
+                p48 = p64;
+                p34 = p50;
+                p62 = p78;
+                p49 = p65;
+                p63 = p79;
+                p35 = p51;
+                p77 = p93;
+                p64 = p80;
+                p50 = p66;
+                p78 = p94;
+                p36 = p52;
+                p92 = p108;
+                p65 = p81;
+                p79 = p95;
+                p51 = p67;
+                p93 = p109;
+                p107 = p123;
+                p37 = p53;
+                p80 = p96;
+                p66 = p82;
+                p94 = p110;
+                p108 = p124;
+                p52 = p68;
+                p122 = p138;
+                p38 = p54;
+                p81 = p97;
+                p95 = p111;
+                p109 = p125;
+                p67 = p83;
+                p123 = p139;
+                p53 = p69;
+                p137 = p153;
+                p39 = p55;
+                p96 = 0;
+                p110 = p126;
+                p82 = p98;
+                p124 = p140;
+                p68 = p84;
+                p138 = p154;
+                p54 = p70;
+                p152 = p168;
+                p40 = p56;
+                p111 = p127;
+                p97 = p113;
+                p125 = p141;
+                p83 = p99;
+                p139 = p155;
+                p69 = p85;
+                p153 = p169;
+                p55 = p71;
+                p126 = p142;
+                p98 = p114;
+                p140 = p156;
+                p84 = p100;
+                p154 = p170;
+                p70 = p86;
+                p168 = p184;
+                p56 = p72;
+                p127 = p143;
+                p113 = p129;
+                p141 = p157;
+                p99 = p115;
+                p155 = p171;
+                p85 = p101;
+                p169 = p185;
+                p71 = p87;
+                p128 = p144;
+                p142 = p158;
+                p114 = p130;
+                p156 = p172;
+                p100 = p116;
+                p170 = p186;
+                p86 = p102;
+                p184 = 0;
+                p72 = 0;
+                p143 = p159;
+                p129 = p145;
+                p157 = p173;
+                p115 = p131;
+                p171 = p187;
+                p101 = p117;
+                p185 = 0;
+                p87 = 0;
+                p144 = p160;
+                p158 = p174;
+                p130 = p146;
+                p172 = p188;
+                p116 = p132;
+                p186 = 0;
+                p102 = 0;
+                p159 = p175;
+                p145 = p161;
+                p173 = p189;
+                p131 = p147;
+                p187 = 0;
+                p117 = 0;
+                p160 = p176;
+                p174 = p190;
+                p146 = p162;
+                p188 = 0;
+                p132 = 0;
+                p175 = 0;
+                p161 = 0;
+                p189 = 0;
+                p147 = 0;
+                p176 = 0;
+                p190 = 0;
+                p162 = 0;
+                break;
+            case EAST:
+                p37 = p52;
+                p36 = p51;
+                p38 = p53;
+                p35 = p50;
+                p39 = p54;
+                p34 = p49;
+                p40 = p55;
+                p52 = p67;
+                p51 = p66;
+                p53 = p68;
+                p50 = p65;
+                p54 = p69;
+                p49 = p64;
+                p55 = p70;
+                p48 = p63;
+                p56 = p71;
+                p67 = p82;
+                p66 = p81;
+                p68 = p83;
+                p65 = p80;
+                p69 = p84;
+                p64 = p79;
+                p70 = p85;
+                p63 = p78;
+                p71 = p86;
+                p62 = p77;
+                p72 = p87;
+                p82 = p97;
+                p81 = p96;
+                p83 = p98;
+                p80 = p95;
+                p84 = p99;
+                p79 = p94;
+                p85 = p100;
+                p78 = p93;
+                p86 = p101;
+                p77 = p92;
+                p87 = p102;
+                p97 = 0;
+                p96 = p111;
+                p98 = p113;
+                p95 = p110;
+                p99 = p114;
+                p94 = p109;
+                p100 = p115;
+                p93 = p108;
+                p101 = p116;
+                p92 = p107;
+                p102 = p117;
+                p111 = p126;
+                p113 = p128;
+                p110 = p125;
+                p114 = p129;
+                p109 = p124;
+                p115 = p130;
+                p108 = p123;
+                p116 = p131;
+                p107 = p122;
+                p117 = p132;
+                p127 = p142;
+                p126 = p141;
+                p128 = p143;
+                p125 = p140;
+                p129 = p144;
+                p124 = p139;
+                p130 = p145;
+                p123 = p138;
+                p131 = p146;
+                p122 = p137;
+                p132 = p147;
+                p142 = p157;
+                p141 = p156;
+                p143 = p158;
+                p140 = p155;
+                p144 = p159;
+                p139 = p154;
+                p145 = p160;
+                p138 = p153;
+                p146 = p161;
+                p137 = p152;
+                p147 = p162;
+                p157 = p172;
+                p156 = p171;
+                p158 = p173;
+                p155 = p170;
+                p159 = p174;
+                p154 = p169;
+                p160 = p175;
+                p153 = p168;
+                p161 = p176;
+                p152 = 0;
+                p162 = 0;
+                p172 = p187;
+                p171 = p186;
+                p173 = p188;
+                p170 = p185;
+                p174 = p189;
+                p169 = p184;
+                p175 = p190;
+                p168 = 0;
+                p176 = 0;
+                p187 = 0;
+                p186 = 0;
+                p188 = 0;
+                p185 = 0;
+                p189 = 0;
+                p184 = 0;
+                p190 = 0;
+                break;
+            case SOUTHEAST:
+                p56 = p70;
+                p72 = p86;
+                p40 = p54;
+                p71 = p85;
+                p55 = p69;
+                p87 = p101;
+                p39 = p53;
+                p70 = p84;
+                p86 = p100;
+                p54 = p68;
+                p102 = p116;
+                p38 = p52;
+                p85 = p99;
+                p69 = p83;
+                p101 = p115;
+                p53 = p67;
+                p117 = p131;
+                p37 = p51;
+                p84 = p98;
+                p100 = p114;
+                p68 = p82;
+                p116 = p130;
+                p52 = p66;
+                p36 = p50;
+                p132 = p146;
+                p99 = p113;
+                p83 = p97;
+                p115 = p129;
+                p67 = p81;
+                p51 = p65;
+                p131 = p145;
+                p35 = p49;
+                p147 = p161;
+                p98 = 0;
+                p114 = p128;
+                p82 = p96;
+                p66 = p80;
+                p130 = p144;
+                p50 = p64;
+                p146 = p160;
+                p34 = p48;
+                p162 = p176;
+                p113 = p127;
+                p97 = p111;
+                p81 = p95;
+                p129 = p143;
+                p65 = p79;
+                p145 = p159;
+                p49 = p63;
+                p161 = p175;
+                p96 = p110;
+                p128 = p142;
+                p80 = p94;
+                p144 = p158;
+                p64 = p78;
+                p160 = p174;
+                p48 = p62;
+                p176 = p190;
+                p111 = p125;
+                p127 = p141;
+                p95 = p109;
+                p143 = p157;
+                p79 = p93;
+                p159 = p173;
+                p63 = p77;
+                p175 = p189;
+                p126 = p140;
+                p110 = p124;
+                p142 = p156;
+                p94 = p108;
+                p158 = p172;
+                p78 = p92;
+                p174 = p188;
+                p62 = 0;
+                p190 = 0;
+                p125 = p139;
+                p141 = p155;
+                p109 = p123;
+                p157 = p171;
+                p93 = p107;
+                p173 = p187;
+                p77 = 0;
+                p189 = 0;
+                p140 = p154;
+                p124 = p138;
+                p156 = p170;
+                p108 = p122;
+                p172 = p186;
+                p92 = 0;
+                p188 = 0;
+                p139 = p153;
+                p155 = p169;
+                p123 = p137;
+                p171 = p185;
+                p107 = 0;
+                p187 = 0;
+                p154 = p168;
+                p138 = p152;
+                p170 = p184;
+                p122 = 0;
+                p186 = 0;
+                p153 = 0;
+                p169 = 0;
+                p137 = 0;
+                p185 = 0;
+                p168 = 0;
+                p152 = 0;
+                p184 = 0;
+                break;
+            case SOUTH:
+                p117 = p116;
+                p132 = p131;
+                p102 = p101;
+                p147 = p146;
+                p87 = p86;
+                p162 = p161;
+                p72 = p71;
+                p116 = p115;
+                p131 = p130;
+                p101 = p100;
+                p146 = p145;
+                p86 = p85;
+                p161 = p160;
+                p71 = p70;
+                p176 = p175;
+                p56 = p55;
+                p115 = p114;
+                p130 = p129;
+                p100 = p99;
+                p145 = p144;
+                p85 = p84;
+                p160 = p159;
+                p70 = p69;
+                p175 = p174;
+                p55 = p54;
+                p190 = p189;
+                p40 = p39;
+                p114 = p113;
+                p129 = p128;
+                p99 = p98;
+                p144 = p143;
+                p84 = p83;
+                p159 = p158;
+                p69 = p68;
+                p174 = p173;
+                p54 = p53;
+                p189 = p188;
+                p39 = p38;
+                p113 = 0;
+                p128 = p127;
+                p98 = p97;
+                p143 = p142;
+                p83 = p82;
+                p158 = p157;
+                p68 = p67;
+                p173 = p172;
+                p53 = p52;
+                p188 = p187;
+                p38 = p37;
+                p127 = p126;
+                p97 = p96;
+                p142 = p141;
+                p82 = p81;
+                p157 = p156;
+                p67 = p66;
+                p172 = p171;
+                p52 = p51;
+                p187 = p186;
+                p37 = p36;
+                p111 = p110;
+                p96 = p95;
+                p126 = p125;
+                p81 = p80;
+                p141 = p140;
+                p66 = p65;
+                p156 = p155;
+                p51 = p50;
+                p171 = p170;
+                p36 = p35;
+                p186 = p185;
+                p110 = p109;
+                p95 = p94;
+                p125 = p124;
+                p80 = p79;
+                p140 = p139;
+                p65 = p64;
+                p155 = p154;
+                p50 = p49;
+                p170 = p169;
+                p35 = p34;
+                p185 = p184;
+                p109 = p108;
+                p94 = p93;
+                p124 = p123;
+                p79 = p78;
+                p139 = p138;
+                p64 = p63;
+                p154 = p153;
+                p49 = p48;
+                p169 = p168;
+                p34 = 0;
+                p184 = 0;
+                p108 = p107;
+                p93 = p92;
+                p123 = p122;
+                p78 = p77;
+                p138 = p137;
+                p63 = p62;
+                p153 = p152;
+                p48 = 0;
+                p168 = 0;
+                p107 = 0;
+                p92 = 0;
+                p122 = 0;
+                p77 = 0;
+                p137 = 0;
+                p62 = 0;
+                p152 = 0;
+                break;
+            case SOUTHWEST:
+                p176 = p160;
+                p190 = p174;
+                p162 = p146;
+                p175 = p159;
+                p161 = p145;
+                p189 = p173;
+                p147 = p131;
+                p160 = p144;
+                p174 = p158;
+                p146 = p130;
+                p188 = p172;
+                p132 = p116;
+                p159 = p143;
+                p145 = p129;
+                p173 = p157;
+                p131 = p115;
+                p187 = p171;
+                p117 = p101;
+                p144 = p128;
+                p158 = p142;
+                p130 = p114;
+                p172 = p156;
+                p116 = p100;
+                p186 = p170;
+                p102 = p86;
+                p143 = p127;
+                p129 = p113;
+                p157 = p141;
+                p115 = p99;
+                p171 = p155;
+                p101 = p85;
+                p185 = p169;
+                p87 = p71;
+                p128 = 0;
+                p142 = p126;
+                p114 = p98;
+                p156 = p140;
+                p100 = p84;
+                p170 = p154;
+                p86 = p70;
+                p184 = p168;
+                p72 = p56;
+                p127 = p111;
+                p113 = p97;
+                p141 = p125;
+                p99 = p83;
+                p155 = p139;
+                p85 = p69;
+                p169 = p153;
+                p71 = p55;
+                p126 = p110;
+                p98 = p82;
+                p140 = p124;
+                p84 = p68;
+                p154 = p138;
+                p70 = p54;
+                p168 = p152;
+                p56 = p40;
+                p111 = p95;
+                p97 = p81;
+                p125 = p109;
+                p83 = p67;
+                p139 = p123;
+                p69 = p53;
+                p153 = p137;
+                p55 = p39;
+                p96 = p80;
+                p110 = p94;
+                p82 = p66;
+                p124 = p108;
+                p68 = p52;
+                p138 = p122;
+                p54 = p38;
+                p152 = 0;
+                p40 = 0;
+                p81 = p65;
+                p95 = p79;
+                p109 = p93;
+                p67 = p51;
+                p123 = p107;
+                p53 = p37;
+                p137 = 0;
+                p39 = 0;
+                p80 = p64;
+                p66 = p50;
+                p94 = p78;
+                p108 = p92;
+                p52 = p36;
+                p122 = 0;
+                p38 = 0;
+                p65 = p49;
+                p79 = p63;
+                p51 = p35;
+                p93 = p77;
+                p107 = 0;
+                p37 = 0;
+                p64 = p48;
+                p50 = p34;
+                p78 = p62;
+                p36 = 0;
+                p92 = 0;
+                p49 = 0;
+                p63 = 0;
+                p35 = 0;
+                p77 = 0;
+                p48 = 0;
+                p34 = 0;
+                p62 = 0;
+                break;
+            case WEST:
+                p187 = p172;
+                p186 = p171;
+                p188 = p173;
+                p185 = p170;
+                p189 = p174;
+                p184 = p169;
+                p190 = p175;
+                p172 = p157;
+                p171 = p156;
+                p173 = p158;
+                p170 = p155;
+                p174 = p159;
+                p169 = p154;
+                p175 = p160;
+                p168 = p153;
+                p176 = p161;
+                p157 = p142;
+                p156 = p141;
+                p158 = p143;
+                p155 = p140;
+                p159 = p144;
+                p154 = p139;
+                p160 = p145;
+                p153 = p138;
+                p161 = p146;
+                p152 = p137;
+                p162 = p147;
+                p142 = p127;
+                p141 = p126;
+                p143 = p128;
+                p140 = p125;
+                p144 = p129;
+                p139 = p124;
+                p145 = p130;
+                p138 = p123;
+                p146 = p131;
+                p137 = p122;
+                p147 = p132;
+                p127 = 0;
+                p126 = p111;
+                p128 = p113;
+                p125 = p110;
+                p129 = p114;
+                p124 = p109;
+                p130 = p115;
+                p123 = p108;
+                p131 = p116;
+                p122 = p107;
+                p132 = p117;
+                p111 = p96;
+                p113 = p98;
+                p110 = p95;
+                p114 = p99;
+                p109 = p94;
+                p115 = p100;
+                p108 = p93;
+                p116 = p101;
+                p107 = p92;
+                p117 = p102;
+                p97 = p82;
+                p96 = p81;
+                p98 = p83;
+                p95 = p80;
+                p99 = p84;
+                p94 = p79;
+                p100 = p85;
+                p93 = p78;
+                p101 = p86;
+                p92 = p77;
+                p102 = p87;
+                p82 = p67;
+                p81 = p66;
+                p83 = p68;
+                p80 = p65;
+                p84 = p69;
+                p79 = p64;
+                p85 = p70;
+                p78 = p63;
+                p86 = p71;
+                p77 = p62;
+                p87 = p72;
+                p67 = p52;
+                p66 = p51;
+                p68 = p53;
+                p65 = p50;
+                p69 = p54;
+                p64 = p49;
+                p70 = p55;
+                p63 = p48;
+                p71 = p56;
+                p62 = 0;
+                p72 = 0;
+                p52 = p37;
+                p51 = p36;
+                p53 = p38;
+                p50 = p35;
+                p54 = p39;
+                p49 = p34;
+                p55 = p40;
+                p48 = 0;
+                p56 = 0;
+                p37 = 0;
+                p36 = 0;
+                p38 = 0;
+                p35 = 0;
+                p39 = 0;
+                p34 = 0;
+                p40 = 0;
+                break;
+            case NORTHWEST:
+                p168 = p154;
+                p152 = p138;
+                p184 = p170;
+                p153 = p139;
+                p169 = p155;
+                p137 = p123;
+                p185 = p171;
+                p154 = p140;
+                p138 = p124;
+                p170 = p156;
+                p122 = p108;
+                p186 = p172;
+                p139 = p125;
+                p155 = p141;
+                p123 = p109;
+                p171 = p157;
+                p107 = p93;
+                p187 = p173;
+                p140 = p126;
+                p124 = p110;
+                p156 = p142;
+                p108 = p94;
+                p172 = p158;
+                p92 = p78;
+                p188 = p174;
+                p125 = p111;
+                p141 = p127;
+                p109 = p95;
+                p157 = p143;
+                p93 = p79;
+                p173 = p159;
+                p77 = p63;
+                p189 = p175;
+                p126 = 0;
+                p110 = p96;
+                p142 = p128;
+                p94 = p80;
+                p158 = p144;
+                p78 = p64;
+                p174 = p160;
+                p62 = p48;
+                p190 = p176;
+                p111 = p97;
+                p127 = p113;
+                p95 = p81;
+                p143 = p129;
+                p79 = p65;
+                p159 = p145;
+                p63 = p49;
+                p175 = p161;
+                p96 = p82;
+                p128 = p114;
+                p80 = p66;
+                p144 = p130;
+                p64 = p50;
+                p160 = p146;
+                p48 = p34;
+                p176 = p162;
+                p113 = p99;
+                p97 = p83;
+                p81 = p67;
+                p129 = p115;
+                p65 = p51;
+                p145 = p131;
+                p49 = p35;
+                p161 = p147;
+                p98 = p84;
+                p114 = p100;
+                p82 = p68;
+                p66 = p52;
+                p130 = p116;
+                p50 = p36;
+                p146 = p132;
+                p34 = 0;
+                p162 = 0;
+                p99 = p85;
+                p83 = p69;
+                p115 = p101;
+                p67 = p53;
+                p51 = p37;
+                p131 = p117;
+                p35 = 0;
+                p147 = 0;
+                p84 = p70;
+                p100 = p86;
+                p68 = p54;
+                p116 = p102;
+                p52 = p38;
+                p36 = 0;
+                p132 = 0;
+                p85 = p71;
+                p69 = p55;
+                p101 = p87;
+                p53 = p39;
+                p117 = 0;
+                p37 = 0;
+                p70 = p56;
+                p86 = p72;
+                p54 = p40;
+                p102 = 0;
+                p38 = 0;
+                p71 = 0;
+                p55 = 0;
+                p87 = 0;
+                p39 = 0;
+                p56 = 0;
+                p72 = 0;
+                p40 = 0;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static Direction getBestDirWithinRing1(MapLocation target) {
+        int dx = target.x - l112.x;
+        int dy = target.y - l112.y;
+        switch (dx) {
+            case -1:
+                switch (dy) {
+                    case -1:
+                        pathCost = v96;
+                        return d96;
+                    case 0:
+                        pathCost = v97;
+                        return d97;
+                    case 1:
+                        pathCost = v98;
+                        return d98;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -1:
+                        pathCost = v111;
+                        return d111;
+                    case 1:
+                        pathCost = v113;
+                        return d113;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -1:
+                        pathCost = v126;
+                        return d126;
+                    case 0:
+                        pathCost = v127;
+                        return d127;
+                    case 1:
+                        pathCost = v128;
+                        return d128;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l112.distanceSquaredTo(target));
+        double remaining96 = Math.sqrt(l96.distanceSquaredTo(target));
+        double dist96 = (initialDist - remaining96) / v96;
+        if (dist96 > bestEstimation) {
+            bestEstimation = dist96;
+            ans = d96;
+            ansCost = v96 + 10 * remaining96;
+        }
+        double remaining97 = Math.sqrt(l97.distanceSquaredTo(target));
+        double dist97 = (initialDist - remaining97) / v97;
+        if (dist97 > bestEstimation) {
+            bestEstimation = dist97;
+            ans = d97;
+            ansCost = v97 + 10 * remaining97;
+        }
+        double remaining98 = Math.sqrt(l98.distanceSquaredTo(target));
+        double dist98 = (initialDist - remaining98) / v98;
+        if (dist98 > bestEstimation) {
+            bestEstimation = dist98;
+            ans = d98;
+            ansCost = v98 + 10 * remaining98;
+        }
+        double remaining111 = Math.sqrt(l111.distanceSquaredTo(target));
+        double dist111 = (initialDist - remaining111) / v111;
+        if (dist111 > bestEstimation) {
+            bestEstimation = dist111;
+            ans = d111;
+            ansCost = v111 + 10 * remaining111;
+        }
+        double remaining113 = Math.sqrt(l113.distanceSquaredTo(target));
+        double dist113 = (initialDist - remaining113) / v113;
+        if (dist113 > bestEstimation) {
+            bestEstimation = dist113;
+            ans = d113;
+            ansCost = v113 + 10 * remaining113;
+        }
+        double remaining126 = Math.sqrt(l126.distanceSquaredTo(target));
+        double dist126 = (initialDist - remaining126) / v126;
+        if (dist126 > bestEstimation) {
+            bestEstimation = dist126;
+            ans = d126;
+            ansCost = v126 + 10 * remaining126;
+        }
+        double remaining127 = Math.sqrt(l127.distanceSquaredTo(target));
+        double dist127 = (initialDist - remaining127) / v127;
+        if (dist127 > bestEstimation) {
+            bestEstimation = dist127;
+            ans = d127;
+            ansCost = v127 + 10 * remaining127;
+        }
+        double remaining128 = Math.sqrt(l128.distanceSquaredTo(target));
+        double dist128 = (initialDist - remaining128) / v128;
+        if (dist128 > bestEstimation) {
+            bestEstimation = dist128;
+            ans = d128;
+            ansCost = v128 + 10 * remaining128;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+
+    private static Direction getBestDirWithinRing2(MapLocation target) {
+        int dx = target.x - l112.x;
+        int dy = target.y - l112.y;
+        switch (dx) {
+            case -2:
+                switch (dy) {
+                    case -2:
+                        pathCost = v80;
+                        return d80;
+                    case -1:
+                        pathCost = v81;
+                        return d81;
+                    case 0:
+                        pathCost = v82;
+                        return d82;
+                    case 1:
+                        pathCost = v83;
+                        return d83;
+                    case 2:
+                        pathCost = v84;
+                        return d84;
+                }
+                break;
+            case -1:
+                switch (dy) {
+                    case -2:
+                        pathCost = v95;
+                        return d95;
+                    case -1:
+                        pathCost = v96;
+                        return d96;
+                    case 0:
+                        pathCost = v97;
+                        return d97;
+                    case 1:
+                        pathCost = v98;
+                        return d98;
+                    case 2:
+                        pathCost = v99;
+                        return d99;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -2:
+                        pathCost = v110;
+                        return d110;
+                    case -1:
+                        pathCost = v111;
+                        return d111;
+                    case 1:
+                        pathCost = v113;
+                        return d113;
+                    case 2:
+                        pathCost = v114;
+                        return d114;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -2:
+                        pathCost = v125;
+                        return d125;
+                    case -1:
+                        pathCost = v126;
+                        return d126;
+                    case 0:
+                        pathCost = v127;
+                        return d127;
+                    case 1:
+                        pathCost = v128;
+                        return d128;
+                    case 2:
+                        pathCost = v129;
+                        return d129;
+                }
+                break;
+            case 2:
+                switch (dy) {
+                    case -2:
+                        pathCost = v140;
+                        return d140;
+                    case -1:
+                        pathCost = v141;
+                        return d141;
+                    case 0:
+                        pathCost = v142;
+                        return d142;
+                    case 1:
+                        pathCost = v143;
+                        return d143;
+                    case 2:
+                        pathCost = v144;
+                        return d144;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l112.distanceSquaredTo(target));
+        double remaining80 = Math.sqrt(l80.distanceSquaredTo(target));
+        double dist80 = (initialDist - remaining80) / v80;
+        if (dist80 > bestEstimation) {
+            bestEstimation = dist80;
+            ans = d80;
+            ansCost = v80 + 10 * remaining80;
+        }
+        double remaining81 = Math.sqrt(l81.distanceSquaredTo(target));
+        double dist81 = (initialDist - remaining81) / v81;
+        if (dist81 > bestEstimation) {
+            bestEstimation = dist81;
+            ans = d81;
+            ansCost = v81 + 10 * remaining81;
+        }
+        double remaining82 = Math.sqrt(l82.distanceSquaredTo(target));
+        double dist82 = (initialDist - remaining82) / v82;
+        if (dist82 > bestEstimation) {
+            bestEstimation = dist82;
+            ans = d82;
+            ansCost = v82 + 10 * remaining82;
+        }
+        double remaining83 = Math.sqrt(l83.distanceSquaredTo(target));
+        double dist83 = (initialDist - remaining83) / v83;
+        if (dist83 > bestEstimation) {
+            bestEstimation = dist83;
+            ans = d83;
+            ansCost = v83 + 10 * remaining83;
+        }
+        double remaining84 = Math.sqrt(l84.distanceSquaredTo(target));
+        double dist84 = (initialDist - remaining84) / v84;
+        if (dist84 > bestEstimation) {
+            bestEstimation = dist84;
+            ans = d84;
+            ansCost = v84 + 10 * remaining84;
+        }
+        double remaining95 = Math.sqrt(l95.distanceSquaredTo(target));
+        double dist95 = (initialDist - remaining95) / v95;
+        if (dist95 > bestEstimation) {
+            bestEstimation = dist95;
+            ans = d95;
+            ansCost = v95 + 10 * remaining95;
+        }
+        double remaining99 = Math.sqrt(l99.distanceSquaredTo(target));
+        double dist99 = (initialDist - remaining99) / v99;
+        if (dist99 > bestEstimation) {
+            bestEstimation = dist99;
+            ans = d99;
+            ansCost = v99 + 10 * remaining99;
+        }
+        double remaining110 = Math.sqrt(l110.distanceSquaredTo(target));
+        double dist110 = (initialDist - remaining110) / v110;
+        if (dist110 > bestEstimation) {
+            bestEstimation = dist110;
+            ans = d110;
+            ansCost = v110 + 10 * remaining110;
+        }
+        double remaining114 = Math.sqrt(l114.distanceSquaredTo(target));
+        double dist114 = (initialDist - remaining114) / v114;
+        if (dist114 > bestEstimation) {
+            bestEstimation = dist114;
+            ans = d114;
+            ansCost = v114 + 10 * remaining114;
+        }
+        double remaining125 = Math.sqrt(l125.distanceSquaredTo(target));
+        double dist125 = (initialDist - remaining125) / v125;
+        if (dist125 > bestEstimation) {
+            bestEstimation = dist125;
+            ans = d125;
+            ansCost = v125 + 10 * remaining125;
+        }
+        double remaining129 = Math.sqrt(l129.distanceSquaredTo(target));
+        double dist129 = (initialDist - remaining129) / v129;
+        if (dist129 > bestEstimation) {
+            bestEstimation = dist129;
+            ans = d129;
+            ansCost = v129 + 10 * remaining129;
+        }
+        double remaining140 = Math.sqrt(l140.distanceSquaredTo(target));
+        double dist140 = (initialDist - remaining140) / v140;
+        if (dist140 > bestEstimation) {
+            bestEstimation = dist140;
+            ans = d140;
+            ansCost = v140 + 10 * remaining140;
+        }
+        double remaining141 = Math.sqrt(l141.distanceSquaredTo(target));
+        double dist141 = (initialDist - remaining141) / v141;
+        if (dist141 > bestEstimation) {
+            bestEstimation = dist141;
+            ans = d141;
+            ansCost = v141 + 10 * remaining141;
+        }
+        double remaining142 = Math.sqrt(l142.distanceSquaredTo(target));
+        double dist142 = (initialDist - remaining142) / v142;
+        if (dist142 > bestEstimation) {
+            bestEstimation = dist142;
+            ans = d142;
+            ansCost = v142 + 10 * remaining142;
+        }
+        double remaining143 = Math.sqrt(l143.distanceSquaredTo(target));
+        double dist143 = (initialDist - remaining143) / v143;
+        if (dist143 > bestEstimation) {
+            bestEstimation = dist143;
+            ans = d143;
+            ansCost = v143 + 10 * remaining143;
+        }
+        double remaining144 = Math.sqrt(l144.distanceSquaredTo(target));
+        double dist144 = (initialDist - remaining144) / v144;
+        if (dist144 > bestEstimation) {
+            bestEstimation = dist144;
+            ans = d144;
+            ansCost = v144 + 10 * remaining144;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+
+    private static Direction getBestDirWithinRing3(MapLocation target) {
+        int dx = target.x - l112.x;
+        int dy = target.y - l112.y;
+        switch (dx) {
+            case -3:
+                switch (dy) {
+                    case -3:
+                        pathCost = v64;
+                        return d64;
+                    case -2:
+                        pathCost = v65;
+                        return d65;
+                    case -1:
+                        pathCost = v66;
+                        return d66;
+                    case 0:
+                        pathCost = v67;
+                        return d67;
+                    case 1:
+                        pathCost = v68;
+                        return d68;
+                    case 2:
+                        pathCost = v69;
+                        return d69;
+                    case 3:
+                        pathCost = v70;
+                        return d70;
+                }
+                break;
+            case -2:
+                switch (dy) {
+                    case -3:
+                        pathCost = v79;
+                        return d79;
+                    case -2:
+                        pathCost = v80;
+                        return d80;
+                    case -1:
+                        pathCost = v81;
+                        return d81;
+                    case 0:
+                        pathCost = v82;
+                        return d82;
+                    case 1:
+                        pathCost = v83;
+                        return d83;
+                    case 2:
+                        pathCost = v84;
+                        return d84;
+                    case 3:
+                        pathCost = v85;
+                        return d85;
+                }
+                break;
+            case -1:
+                switch (dy) {
+                    case -3:
+                        pathCost = v94;
+                        return d94;
+                    case -2:
+                        pathCost = v95;
+                        return d95;
+                    case -1:
+                        pathCost = v96;
+                        return d96;
+                    case 0:
+                        pathCost = v97;
+                        return d97;
+                    case 1:
+                        pathCost = v98;
+                        return d98;
+                    case 2:
+                        pathCost = v99;
+                        return d99;
+                    case 3:
+                        pathCost = v100;
+                        return d100;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -3:
+                        pathCost = v109;
+                        return d109;
+                    case -2:
+                        pathCost = v110;
+                        return d110;
+                    case -1:
+                        pathCost = v111;
+                        return d111;
+                    case 1:
+                        pathCost = v113;
+                        return d113;
+                    case 2:
+                        pathCost = v114;
+                        return d114;
+                    case 3:
+                        pathCost = v115;
+                        return d115;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -3:
+                        pathCost = v124;
+                        return d124;
+                    case -2:
+                        pathCost = v125;
+                        return d125;
+                    case -1:
+                        pathCost = v126;
+                        return d126;
+                    case 0:
+                        pathCost = v127;
+                        return d127;
+                    case 1:
+                        pathCost = v128;
+                        return d128;
+                    case 2:
+                        pathCost = v129;
+                        return d129;
+                    case 3:
+                        pathCost = v130;
+                        return d130;
+                }
+                break;
+            case 2:
+                switch (dy) {
+                    case -3:
+                        pathCost = v139;
+                        return d139;
+                    case -2:
+                        pathCost = v140;
+                        return d140;
+                    case -1:
+                        pathCost = v141;
+                        return d141;
+                    case 0:
+                        pathCost = v142;
+                        return d142;
+                    case 1:
+                        pathCost = v143;
+                        return d143;
+                    case 2:
+                        pathCost = v144;
+                        return d144;
+                    case 3:
+                        pathCost = v145;
+                        return d145;
+                }
+                break;
+            case 3:
+                switch (dy) {
+                    case -3:
+                        pathCost = v154;
+                        return d154;
+                    case -2:
+                        pathCost = v155;
+                        return d155;
+                    case -1:
+                        pathCost = v156;
+                        return d156;
+                    case 0:
+                        pathCost = v157;
+                        return d157;
+                    case 1:
+                        pathCost = v158;
+                        return d158;
+                    case 2:
+                        pathCost = v159;
+                        return d159;
+                    case 3:
+                        pathCost = v160;
+                        return d160;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l112.distanceSquaredTo(target));
+        double remaining64 = Math.sqrt(l64.distanceSquaredTo(target));
+        double dist64 = (initialDist - remaining64) / v64;
+        if (dist64 > bestEstimation) {
+            bestEstimation = dist64;
+            ans = d64;
+            ansCost = v64 + 10 * remaining64;
+        }
+        double remaining65 = Math.sqrt(l65.distanceSquaredTo(target));
+        double dist65 = (initialDist - remaining65) / v65;
+        if (dist65 > bestEstimation) {
+            bestEstimation = dist65;
+            ans = d65;
+            ansCost = v65 + 10 * remaining65;
+        }
+        double remaining66 = Math.sqrt(l66.distanceSquaredTo(target));
+        double dist66 = (initialDist - remaining66) / v66;
+        if (dist66 > bestEstimation) {
+            bestEstimation = dist66;
+            ans = d66;
+            ansCost = v66 + 10 * remaining66;
+        }
+        double remaining67 = Math.sqrt(l67.distanceSquaredTo(target));
+        double dist67 = (initialDist - remaining67) / v67;
+        if (dist67 > bestEstimation) {
+            bestEstimation = dist67;
+            ans = d67;
+            ansCost = v67 + 10 * remaining67;
+        }
+        double remaining68 = Math.sqrt(l68.distanceSquaredTo(target));
+        double dist68 = (initialDist - remaining68) / v68;
+        if (dist68 > bestEstimation) {
+            bestEstimation = dist68;
+            ans = d68;
+            ansCost = v68 + 10 * remaining68;
+        }
+        double remaining69 = Math.sqrt(l69.distanceSquaredTo(target));
+        double dist69 = (initialDist - remaining69) / v69;
+        if (dist69 > bestEstimation) {
+            bestEstimation = dist69;
+            ans = d69;
+            ansCost = v69 + 10 * remaining69;
+        }
+        double remaining70 = Math.sqrt(l70.distanceSquaredTo(target));
+        double dist70 = (initialDist - remaining70) / v70;
+        if (dist70 > bestEstimation) {
+            bestEstimation = dist70;
+            ans = d70;
+            ansCost = v70 + 10 * remaining70;
+        }
+        double remaining79 = Math.sqrt(l79.distanceSquaredTo(target));
+        double dist79 = (initialDist - remaining79) / v79;
+        if (dist79 > bestEstimation) {
+            bestEstimation = dist79;
+            ans = d79;
+            ansCost = v79 + 10 * remaining79;
+        }
+        double remaining85 = Math.sqrt(l85.distanceSquaredTo(target));
+        double dist85 = (initialDist - remaining85) / v85;
+        if (dist85 > bestEstimation) {
+            bestEstimation = dist85;
+            ans = d85;
+            ansCost = v85 + 10 * remaining85;
+        }
+        double remaining94 = Math.sqrt(l94.distanceSquaredTo(target));
+        double dist94 = (initialDist - remaining94) / v94;
+        if (dist94 > bestEstimation) {
+            bestEstimation = dist94;
+            ans = d94;
+            ansCost = v94 + 10 * remaining94;
+        }
+        double remaining100 = Math.sqrt(l100.distanceSquaredTo(target));
+        double dist100 = (initialDist - remaining100) / v100;
+        if (dist100 > bestEstimation) {
+            bestEstimation = dist100;
+            ans = d100;
+            ansCost = v100 + 10 * remaining100;
+        }
+        double remaining109 = Math.sqrt(l109.distanceSquaredTo(target));
+        double dist109 = (initialDist - remaining109) / v109;
+        if (dist109 > bestEstimation) {
+            bestEstimation = dist109;
+            ans = d109;
+            ansCost = v109 + 10 * remaining109;
+        }
+        double remaining115 = Math.sqrt(l115.distanceSquaredTo(target));
+        double dist115 = (initialDist - remaining115) / v115;
+        if (dist115 > bestEstimation) {
+            bestEstimation = dist115;
+            ans = d115;
+            ansCost = v115 + 10 * remaining115;
+        }
+        double remaining124 = Math.sqrt(l124.distanceSquaredTo(target));
+        double dist124 = (initialDist - remaining124) / v124;
+        if (dist124 > bestEstimation) {
+            bestEstimation = dist124;
+            ans = d124;
+            ansCost = v124 + 10 * remaining124;
+        }
+        double remaining130 = Math.sqrt(l130.distanceSquaredTo(target));
+        double dist130 = (initialDist - remaining130) / v130;
+        if (dist130 > bestEstimation) {
+            bestEstimation = dist130;
+            ans = d130;
+            ansCost = v130 + 10 * remaining130;
+        }
+        double remaining139 = Math.sqrt(l139.distanceSquaredTo(target));
+        double dist139 = (initialDist - remaining139) / v139;
+        if (dist139 > bestEstimation) {
+            bestEstimation = dist139;
+            ans = d139;
+            ansCost = v139 + 10 * remaining139;
+        }
+        double remaining145 = Math.sqrt(l145.distanceSquaredTo(target));
+        double dist145 = (initialDist - remaining145) / v145;
+        if (dist145 > bestEstimation) {
+            bestEstimation = dist145;
+            ans = d145;
+            ansCost = v145 + 10 * remaining145;
+        }
+        double remaining154 = Math.sqrt(l154.distanceSquaredTo(target));
+        double dist154 = (initialDist - remaining154) / v154;
+        if (dist154 > bestEstimation) {
+            bestEstimation = dist154;
+            ans = d154;
+            ansCost = v154 + 10 * remaining154;
+        }
+        double remaining155 = Math.sqrt(l155.distanceSquaredTo(target));
+        double dist155 = (initialDist - remaining155) / v155;
+        if (dist155 > bestEstimation) {
+            bestEstimation = dist155;
+            ans = d155;
+            ansCost = v155 + 10 * remaining155;
+        }
+        double remaining156 = Math.sqrt(l156.distanceSquaredTo(target));
+        double dist156 = (initialDist - remaining156) / v156;
+        if (dist156 > bestEstimation) {
+            bestEstimation = dist156;
+            ans = d156;
+            ansCost = v156 + 10 * remaining156;
+        }
+        double remaining157 = Math.sqrt(l157.distanceSquaredTo(target));
+        double dist157 = (initialDist - remaining157) / v157;
+        if (dist157 > bestEstimation) {
+            bestEstimation = dist157;
+            ans = d157;
+            ansCost = v157 + 10 * remaining157;
+        }
+        double remaining158 = Math.sqrt(l158.distanceSquaredTo(target));
+        double dist158 = (initialDist - remaining158) / v158;
+        if (dist158 > bestEstimation) {
+            bestEstimation = dist158;
+            ans = d158;
+            ansCost = v158 + 10 * remaining158;
+        }
+        double remaining159 = Math.sqrt(l159.distanceSquaredTo(target));
+        double dist159 = (initialDist - remaining159) / v159;
+        if (dist159 > bestEstimation) {
+            bestEstimation = dist159;
+            ans = d159;
+            ansCost = v159 + 10 * remaining159;
+        }
+        double remaining160 = Math.sqrt(l160.distanceSquaredTo(target));
+        double dist160 = (initialDist - remaining160) / v160;
+        if (dist160 > bestEstimation) {
+            bestEstimation = dist160;
+            ans = d160;
+            ansCost = v160 + 10 * remaining160;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+
+    private static Direction getBestDirWithinRing4(MapLocation target) {
+        int dx = target.x - l112.x;
+        int dy = target.y - l112.y;
+        switch (dx) {
+            case -4:
+                switch (dy) {
+                    case -4:
+                        pathCost = v48;
+                        return d48;
+                    case -3:
+                        pathCost = v49;
+                        return d49;
+                    case -2:
+                        pathCost = v50;
+                        return d50;
+                    case -1:
+                        pathCost = v51;
+                        return d51;
+                    case 0:
+                        pathCost = v52;
+                        return d52;
+                    case 1:
+                        pathCost = v53;
+                        return d53;
+                    case 2:
+                        pathCost = v54;
+                        return d54;
+                    case 3:
+                        pathCost = v55;
+                        return d55;
+                    case 4:
+                        pathCost = v56;
+                        return d56;
+                }
+                break;
+            case -3:
+                switch (dy) {
+                    case -4:
+                        pathCost = v63;
+                        return d63;
+                    case -3:
+                        pathCost = v64;
+                        return d64;
+                    case -2:
+                        pathCost = v65;
+                        return d65;
+                    case -1:
+                        pathCost = v66;
+                        return d66;
+                    case 0:
+                        pathCost = v67;
+                        return d67;
+                    case 1:
+                        pathCost = v68;
+                        return d68;
+                    case 2:
+                        pathCost = v69;
+                        return d69;
+                    case 3:
+                        pathCost = v70;
+                        return d70;
+                    case 4:
+                        pathCost = v71;
+                        return d71;
+                }
+                break;
+            case -2:
+                switch (dy) {
+                    case -4:
+                        pathCost = v78;
+                        return d78;
+                    case -3:
+                        pathCost = v79;
+                        return d79;
+                    case -2:
+                        pathCost = v80;
+                        return d80;
+                    case -1:
+                        pathCost = v81;
+                        return d81;
+                    case 0:
+                        pathCost = v82;
+                        return d82;
+                    case 1:
+                        pathCost = v83;
+                        return d83;
+                    case 2:
+                        pathCost = v84;
+                        return d84;
+                    case 3:
+                        pathCost = v85;
+                        return d85;
+                    case 4:
+                        pathCost = v86;
+                        return d86;
+                }
+                break;
+            case -1:
+                switch (dy) {
+                    case -4:
+                        pathCost = v93;
+                        return d93;
+                    case -3:
+                        pathCost = v94;
+                        return d94;
+                    case -2:
+                        pathCost = v95;
+                        return d95;
+                    case -1:
+                        pathCost = v96;
+                        return d96;
+                    case 0:
+                        pathCost = v97;
+                        return d97;
+                    case 1:
+                        pathCost = v98;
+                        return d98;
+                    case 2:
+                        pathCost = v99;
+                        return d99;
+                    case 3:
+                        pathCost = v100;
+                        return d100;
+                    case 4:
+                        pathCost = v101;
+                        return d101;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -4:
+                        pathCost = v108;
+                        return d108;
+                    case -3:
+                        pathCost = v109;
+                        return d109;
+                    case -2:
+                        pathCost = v110;
+                        return d110;
+                    case -1:
+                        pathCost = v111;
+                        return d111;
+                    case 1:
+                        pathCost = v113;
+                        return d113;
+                    case 2:
+                        pathCost = v114;
+                        return d114;
+                    case 3:
+                        pathCost = v115;
+                        return d115;
+                    case 4:
+                        pathCost = v116;
+                        return d116;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -4:
+                        pathCost = v123;
+                        return d123;
+                    case -3:
+                        pathCost = v124;
+                        return d124;
+                    case -2:
+                        pathCost = v125;
+                        return d125;
+                    case -1:
+                        pathCost = v126;
+                        return d126;
+                    case 0:
+                        pathCost = v127;
+                        return d127;
+                    case 1:
+                        pathCost = v128;
+                        return d128;
+                    case 2:
+                        pathCost = v129;
+                        return d129;
+                    case 3:
+                        pathCost = v130;
+                        return d130;
+                    case 4:
+                        pathCost = v131;
+                        return d131;
+                }
+                break;
+            case 2:
+                switch (dy) {
+                    case -4:
+                        pathCost = v138;
+                        return d138;
+                    case -3:
+                        pathCost = v139;
+                        return d139;
+                    case -2:
+                        pathCost = v140;
+                        return d140;
+                    case -1:
+                        pathCost = v141;
+                        return d141;
+                    case 0:
+                        pathCost = v142;
+                        return d142;
+                    case 1:
+                        pathCost = v143;
+                        return d143;
+                    case 2:
+                        pathCost = v144;
+                        return d144;
+                    case 3:
+                        pathCost = v145;
+                        return d145;
+                    case 4:
+                        pathCost = v146;
+                        return d146;
+                }
+                break;
+            case 3:
+                switch (dy) {
+                    case -4:
+                        pathCost = v153;
+                        return d153;
+                    case -3:
+                        pathCost = v154;
+                        return d154;
+                    case -2:
+                        pathCost = v155;
+                        return d155;
+                    case -1:
+                        pathCost = v156;
+                        return d156;
+                    case 0:
+                        pathCost = v157;
+                        return d157;
+                    case 1:
+                        pathCost = v158;
+                        return d158;
+                    case 2:
+                        pathCost = v159;
+                        return d159;
+                    case 3:
+                        pathCost = v160;
+                        return d160;
+                    case 4:
+                        pathCost = v161;
+                        return d161;
+                }
+                break;
+            case 4:
+                switch (dy) {
+                    case -4:
+                        pathCost = v168;
+                        return d168;
+                    case -3:
+                        pathCost = v169;
+                        return d169;
+                    case -2:
+                        pathCost = v170;
+                        return d170;
+                    case -1:
+                        pathCost = v171;
+                        return d171;
+                    case 0:
+                        pathCost = v172;
+                        return d172;
+                    case 1:
+                        pathCost = v173;
+                        return d173;
+                    case 2:
+                        pathCost = v174;
+                        return d174;
+                    case 3:
+                        pathCost = v175;
+                        return d175;
+                    case 4:
+                        pathCost = v176;
+                        return d176;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l112.distanceSquaredTo(target));
+        double remaining48 = Math.sqrt(l48.distanceSquaredTo(target));
+        double dist48 = (initialDist - remaining48) / v48;
+        if (dist48 > bestEstimation) {
+            bestEstimation = dist48;
+            ans = d48;
+            ansCost = v48 + 10 * remaining48;
+        }
+        double remaining49 = Math.sqrt(l49.distanceSquaredTo(target));
+        double dist49 = (initialDist - remaining49) / v49;
+        if (dist49 > bestEstimation) {
+            bestEstimation = dist49;
+            ans = d49;
+            ansCost = v49 + 10 * remaining49;
+        }
+        double remaining50 = Math.sqrt(l50.distanceSquaredTo(target));
+        double dist50 = (initialDist - remaining50) / v50;
+        if (dist50 > bestEstimation) {
+            bestEstimation = dist50;
+            ans = d50;
+            ansCost = v50 + 10 * remaining50;
+        }
+        double remaining51 = Math.sqrt(l51.distanceSquaredTo(target));
+        double dist51 = (initialDist - remaining51) / v51;
+        if (dist51 > bestEstimation) {
+            bestEstimation = dist51;
+            ans = d51;
+            ansCost = v51 + 10 * remaining51;
+        }
+        double remaining52 = Math.sqrt(l52.distanceSquaredTo(target));
+        double dist52 = (initialDist - remaining52) / v52;
+        if (dist52 > bestEstimation) {
+            bestEstimation = dist52;
+            ans = d52;
+            ansCost = v52 + 10 * remaining52;
+        }
+        double remaining53 = Math.sqrt(l53.distanceSquaredTo(target));
+        double dist53 = (initialDist - remaining53) / v53;
+        if (dist53 > bestEstimation) {
+            bestEstimation = dist53;
+            ans = d53;
+            ansCost = v53 + 10 * remaining53;
+        }
+        double remaining54 = Math.sqrt(l54.distanceSquaredTo(target));
+        double dist54 = (initialDist - remaining54) / v54;
+        if (dist54 > bestEstimation) {
+            bestEstimation = dist54;
+            ans = d54;
+            ansCost = v54 + 10 * remaining54;
+        }
+        double remaining55 = Math.sqrt(l55.distanceSquaredTo(target));
+        double dist55 = (initialDist - remaining55) / v55;
+        if (dist55 > bestEstimation) {
+            bestEstimation = dist55;
+            ans = d55;
+            ansCost = v55 + 10 * remaining55;
+        }
+        double remaining56 = Math.sqrt(l56.distanceSquaredTo(target));
+        double dist56 = (initialDist - remaining56) / v56;
+        if (dist56 > bestEstimation) {
+            bestEstimation = dist56;
+            ans = d56;
+            ansCost = v56 + 10 * remaining56;
+        }
+        double remaining63 = Math.sqrt(l63.distanceSquaredTo(target));
+        double dist63 = (initialDist - remaining63) / v63;
+        if (dist63 > bestEstimation) {
+            bestEstimation = dist63;
+            ans = d63;
+            ansCost = v63 + 10 * remaining63;
+        }
+        double remaining71 = Math.sqrt(l71.distanceSquaredTo(target));
+        double dist71 = (initialDist - remaining71) / v71;
+        if (dist71 > bestEstimation) {
+            bestEstimation = dist71;
+            ans = d71;
+            ansCost = v71 + 10 * remaining71;
+        }
+        double remaining78 = Math.sqrt(l78.distanceSquaredTo(target));
+        double dist78 = (initialDist - remaining78) / v78;
+        if (dist78 > bestEstimation) {
+            bestEstimation = dist78;
+            ans = d78;
+            ansCost = v78 + 10 * remaining78;
+        }
+        double remaining86 = Math.sqrt(l86.distanceSquaredTo(target));
+        double dist86 = (initialDist - remaining86) / v86;
+        if (dist86 > bestEstimation) {
+            bestEstimation = dist86;
+            ans = d86;
+            ansCost = v86 + 10 * remaining86;
+        }
+        double remaining93 = Math.sqrt(l93.distanceSquaredTo(target));
+        double dist93 = (initialDist - remaining93) / v93;
+        if (dist93 > bestEstimation) {
+            bestEstimation = dist93;
+            ans = d93;
+            ansCost = v93 + 10 * remaining93;
+        }
+        double remaining101 = Math.sqrt(l101.distanceSquaredTo(target));
+        double dist101 = (initialDist - remaining101) / v101;
+        if (dist101 > bestEstimation) {
+            bestEstimation = dist101;
+            ans = d101;
+            ansCost = v101 + 10 * remaining101;
+        }
+        double remaining108 = Math.sqrt(l108.distanceSquaredTo(target));
+        double dist108 = (initialDist - remaining108) / v108;
+        if (dist108 > bestEstimation) {
+            bestEstimation = dist108;
+            ans = d108;
+            ansCost = v108 + 10 * remaining108;
+        }
+        double remaining116 = Math.sqrt(l116.distanceSquaredTo(target));
+        double dist116 = (initialDist - remaining116) / v116;
+        if (dist116 > bestEstimation) {
+            bestEstimation = dist116;
+            ans = d116;
+            ansCost = v116 + 10 * remaining116;
+        }
+        double remaining123 = Math.sqrt(l123.distanceSquaredTo(target));
+        double dist123 = (initialDist - remaining123) / v123;
+        if (dist123 > bestEstimation) {
+            bestEstimation = dist123;
+            ans = d123;
+            ansCost = v123 + 10 * remaining123;
+        }
+        double remaining131 = Math.sqrt(l131.distanceSquaredTo(target));
+        double dist131 = (initialDist - remaining131) / v131;
+        if (dist131 > bestEstimation) {
+            bestEstimation = dist131;
+            ans = d131;
+            ansCost = v131 + 10 * remaining131;
+        }
+        double remaining138 = Math.sqrt(l138.distanceSquaredTo(target));
+        double dist138 = (initialDist - remaining138) / v138;
+        if (dist138 > bestEstimation) {
+            bestEstimation = dist138;
+            ans = d138;
+            ansCost = v138 + 10 * remaining138;
+        }
+        double remaining146 = Math.sqrt(l146.distanceSquaredTo(target));
+        double dist146 = (initialDist - remaining146) / v146;
+        if (dist146 > bestEstimation) {
+            bestEstimation = dist146;
+            ans = d146;
+            ansCost = v146 + 10 * remaining146;
+        }
+        double remaining153 = Math.sqrt(l153.distanceSquaredTo(target));
+        double dist153 = (initialDist - remaining153) / v153;
+        if (dist153 > bestEstimation) {
+            bestEstimation = dist153;
+            ans = d153;
+            ansCost = v153 + 10 * remaining153;
+        }
+        double remaining161 = Math.sqrt(l161.distanceSquaredTo(target));
+        double dist161 = (initialDist - remaining161) / v161;
+        if (dist161 > bestEstimation) {
+            bestEstimation = dist161;
+            ans = d161;
+            ansCost = v161 + 10 * remaining161;
+        }
+        double remaining168 = Math.sqrt(l168.distanceSquaredTo(target));
+        double dist168 = (initialDist - remaining168) / v168;
+        if (dist168 > bestEstimation) {
+            bestEstimation = dist168;
+            ans = d168;
+            ansCost = v168 + 10 * remaining168;
+        }
+        double remaining169 = Math.sqrt(l169.distanceSquaredTo(target));
+        double dist169 = (initialDist - remaining169) / v169;
+        if (dist169 > bestEstimation) {
+            bestEstimation = dist169;
+            ans = d169;
+            ansCost = v169 + 10 * remaining169;
+        }
+        double remaining170 = Math.sqrt(l170.distanceSquaredTo(target));
+        double dist170 = (initialDist - remaining170) / v170;
+        if (dist170 > bestEstimation) {
+            bestEstimation = dist170;
+            ans = d170;
+            ansCost = v170 + 10 * remaining170;
+        }
+        double remaining171 = Math.sqrt(l171.distanceSquaredTo(target));
+        double dist171 = (initialDist - remaining171) / v171;
+        if (dist171 > bestEstimation) {
+            bestEstimation = dist171;
+            ans = d171;
+            ansCost = v171 + 10 * remaining171;
+        }
+        double remaining172 = Math.sqrt(l172.distanceSquaredTo(target));
+        double dist172 = (initialDist - remaining172) / v172;
+        if (dist172 > bestEstimation) {
+            bestEstimation = dist172;
+            ans = d172;
+            ansCost = v172 + 10 * remaining172;
+        }
+        double remaining173 = Math.sqrt(l173.distanceSquaredTo(target));
+        double dist173 = (initialDist - remaining173) / v173;
+        if (dist173 > bestEstimation) {
+            bestEstimation = dist173;
+            ans = d173;
+            ansCost = v173 + 10 * remaining173;
+        }
+        double remaining174 = Math.sqrt(l174.distanceSquaredTo(target));
+        double dist174 = (initialDist - remaining174) / v174;
+        if (dist174 > bestEstimation) {
+            bestEstimation = dist174;
+            ans = d174;
+            ansCost = v174 + 10 * remaining174;
+        }
+        double remaining175 = Math.sqrt(l175.distanceSquaredTo(target));
+        double dist175 = (initialDist - remaining175) / v175;
+        if (dist175 > bestEstimation) {
+            bestEstimation = dist175;
+            ans = d175;
+            ansCost = v175 + 10 * remaining175;
+        }
+        double remaining176 = Math.sqrt(l176.distanceSquaredTo(target));
+        double dist176 = (initialDist - remaining176) / v176;
+        if (dist176 > bestEstimation) {
+            bestEstimation = dist176;
+            ans = d176;
+            ansCost = v176 + 10 * remaining176;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+
+    private static Direction getBestDirWithinRing5(MapLocation target) {
+        int dx = target.x - l112.x;
+        int dy = target.y - l112.y;
+        switch (dx) {
+            case -5:
+                switch (dy) {
+                    case -3:
+                        pathCost = v34;
+                        return d34;
+                    case -2:
+                        pathCost = v35;
+                        return d35;
+                    case -1:
+                        pathCost = v36;
+                        return d36;
+                    case 0:
+                        pathCost = v37;
+                        return d37;
+                    case 1:
+                        pathCost = v38;
+                        return d38;
+                    case 2:
+                        pathCost = v39;
+                        return d39;
+                    case 3:
+                        pathCost = v40;
+                        return d40;
+                }
+                break;
+            case -4:
+                switch (dy) {
+                    case -4:
+                        pathCost = v48;
+                        return d48;
+                    case -3:
+                        pathCost = v49;
+                        return d49;
+                    case -2:
+                        pathCost = v50;
+                        return d50;
+                    case -1:
+                        pathCost = v51;
+                        return d51;
+                    case 0:
+                        pathCost = v52;
+                        return d52;
+                    case 1:
+                        pathCost = v53;
+                        return d53;
+                    case 2:
+                        pathCost = v54;
+                        return d54;
+                    case 3:
+                        pathCost = v55;
+                        return d55;
+                    case 4:
+                        pathCost = v56;
+                        return d56;
+                }
+                break;
+            case -3:
+                switch (dy) {
+                    case -5:
+                        pathCost = v62;
+                        return d62;
+                    case -4:
+                        pathCost = v63;
+                        return d63;
+                    case -3:
+                        pathCost = v64;
+                        return d64;
+                    case -2:
+                        pathCost = v65;
+                        return d65;
+                    case -1:
+                        pathCost = v66;
+                        return d66;
+                    case 0:
+                        pathCost = v67;
+                        return d67;
+                    case 1:
+                        pathCost = v68;
+                        return d68;
+                    case 2:
+                        pathCost = v69;
+                        return d69;
+                    case 3:
+                        pathCost = v70;
+                        return d70;
+                    case 4:
+                        pathCost = v71;
+                        return d71;
+                    case 5:
+                        pathCost = v72;
+                        return d72;
+                }
+                break;
+            case -2:
+                switch (dy) {
+                    case -5:
+                        pathCost = v77;
+                        return d77;
+                    case -4:
+                        pathCost = v78;
+                        return d78;
+                    case -3:
+                        pathCost = v79;
+                        return d79;
+                    case -2:
+                        pathCost = v80;
+                        return d80;
+                    case -1:
+                        pathCost = v81;
+                        return d81;
+                    case 0:
+                        pathCost = v82;
+                        return d82;
+                    case 1:
+                        pathCost = v83;
+                        return d83;
+                    case 2:
+                        pathCost = v84;
+                        return d84;
+                    case 3:
+                        pathCost = v85;
+                        return d85;
+                    case 4:
+                        pathCost = v86;
+                        return d86;
+                    case 5:
+                        pathCost = v87;
+                        return d87;
+                }
+                break;
+            case -1:
+                switch (dy) {
+                    case -5:
+                        pathCost = v92;
+                        return d92;
+                    case -4:
+                        pathCost = v93;
+                        return d93;
+                    case -3:
+                        pathCost = v94;
+                        return d94;
+                    case -2:
+                        pathCost = v95;
+                        return d95;
+                    case -1:
+                        pathCost = v96;
+                        return d96;
+                    case 0:
+                        pathCost = v97;
+                        return d97;
+                    case 1:
+                        pathCost = v98;
+                        return d98;
+                    case 2:
+                        pathCost = v99;
+                        return d99;
+                    case 3:
+                        pathCost = v100;
+                        return d100;
+                    case 4:
+                        pathCost = v101;
+                        return d101;
+                    case 5:
+                        pathCost = v102;
+                        return d102;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -5:
+                        pathCost = v107;
+                        return d107;
+                    case -4:
+                        pathCost = v108;
+                        return d108;
+                    case -3:
+                        pathCost = v109;
+                        return d109;
+                    case -2:
+                        pathCost = v110;
+                        return d110;
+                    case -1:
+                        pathCost = v111;
+                        return d111;
+                    case 1:
+                        pathCost = v113;
+                        return d113;
+                    case 2:
+                        pathCost = v114;
+                        return d114;
+                    case 3:
+                        pathCost = v115;
+                        return d115;
+                    case 4:
+                        pathCost = v116;
+                        return d116;
+                    case 5:
+                        pathCost = v117;
+                        return d117;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -5:
+                        pathCost = v122;
+                        return d122;
+                    case -4:
+                        pathCost = v123;
+                        return d123;
+                    case -3:
+                        pathCost = v124;
+                        return d124;
+                    case -2:
+                        pathCost = v125;
+                        return d125;
+                    case -1:
+                        pathCost = v126;
+                        return d126;
+                    case 0:
+                        pathCost = v127;
+                        return d127;
+                    case 1:
+                        pathCost = v128;
+                        return d128;
+                    case 2:
+                        pathCost = v129;
+                        return d129;
+                    case 3:
+                        pathCost = v130;
+                        return d130;
+                    case 4:
+                        pathCost = v131;
+                        return d131;
+                    case 5:
+                        pathCost = v132;
+                        return d132;
+                }
+                break;
+            case 2:
+                switch (dy) {
+                    case -5:
+                        pathCost = v137;
+                        return d137;
+                    case -4:
+                        pathCost = v138;
+                        return d138;
+                    case -3:
+                        pathCost = v139;
+                        return d139;
+                    case -2:
+                        pathCost = v140;
+                        return d140;
+                    case -1:
+                        pathCost = v141;
+                        return d141;
+                    case 0:
+                        pathCost = v142;
+                        return d142;
+                    case 1:
+                        pathCost = v143;
+                        return d143;
+                    case 2:
+                        pathCost = v144;
+                        return d144;
+                    case 3:
+                        pathCost = v145;
+                        return d145;
+                    case 4:
+                        pathCost = v146;
+                        return d146;
+                    case 5:
+                        pathCost = v147;
+                        return d147;
+                }
+                break;
+            case 3:
+                switch (dy) {
+                    case -5:
+                        pathCost = v152;
+                        return d152;
+                    case -4:
+                        pathCost = v153;
+                        return d153;
+                    case -3:
+                        pathCost = v154;
+                        return d154;
+                    case -2:
+                        pathCost = v155;
+                        return d155;
+                    case -1:
+                        pathCost = v156;
+                        return d156;
+                    case 0:
+                        pathCost = v157;
+                        return d157;
+                    case 1:
+                        pathCost = v158;
+                        return d158;
+                    case 2:
+                        pathCost = v159;
+                        return d159;
+                    case 3:
+                        pathCost = v160;
+                        return d160;
+                    case 4:
+                        pathCost = v161;
+                        return d161;
+                    case 5:
+                        pathCost = v162;
+                        return d162;
+                }
+                break;
+            case 4:
+                switch (dy) {
+                    case -4:
+                        pathCost = v168;
+                        return d168;
+                    case -3:
+                        pathCost = v169;
+                        return d169;
+                    case -2:
+                        pathCost = v170;
+                        return d170;
+                    case -1:
+                        pathCost = v171;
+                        return d171;
+                    case 0:
+                        pathCost = v172;
+                        return d172;
+                    case 1:
+                        pathCost = v173;
+                        return d173;
+                    case 2:
+                        pathCost = v174;
+                        return d174;
+                    case 3:
+                        pathCost = v175;
+                        return d175;
+                    case 4:
+                        pathCost = v176;
+                        return d176;
+                }
+                break;
+            case 5:
+                switch (dy) {
+                    case -3:
+                        pathCost = v184;
+                        return d184;
+                    case -2:
+                        pathCost = v185;
+                        return d185;
+                    case -1:
+                        pathCost = v186;
+                        return d186;
+                    case 0:
+                        pathCost = v187;
+                        return d187;
+                    case 1:
+                        pathCost = v188;
+                        return d188;
+                    case 2:
+                        pathCost = v189;
+                        return d189;
+                    case 3:
+                        pathCost = v190;
+                        return d190;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l112.distanceSquaredTo(target));
+        double remaining34 = Math.sqrt(l34.distanceSquaredTo(target));
+        double dist34 = (initialDist - remaining34) / v34;
+        if (dist34 > bestEstimation) {
+            bestEstimation = dist34;
+            ans = d34;
+            ansCost = v34 + 10 * remaining34;
+        }
+        double remaining35 = Math.sqrt(l35.distanceSquaredTo(target));
+        double dist35 = (initialDist - remaining35) / v35;
+        if (dist35 > bestEstimation) {
+            bestEstimation = dist35;
+            ans = d35;
+            ansCost = v35 + 10 * remaining35;
+        }
+        double remaining36 = Math.sqrt(l36.distanceSquaredTo(target));
+        double dist36 = (initialDist - remaining36) / v36;
+        if (dist36 > bestEstimation) {
+            bestEstimation = dist36;
+            ans = d36;
+            ansCost = v36 + 10 * remaining36;
+        }
+        double remaining37 = Math.sqrt(l37.distanceSquaredTo(target));
+        double dist37 = (initialDist - remaining37) / v37;
+        if (dist37 > bestEstimation) {
+            bestEstimation = dist37;
+            ans = d37;
+            ansCost = v37 + 10 * remaining37;
+        }
+        double remaining38 = Math.sqrt(l38.distanceSquaredTo(target));
+        double dist38 = (initialDist - remaining38) / v38;
+        if (dist38 > bestEstimation) {
+            bestEstimation = dist38;
+            ans = d38;
+            ansCost = v38 + 10 * remaining38;
+        }
+        double remaining39 = Math.sqrt(l39.distanceSquaredTo(target));
+        double dist39 = (initialDist - remaining39) / v39;
+        if (dist39 > bestEstimation) {
+            bestEstimation = dist39;
+            ans = d39;
+            ansCost = v39 + 10 * remaining39;
+        }
+        double remaining40 = Math.sqrt(l40.distanceSquaredTo(target));
+        double dist40 = (initialDist - remaining40) / v40;
+        if (dist40 > bestEstimation) {
+            bestEstimation = dist40;
+            ans = d40;
+            ansCost = v40 + 10 * remaining40;
+        }
+        double remaining48 = Math.sqrt(l48.distanceSquaredTo(target));
+        double dist48 = (initialDist - remaining48) / v48;
+        if (dist48 > bestEstimation) {
+            bestEstimation = dist48;
+            ans = d48;
+            ansCost = v48 + 10 * remaining48;
+        }
+        double remaining49 = Math.sqrt(l49.distanceSquaredTo(target));
+        double dist49 = (initialDist - remaining49) / v49;
+        if (dist49 > bestEstimation) {
+            bestEstimation = dist49;
+            ans = d49;
+            ansCost = v49 + 10 * remaining49;
+        }
+        double remaining55 = Math.sqrt(l55.distanceSquaredTo(target));
+        double dist55 = (initialDist - remaining55) / v55;
+        if (dist55 > bestEstimation) {
+            bestEstimation = dist55;
+            ans = d55;
+            ansCost = v55 + 10 * remaining55;
+        }
+        double remaining56 = Math.sqrt(l56.distanceSquaredTo(target));
+        double dist56 = (initialDist - remaining56) / v56;
+        if (dist56 > bestEstimation) {
+            bestEstimation = dist56;
+            ans = d56;
+            ansCost = v56 + 10 * remaining56;
+        }
+        double remaining62 = Math.sqrt(l62.distanceSquaredTo(target));
+        double dist62 = (initialDist - remaining62) / v62;
+        if (dist62 > bestEstimation) {
+            bestEstimation = dist62;
+            ans = d62;
+            ansCost = v62 + 10 * remaining62;
+        }
+        double remaining63 = Math.sqrt(l63.distanceSquaredTo(target));
+        double dist63 = (initialDist - remaining63) / v63;
+        if (dist63 > bestEstimation) {
+            bestEstimation = dist63;
+            ans = d63;
+            ansCost = v63 + 10 * remaining63;
+        }
+        double remaining71 = Math.sqrt(l71.distanceSquaredTo(target));
+        double dist71 = (initialDist - remaining71) / v71;
+        if (dist71 > bestEstimation) {
+            bestEstimation = dist71;
+            ans = d71;
+            ansCost = v71 + 10 * remaining71;
+        }
+        double remaining72 = Math.sqrt(l72.distanceSquaredTo(target));
+        double dist72 = (initialDist - remaining72) / v72;
+        if (dist72 > bestEstimation) {
+            bestEstimation = dist72;
+            ans = d72;
+            ansCost = v72 + 10 * remaining72;
+        }
+        double remaining77 = Math.sqrt(l77.distanceSquaredTo(target));
+        double dist77 = (initialDist - remaining77) / v77;
+        if (dist77 > bestEstimation) {
+            bestEstimation = dist77;
+            ans = d77;
+            ansCost = v77 + 10 * remaining77;
+        }
+        double remaining87 = Math.sqrt(l87.distanceSquaredTo(target));
+        double dist87 = (initialDist - remaining87) / v87;
+        if (dist87 > bestEstimation) {
+            bestEstimation = dist87;
+            ans = d87;
+            ansCost = v87 + 10 * remaining87;
+        }
+        double remaining92 = Math.sqrt(l92.distanceSquaredTo(target));
+        double dist92 = (initialDist - remaining92) / v92;
+        if (dist92 > bestEstimation) {
+            bestEstimation = dist92;
+            ans = d92;
+            ansCost = v92 + 10 * remaining92;
+        }
+        double remaining102 = Math.sqrt(l102.distanceSquaredTo(target));
+        double dist102 = (initialDist - remaining102) / v102;
+        if (dist102 > bestEstimation) {
+            bestEstimation = dist102;
+            ans = d102;
+            ansCost = v102 + 10 * remaining102;
+        }
+        double remaining107 = Math.sqrt(l107.distanceSquaredTo(target));
+        double dist107 = (initialDist - remaining107) / v107;
+        if (dist107 > bestEstimation) {
+            bestEstimation = dist107;
+            ans = d107;
+            ansCost = v107 + 10 * remaining107;
+        }
+        double remaining117 = Math.sqrt(l117.distanceSquaredTo(target));
+        double dist117 = (initialDist - remaining117) / v117;
+        if (dist117 > bestEstimation) {
+            bestEstimation = dist117;
+            ans = d117;
+            ansCost = v117 + 10 * remaining117;
+        }
+        double remaining122 = Math.sqrt(l122.distanceSquaredTo(target));
+        double dist122 = (initialDist - remaining122) / v122;
+        if (dist122 > bestEstimation) {
+            bestEstimation = dist122;
+            ans = d122;
+            ansCost = v122 + 10 * remaining122;
+        }
+        double remaining132 = Math.sqrt(l132.distanceSquaredTo(target));
+        double dist132 = (initialDist - remaining132) / v132;
+        if (dist132 > bestEstimation) {
+            bestEstimation = dist132;
+            ans = d132;
+            ansCost = v132 + 10 * remaining132;
+        }
+        double remaining137 = Math.sqrt(l137.distanceSquaredTo(target));
+        double dist137 = (initialDist - remaining137) / v137;
+        if (dist137 > bestEstimation) {
+            bestEstimation = dist137;
+            ans = d137;
+            ansCost = v137 + 10 * remaining137;
+        }
+        double remaining147 = Math.sqrt(l147.distanceSquaredTo(target));
+        double dist147 = (initialDist - remaining147) / v147;
+        if (dist147 > bestEstimation) {
+            bestEstimation = dist147;
+            ans = d147;
+            ansCost = v147 + 10 * remaining147;
+        }
+        double remaining152 = Math.sqrt(l152.distanceSquaredTo(target));
+        double dist152 = (initialDist - remaining152) / v152;
+        if (dist152 > bestEstimation) {
+            bestEstimation = dist152;
+            ans = d152;
+            ansCost = v152 + 10 * remaining152;
+        }
+        double remaining153 = Math.sqrt(l153.distanceSquaredTo(target));
+        double dist153 = (initialDist - remaining153) / v153;
+        if (dist153 > bestEstimation) {
+            bestEstimation = dist153;
+            ans = d153;
+            ansCost = v153 + 10 * remaining153;
+        }
+        double remaining161 = Math.sqrt(l161.distanceSquaredTo(target));
+        double dist161 = (initialDist - remaining161) / v161;
+        if (dist161 > bestEstimation) {
+            bestEstimation = dist161;
+            ans = d161;
+            ansCost = v161 + 10 * remaining161;
+        }
+        double remaining162 = Math.sqrt(l162.distanceSquaredTo(target));
+        double dist162 = (initialDist - remaining162) / v162;
+        if (dist162 > bestEstimation) {
+            bestEstimation = dist162;
+            ans = d162;
+            ansCost = v162 + 10 * remaining162;
+        }
+        double remaining168 = Math.sqrt(l168.distanceSquaredTo(target));
+        double dist168 = (initialDist - remaining168) / v168;
+        if (dist168 > bestEstimation) {
+            bestEstimation = dist168;
+            ans = d168;
+            ansCost = v168 + 10 * remaining168;
+        }
+        double remaining169 = Math.sqrt(l169.distanceSquaredTo(target));
+        double dist169 = (initialDist - remaining169) / v169;
+        if (dist169 > bestEstimation) {
+            bestEstimation = dist169;
+            ans = d169;
+            ansCost = v169 + 10 * remaining169;
+        }
+        double remaining175 = Math.sqrt(l175.distanceSquaredTo(target));
+        double dist175 = (initialDist - remaining175) / v175;
+        if (dist175 > bestEstimation) {
+            bestEstimation = dist175;
+            ans = d175;
+            ansCost = v175 + 10 * remaining175;
+        }
+        double remaining176 = Math.sqrt(l176.distanceSquaredTo(target));
+        double dist176 = (initialDist - remaining176) / v176;
+        if (dist176 > bestEstimation) {
+            bestEstimation = dist176;
+            ans = d176;
+            ansCost = v176 + 10 * remaining176;
+        }
+        double remaining184 = Math.sqrt(l184.distanceSquaredTo(target));
+        double dist184 = (initialDist - remaining184) / v184;
+        if (dist184 > bestEstimation) {
+            bestEstimation = dist184;
+            ans = d184;
+            ansCost = v184 + 10 * remaining184;
+        }
+        double remaining185 = Math.sqrt(l185.distanceSquaredTo(target));
+        double dist185 = (initialDist - remaining185) / v185;
+        if (dist185 > bestEstimation) {
+            bestEstimation = dist185;
+            ans = d185;
+            ansCost = v185 + 10 * remaining185;
+        }
+        double remaining186 = Math.sqrt(l186.distanceSquaredTo(target));
+        double dist186 = (initialDist - remaining186) / v186;
+        if (dist186 > bestEstimation) {
+            bestEstimation = dist186;
+            ans = d186;
+            ansCost = v186 + 10 * remaining186;
+        }
+        double remaining187 = Math.sqrt(l187.distanceSquaredTo(target));
+        double dist187 = (initialDist - remaining187) / v187;
+        if (dist187 > bestEstimation) {
+            bestEstimation = dist187;
+            ans = d187;
+            ansCost = v187 + 10 * remaining187;
+        }
+        double remaining188 = Math.sqrt(l188.distanceSquaredTo(target));
+        double dist188 = (initialDist - remaining188) / v188;
+        if (dist188 > bestEstimation) {
+            bestEstimation = dist188;
+            ans = d188;
+            ansCost = v188 + 10 * remaining188;
+        }
+        double remaining189 = Math.sqrt(l189.distanceSquaredTo(target));
+        double dist189 = (initialDist - remaining189) / v189;
+        if (dist189 > bestEstimation) {
+            bestEstimation = dist189;
+            ans = d189;
+            ansCost = v189 + 10 * remaining189;
+        }
+        double remaining190 = Math.sqrt(l190.distanceSquaredTo(target));
+        double dist190 = (initialDist - remaining190) / v190;
+        if (dist190 > bestEstimation) {
+            bestEstimation = dist190;
+            ans = d190;
+            ansCost = v190 + 10 * remaining190;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+}
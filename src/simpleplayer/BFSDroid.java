@@ -1,11 +1,13 @@
 package simpleplayer;
 
+import battlecode.common.Clock;
 import battlecode.common.Direction;
 import battlecode.common.GameActionException;
 import battlecode.common.MapLocation;
 
 import static simpleplayer.RobotPlayer.rc;
 
+// Generated by codegen.BFSGenerator for radius^2 = 20. Don't edit this by hand, run `./gradlew generateBFS` instead.
 public class BFSDroid extends BFS {
 
     static MapLocation l30;
@@ -180,7 +182,6 @@ public class BFSDroid extends BFS {
 
     static MapLocation l84;
     static final int v84 = 0;
-    static Direction d84;
 
     static MapLocation l85;
     static int v85;
@@ -352,353 +353,542 @@ public class BFSDroid extends BFS {
     static Direction d138;
     static int p138;
 
+    // where we were the last time we searched. The p values are kept relative to this location.
+    static MapLocation lastCenter = null;
+
     private static int maxElapsed = 0;
 
-    Direction getBestDir(MapLocation target) throws GameActionException {
+    int computeField() throws GameActionException {
         int before = Debug.tic();
 
         l84 = rc.getLocation();
-        l71 = l84.add(Direction.WEST);
-        v71 = 1000000;
-        d71 = null;
-        l83 = l71.add(Direction.SOUTHEAST);
+        if (lastCenter == null || lastCenter.distanceSquaredTo(l84) > 2) {
+            clearRubbleCache();
+        } else if (!lastCenter.equals(l84)) {
+            shiftRubbleCache(lastCenter.directionTo(l84));
+        }
+        lastCenter = l84;
+        int margin = l84.x;
+        if (l84.y < margin) margin = l84.y;
+        int edge = rc.getMapWidth() - 1 - l84.x;
+        if (edge < margin) margin = edge;
+        edge = rc.getMapHeight() - 1 - l84.y;
+        if (edge < margin) margin = edge;
+
+        // ring 1
+        l83 = l84.add(Direction.SOUTH);
         v83 = 1000000;
         d83 = null;
-        l97 = l83.add(Direction.NORTHEAST);
+        l97 = l84.add(Direction.EAST);
         v97 = 1000000;
         d97 = null;
-        l85 = l97.add(Direction.NORTHWEST);
+        l85 = l84.add(Direction.NORTH);
         v85 = 1000000;
         d85 = null;
-        l72 = l85.add(Direction.WEST);
-        v72 = 1000000;
-        d72 = null;
-        l58 = l72.add(Direction.SOUTHWEST);
-        v58 = 1000000;
-        d58 = null;
-        l70 = l58.add(Direction.SOUTHEAST);
+        l71 = l84.add(Direction.WEST);
+        v71 = 1000000;
+        d71 = null;
+        l70 = l84.add(Direction.SOUTHWEST);
         v70 = 1000000;
         d70 = null;
-        l82 = l70.add(Direction.SOUTHEAST);
-        v82 = 1000000;
-        d82 = null;
-        l96 = l82.add(Direction.NORTHEAST);
+        l96 = l84.add(Direction.SOUTHEAST);
         v96 = 1000000;
         d96 = null;
-        l110 = l96.add(Direction.NORTHEAST);
-        v110 = 1000000;
-        d110 = null;
-        l98 = l110.add(Direction.NORTHWEST);
+        l98 = l84.add(Direction.NORTHEAST);
         v98 = 1000000;
         d98 = null;
-        l86 = l98.add(Direction.NORTHWEST);
+        l72 = l84.add(Direction.NORTHWEST);
+        v72 = 1000000;
+        d72 = null;
+        if (margin >= 1) {
+            if (p83 == 0) {
+                int rubble = rc.senseRubble(l83);
+                RubbleMemory.record(l83, rubble);
+                p83 = 10 + rubble;
+            }
+            if (p97 == 0) {
+                int rubble = rc.senseRubble(l97);
+                RubbleMemory.record(l97, rubble);
+                p97 = 10 + rubble;
+            }
+            if (p85 == 0) {
+                int rubble = rc.senseRubble(l85);
+                RubbleMemory.record(l85, rubble);
+                p85 = 10 + rubble;
+            }
+            if (p71 == 0) {
+                int rubble = rc.senseRubble(l71);
+                RubbleMemory.record(l71, rubble);
+                p71 = 10 + rubble;
+            }
+            if (p70 == 0) {
+                int rubble = rc.senseRubble(l70);
+                RubbleMemory.record(l70, rubble);
+                p70 = 10 + rubble;
+            }
+            if (p96 == 0) {
+                int rubble = rc.senseRubble(l96);
+                RubbleMemory.record(l96, rubble);
+                p96 = 10 + rubble;
+            }
+            if (p98 == 0) {
+                int rubble = rc.senseRubble(l98);
+                RubbleMemory.record(l98, rubble);
+                p98 = 10 + rubble;
+            }
+            if (p72 == 0) {
+                int rubble = rc.senseRubble(l72);
+                RubbleMemory.record(l72, rubble);
+                p72 = 10 + rubble;
+            }
+        } else {
+            if (p83 == 0) {
+                if (rc.onTheMap(l83)) {
+                    int rubble = rc.senseRubble(l83);
+                    RubbleMemory.record(l83, rubble);
+                    p83 = 10 + rubble;
+                } else {
+                    p83 = -1;
+                }
+            }
+            if (p97 == 0) {
+                if (rc.onTheMap(l97)) {
+                    int rubble = rc.senseRubble(l97);
+                    RubbleMemory.record(l97, rubble);
+                    p97 = 10 + rubble;
+                } else {
+                    p97 = -1;
+                }
+            }
+            if (p85 == 0) {
+                if (rc.onTheMap(l85)) {
+                    int rubble = rc.senseRubble(l85);
+                    RubbleMemory.record(l85, rubble);
+                    p85 = 10 + rubble;
+                } else {
+                    p85 = -1;
+                }
+            }
+            if (p71 == 0) {
+                if (rc.onTheMap(l71)) {
+                    int rubble = rc.senseRubble(l71);
+                    RubbleMemory.record(l71, rubble);
+                    p71 = 10 + rubble;
+                } else {
+                    p71 = -1;
+                }
+            }
+            if (p70 == 0) {
+                if (rc.onTheMap(l70)) {
+                    int rubble = rc.senseRubble(l70);
+                    RubbleMemory.record(l70, rubble);
+                    p70 = 10 + rubble;
+                } else {
+                    p70 = -1;
+                }
+            }
+            if (p96 == 0) {
+                if (rc.onTheMap(l96)) {
+                    int rubble = rc.senseRubble(l96);
+                    RubbleMemory.record(l96, rubble);
+                    p96 = 10 + rubble;
+                } else {
+                    p96 = -1;
+                }
+            }
+            if (p98 == 0) {
+                if (rc.onTheMap(l98)) {
+                    int rubble = rc.senseRubble(l98);
+                    RubbleMemory.record(l98, rubble);
+                    p98 = 10 + rubble;
+                } else {
+                    p98 = -1;
+                }
+            }
+            if (p72 == 0) {
+                if (rc.onTheMap(l72)) {
+                    int rubble = rc.senseRubble(l72);
+                    RubbleMemory.record(l72, rubble);
+                    p72 = 10 + rubble;
+                } else {
+                    p72 = -1;
+                }
+            }
+        }
+        if (p83 > 0 && !rc.canSenseRobotAtLocation(l83)) {
+            v83 = v84 + p83;
+            d83 = Direction.SOUTH;
+        }
+        if (p97 > 0 && !rc.canSenseRobotAtLocation(l97)) {
+            v97 = v84 + p97;
+            d97 = Direction.EAST;
+        }
+        if (p85 > 0 && !rc.canSenseRobotAtLocation(l85)) {
+            v85 = v84 + p85;
+            d85 = Direction.NORTH;
+        }
+        if (p71 > 0 && !rc.canSenseRobotAtLocation(l71)) {
+            v71 = v84 + p71;
+            d71 = Direction.WEST;
+        }
+        if (p70 > 0 && !rc.canSenseRobotAtLocation(l70)) {
+            v70 = v84 + p70;
+            d70 = Direction.SOUTHWEST;
+        }
+        if (p96 > 0 && !rc.canSenseRobotAtLocation(l96)) {
+            v96 = v84 + p96;
+            d96 = Direction.SOUTHEAST;
+        }
+        if (p98 > 0 && !rc.canSenseRobotAtLocation(l98)) {
+            v98 = v84 + p98;
+            d98 = Direction.NORTHEAST;
+        }
+        if (p72 > 0 && !rc.canSenseRobotAtLocation(l72)) {
+            v72 = v84 + p72;
+            d72 = Direction.NORTHWEST;
+        }
+        if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + 1432) {
+            maxElapsed = Debug.toc(before, "BFSDroid-search", maxElapsed);
+            return 1;
+        }
+
+        // ring 2
+        l82 = l83.add(Direction.SOUTH);
+        v82 = 1000000;
+        d82 = null;
+        l110 = l97.add(Direction.EAST);
+        v110 = 1000000;
+        d110 = null;
+        l86 = l85.add(Direction.NORTH);
         v86 = 1000000;
         d86 = null;
-        l73 = l86.add(Direction.WEST);
-        v73 = 1000000;
-        d73 = null;
-        l60 = l73.add(Direction.WEST);
-        v60 = 1000000;
-        d60 = null;
-        l59 = l60.add(Direction.SOUTH);
-        v59 = 1000000;
-        d59 = null;
-        l45 = l59.add(Direction.SOUTHWEST);
-        v45 = 1000000;
-        d45 = null;
-        l57 = l45.add(Direction.SOUTHEAST);
+        l58 = l71.add(Direction.WEST);
+        v58 = 1000000;
+        d58 = null;
+        l57 = l71.add(Direction.SOUTHWEST);
         v57 = 1000000;
         d57 = null;
-        l56 = l57.add(Direction.SOUTH);
-        v56 = 1000000;
-        d56 = null;
-        l69 = l56.add(Direction.EAST);
+        l69 = l83.add(Direction.SOUTHWEST);
         v69 = 1000000;
         d69 = null;
-        l81 = l69.add(Direction.SOUTHEAST);
-        v81 = 1000000;
-        d81 = null;
-        l95 = l81.add(Direction.NORTHEAST);
+        l95 = l83.add(Direction.SOUTHEAST);
         v95 = 1000000;
         d95 = null;
-        l108 = l95.add(Direction.EAST);
-        v108 = 1000000;
-        d108 = null;
-        l109 = l108.add(Direction.NORTH);
+        l109 = l97.add(Direction.SOUTHEAST);
         v109 = 1000000;
         d109 = null;
-        l123 = l109.add(Direction.NORTHEAST);
-        v123 = 1000000;
-        d123 = null;
-        l111 = l123.add(Direction.NORTHWEST);
+        l111 = l97.add(Direction.NORTHEAST);
         v111 = 1000000;
         d111 = null;
-        l112 = l111.add(Direction.NORTH);
-        v112 = 1000000;
-        d112 = null;
-        l99 = l112.add(Direction.WEST);
+        l99 = l85.add(Direction.NORTHEAST);
         v99 = 1000000;
         d99 = null;
-        l87 = l99.add(Direction.NORTHWEST);
-        v87 = 1000000;
-        d87 = null;
-        l74 = l87.add(Direction.WEST);
-        v74 = 1000000;
-        d74 = null;
-        l61 = l74.add(Direction.WEST);
-        v61 = 1000000;
-        d61 = null;
-        l47 = l61.add(Direction.SOUTHWEST);
-        v47 = 1000000;
-        d47 = null;
-        l46 = l47.add(Direction.SOUTH);
-        v46 = 1000000;
-        d46 = null;
-        l32 = l46.add(Direction.SOUTHWEST);
-        v32 = 1000000;
-        d32 = null;
-        l44 = l32.add(Direction.SOUTHEAST);
-        v44 = 1000000;
-        d44 = null;
-        l43 = l44.add(Direction.SOUTH);
-        v43 = 1000000;
-        d43 = null;
-        l55 = l43.add(Direction.SOUTHEAST);
-        v55 = 1000000;
-        d55 = null;
-        l68 = l55.add(Direction.EAST);
-        v68 = 1000000;
-        d68 = null;
-        l80 = l68.add(Direction.SOUTHEAST);
-        v80 = 1000000;
-        d80 = null;
-        l94 = l80.add(Direction.NORTHEAST);
-        v94 = 1000000;
-        d94 = null;
-        l107 = l94.add(Direction.EAST);
-        v107 = 1000000;
-        d107 = null;
-        l121 = l107.add(Direction.NORTHEAST);
-        v121 = 1000000;
-        d121 = null;
-        l122 = l121.add(Direction.NORTH);
-        v122 = 1000000;
-        d122 = null;
-        l136 = l122.add(Direction.NORTHEAST);
-        v136 = 1000000;
-        d136 = null;
-        l124 = l136.add(Direction.NORTHWEST);
-        v124 = 1000000;
-        d124 = null;
-        l125 = l124.add(Direction.NORTH);
-        v125 = 1000000;
-        d125 = null;
-        l113 = l125.add(Direction.NORTHWEST);
-        v113 = 1000000;
-        d113 = null;
-        l100 = l113.add(Direction.WEST);
-        v100 = 1000000;
-        d100 = null;
-        l88 = l100.add(Direction.NORTHWEST);
-        v88 = 1000000;
-        d88 = null;
-        l75 = l88.add(Direction.WEST);
-        v75 = 1000000;
-        d75 = null;
-        l62 = l75.add(Direction.WEST);
-        v62 = 1000000;
-        d62 = null;
-        l48 = l62.add(Direction.SOUTHWEST);
-        v48 = 1000000;
-        d48 = null;
-        l34 = l48.add(Direction.SOUTHWEST);
-        v34 = 1000000;
-        d34 = null;
-        l33 = l34.add(Direction.SOUTH);
-        v33 = 1000000;
-        d33 = null;
-        l31 = l33.add(Direction.SOUTH).add(Direction.SOUTH);
-        v31 = 1000000;
-        d31 = null;
-        l30 = l31.add(Direction.SOUTH);
-        v30 = 1000000;
-        d30 = null;
-        l42 = l30.add(Direction.SOUTHEAST);
-        v42 = 1000000;
-        d42 = null;
-        l54 = l42.add(Direction.SOUTHEAST);
-        v54 = 1000000;
-        d54 = null;
-        l67 = l54.add(Direction.EAST);
-        v67 = 1000000;
-        d67 = null;
-        l93 = l67.add(Direction.EAST).add(Direction.EAST);
-        v93 = 1000000;
-        d93 = null;
-        l106 = l93.add(Direction.EAST);
-        v106 = 1000000;
-        d106 = null;
-        l120 = l106.add(Direction.NORTHEAST);
-        v120 = 1000000;
-        d120 = null;
-        l134 = l120.add(Direction.NORTHEAST);
-        v134 = 1000000;
-        d134 = null;
-        l135 = l134.add(Direction.NORTH);
-        v135 = 1000000;
-        d135 = null;
-        l137 = l135.add(Direction.NORTH).add(Direction.NORTH);
-        v137 = 1000000;
-        d137 = null;
-        l138 = l137.add(Direction.NORTH);
-        v138 = 1000000;
-        d138 = null;
-        l126 = l138.add(Direction.NORTHWEST);
-        v126 = 1000000;
-        d126 = null;
-        l114 = l126.add(Direction.NORTHWEST);
-        v114 = 1000000;
-        d114 = null;
-        l101 = l114.add(Direction.WEST);
-        v101 = 1000000;
-        d101 = null;
-
-        if (rc.onTheMap(l71)) {
-            if (!rc.canSenseRobotAtLocation(l71)) {
-                p71 = 10 + rc.senseRubble(l71);
-                v71 = v84 + p71;
-                d71 = Direction.WEST;
+        l73 = l85.add(Direction.NORTHWEST);
+        v73 = 1000000;
+        d73 = null;
+        l59 = l71.add(Direction.NORTHWEST);
+        v59 = 1000000;
+        d59 = null;
+        l56 = l70.add(Direction.SOUTHWEST);
+        v56 = 1000000;
+        d56 = null;
+        l108 = l96.add(Direction.SOUTHEAST);
+        v108 = 1000000;
+        d108 = null;
+        l112 = l98.add(Direction.NORTHEAST);
+        v112 = 1000000;
+        d112 = null;
+        l60 = l72.add(Direction.NORTHWEST);
+        v60 = 1000000;
+        d60 = null;
+        if (margin >= 2) {
+            if (p82 == 0) {
+                int rubble = rc.senseRubble(l82);
+                RubbleMemory.record(l82, rubble);
+                p82 = 10 + rubble;
+            }
+            if (p110 == 0) {
+                int rubble = rc.senseRubble(l110);
+                RubbleMemory.record(l110, rubble);
+                p110 = 10 + rubble;
+            }
+            if (p86 == 0) {
+                int rubble = rc.senseRubble(l86);
+                RubbleMemory.record(l86, rubble);
+                p86 = 10 + rubble;
+            }
+            if (p58 == 0) {
+                int rubble = rc.senseRubble(l58);
+                RubbleMemory.record(l58, rubble);
+                p58 = 10 + rubble;
+            }
+            if (p57 == 0) {
+                int rubble = rc.senseRubble(l57);
+                RubbleMemory.record(l57, rubble);
+                p57 = 10 + rubble;
+            }
+            if (p69 == 0) {
+                int rubble = rc.senseRubble(l69);
+                RubbleMemory.record(l69, rubble);
+                p69 = 10 + rubble;
+            }
+            if (p95 == 0) {
+                int rubble = rc.senseRubble(l95);
+                RubbleMemory.record(l95, rubble);
+                p95 = 10 + rubble;
+            }
+            if (p109 == 0) {
+                int rubble = rc.senseRubble(l109);
+                RubbleMemory.record(l109, rubble);
+                p109 = 10 + rubble;
+            }
+            if (p111 == 0) {
+                int rubble = rc.senseRubble(l111);
+                RubbleMemory.record(l111, rubble);
+                p111 = 10 + rubble;
+            }
+            if (p99 == 0) {
+                int rubble = rc.senseRubble(l99);
+                RubbleMemory.record(l99, rubble);
+                p99 = 10 + rubble;
+            }
+            if (p73 == 0) {
+                int rubble = rc.senseRubble(l73);
+                RubbleMemory.record(l73, rubble);
+                p73 = 10 + rubble;
+            }
+            if (p59 == 0) {
+                int rubble = rc.senseRubble(l59);
+                RubbleMemory.record(l59, rubble);
+                p59 = 10 + rubble;
+            }
+            if (p56 == 0) {
+                int rubble = rc.senseRubble(l56);
+                RubbleMemory.record(l56, rubble);
+                p56 = 10 + rubble;
+            }
+            if (p108 == 0) {
+                int rubble = rc.senseRubble(l108);
+                RubbleMemory.record(l108, rubble);
+                p108 = 10 + rubble;
+            }
+            if (p112 == 0) {
+                int rubble = rc.senseRubble(l112);
+                RubbleMemory.record(l112, rubble);
+                p112 = 10 + rubble;
+            }
+            if (p60 == 0) {
+                int rubble = rc.senseRubble(l60);
+                RubbleMemory.record(l60, rubble);
+                p60 = 10 + rubble;
+            }
+        } else {
+            if (p82 == 0) {
+                if (rc.onTheMap(l82)) {
+                    int rubble = rc.senseRubble(l82);
+                    RubbleMemory.record(l82, rubble);
+                    p82 = 10 + rubble;
+                } else {
+                    p82 = -1;
+                }
             }
-        }
-        if (rc.onTheMap(l83)) {
-            if (!rc.canSenseRobotAtLocation(l83)) {
-                p83 = 10 + rc.senseRubble(l83);
-                v83 = v84 + p83;
-                d83 = Direction.SOUTH;
+            if (p110 == 0) {
+                if (rc.onTheMap(l110)) {
+                    int rubble = rc.senseRubble(l110);
+                    RubbleMemory.record(l110, rubble);
+                    p110 = 10 + rubble;
+                } else {
+                    p110 = -1;
+                }
             }
-        }
-        if (rc.onTheMap(l85)) {
-            if (!rc.canSenseRobotAtLocation(l85)) {
-                p85 = 10 + rc.senseRubble(l85);
-                v85 = v84 + p85;
-                d85 = Direction.NORTH;
+            if (p86 == 0) {
+                if (rc.onTheMap(l86)) {
+                    int rubble = rc.senseRubble(l86);
+                    RubbleMemory.record(l86, rubble);
+                    p86 = 10 + rubble;
+                } else {
+                    p86 = -1;
+                }
             }
-        }
-        if (rc.onTheMap(l97)) {
-            if (!rc.canSenseRobotAtLocation(l97)) {
-                p97 = 10 + rc.senseRubble(l97);
-                v97 = v84 + p97;
-                d97 = Direction.EAST;
+            if (p58 == 0) {
+                if (rc.onTheMap(l58)) {
+                    int rubble = rc.senseRubble(l58);
+                    RubbleMemory.record(l58, rubble);
+                    p58 = 10 + rubble;
+                } else {
+                    p58 = -1;
+                }
             }
-        }
-        if (rc.onTheMap(l70)) {
-            if (!rc.canSenseRobotAtLocation(l70)) {
-                p70 = 10 + rc.senseRubble(l70);
-                v70 = v84 + p70;
-                d70 = Direction.SOUTHWEST;
+            if (p57 == 0) {
+                if (rc.onTheMap(l57)) {
+                    int rubble = rc.senseRubble(l57);
+                    RubbleMemory.record(l57, rubble);
+                    p57 = 10 + rubble;
+                } else {
+                    p57 = -1;
+                }
             }
-        }
-        if (rc.onTheMap(l72)) {
-            if (!rc.canSenseRobotAtLocation(l72)) {
-                p72 = 10 + rc.senseRubble(l72);
-                v72 = v84 + p72;
-                d72 = Direction.NORTHWEST;
+            if (p69 == 0) {
+                if (rc.onTheMap(l69)) {
+                    int rubble = rc.senseRubble(l69);
+                    RubbleMemory.record(l69, rubble);
+                    p69 = 10 + rubble;
+                } else {
+                    p69 = -1;
+                }
             }
-        }
-        if (rc.onTheMap(l96)) {
-            if (!rc.canSenseRobotAtLocation(l96)) {
-                p96 = 10 + rc.senseRubble(l96);
-                v96 = v84 + p96;
-                d96 = Direction.SOUTHEAST;
+            if (p95 == 0) {
+                if (rc.onTheMap(l95)) {
+                    int rubble = rc.senseRubble(l95);
+                    RubbleMemory.record(l95, rubble);
+                    p95 = 10 + rubble;
+                } else {
+                    p95 = -1;
+                }
             }
-        }
-        if (rc.onTheMap(l98)) {
-            if (!rc.canSenseRobotAtLocation(l98)) {
-                p98 = 10 + rc.senseRubble(l98);
-                v98 = v84 + p98;
-                d98 = Direction.NORTHEAST;
+            if (p109 == 0) {
+                if (rc.onTheMap(l109)) {
+                    int rubble = rc.senseRubble(l109);
+                    RubbleMemory.record(l109, rubble);
+                    p109 = 10 + rubble;
+                } else {
+                    p109 = -1;
+                }
             }
-        }
-        if (rc.onTheMap(l58)) {
-            p58 = 10 + rc.senseRubble(l58);
-            v58 = v71 + p58;
-            d58 = d71;
-            if (v58 > v70 + p58) {
-                v58 = v70 + p58;
-                d58 = d70;
+            if (p111 == 0) {
+                if (rc.onTheMap(l111)) {
+                    int rubble = rc.senseRubble(l111);
+                    RubbleMemory.record(l111, rubble);
+                    p111 = 10 + rubble;
+                } else {
+                    p111 = -1;
+                }
             }
-            if (v58 > v72 + p58) {
-                v58 = v72 + p58;
-                d58 = d72;
+            if (p99 == 0) {
+                if (rc.onTheMap(l99)) {
+                    int rubble = rc.senseRubble(l99);
+                    RubbleMemory.record(l99, rubble);
+                    p99 = 10 + rubble;
+                } else {
+                    p99 = -1;
+                }
+            }
+            if (p73 == 0) {
+                if (rc.onTheMap(l73)) {
+                    int rubble = rc.senseRubble(l73);
+                    RubbleMemory.record(l73, rubble);
+                    p73 = 10 + rubble;
+                } else {
+                    p73 = -1;
+                }
+            }
+            if (p59 == 0) {
+                if (rc.onTheMap(l59)) {
+                    int rubble = rc.senseRubble(l59);
+                    RubbleMemory.record(l59, rubble);
+                    p59 = 10 + rubble;
+                } else {
+                    p59 = -1;
+                }
+            }
+            if (p56 == 0) {
+                if (rc.onTheMap(l56)) {
+                    int rubble = rc.senseRubble(l56);
+                    RubbleMemory.record(l56, rubble);
+                    p56 = 10 + rubble;
+                } else {
+                    p56 = -1;
+                }
+            }
+            if (p108 == 0) {
+                if (rc.onTheMap(l108)) {
+                    int rubble = rc.senseRubble(l108);
+                    RubbleMemory.record(l108, rubble);
+                    p108 = 10 + rubble;
+                } else {
+                    p108 = -1;
+                }
+            }
+            if (p112 == 0) {
+                if (rc.onTheMap(l112)) {
+                    int rubble = rc.senseRubble(l112);
+                    RubbleMemory.record(l112, rubble);
+                    p112 = 10 + rubble;
+                } else {
+                    p112 = -1;
+                }
+            }
+            if (p60 == 0) {
+                if (rc.onTheMap(l60)) {
+                    int rubble = rc.senseRubble(l60);
+                    RubbleMemory.record(l60, rubble);
+                    p60 = 10 + rubble;
+                } else {
+                    p60 = -1;
+                }
             }
         }
-        if (rc.onTheMap(l82)) {
-            p82 = 10 + rc.senseRubble(l82);
+        if (p82 > 0) {
             v82 = v83 + p82;
             d82 = d83;
+            if (v82 > v96 + p82) {
+                v82 = v96 + p82;
+                d82 = d96;
+            }
             if (v82 > v70 + p82) {
                 v82 = v70 + p82;
                 d82 = d70;
             }
-            if (v82 > v96 + p82) {
-                v82 = v96 + p82;
-                d82 = d96;
+        }
+        if (p110 > 0) {
+            v110 = v97 + p110;
+            d110 = d97;
+            if (v110 > v96 + p110) {
+                v110 = v96 + p110;
+                d110 = d96;
+            }
+            if (v110 > v98 + p110) {
+                v110 = v98 + p110;
+                d110 = d98;
             }
         }
-        if (rc.onTheMap(l86)) {
-            p86 = 10 + rc.senseRubble(l86);
+        if (p86 > 0) {
             v86 = v85 + p86;
             d86 = d85;
-            if (v86 > v72 + p86) {
-                v86 = v72 + p86;
-                d86 = d72;
-            }
             if (v86 > v98 + p86) {
                 v86 = v98 + p86;
                 d86 = d98;
             }
+            if (v86 > v72 + p86) {
+                v86 = v72 + p86;
+                d86 = d72;
+            }
         }
-        if (rc.onTheMap(l110)) {
-            p110 = 10 + rc.senseRubble(l110);
-            v110 = v97 + p110;
-            d110 = d97;
-            if (v110 > v98 + p110) {
-                v110 = v98 + p110;
-                d110 = d98;
+        if (p58 > 0) {
+            v58 = v71 + p58;
+            d58 = d71;
+            if (v58 > v72 + p58) {
+                v58 = v72 + p58;
+                d58 = d72;
             }
-            if (v110 > v96 + p110) {
-                v110 = v96 + p110;
-                d110 = d96;
+            if (v58 > v70 + p58) {
+                v58 = v70 + p58;
+                d58 = d70;
             }
         }
-        if (rc.onTheMap(l57)) {
-            p57 = 10 + rc.senseRubble(l57);
+        if (p57 > 0) {
             v57 = v71 + p57;
             d57 = d71;
-            if (v57 > v70 + p57) {
-                v57 = v70 + p57;
-                d57 = d70;
-            }
             if (v57 > v58 + p57) {
                 v57 = v58 + p57;
                 d57 = d58;
             }
+            if (v57 > v70 + p57) {
+                v57 = v70 + p57;
+                d57 = d70;
+            }
         }
-        if (rc.onTheMap(l59)) {
-            p59 = 10 + rc.senseRubble(l59);
-            v59 = v71 + p59;
-            d59 = d71;
-            if (v59 > v72 + p59) {
-                v59 = v72 + p59;
-                d59 = d72;
-            }
-            if (v59 > v58 + p59) {
-                v59 = v58 + p59;
-                d59 = d58;
-            }
-        }
-        if (rc.onTheMap(l69)) {
-            p69 = 10 + rc.senseRubble(l69);
+        if (p69 > 0) {
             v69 = v83 + p69;
             d69 = d83;
             if (v69 > v70 + p69) {
@@ -714,25 +904,7 @@ public class BFSDroid extends BFS {
                 d69 = d57;
             }
         }
-        if (rc.onTheMap(l73)) {
-            p73 = 10 + rc.senseRubble(l73);
-            v73 = v85 + p73;
-            d73 = d85;
-            if (v73 > v72 + p73) {
-                v73 = v72 + p73;
-                d73 = d72;
-            }
-            if (v73 > v86 + p73) {
-                v73 = v86 + p73;
-                d73 = d86;
-            }
-            if (v73 > v59 + p73) {
-                v73 = v59 + p73;
-                d73 = d59;
-            }
-        }
-        if (rc.onTheMap(l95)) {
-            p95 = 10 + rc.senseRubble(l95);
+        if (p95 > 0) {
             v95 = v83 + p95;
             d95 = d83;
             if (v95 > v96 + p95) {
@@ -744,27 +916,9 @@ public class BFSDroid extends BFS {
                 d95 = d82;
             }
         }
-        if (rc.onTheMap(l99)) {
-            p99 = 10 + rc.senseRubble(l99);
-            v99 = v85 + p99;
-            d99 = d85;
-            if (v99 > v98 + p99) {
-                v99 = v98 + p99;
-                d99 = d98;
-            }
-            if (v99 > v86 + p99) {
-                v99 = v86 + p99;
-                d99 = d86;
-            }
-        }
-        if (rc.onTheMap(l109)) {
-            p109 = 10 + rc.senseRubble(l109);
+        if (p109 > 0) {
             v109 = v97 + p109;
             d109 = d97;
-            if (v109 > v96 + p109) {
-                v109 = v96 + p109;
-                d109 = d96;
-            }
             if (v109 > v110 + p109) {
                 v109 = v110 + p109;
                 d109 = d110;
@@ -773,26 +927,68 @@ public class BFSDroid extends BFS {
                 v109 = v95 + p109;
                 d109 = d95;
             }
+            if (v109 > v96 + p109) {
+                v109 = v96 + p109;
+                d109 = d96;
+            }
         }
-        if (rc.onTheMap(l111)) {
-            p111 = 10 + rc.senseRubble(l111);
+        if (p111 > 0) {
             v111 = v97 + p111;
             d111 = d97;
+            if (v111 > v110 + p111) {
+                v111 = v110 + p111;
+                d111 = d110;
+            }
             if (v111 > v98 + p111) {
                 v111 = v98 + p111;
                 d111 = d98;
             }
-            if (v111 > v110 + p111) {
-                v111 = v110 + p111;
-                d111 = d110;
+        }
+        if (p99 > 0) {
+            v99 = v85 + p99;
+            d99 = d85;
+            if (v99 > v111 + p99) {
+                v99 = v111 + p99;
+                d99 = d111;
+            }
+            if (v99 > v98 + p99) {
+                v99 = v98 + p99;
+                d99 = d98;
+            }
+            if (v99 > v86 + p99) {
+                v99 = v86 + p99;
+                d99 = d86;
+            }
+        }
+        if (p73 > 0) {
+            v73 = v85 + p73;
+            d73 = d85;
+            if (v73 > v86 + p73) {
+                v73 = v86 + p73;
+                d73 = d86;
+            }
+            if (v73 > v72 + p73) {
+                v73 = v72 + p73;
+                d73 = d72;
+            }
+        }
+        if (p59 > 0) {
+            v59 = v71 + p59;
+            d59 = d71;
+            if (v59 > v73 + p59) {
+                v59 = v73 + p59;
+                d59 = d73;
+            }
+            if (v59 > v72 + p59) {
+                v59 = v72 + p59;
+                d59 = d72;
             }
-            if (v111 > v99 + p111) {
-                v111 = v99 + p111;
-                d111 = d99;
+            if (v59 > v58 + p59) {
+                v59 = v58 + p59;
+                d59 = d58;
             }
         }
-        if (rc.onTheMap(l56)) {
-            p56 = 10 + rc.senseRubble(l56);
+        if (p56 > 0) {
             v56 = v70 + p56;
             d56 = d70;
             if (v56 > v57 + p56) {
@@ -804,21 +1000,7 @@ public class BFSDroid extends BFS {
                 d56 = d69;
             }
         }
-        if (rc.onTheMap(l60)) {
-            p60 = 10 + rc.senseRubble(l60);
-            v60 = v72 + p60;
-            d60 = d72;
-            if (v60 > v59 + p60) {
-                v60 = v59 + p60;
-                d60 = d59;
-            }
-            if (v60 > v73 + p60) {
-                v60 = v73 + p60;
-                d60 = d73;
-            }
-        }
-        if (rc.onTheMap(l108)) {
-            p108 = 10 + rc.senseRubble(l108);
+        if (p108 > 0) {
             v108 = v96 + p108;
             d108 = d96;
             if (v108 > v109 + p108) {
@@ -830,77 +1012,502 @@ public class BFSDroid extends BFS {
                 d108 = d95;
             }
         }
-        if (rc.onTheMap(l112)) {
-            p112 = 10 + rc.senseRubble(l112);
-            if (v112 > v98 + p112) {
-                v112 = v98 + p112;
-                d112 = d98;
+        if (p112 > 0) {
+            v112 = v98 + p112;
+            d112 = d98;
+            if (v112 > v111 + p112) {
+                v112 = v111 + p112;
+                d112 = d111;
             }
             if (v112 > v99 + p112) {
                 v112 = v99 + p112;
                 d112 = d99;
             }
-            if (v112 > v111 + p112) {
-                v112 = v111 + p112;
-                d112 = d111;
+        }
+        if (p60 > 0) {
+            v60 = v72 + p60;
+            d60 = d72;
+            if (v60 > v73 + p60) {
+                v60 = v73 + p60;
+                d60 = d73;
+            }
+            if (v60 > v59 + p60) {
+                v60 = v59 + p60;
+                d60 = d59;
             }
         }
-        if (rc.onTheMap(l45)) {
-            p45 = 10 + rc.senseRubble(l45);
-            v45 = v58 + p45;
-            d45 = d58;
-            if (v45 > v57 + p45) {
-                v45 = v57 + p45;
-                d45 = d57;
+        if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + 2208) {
+            maxElapsed = Debug.toc(before, "BFSDroid-search", maxElapsed);
+            return 2;
+        }
+
+        // ring 3
+        l81 = l82.add(Direction.SOUTH);
+        v81 = 1000000;
+        d81 = null;
+        l123 = l110.add(Direction.EAST);
+        v123 = 1000000;
+        d123 = null;
+        l87 = l86.add(Direction.NORTH);
+        v87 = 1000000;
+        d87 = null;
+        l45 = l58.add(Direction.WEST);
+        v45 = 1000000;
+        d45 = null;
+        l44 = l58.add(Direction.SOUTHWEST);
+        v44 = 1000000;
+        d44 = null;
+        l68 = l82.add(Direction.SOUTHWEST);
+        v68 = 1000000;
+        d68 = null;
+        l94 = l82.add(Direction.SOUTHEAST);
+        v94 = 1000000;
+        d94 = null;
+        l122 = l110.add(Direction.SOUTHEAST);
+        v122 = 1000000;
+        d122 = null;
+        l124 = l110.add(Direction.NORTHEAST);
+        v124 = 1000000;
+        d124 = null;
+        l100 = l86.add(Direction.NORTHEAST);
+        v100 = 1000000;
+        d100 = null;
+        l74 = l86.add(Direction.NORTHWEST);
+        v74 = 1000000;
+        d74 = null;
+        l46 = l58.add(Direction.NORTHWEST);
+        v46 = 1000000;
+        d46 = null;
+        l43 = l57.add(Direction.SOUTHWEST);
+        v43 = 1000000;
+        d43 = null;
+        l55 = l69.add(Direction.SOUTHWEST);
+        v55 = 1000000;
+        d55 = null;
+        l107 = l95.add(Direction.SOUTHEAST);
+        v107 = 1000000;
+        d107 = null;
+        l121 = l109.add(Direction.SOUTHEAST);
+        v121 = 1000000;
+        d121 = null;
+        l125 = l111.add(Direction.NORTHEAST);
+        v125 = 1000000;
+        d125 = null;
+        l113 = l99.add(Direction.NORTHEAST);
+        v113 = 1000000;
+        d113 = null;
+        l61 = l73.add(Direction.NORTHWEST);
+        v61 = 1000000;
+        d61 = null;
+        l47 = l59.add(Direction.NORTHWEST);
+        v47 = 1000000;
+        d47 = null;
+        l42 = l56.add(Direction.SOUTHWEST);
+        v42 = 1000000;
+        d42 = null;
+        l120 = l108.add(Direction.SOUTHEAST);
+        v120 = 1000000;
+        d120 = null;
+        l126 = l112.add(Direction.NORTHEAST);
+        v126 = 1000000;
+        d126 = null;
+        l48 = l60.add(Direction.NORTHWEST);
+        v48 = 1000000;
+        d48 = null;
+        if (margin >= 3) {
+            if (p81 == 0) {
+                int rubble = rc.senseRubble(l81);
+                RubbleMemory.record(l81, rubble);
+                p81 = 10 + rubble;
+            }
+            if (p123 == 0) {
+                int rubble = rc.senseRubble(l123);
+                RubbleMemory.record(l123, rubble);
+                p123 = 10 + rubble;
+            }
+            if (p87 == 0) {
+                int rubble = rc.senseRubble(l87);
+                RubbleMemory.record(l87, rubble);
+                p87 = 10 + rubble;
+            }
+            if (p45 == 0) {
+                int rubble = rc.senseRubble(l45);
+                RubbleMemory.record(l45, rubble);
+                p45 = 10 + rubble;
+            }
+            if (p44 == 0) {
+                int rubble = rc.senseRubble(l44);
+                RubbleMemory.record(l44, rubble);
+                p44 = 10 + rubble;
+            }
+            if (p68 == 0) {
+                int rubble = rc.senseRubble(l68);
+                RubbleMemory.record(l68, rubble);
+                p68 = 10 + rubble;
+            }
+            if (p94 == 0) {
+                int rubble = rc.senseRubble(l94);
+                RubbleMemory.record(l94, rubble);
+                p94 = 10 + rubble;
+            }
+            if (p122 == 0) {
+                int rubble = rc.senseRubble(l122);
+                RubbleMemory.record(l122, rubble);
+                p122 = 10 + rubble;
+            }
+            if (p124 == 0) {
+                int rubble = rc.senseRubble(l124);
+                RubbleMemory.record(l124, rubble);
+                p124 = 10 + rubble;
+            }
+            if (p100 == 0) {
+                int rubble = rc.senseRubble(l100);
+                RubbleMemory.record(l100, rubble);
+                p100 = 10 + rubble;
+            }
+            if (p74 == 0) {
+                int rubble = rc.senseRubble(l74);
+                RubbleMemory.record(l74, rubble);
+                p74 = 10 + rubble;
+            }
+            if (p46 == 0) {
+                int rubble = rc.senseRubble(l46);
+                RubbleMemory.record(l46, rubble);
+                p46 = 10 + rubble;
+            }
+            if (p43 == 0) {
+                int rubble = rc.senseRubble(l43);
+                RubbleMemory.record(l43, rubble);
+                p43 = 10 + rubble;
+            }
+            if (p55 == 0) {
+                int rubble = rc.senseRubble(l55);
+                RubbleMemory.record(l55, rubble);
+                p55 = 10 + rubble;
+            }
+            if (p107 == 0) {
+                int rubble = rc.senseRubble(l107);
+                RubbleMemory.record(l107, rubble);
+                p107 = 10 + rubble;
+            }
+            if (p121 == 0) {
+                int rubble = rc.senseRubble(l121);
+                RubbleMemory.record(l121, rubble);
+                p121 = 10 + rubble;
+            }
+            if (p125 == 0) {
+                int rubble = rc.senseRubble(l125);
+                RubbleMemory.record(l125, rubble);
+                p125 = 10 + rubble;
+            }
+            if (p113 == 0) {
+                int rubble = rc.senseRubble(l113);
+                RubbleMemory.record(l113, rubble);
+                p113 = 10 + rubble;
+            }
+            if (p61 == 0) {
+                int rubble = rc.senseRubble(l61);
+                RubbleMemory.record(l61, rubble);
+                p61 = 10 + rubble;
+            }
+            if (p47 == 0) {
+                int rubble = rc.senseRubble(l47);
+                RubbleMemory.record(l47, rubble);
+                p47 = 10 + rubble;
+            }
+            if (p42 == 0) {
+                int rubble = rc.senseRubble(l42);
+                RubbleMemory.record(l42, rubble);
+                p42 = 10 + rubble;
+            }
+            if (p120 == 0) {
+                int rubble = rc.senseRubble(l120);
+                RubbleMemory.record(l120, rubble);
+                p120 = 10 + rubble;
+            }
+            if (p126 == 0) {
+                int rubble = rc.senseRubble(l126);
+                RubbleMemory.record(l126, rubble);
+                p126 = 10 + rubble;
+            }
+            if (p48 == 0) {
+                int rubble = rc.senseRubble(l48);
+                RubbleMemory.record(l48, rubble);
+                p48 = 10 + rubble;
+            }
+        } else {
+            if (p81 == 0) {
+                if (rc.onTheMap(l81)) {
+                    int rubble = rc.senseRubble(l81);
+                    RubbleMemory.record(l81, rubble);
+                    p81 = 10 + rubble;
+                } else {
+                    p81 = -1;
+                }
             }
-            if (v45 > v59 + p45) {
-                v45 = v59 + p45;
-                d45 = d59;
+            if (p123 == 0) {
+                if (rc.onTheMap(l123)) {
+                    int rubble = rc.senseRubble(l123);
+                    RubbleMemory.record(l123, rubble);
+                    p123 = 10 + rubble;
+                } else {
+                    p123 = -1;
+                }
+            }
+            if (p87 == 0) {
+                if (rc.onTheMap(l87)) {
+                    int rubble = rc.senseRubble(l87);
+                    RubbleMemory.record(l87, rubble);
+                    p87 = 10 + rubble;
+                } else {
+                    p87 = -1;
+                }
+            }
+            if (p45 == 0) {
+                if (rc.onTheMap(l45)) {
+                    int rubble = rc.senseRubble(l45);
+                    RubbleMemory.record(l45, rubble);
+                    p45 = 10 + rubble;
+                } else {
+                    p45 = -1;
+                }
+            }
+            if (p44 == 0) {
+                if (rc.onTheMap(l44)) {
+                    int rubble = rc.senseRubble(l44);
+                    RubbleMemory.record(l44, rubble);
+                    p44 = 10 + rubble;
+                } else {
+                    p44 = -1;
+                }
+            }
+            if (p68 == 0) {
+                if (rc.onTheMap(l68)) {
+                    int rubble = rc.senseRubble(l68);
+                    RubbleMemory.record(l68, rubble);
+                    p68 = 10 + rubble;
+                } else {
+                    p68 = -1;
+                }
+            }
+            if (p94 == 0) {
+                if (rc.onTheMap(l94)) {
+                    int rubble = rc.senseRubble(l94);
+                    RubbleMemory.record(l94, rubble);
+                    p94 = 10 + rubble;
+                } else {
+                    p94 = -1;
+                }
+            }
+            if (p122 == 0) {
+                if (rc.onTheMap(l122)) {
+                    int rubble = rc.senseRubble(l122);
+                    RubbleMemory.record(l122, rubble);
+                    p122 = 10 + rubble;
+                } else {
+                    p122 = -1;
+                }
+            }
+            if (p124 == 0) {
+                if (rc.onTheMap(l124)) {
+                    int rubble = rc.senseRubble(l124);
+                    RubbleMemory.record(l124, rubble);
+                    p124 = 10 + rubble;
+                } else {
+                    p124 = -1;
+                }
+            }
+            if (p100 == 0) {
+                if (rc.onTheMap(l100)) {
+                    int rubble = rc.senseRubble(l100);
+                    RubbleMemory.record(l100, rubble);
+                    p100 = 10 + rubble;
+                } else {
+                    p100 = -1;
+                }
+            }
+            if (p74 == 0) {
+                if (rc.onTheMap(l74)) {
+                    int rubble = rc.senseRubble(l74);
+                    RubbleMemory.record(l74, rubble);
+                    p74 = 10 + rubble;
+                } else {
+                    p74 = -1;
+                }
+            }
+            if (p46 == 0) {
+                if (rc.onTheMap(l46)) {
+                    int rubble = rc.senseRubble(l46);
+                    RubbleMemory.record(l46, rubble);
+                    p46 = 10 + rubble;
+                } else {
+                    p46 = -1;
+                }
+            }
+            if (p43 == 0) {
+                if (rc.onTheMap(l43)) {
+                    int rubble = rc.senseRubble(l43);
+                    RubbleMemory.record(l43, rubble);
+                    p43 = 10 + rubble;
+                } else {
+                    p43 = -1;
+                }
+            }
+            if (p55 == 0) {
+                if (rc.onTheMap(l55)) {
+                    int rubble = rc.senseRubble(l55);
+                    RubbleMemory.record(l55, rubble);
+                    p55 = 10 + rubble;
+                } else {
+                    p55 = -1;
+                }
+            }
+            if (p107 == 0) {
+                if (rc.onTheMap(l107)) {
+                    int rubble = rc.senseRubble(l107);
+                    RubbleMemory.record(l107, rubble);
+                    p107 = 10 + rubble;
+                } else {
+                    p107 = -1;
+                }
+            }
+            if (p121 == 0) {
+                if (rc.onTheMap(l121)) {
+                    int rubble = rc.senseRubble(l121);
+                    RubbleMemory.record(l121, rubble);
+                    p121 = 10 + rubble;
+                } else {
+                    p121 = -1;
+                }
+            }
+            if (p125 == 0) {
+                if (rc.onTheMap(l125)) {
+                    int rubble = rc.senseRubble(l125);
+                    RubbleMemory.record(l125, rubble);
+                    p125 = 10 + rubble;
+                } else {
+                    p125 = -1;
+                }
+            }
+            if (p113 == 0) {
+                if (rc.onTheMap(l113)) {
+                    int rubble = rc.senseRubble(l113);
+                    RubbleMemory.record(l113, rubble);
+                    p113 = 10 + rubble;
+                } else {
+                    p113 = -1;
+                }
+            }
+            if (p61 == 0) {
+                if (rc.onTheMap(l61)) {
+                    int rubble = rc.senseRubble(l61);
+                    RubbleMemory.record(l61, rubble);
+                    p61 = 10 + rubble;
+                } else {
+                    p61 = -1;
+                }
+            }
+            if (p47 == 0) {
+                if (rc.onTheMap(l47)) {
+                    int rubble = rc.senseRubble(l47);
+                    RubbleMemory.record(l47, rubble);
+                    p47 = 10 + rubble;
+                } else {
+                    p47 = -1;
+                }
+            }
+            if (p42 == 0) {
+                if (rc.onTheMap(l42)) {
+                    int rubble = rc.senseRubble(l42);
+                    RubbleMemory.record(l42, rubble);
+                    p42 = 10 + rubble;
+                } else {
+                    p42 = -1;
+                }
+            }
+            if (p120 == 0) {
+                if (rc.onTheMap(l120)) {
+                    int rubble = rc.senseRubble(l120);
+                    RubbleMemory.record(l120, rubble);
+                    p120 = 10 + rubble;
+                } else {
+                    p120 = -1;
+                }
+            }
+            if (p126 == 0) {
+                if (rc.onTheMap(l126)) {
+                    int rubble = rc.senseRubble(l126);
+                    RubbleMemory.record(l126, rubble);
+                    p126 = 10 + rubble;
+                } else {
+                    p126 = -1;
+                }
+            }
+            if (p48 == 0) {
+                if (rc.onTheMap(l48)) {
+                    int rubble = rc.senseRubble(l48);
+                    RubbleMemory.record(l48, rubble);
+                    p48 = 10 + rubble;
+                } else {
+                    p48 = -1;
+                }
             }
         }
-        if (rc.onTheMap(l81)) {
-            p81 = 10 + rc.senseRubble(l81);
+        if (p81 > 0) {
             v81 = v82 + p81;
             d81 = d82;
+            if (v81 > v95 + p81) {
+                v81 = v95 + p81;
+                d81 = d95;
+            }
             if (v81 > v69 + p81) {
                 v81 = v69 + p81;
                 d81 = d69;
             }
-            if (v81 > v95 + p81) {
-                v81 = v95 + p81;
-                d81 = d95;
+        }
+        if (p123 > 0) {
+            v123 = v110 + p123;
+            d123 = d110;
+            if (v123 > v109 + p123) {
+                v123 = v109 + p123;
+                d123 = d109;
+            }
+            if (v123 > v111 + p123) {
+                v123 = v111 + p123;
+                d123 = d111;
             }
         }
-        if (rc.onTheMap(l87)) {
-            p87 = 10 + rc.senseRubble(l87);
+        if (p87 > 0) {
             v87 = v86 + p87;
             d87 = d86;
-            if (v87 > v73 + p87) {
-                v87 = v73 + p87;
-                d87 = d73;
-            }
             if (v87 > v99 + p87) {
                 v87 = v99 + p87;
                 d87 = d99;
             }
+            if (v87 > v73 + p87) {
+                v87 = v73 + p87;
+                d87 = d73;
+            }
         }
-        if (rc.onTheMap(l123)) {
-            p123 = 10 + rc.senseRubble(l123);
-            v123 = v110 + p123;
-            d123 = d110;
-            if (v123 > v111 + p123) {
-                v123 = v111 + p123;
-                d123 = d111;
+        if (p45 > 0) {
+            v45 = v58 + p45;
+            d45 = d58;
+            if (v45 > v59 + p45) {
+                v45 = v59 + p45;
+                d45 = d59;
             }
-            if (v123 > v109 + p123) {
-                v123 = v109 + p123;
-                d123 = d109;
+            if (v45 > v57 + p45) {
+                v45 = v57 + p45;
+                d45 = d57;
             }
         }
-        if (rc.onTheMap(l44)) {
-            p44 = 10 + rc.senseRubble(l44);
+        if (p44 > 0) {
             v44 = v58 + p44;
             d44 = d58;
+            if (v44 > v45 + p44) {
+                v44 = v45 + p44;
+                d44 = d45;
+            }
             if (v44 > v57 + p44) {
                 v44 = v57 + p44;
                 d44 = d57;
@@ -909,64 +1516,24 @@ public class BFSDroid extends BFS {
                 v44 = v56 + p44;
                 d44 = d56;
             }
-            if (v44 > v45 + p44) {
-                v44 = v45 + p44;
-                d44 = d45;
-            }
-        }
-        if (rc.onTheMap(l46)) {
-            p46 = 10 + rc.senseRubble(l46);
-            v46 = v58 + p46;
-            d46 = d58;
-            if (v46 > v59 + p46) {
-                v46 = v59 + p46;
-                d46 = d59;
-            }
-            if (v46 > v60 + p46) {
-                v46 = v60 + p46;
-                d46 = d60;
-            }
-            if (v46 > v45 + p46) {
-                v46 = v45 + p46;
-                d46 = d45;
-            }
         }
-        if (rc.onTheMap(l68)) {
-            p68 = 10 + rc.senseRubble(l68);
+        if (p68 > 0) {
             v68 = v82 + p68;
             d68 = d82;
             if (v68 > v69 + p68) {
                 v68 = v69 + p68;
                 d68 = d69;
             }
-            if (v68 > v56 + p68) {
-                v68 = v56 + p68;
-                d68 = d56;
-            }
             if (v68 > v81 + p68) {
                 v68 = v81 + p68;
                 d68 = d81;
             }
-        }
-        if (rc.onTheMap(l74)) {
-            p74 = 10 + rc.senseRubble(l74);
-            v74 = v86 + p74;
-            d74 = d86;
-            if (v74 > v73 + p74) {
-                v74 = v73 + p74;
-                d74 = d73;
-            }
-            if (v74 > v60 + p74) {
-                v74 = v60 + p74;
-                d74 = d60;
-            }
-            if (v74 > v87 + p74) {
-                v74 = v87 + p74;
-                d74 = d87;
+            if (v68 > v56 + p68) {
+                v68 = v56 + p68;
+                d68 = d56;
             }
         }
-        if (rc.onTheMap(l94)) {
-            p94 = 10 + rc.senseRubble(l94);
+        if (p94 > 0) {
             v94 = v82 + p94;
             d94 = d82;
             if (v94 > v95 + p94) {
@@ -982,45 +1549,28 @@ public class BFSDroid extends BFS {
                 d94 = d81;
             }
         }
-        if (rc.onTheMap(l100)) {
-            p100 = 10 + rc.senseRubble(l100);
-            v100 = v86 + p100;
-            d100 = d86;
-            if (v100 > v99 + p100) {
-                v100 = v99 + p100;
-                d100 = d99;
-            }
-            if (v100 > v112 + p100) {
-                v100 = v112 + p100;
-                d100 = d112;
-            }
-            if (v100 > v87 + p100) {
-                v100 = v87 + p100;
-                d100 = d87;
-            }
-        }
-        if (rc.onTheMap(l122)) {
-            p122 = 10 + rc.senseRubble(l122);
+        if (p122 > 0) {
             v122 = v110 + p122;
             d122 = d110;
-            if (v122 > v109 + p122) {
-                v122 = v109 + p122;
-                d122 = d109;
+            if (v122 > v123 + p122) {
+                v122 = v123 + p122;
+                d122 = d123;
             }
             if (v122 > v108 + p122) {
                 v122 = v108 + p122;
                 d122 = d108;
             }
-            if (v122 > v123 + p122) {
-                v122 = v123 + p122;
-                d122 = d123;
+            if (v122 > v109 + p122) {
+                v122 = v109 + p122;
+                d122 = d109;
             }
         }
-        if (rc.onTheMap(l124)) {
-            p124 = 10 + rc.senseRubble(l124);
-            if (v124 > v110 + p124) {
-                v124 = v110 + p124;
-                d124 = d110;
+        if (p124 > 0) {
+            v124 = v110 + p124;
+            d124 = d110;
+            if (v124 > v123 + p124) {
+                v124 = v123 + p124;
+                d124 = d123;
             }
             if (v124 > v111 + p124) {
                 v124 = v111 + p124;
@@ -1030,39 +1580,68 @@ public class BFSDroid extends BFS {
                 v124 = v112 + p124;
                 d124 = d112;
             }
-            if (v124 > v123 + p124) {
-                v124 = v123 + p124;
-                d124 = d123;
+        }
+        if (p100 > 0) {
+            v100 = v86 + p100;
+            d100 = d86;
+            if (v100 > v112 + p100) {
+                v100 = v112 + p100;
+                d100 = d112;
+            }
+            if (v100 > v99 + p100) {
+                v100 = v99 + p100;
+                d100 = d99;
+            }
+            if (v100 > v87 + p100) {
+                v100 = v87 + p100;
+                d100 = d87;
+            }
+        }
+        if (p74 > 0) {
+            v74 = v86 + p74;
+            d74 = d86;
+            if (v74 > v87 + p74) {
+                v74 = v87 + p74;
+                d74 = d87;
+            }
+            if (v74 > v73 + p74) {
+                v74 = v73 + p74;
+                d74 = d73;
+            }
+            if (v74 > v60 + p74) {
+                v74 = v60 + p74;
+                d74 = d60;
+            }
+        }
+        if (p46 > 0) {
+            v46 = v58 + p46;
+            d46 = d58;
+            if (v46 > v60 + p46) {
+                v46 = v60 + p46;
+                d46 = d60;
+            }
+            if (v46 > v59 + p46) {
+                v46 = v59 + p46;
+                d46 = d59;
+            }
+            if (v46 > v45 + p46) {
+                v46 = v45 + p46;
+                d46 = d45;
             }
         }
-        if (rc.onTheMap(l43)) {
-            p43 = 10 + rc.senseRubble(l43);
+        if (p43 > 0) {
             v43 = v57 + p43;
             d43 = d57;
-            if (v43 > v56 + p43) {
-                v43 = v56 + p43;
-                d43 = d56;
-            }
             if (v43 > v44 + p43) {
                 v43 = v44 + p43;
                 d43 = d44;
             }
-        }
-        if (rc.onTheMap(l47)) {
-            p47 = 10 + rc.senseRubble(l47);
-            v47 = v59 + p47;
-            d47 = d59;
-            if (v47 > v60 + p47) {
-                v47 = v60 + p47;
-                d47 = d60;
-            }
-            if (v47 > v46 + p47) {
-                v47 = v46 + p47;
-                d47 = d46;
+            if (v43 > v56 + p43) {
+                v43 = v56 + p43;
+                d43 = d56;
             }
         }
-        if (rc.onTheMap(l55)) {
-            p55 = 10 + rc.senseRubble(l55);
+        if (p55 > 0) {
             v55 = v69 + p55;
             d55 = d69;
             if (v55 > v56 + p55) {
@@ -1078,25 +1657,7 @@ public class BFSDroid extends BFS {
                 d55 = d43;
             }
         }
-        if (rc.onTheMap(l61)) {
-            p61 = 10 + rc.senseRubble(l61);
-            v61 = v73 + p61;
-            d61 = d73;
-            if (v61 > v60 + p61) {
-                v61 = v60 + p61;
-                d61 = d60;
-            }
-            if (v61 > v74 + p61) {
-                v61 = v74 + p61;
-                d61 = d74;
-            }
-            if (v61 > v47 + p61) {
-                v61 = v47 + p61;
-                d61 = d47;
-            }
-        }
-        if (rc.onTheMap(l107)) {
-            p107 = 10 + rc.senseRubble(l107);
+        if (p107 > 0) {
             v107 = v95 + p107;
             d107 = d95;
             if (v107 > v108 + p107) {
@@ -1108,27 +1669,9 @@ public class BFSDroid extends BFS {
                 d107 = d94;
             }
         }
-        if (rc.onTheMap(l113)) {
-            p113 = 10 + rc.senseRubble(l113);
-            v113 = v99 + p113;
-            d113 = d99;
-            if (v113 > v112 + p113) {
-                v113 = v112 + p113;
-                d113 = d112;
-            }
-            if (v113 > v100 + p113) {
-                v113 = v100 + p113;
-                d113 = d100;
-            }
-        }
-        if (rc.onTheMap(l121)) {
-            p121 = 10 + rc.senseRubble(l121);
+        if (p121 > 0) {
             v121 = v109 + p121;
             d121 = d109;
-            if (v121 > v108 + p121) {
-                v121 = v108 + p121;
-                d121 = d108;
-            }
             if (v121 > v122 + p121) {
                 v121 = v122 + p121;
                 d121 = d122;
@@ -1137,739 +1680,2572 @@ public class BFSDroid extends BFS {
                 v121 = v107 + p121;
                 d121 = d107;
             }
+            if (v121 > v108 + p121) {
+                v121 = v108 + p121;
+                d121 = d108;
+            }
         }
-        if (rc.onTheMap(l125)) {
-            p125 = 10 + rc.senseRubble(l125);
-            if (v125 > v111 + p125) {
-                v125 = v111 + p125;
-                d125 = d111;
+        if (p125 > 0) {
+            v125 = v111 + p125;
+            d125 = d111;
+            if (v125 > v124 + p125) {
+                v125 = v124 + p125;
+                d125 = d124;
             }
             if (v125 > v112 + p125) {
                 v125 = v112 + p125;
                 d125 = d112;
             }
-            if (v125 > v124 + p125) {
-                v125 = v124 + p125;
-                d125 = d124;
+        }
+        if (p113 > 0) {
+            v113 = v99 + p113;
+            d113 = d99;
+            if (v113 > v125 + p113) {
+                v113 = v125 + p113;
+                d113 = d125;
+            }
+            if (v113 > v112 + p113) {
+                v113 = v112 + p113;
+                d113 = d112;
             }
-            if (v125 > v113 + p125) {
-                v125 = v113 + p125;
-                d125 = d113;
+            if (v113 > v100 + p113) {
+                v113 = v100 + p113;
+                d113 = d100;
             }
         }
-        if (rc.onTheMap(l32)) {
-            p32 = 10 + rc.senseRubble(l32);
-            v32 = v45 + p32;
-            d32 = d45;
-            if (v32 > v44 + p32) {
-                v32 = v44 + p32;
-                d32 = d44;
+        if (p61 > 0) {
+            v61 = v73 + p61;
+            d61 = d73;
+            if (v61 > v74 + p61) {
+                v61 = v74 + p61;
+                d61 = d74;
             }
-            if (v32 > v46 + p32) {
-                v32 = v46 + p32;
-                d32 = d46;
+            if (v61 > v60 + p61) {
+                v61 = v60 + p61;
+                d61 = d60;
             }
         }
-        if (rc.onTheMap(l80)) {
-            p80 = 10 + rc.senseRubble(l80);
-            v80 = v81 + p80;
-            d80 = d81;
-            if (v80 > v68 + p80) {
-                v80 = v68 + p80;
-                d80 = d68;
+        if (p47 > 0) {
+            v47 = v59 + p47;
+            d47 = d59;
+            if (v47 > v61 + p47) {
+                v47 = v61 + p47;
+                d47 = d61;
             }
-            if (v80 > v94 + p80) {
-                v80 = v94 + p80;
-                d80 = d94;
+            if (v47 > v60 + p47) {
+                v47 = v60 + p47;
+                d47 = d60;
+            }
+            if (v47 > v46 + p47) {
+                v47 = v46 + p47;
+                d47 = d46;
             }
         }
-        if (rc.onTheMap(l88)) {
-            p88 = 10 + rc.senseRubble(l88);
-            v88 = v87 + p88;
-            d88 = d87;
-            if (v88 > v74 + p88) {
-                v88 = v74 + p88;
-                d88 = d74;
+        if (p42 > 0) {
+            v42 = v56 + p42;
+            d42 = d56;
+            if (v42 > v43 + p42) {
+                v42 = v43 + p42;
+                d42 = d43;
             }
-            if (v88 > v100 + p88) {
-                v88 = v100 + p88;
-                d88 = d100;
+            if (v42 > v55 + p42) {
+                v42 = v55 + p42;
+                d42 = d55;
             }
         }
-        if (rc.onTheMap(l136)) {
-            p136 = 10 + rc.senseRubble(l136);
-            v136 = v123 + p136;
-            d136 = d123;
-            if (v136 > v124 + p136) {
-                v136 = v124 + p136;
-                d136 = d124;
+        if (p120 > 0) {
+            v120 = v108 + p120;
+            d120 = d108;
+            if (v120 > v121 + p120) {
+                v120 = v121 + p120;
+                d120 = d121;
             }
-            if (v136 > v122 + p136) {
-                v136 = v122 + p136;
-                d136 = d122;
+            if (v120 > v107 + p120) {
+                v120 = v107 + p120;
+                d120 = d107;
             }
         }
-        if (rc.onTheMap(l31)) {
-            p31 = 10 + rc.senseRubble(l31);
-            v31 = v45 + p31;
-            d31 = d45;
-            if (v31 > v44 + p31) {
-                v31 = v44 + p31;
-                d31 = d44;
+        if (p126 > 0) {
+            v126 = v112 + p126;
+            d126 = d112;
+            if (v126 > v125 + p126) {
+                v126 = v125 + p126;
+                d126 = d125;
             }
-            if (v31 > v43 + p31) {
-                v31 = v43 + p31;
-                d31 = d43;
+            if (v126 > v113 + p126) {
+                v126 = v113 + p126;
+                d126 = d113;
+            }
+        }
+        if (p48 > 0) {
+            v48 = v60 + p48;
+            d48 = d60;
+            if (v48 > v61 + p48) {
+                v48 = v61 + p48;
+                d48 = d61;
+            }
+            if (v48 > v47 + p48) {
+                v48 = v47 + p48;
+                d48 = d47;
+            }
+        }
+        if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + 1900) {
+            maxElapsed = Debug.toc(before, "BFSDroid-search", maxElapsed);
+            return 3;
+        }
+
+        // ring 4
+        l80 = l81.add(Direction.SOUTH);
+        v80 = 1000000;
+        d80 = null;
+        l136 = l123.add(Direction.EAST);
+        v136 = 1000000;
+        d136 = null;
+        l88 = l87.add(Direction.NORTH);
+        v88 = 1000000;
+        d88 = null;
+        l32 = l45.add(Direction.WEST);
+        v32 = 1000000;
+        d32 = null;
+        l31 = l45.add(Direction.SOUTHWEST);
+        v31 = 1000000;
+        d31 = null;
+        l67 = l81.add(Direction.SOUTHWEST);
+        v67 = 1000000;
+        d67 = null;
+        l93 = l81.add(Direction.SOUTHEAST);
+        v93 = 1000000;
+        d93 = null;
+        l135 = l123.add(Direction.SOUTHEAST);
+        v135 = 1000000;
+        d135 = null;
+        l137 = l123.add(Direction.NORTHEAST);
+        v137 = 1000000;
+        d137 = null;
+        l101 = l87.add(Direction.NORTHEAST);
+        v101 = 1000000;
+        d101 = null;
+        l75 = l87.add(Direction.NORTHWEST);
+        v75 = 1000000;
+        d75 = null;
+        l33 = l45.add(Direction.NORTHWEST);
+        v33 = 1000000;
+        d33 = null;
+        l30 = l44.add(Direction.SOUTHWEST);
+        v30 = 1000000;
+        d30 = null;
+        l54 = l68.add(Direction.SOUTHWEST);
+        v54 = 1000000;
+        d54 = null;
+        l106 = l94.add(Direction.SOUTHEAST);
+        v106 = 1000000;
+        d106 = null;
+        l134 = l122.add(Direction.SOUTHEAST);
+        v134 = 1000000;
+        d134 = null;
+        l138 = l124.add(Direction.NORTHEAST);
+        v138 = 1000000;
+        d138 = null;
+        l114 = l100.add(Direction.NORTHEAST);
+        v114 = 1000000;
+        d114 = null;
+        l62 = l74.add(Direction.NORTHWEST);
+        v62 = 1000000;
+        d62 = null;
+        l34 = l46.add(Direction.NORTHWEST);
+        v34 = 1000000;
+        d34 = null;
+        if (margin >= 4) {
+            if (p80 == 0) {
+                int rubble = rc.senseRubble(l80);
+                RubbleMemory.record(l80, rubble);
+                p80 = 10 + rubble;
+            }
+            if (p136 == 0) {
+                int rubble = rc.senseRubble(l136);
+                RubbleMemory.record(l136, rubble);
+                p136 = 10 + rubble;
+            }
+            if (p88 == 0) {
+                int rubble = rc.senseRubble(l88);
+                RubbleMemory.record(l88, rubble);
+                p88 = 10 + rubble;
+            }
+            if (p32 == 0) {
+                int rubble = rc.senseRubble(l32);
+                RubbleMemory.record(l32, rubble);
+                p32 = 10 + rubble;
+            }
+            if (p31 == 0) {
+                int rubble = rc.senseRubble(l31);
+                RubbleMemory.record(l31, rubble);
+                p31 = 10 + rubble;
+            }
+            if (p67 == 0) {
+                int rubble = rc.senseRubble(l67);
+                RubbleMemory.record(l67, rubble);
+                p67 = 10 + rubble;
+            }
+            if (p93 == 0) {
+                int rubble = rc.senseRubble(l93);
+                RubbleMemory.record(l93, rubble);
+                p93 = 10 + rubble;
+            }
+            if (p135 == 0) {
+                int rubble = rc.senseRubble(l135);
+                RubbleMemory.record(l135, rubble);
+                p135 = 10 + rubble;
+            }
+            if (p137 == 0) {
+                int rubble = rc.senseRubble(l137);
+                RubbleMemory.record(l137, rubble);
+                p137 = 10 + rubble;
+            }
+            if (p101 == 0) {
+                int rubble = rc.senseRubble(l101);
+                RubbleMemory.record(l101, rubble);
+                p101 = 10 + rubble;
+            }
+            if (p75 == 0) {
+                int rubble = rc.senseRubble(l75);
+                RubbleMemory.record(l75, rubble);
+                p75 = 10 + rubble;
+            }
+            if (p33 == 0) {
+                int rubble = rc.senseRubble(l33);
+                RubbleMemory.record(l33, rubble);
+                p33 = 10 + rubble;
+            }
+            if (p30 == 0) {
+                int rubble = rc.senseRubble(l30);
+                RubbleMemory.record(l30, rubble);
+                p30 = 10 + rubble;
+            }
+            if (p54 == 0) {
+                int rubble = rc.senseRubble(l54);
+                RubbleMemory.record(l54, rubble);
+                p54 = 10 + rubble;
+            }
+            if (p106 == 0) {
+                int rubble = rc.senseRubble(l106);
+                RubbleMemory.record(l106, rubble);
+                p106 = 10 + rubble;
+            }
+            if (p134 == 0) {
+                int rubble = rc.senseRubble(l134);
+                RubbleMemory.record(l134, rubble);
+                p134 = 10 + rubble;
+            }
+            if (p138 == 0) {
+                int rubble = rc.senseRubble(l138);
+                RubbleMemory.record(l138, rubble);
+                p138 = 10 + rubble;
+            }
+            if (p114 == 0) {
+                int rubble = rc.senseRubble(l114);
+                RubbleMemory.record(l114, rubble);
+                p114 = 10 + rubble;
+            }
+            if (p62 == 0) {
+                int rubble = rc.senseRubble(l62);
+                RubbleMemory.record(l62, rubble);
+                p62 = 10 + rubble;
+            }
+            if (p34 == 0) {
+                int rubble = rc.senseRubble(l34);
+                RubbleMemory.record(l34, rubble);
+                p34 = 10 + rubble;
+            }
+        } else {
+            if (p80 == 0) {
+                if (rc.onTheMap(l80)) {
+                    int rubble = rc.senseRubble(l80);
+                    RubbleMemory.record(l80, rubble);
+                    p80 = 10 + rubble;
+                } else {
+                    p80 = -1;
+                }
+            }
+            if (p136 == 0) {
+                if (rc.onTheMap(l136)) {
+                    int rubble = rc.senseRubble(l136);
+                    RubbleMemory.record(l136, rubble);
+                    p136 = 10 + rubble;
+                } else {
+                    p136 = -1;
+                }
+            }
+            if (p88 == 0) {
+                if (rc.onTheMap(l88)) {
+                    int rubble = rc.senseRubble(l88);
+                    RubbleMemory.record(l88, rubble);
+                    p88 = 10 + rubble;
+                } else {
+                    p88 = -1;
+                }
+            }
+            if (p32 == 0) {
+                if (rc.onTheMap(l32)) {
+                    int rubble = rc.senseRubble(l32);
+                    RubbleMemory.record(l32, rubble);
+                    p32 = 10 + rubble;
+                } else {
+                    p32 = -1;
+                }
+            }
+            if (p31 == 0) {
+                if (rc.onTheMap(l31)) {
+                    int rubble = rc.senseRubble(l31);
+                    RubbleMemory.record(l31, rubble);
+                    p31 = 10 + rubble;
+                } else {
+                    p31 = -1;
+                }
+            }
+            if (p67 == 0) {
+                if (rc.onTheMap(l67)) {
+                    int rubble = rc.senseRubble(l67);
+                    RubbleMemory.record(l67, rubble);
+                    p67 = 10 + rubble;
+                } else {
+                    p67 = -1;
+                }
+            }
+            if (p93 == 0) {
+                if (rc.onTheMap(l93)) {
+                    int rubble = rc.senseRubble(l93);
+                    RubbleMemory.record(l93, rubble);
+                    p93 = 10 + rubble;
+                } else {
+                    p93 = -1;
+                }
+            }
+            if (p135 == 0) {
+                if (rc.onTheMap(l135)) {
+                    int rubble = rc.senseRubble(l135);
+                    RubbleMemory.record(l135, rubble);
+                    p135 = 10 + rubble;
+                } else {
+                    p135 = -1;
+                }
+            }
+            if (p137 == 0) {
+                if (rc.onTheMap(l137)) {
+                    int rubble = rc.senseRubble(l137);
+                    RubbleMemory.record(l137, rubble);
+                    p137 = 10 + rubble;
+                } else {
+                    p137 = -1;
+                }
+            }
+            if (p101 == 0) {
+                if (rc.onTheMap(l101)) {
+                    int rubble = rc.senseRubble(l101);
+                    RubbleMemory.record(l101, rubble);
+                    p101 = 10 + rubble;
+                } else {
+                    p101 = -1;
+                }
+            }
+            if (p75 == 0) {
+                if (rc.onTheMap(l75)) {
+                    int rubble = rc.senseRubble(l75);
+                    RubbleMemory.record(l75, rubble);
+                    p75 = 10 + rubble;
+                } else {
+                    p75 = -1;
+                }
+            }
+            if (p33 == 0) {
+                if (rc.onTheMap(l33)) {
+                    int rubble = rc.senseRubble(l33);
+                    RubbleMemory.record(l33, rubble);
+                    p33 = 10 + rubble;
+                } else {
+                    p33 = -1;
+                }
+            }
+            if (p30 == 0) {
+                if (rc.onTheMap(l30)) {
+                    int rubble = rc.senseRubble(l30);
+                    RubbleMemory.record(l30, rubble);
+                    p30 = 10 + rubble;
+                } else {
+                    p30 = -1;
+                }
+            }
+            if (p54 == 0) {
+                if (rc.onTheMap(l54)) {
+                    int rubble = rc.senseRubble(l54);
+                    RubbleMemory.record(l54, rubble);
+                    p54 = 10 + rubble;
+                } else {
+                    p54 = -1;
+                }
+            }
+            if (p106 == 0) {
+                if (rc.onTheMap(l106)) {
+                    int rubble = rc.senseRubble(l106);
+                    RubbleMemory.record(l106, rubble);
+                    p106 = 10 + rubble;
+                } else {
+                    p106 = -1;
+                }
+            }
+            if (p134 == 0) {
+                if (rc.onTheMap(l134)) {
+                    int rubble = rc.senseRubble(l134);
+                    RubbleMemory.record(l134, rubble);
+                    p134 = 10 + rubble;
+                } else {
+                    p134 = -1;
+                }
+            }
+            if (p138 == 0) {
+                if (rc.onTheMap(l138)) {
+                    int rubble = rc.senseRubble(l138);
+                    RubbleMemory.record(l138, rubble);
+                    p138 = 10 + rubble;
+                } else {
+                    p138 = -1;
+                }
+            }
+            if (p114 == 0) {
+                if (rc.onTheMap(l114)) {
+                    int rubble = rc.senseRubble(l114);
+                    RubbleMemory.record(l114, rubble);
+                    p114 = 10 + rubble;
+                } else {
+                    p114 = -1;
+                }
+            }
+            if (p62 == 0) {
+                if (rc.onTheMap(l62)) {
+                    int rubble = rc.senseRubble(l62);
+                    RubbleMemory.record(l62, rubble);
+                    p62 = 10 + rubble;
+                } else {
+                    p62 = -1;
+                }
+            }
+            if (p34 == 0) {
+                if (rc.onTheMap(l34)) {
+                    int rubble = rc.senseRubble(l34);
+                    RubbleMemory.record(l34, rubble);
+                    p34 = 10 + rubble;
+                } else {
+                    p34 = -1;
+                }
+            }
+        }
+        if (p80 > 0) {
+            v80 = v81 + p80;
+            d80 = d81;
+            if (v80 > v94 + p80) {
+                v80 = v94 + p80;
+                d80 = d94;
+            }
+            if (v80 > v68 + p80) {
+                v80 = v68 + p80;
+                d80 = d68;
+            }
+        }
+        if (p136 > 0) {
+            v136 = v123 + p136;
+            d136 = d123;
+            if (v136 > v122 + p136) {
+                v136 = v122 + p136;
+                d136 = d122;
+            }
+            if (v136 > v124 + p136) {
+                v136 = v124 + p136;
+                d136 = d124;
+            }
+        }
+        if (p88 > 0) {
+            v88 = v87 + p88;
+            d88 = d87;
+            if (v88 > v100 + p88) {
+                v88 = v100 + p88;
+                d88 = d100;
+            }
+            if (v88 > v74 + p88) {
+                v88 = v74 + p88;
+                d88 = d74;
+            }
+        }
+        if (p32 > 0) {
+            v32 = v45 + p32;
+            d32 = d45;
+            if (v32 > v46 + p32) {
+                v32 = v46 + p32;
+                d32 = d46;
+            }
+            if (v32 > v44 + p32) {
+                v32 = v44 + p32;
+                d32 = d44;
             }
+        }
+        if (p31 > 0) {
+            v31 = v45 + p31;
+            d31 = d45;
             if (v31 > v32 + p31) {
                 v31 = v32 + p31;
                 d31 = d32;
             }
-        }
-        if (rc.onTheMap(l33)) {
-            p33 = 10 + rc.senseRubble(l33);
-            v33 = v45 + p33;
-            d33 = d45;
-            if (v33 > v46 + p33) {
-                v33 = v46 + p33;
-                d33 = d46;
-            }
-            if (v33 > v47 + p33) {
-                v33 = v47 + p33;
-                d33 = d47;
+            if (v31 > v44 + p31) {
+                v31 = v44 + p31;
+                d31 = d44;
             }
-            if (v33 > v32 + p33) {
-                v33 = v32 + p33;
-                d33 = d32;
+            if (v31 > v43 + p31) {
+                v31 = v43 + p31;
+                d31 = d43;
             }
         }
-        if (rc.onTheMap(l67)) {
-            p67 = 10 + rc.senseRubble(l67);
+        if (p67 > 0) {
             v67 = v81 + p67;
             d67 = d81;
             if (v67 > v68 + p67) {
                 v67 = v68 + p67;
                 d67 = d68;
             }
+            if (v67 > v80 + p67) {
+                v67 = v80 + p67;
+                d67 = d80;
+            }
             if (v67 > v55 + p67) {
                 v67 = v55 + p67;
                 d67 = d55;
             }
-            if (v67 > v80 + p67) {
-                v67 = v80 + p67;
-                d67 = d80;
+        }
+        if (p93 > 0) {
+            v93 = v81 + p93;
+            d93 = d81;
+            if (v93 > v94 + p93) {
+                v93 = v94 + p93;
+                d93 = d94;
+            }
+            if (v93 > v107 + p93) {
+                v93 = v107 + p93;
+                d93 = d107;
+            }
+            if (v93 > v80 + p93) {
+                v93 = v80 + p93;
+                d93 = d80;
+            }
+        }
+        if (p135 > 0) {
+            v135 = v123 + p135;
+            d135 = d123;
+            if (v135 > v136 + p135) {
+                v135 = v136 + p135;
+                d135 = d136;
+            }
+            if (v135 > v121 + p135) {
+                v135 = v121 + p135;
+                d135 = d121;
+            }
+            if (v135 > v122 + p135) {
+                v135 = v122 + p135;
+                d135 = d122;
+            }
+        }
+        if (p137 > 0) {
+            v137 = v123 + p137;
+            d137 = d123;
+            if (v137 > v136 + p137) {
+                v137 = v136 + p137;
+                d137 = d136;
+            }
+            if (v137 > v124 + p137) {
+                v137 = v124 + p137;
+                d137 = d124;
+            }
+            if (v137 > v125 + p137) {
+                v137 = v125 + p137;
+                d137 = d125;
+            }
+        }
+        if (p101 > 0) {
+            v101 = v87 + p101;
+            d101 = d87;
+            if (v101 > v113 + p101) {
+                v101 = v113 + p101;
+                d101 = d113;
+            }
+            if (v101 > v100 + p101) {
+                v101 = v100 + p101;
+                d101 = d100;
+            }
+            if (v101 > v88 + p101) {
+                v101 = v88 + p101;
+                d101 = d88;
+            }
+        }
+        if (p75 > 0) {
+            v75 = v87 + p75;
+            d75 = d87;
+            if (v75 > v88 + p75) {
+                v75 = v88 + p75;
+                d75 = d88;
+            }
+            if (v75 > v74 + p75) {
+                v75 = v74 + p75;
+                d75 = d74;
+            }
+            if (v75 > v61 + p75) {
+                v75 = v61 + p75;
+                d75 = d61;
+            }
+        }
+        if (p33 > 0) {
+            v33 = v45 + p33;
+            d33 = d45;
+            if (v33 > v47 + p33) {
+                v33 = v47 + p33;
+                d33 = d47;
+            }
+            if (v33 > v46 + p33) {
+                v33 = v46 + p33;
+                d33 = d46;
             }
+            if (v33 > v32 + p33) {
+                v33 = v32 + p33;
+                d33 = d32;
+            }
+        }
+        if (p30 > 0) {
+            v30 = v44 + p30;
+            d30 = d44;
+            if (v30 > v31 + p30) {
+                v30 = v31 + p30;
+                d30 = d31;
+            }
+            if (v30 > v43 + p30) {
+                v30 = v43 + p30;
+                d30 = d43;
+            }
+            if (v30 > v42 + p30) {
+                v30 = v42 + p30;
+                d30 = d42;
+            }
+        }
+        if (p54 > 0) {
+            v54 = v68 + p54;
+            d54 = d68;
+            if (v54 > v55 + p54) {
+                v54 = v55 + p54;
+                d54 = d55;
+            }
+            if (v54 > v67 + p54) {
+                v54 = v67 + p54;
+                d54 = d67;
+            }
+            if (v54 > v42 + p54) {
+                v54 = v42 + p54;
+                d54 = d42;
+            }
+        }
+        if (p106 > 0) {
+            v106 = v94 + p106;
+            d106 = d94;
+            if (v106 > v107 + p106) {
+                v106 = v107 + p106;
+                d106 = d107;
+            }
+            if (v106 > v120 + p106) {
+                v106 = v120 + p106;
+                d106 = d120;
+            }
+            if (v106 > v93 + p106) {
+                v106 = v93 + p106;
+                d106 = d93;
+            }
+        }
+        if (p134 > 0) {
+            v134 = v122 + p134;
+            d134 = d122;
+            if (v134 > v135 + p134) {
+                v134 = v135 + p134;
+                d134 = d135;
+            }
+            if (v134 > v120 + p134) {
+                v134 = v120 + p134;
+                d134 = d120;
+            }
+            if (v134 > v121 + p134) {
+                v134 = v121 + p134;
+                d134 = d121;
+            }
+        }
+        if (p138 > 0) {
+            v138 = v124 + p138;
+            d138 = d124;
+            if (v138 > v137 + p138) {
+                v138 = v137 + p138;
+                d138 = d137;
+            }
+            if (v138 > v125 + p138) {
+                v138 = v125 + p138;
+                d138 = d125;
+            }
+            if (v138 > v126 + p138) {
+                v138 = v126 + p138;
+                d138 = d126;
+            }
+        }
+        if (p114 > 0) {
+            v114 = v100 + p114;
+            d114 = d100;
+            if (v114 > v126 + p114) {
+                v114 = v126 + p114;
+                d114 = d126;
+            }
+            if (v114 > v113 + p114) {
+                v114 = v113 + p114;
+                d114 = d113;
+            }
+            if (v114 > v101 + p114) {
+                v114 = v101 + p114;
+                d114 = d101;
+            }
+        }
+        if (p62 > 0) {
+            v62 = v74 + p62;
+            d62 = d74;
+            if (v62 > v75 + p62) {
+                v62 = v75 + p62;
+                d62 = d75;
+            }
+            if (v62 > v61 + p62) {
+                v62 = v61 + p62;
+                d62 = d61;
+            }
+            if (v62 > v48 + p62) {
+                v62 = v48 + p62;
+                d62 = d48;
+            }
+        }
+        if (p34 > 0) {
+            v34 = v46 + p34;
+            d34 = d46;
+            if (v34 > v48 + p34) {
+                v34 = v48 + p34;
+                d34 = d48;
+            }
+            if (v34 > v47 + p34) {
+                v34 = v47 + p34;
+                d34 = d47;
+            }
+            if (v34 > v33 + p34) {
+                v34 = v33 + p34;
+                d34 = d33;
+            }
+        }
+        maxElapsed = Debug.toc(before, "BFSDroid-search", maxElapsed);
+        return 4;
+    }
+
+    Direction getBestDir(MapLocation target, int rings) {
+        switch (rings) {
+            case 1:
+                return getBestDirWithinRing1(target);
+            case 2:
+                return getBestDirWithinRing2(target);
+            case 3:
+                return getBestDirWithinRing3(target);
+            default:
+                return getBestDirWithinRing4(target);
+        }
+    }
+
+    private static void clearRubbleCache() {
+        p83 = 0;
+        p97 = 0;
+        p85 = 0;
+        p71 = 0;
+        p70 = 0;
+        p96 = 0;
+        p98 = 0;
+        p72 = 0;
+        p82 = 0;
+        p110 = 0;
+        p86 = 0;
+        p58 = 0;
+        p57 = 0;
+        p69 = 0;
+        p95 = 0;
+        p109 = 0;
+        p111 = 0;
+        p99 = 0;
+        p73 = 0;
+        p59 = 0;
+        p56 = 0;
+        p108 = 0;
+        p112 = 0;
+        p60 = 0;
+        p81 = 0;
+        p123 = 0;
+        p87 = 0;
+        p45 = 0;
+        p44 = 0;
+        p68 = 0;
+        p94 = 0;
+        p122 = 0;
+        p124 = 0;
+        p100 = 0;
+        p74 = 0;
+        p46 = 0;
+        p43 = 0;
+        p55 = 0;
+        p107 = 0;
+        p121 = 0;
+        p125 = 0;
+        p113 = 0;
+        p61 = 0;
+        p47 = 0;
+        p42 = 0;
+        p120 = 0;
+        p126 = 0;
+        p48 = 0;
+        p80 = 0;
+        p136 = 0;
+        p88 = 0;
+        p32 = 0;
+        p31 = 0;
+        p67 = 0;
+        p93 = 0;
+        p135 = 0;
+        p137 = 0;
+        p101 = 0;
+        p75 = 0;
+        p33 = 0;
+        p30 = 0;
+        p54 = 0;
+        p106 = 0;
+        p134 = 0;
+        p138 = 0;
+        p114 = 0;
+        p62 = 0;
+        p34 = 0;
+    }
+
+    private static void shiftRubbleCache(Direction dir) {
+        switch (dir) {
+            case NORTH:
+                p80 = p81;
+                p67 = p68;
+                p93 = p94;
+                p54 = p55;
+                p106 = p107;
+                p81 = p82;
+                p68 = p69;
+                p94 = p95;
+                p55 = p56;
+                p107 = p108;
+                p42 = p43;
+                p120 = p121;
+                p82 = p83;
+                p69 = p70;
+                p95 = p96;
+                p56 = p57;
+                p108 = p109;
+                p43 = p44;
+                p121 = p122;
+                p30 = p31;
+                p134 = p135;
+                p83 = 0;
+                p70 = p71;
+                p96 = p97;
+                p57 = p58;
+                p109 = p110;
+                p44 = p45;
+                p122 = p123;
+                p31 = p32;
+                p135 = p136;
+                p97 = p98;
+                p71 = p72;
+                p110 = p111;
+                p58 = p59;
+                p123 = p124;
+                p45 = p46;
+                p136 = p137;
+                p32 = p33;
+                p85 = p86;
+                p98 = p99;
+                p72 = p73;
+                p111 = p112;
+                p59 = p60;
+                p124 = p125;
+                p46 = p47;
+                p137 = p138;
+                p33 = p34;
+                p86 = p87;
+                p99 = p100;
+                p73 = p74;
+                p112 = p113;
+                p60 = p61;
+                p125 = p126;
+                p47 = p48;
+                p138 = 0;
+                p34 = 0;
+                p87 = p88;
+                p100 = p101;
+                p74 = p75;
+                p113 = p114;
+                p61 = p62;
+                p126 = 0;
+                p48 = 0;
+                p88 = 0;
+                p101 = 0;
+                p75 = 0;
+                p114 = 0;
+                p62 = 0;
+                break;
+            case NORTHEAST:
+                p42 = p56;
+                p30 = p44;
+                p54 = p68;
+                p43 = p57;
+                p55 = p69;
+                p31 = p45;
+                p67 = p81;
+                p56 = p70;
+                p44 = p58;
+                p68 = p82;
+                p80 = p94;
+                p32 = p46;
+                p57 = p71;
+                p69 = p83;
+                p81 = p95;
+                p45 = p59;
+                p93 = p107;
+                p33 = p47;
+                p70 = 0;
+                p82 = p96;
+                p58 = p72;
+                p94 = p108;
+                p46 = p60;
+                p106 = p120;
+                p34 = p48;
+                p83 = p97;
+                p71 = p85;
+                p95 = p109;
+                p59 = p73;
+                p107 = p121;
+                p47 = p61;
+                p96 = p110;
+                p72 = p86;
+                p108 = p122;
+                p60 = p74;
+                p120 = p134;
+                p48 = p62;
+                p97 = p111;
+                p85 = p99;
+                p109 = p123;
+                p73 = p87;
+                p121 = p135;
+                p61 = p75;
+                p98 = p112;
+                p110 = p124;
+                p86 = p100;
+                p122 = p136;
+                p74 = p88;
+                p134 = 0;
+                p62 = 0;
+                p111 = p125;
+                p99 = p113;
+                p123 = p137;
+                p87 = p101;
+                p135 = 0;
+                p75 = 0;
+                p112 = p126;
+                p124 = p138;
+                p100 = p114;
+                p136 = 0;
+                p88 = 0;
+                p125 = 0;
+                p113 = 0;
+                p137 = 0;
+                p101 = 0;
+                p126 = 0;
+                p138 = 0;
+                p114 = 0;
+                break;
+            case EAST:
+                p32 = p45;
+                p31 = p44;
+                p33 = p46;
+                p30 = p43;
+                p34 = p47;
+                p45 = p58;
+                p44 = p57;
+                p46 = p59;
+                p43 = p56;
+                p47 = p60;
+                p42 = p55;
+                p48 = p61;
+                p58 = p71;
+                p57 = p70;
+                p59 = p72;
+                p56 = p69;
+                p60 = p73;
+                p55 = p68;
+                p61 = p74;
+                p54 = p67;
+                p62 = p75;
+                p71 = 0;
+                p70 = p83;
+                p72 = p85;
+                p69 = p82;
+                p73 = p86;
+                p68 = p81;
+                p74 = p87;
+                p67 = p80;
+                p75 = p88;
+                p83 = p96;
+                p85 = p98;
+                p82 = p95;
+                p86 = p99;
+                p81 = p94;
+                p87 = p100;
+                p80 = p93;
+                p88 = p101;
+                p97 = p110;
+                p96 = p109;
+                p98 = p111;
+                p95 = p108;
+                p99 = p112;
+                p94 = p107;
+                p100 = p113;
+                p93 = p106;
+                p101 = p114;
+                p110 = p123;
+                p109 = p122;
+                p111 = p124;
+                p108 = p121;
+                p112 = p125;
+                p107 = p120;
+                p113 = p126;
+                p106 = 0;
+                p114 = 0;
+                p123 = p136;
+                p122 = p135;
+                p124 = p137;
+                p121 = p134;
+                p125 = p138;
+                p120 = 0;
+                p126 = 0;
+                p136 = 0;
+                p135 = 0;
+                p137 = 0;
+                p134 = 0;
+                p138 = 0;
+                break;
+            case SOUTHEAST:
+                p48 = p60;
+                p62 = p74;
+                p34 = p46;
+                p61 = p73;
+                p47 = p59;
+                p75 = p87;
+                p33 = p45;
+                p60 = p72;
+                p74 = p86;
+                p46 = p58;
+                p88 = p100;
+                p32 = p44;
+                p73 = p85;
+                p59 = p71;
+                p87 = p99;
+                p45 = p57;
+                p31 = p43;
+                p101 = p113;
+                p72 = 0;
+                p86 = p98;
+                p58 = p70;
+                p44 = p56;
+                p100 = p112;
+                p30 = p42;
+                p114 = p126;
+                p85 = p97;
+                p71 = p83;
+                p57 = p69;
+                p99 = p111;
+                p43 = p55;
+                p113 = p125;
+                p70 = p82;
+                p98 = p110;
+                p56 = p68;
+                p112 = p124;
+                p42 = p54;
+                p126 = p138;
+                p83 = p95;
+                p97 = p109;
+                p69 = p81;
+                p111 = p123;
+                p55 = p67;
+                p125 = p137;
+                p96 = p108;
+                p82 = p94;
+                p110 = p122;
+                p68 = p80;
+                p124 = p136;
+                p54 = 0;
+                p138 = 0;
+                p95 = p107;
+                p109 = p121;
+                p81 = p93;
+                p123 = p135;
+                p67 = 0;
+                p137 = 0;
+                p108 = p120;
+                p94 = p106;
+                p122 = p134;
+                p80 = 0;
+                p136 = 0;
+                p107 = 0;
+                p121 = 0;
+                p93 = 0;
+                p135 = 0;
+                p120 = 0;
+                p106 = 0;
+                p134 = 0;
+                break;
+            case SOUTH:
+                p88 = p87;
+                p101 = p100;
+                p75 = p74;
+                p114 = p113;
+                p62 = p61;
+                p87 = p86;
+                p100 = p99;
+                p74 = p73;
+                p113 = p112;
+                p61 = p60;
+                p126 = p125;
+                p48 = p47;
+                p86 = p85;
+                p99 = p98;
+                p73 = p72;
+                p112 = p111;
+                p60 = p59;
+                p125 = p124;
+                p47 = p46;
+                p138 = p137;
+                p34 = p33;
+                p85 = 0;
+                p98 = p97;
+                p72 = p71;
+                p111 = p110;
+                p59 = p58;
+                p124 = p123;
+                p46 = p45;
+                p137 = p136;
+                p33 = p32;
+                p97 = p96;
+                p71 = p70;
+                p110 = p109;
+                p58 = p57;
+                p123 = p122;
+                p45 = p44;
+                p136 = p135;
+                p32 = p31;
+                p83 = p82;
+                p70 = p69;
+                p96 = p95;
+                p57 = p56;
+                p109 = p108;
+                p44 = p43;
+                p122 = p121;
+                p31 = p30;
+                p135 = p134;
+                p82 = p81;
+                p69 = p68;
+                p95 = p94;
+                p56 = p55;
+                p108 = p107;
+                p43 = p42;
+                p121 = p120;
+                p30 = 0;
+                p134 = 0;
+                p81 = p80;
+                p68 = p67;
+                p94 = p93;
+                p55 = p54;
+                p107 = p106;
+                p42 = 0;
+                p120 = 0;
+                p80 = 0;
+                p67 = 0;
+                p93 = 0;
+                p54 = 0;
+                p106 = 0;
+                break;
+            case SOUTHWEST:
+                p126 = p112;
+                p138 = p124;
+                p114 = p100;
+                p125 = p111;
+                p113 = p99;
+                p137 = p123;
+                p101 = p87;
+                p112 = p98;
+                p124 = p110;
+                p100 = p86;
+                p136 = p122;
+                p88 = p74;
+                p111 = p97;
+                p99 = p85;
+                p123 = p109;
+                p87 = p73;
+                p135 = p121;
+                p75 = p61;
+                p98 = 0;
+                p110 = p96;
+                p86 = p72;
+                p122 = p108;
+                p74 = p60;
+                p134 = p120;
+                p62 = p48;
+                p97 = p83;
+                p85 = p71;
+                p109 = p95;
+                p73 = p59;
+                p121 = p107;
+                p61 = p47;
+                p96 = p82;
+                p72 = p58;
+                p108 = p94;
+                p60 = p46;
+                p120 = p106;
+                p48 = p34;
+                p83 = p69;
+                p71 = p57;
+                p95 = p81;
+                p59 = p45;
+                p107 = p93;
+                p47 = p33;
+                p70 = p56;
+                p82 = p68;
+                p58 = p44;
+                p94 = p80;
+                p46 = p32;
+                p106 = 0;
+                p34 = 0;
+                p57 = p43;
+                p69 = p55;
+                p81 = p67;
+                p45 = p31;
+                p93 = 0;
+                p33 = 0;
+                p56 = p42;
+                p44 = p30;
+                p68 = p54;
+                p80 = 0;
+                p32 = 0;
+                p43 = 0;
+                p55 = 0;
+                p31 = 0;
+                p67 = 0;
+                p42 = 0;
+                p30 = 0;
+                p54 = 0;
+                break;
+            case WEST:
+                p136 = p123;
+                p135 = p122;
+                p137 = p124;
+                p134 = p121;
+                p138 = p125;
+                p123 = p110;
+                p122 = p109;
+                p124 = p111;
+                p121 = p108;
+                p125 = p112;
+                p120 = p107;
+                p126 = p113;
+                p110 = p97;
+                p109 = p96;
+                p111 = p98;
+                p108 = p95;
+                p112 = p99;
+                p107 = p94;
+                p113 = p100;
+                p106 = p93;
+                p114 = p101;
+                p97 = 0;
+                p96 = p83;
+                p98 = p85;
+                p95 = p82;
+                p99 = p86;
+                p94 = p81;
+                p100 = p87;
+                p93 = p80;
+                p101 = p88;
+                p83 = p70;
+                p85 = p72;
+                p82 = p69;
+                p86 = p73;
+                p81 = p68;
+                p87 = p74;
+                p80 = p67;
+                p88 = p75;
+                p71 = p58;
+                p70 = p57;
+                p72 = p59;
+                p69 = p56;
+                p73 = p60;
+                p68 = p55;
+                p74 = p61;
+                p67 = p54;
+                p75 = p62;
+                p58 = p45;
+                p57 = p44;
+                p59 = p46;
+                p56 = p43;
+                p60 = p47;
+                p55 = p42;
+                p61 = p48;
+                p54 = 0;
+                p62 = 0;
+                p45 = p32;
+                p44 = p31;
+                p46 = p33;
+                p43 = p30;
+                p47 = p34;
+                p42 = 0;
+                p48 = 0;
+                p32 = 0;
+                p31 = 0;
+                p33 = 0;
+                p30 = 0;
+                p34 = 0;
+                break;
+            case NORTHWEST:
+                p120 = p108;
+                p106 = p94;
+                p134 = p122;
+                p107 = p95;
+                p121 = p109;
+                p93 = p81;
+                p135 = p123;
+                p108 = p96;
+                p94 = p82;
+                p122 = p110;
+                p80 = p68;
+                p136 = p124;
+                p95 = p83;
+                p109 = p97;
+                p81 = p69;
+                p123 = p111;
+                p67 = p55;
+                p137 = p125;
+                p96 = 0;
+                p82 = p70;
+                p110 = p98;
+                p68 = p56;
+                p124 = p112;
+                p54 = p42;
+                p138 = p126;
+                p83 = p71;
+                p97 = p85;
+                p69 = p57;
+                p111 = p99;
+                p55 = p43;
+                p125 = p113;
+                p70 = p58;
+                p98 = p86;
+                p56 = p44;
+                p112 = p100;
+                p42 = p30;
+                p126 = p114;
+                p85 = p73;
+                p71 = p59;
+                p57 = p45;
+                p99 = p87;
+                p43 = p31;
+                p113 = p101;
+                p72 = p60;
+                p86 = p74;
+                p58 = p46;
+                p44 = p32;
+                p100 = p88;
+                p30 = 0;
+                p114 = 0;
+                p73 = p61;
+                p59 = p47;
+                p87 = p75;
+                p45 = p33;
+                p31 = 0;
+                p101 = 0;
+                p60 = p48;
+                p74 = p62;
+                p46 = p34;
+                p88 = 0;
+                p32 = 0;
+                p61 = 0;
+                p47 = 0;
+                p75 = 0;
+                p33 = 0;
+                p48 = 0;
+                p62 = 0;
+                p34 = 0;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static Direction getBestDirWithinRing1(MapLocation target) {
+        int dx = target.x - l84.x;
+        int dy = target.y - l84.y;
+        switch (dx) {
+            case -1:
+                switch (dy) {
+                    case -1:
+                        pathCost = v70;
+                        return d70;
+                    case 0:
+                        pathCost = v71;
+                        return d71;
+                    case 1:
+                        pathCost = v72;
+                        return d72;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -1:
+                        pathCost = v83;
+                        return d83;
+                    case 1:
+                        pathCost = v85;
+                        return d85;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -1:
+                        pathCost = v96;
+                        return d96;
+                    case 0:
+                        pathCost = v97;
+                        return d97;
+                    case 1:
+                        pathCost = v98;
+                        return d98;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l84.distanceSquaredTo(target));
+        double remaining70 = Math.sqrt(l70.distanceSquaredTo(target));
+        double dist70 = (initialDist - remaining70) / v70;
+        if (dist70 > bestEstimation) {
+            bestEstimation = dist70;
+            ans = d70;
+            ansCost = v70 + 10 * remaining70;
+        }
+        double remaining71 = Math.sqrt(l71.distanceSquaredTo(target));
+        double dist71 = (initialDist - remaining71) / v71;
+        if (dist71 > bestEstimation) {
+            bestEstimation = dist71;
+            ans = d71;
+            ansCost = v71 + 10 * remaining71;
+        }
+        double remaining72 = Math.sqrt(l72.distanceSquaredTo(target));
+        double dist72 = (initialDist - remaining72) / v72;
+        if (dist72 > bestEstimation) {
+            bestEstimation = dist72;
+            ans = d72;
+            ansCost = v72 + 10 * remaining72;
+        }
+        double remaining83 = Math.sqrt(l83.distanceSquaredTo(target));
+        double dist83 = (initialDist - remaining83) / v83;
+        if (dist83 > bestEstimation) {
+            bestEstimation = dist83;
+            ans = d83;
+            ansCost = v83 + 10 * remaining83;
+        }
+        double remaining85 = Math.sqrt(l85.distanceSquaredTo(target));
+        double dist85 = (initialDist - remaining85) / v85;
+        if (dist85 > bestEstimation) {
+            bestEstimation = dist85;
+            ans = d85;
+            ansCost = v85 + 10 * remaining85;
+        }
+        double remaining96 = Math.sqrt(l96.distanceSquaredTo(target));
+        double dist96 = (initialDist - remaining96) / v96;
+        if (dist96 > bestEstimation) {
+            bestEstimation = dist96;
+            ans = d96;
+            ansCost = v96 + 10 * remaining96;
+        }
+        double remaining97 = Math.sqrt(l97.distanceSquaredTo(target));
+        double dist97 = (initialDist - remaining97) / v97;
+        if (dist97 > bestEstimation) {
+            bestEstimation = dist97;
+            ans = d97;
+            ansCost = v97 + 10 * remaining97;
+        }
+        double remaining98 = Math.sqrt(l98.distanceSquaredTo(target));
+        double dist98 = (initialDist - remaining98) / v98;
+        if (dist98 > bestEstimation) {
+            bestEstimation = dist98;
+            ans = d98;
+            ansCost = v98 + 10 * remaining98;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+
+    private static Direction getBestDirWithinRing2(MapLocation target) {
+        int dx = target.x - l84.x;
+        int dy = target.y - l84.y;
+        switch (dx) {
+            case -2:
+                switch (dy) {
+                    case -2:
+                        pathCost = v56;
+                        return d56;
+                    case -1:
+                        pathCost = v57;
+                        return d57;
+                    case 0:
+                        pathCost = v58;
+                        return d58;
+                    case 1:
+                        pathCost = v59;
+                        return d59;
+                    case 2:
+                        pathCost = v60;
+                        return d60;
+                }
+                break;
+            case -1:
+                switch (dy) {
+                    case -2:
+                        pathCost = v69;
+                        return d69;
+                    case -1:
+                        pathCost = v70;
+                        return d70;
+                    case 0:
+                        pathCost = v71;
+                        return d71;
+                    case 1:
+                        pathCost = v72;
+                        return d72;
+                    case 2:
+                        pathCost = v73;
+                        return d73;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -2:
+                        pathCost = v82;
+                        return d82;
+                    case -1:
+                        pathCost = v83;
+                        return d83;
+                    case 1:
+                        pathCost = v85;
+                        return d85;
+                    case 2:
+                        pathCost = v86;
+                        return d86;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -2:
+                        pathCost = v95;
+                        return d95;
+                    case -1:
+                        pathCost = v96;
+                        return d96;
+                    case 0:
+                        pathCost = v97;
+                        return d97;
+                    case 1:
+                        pathCost = v98;
+                        return d98;
+                    case 2:
+                        pathCost = v99;
+                        return d99;
+                }
+                break;
+            case 2:
+                switch (dy) {
+                    case -2:
+                        pathCost = v108;
+                        return d108;
+                    case -1:
+                        pathCost = v109;
+                        return d109;
+                    case 0:
+                        pathCost = v110;
+                        return d110;
+                    case 1:
+                        pathCost = v111;
+                        return d111;
+                    case 2:
+                        pathCost = v112;
+                        return d112;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l84.distanceSquaredTo(target));
+        double remaining56 = Math.sqrt(l56.distanceSquaredTo(target));
+        double dist56 = (initialDist - remaining56) / v56;
+        if (dist56 > bestEstimation) {
+            bestEstimation = dist56;
+            ans = d56;
+            ansCost = v56 + 10 * remaining56;
+        }
+        double remaining57 = Math.sqrt(l57.distanceSquaredTo(target));
+        double dist57 = (initialDist - remaining57) / v57;
+        if (dist57 > bestEstimation) {
+            bestEstimation = dist57;
+            ans = d57;
+            ansCost = v57 + 10 * remaining57;
+        }
+        double remaining58 = Math.sqrt(l58.distanceSquaredTo(target));
+        double dist58 = (initialDist - remaining58) / v58;
+        if (dist58 > bestEstimation) {
+            bestEstimation = dist58;
+            ans = d58;
+            ansCost = v58 + 10 * remaining58;
+        }
+        double remaining59 = Math.sqrt(l59.distanceSquaredTo(target));
+        double dist59 = (initialDist - remaining59) / v59;
+        if (dist59 > bestEstimation) {
+            bestEstimation = dist59;
+            ans = d59;
+            ansCost = v59 + 10 * remaining59;
+        }
+        double remaining60 = Math.sqrt(l60.distanceSquaredTo(target));
+        double dist60 = (initialDist - remaining60) / v60;
+        if (dist60 > bestEstimation) {
+            bestEstimation = dist60;
+            ans = d60;
+            ansCost = v60 + 10 * remaining60;
+        }
+        double remaining69 = Math.sqrt(l69.distanceSquaredTo(target));
+        double dist69 = (initialDist - remaining69) / v69;
+        if (dist69 > bestEstimation) {
+            bestEstimation = dist69;
+            ans = d69;
+            ansCost = v69 + 10 * remaining69;
+        }
+        double remaining73 = Math.sqrt(l73.distanceSquaredTo(target));
+        double dist73 = (initialDist - remaining73) / v73;
+        if (dist73 > bestEstimation) {
+            bestEstimation = dist73;
+            ans = d73;
+            ansCost = v73 + 10 * remaining73;
+        }
+        double remaining82 = Math.sqrt(l82.distanceSquaredTo(target));
+        double dist82 = (initialDist - remaining82) / v82;
+        if (dist82 > bestEstimation) {
+            bestEstimation = dist82;
+            ans = d82;
+            ansCost = v82 + 10 * remaining82;
+        }
+        double remaining86 = Math.sqrt(l86.distanceSquaredTo(target));
+        double dist86 = (initialDist - remaining86) / v86;
+        if (dist86 > bestEstimation) {
+            bestEstimation = dist86;
+            ans = d86;
+            ansCost = v86 + 10 * remaining86;
+        }
+        double remaining95 = Math.sqrt(l95.distanceSquaredTo(target));
+        double dist95 = (initialDist - remaining95) / v95;
+        if (dist95 > bestEstimation) {
+            bestEstimation = dist95;
+            ans = d95;
+            ansCost = v95 + 10 * remaining95;
+        }
+        double remaining99 = Math.sqrt(l99.distanceSquaredTo(target));
+        double dist99 = (initialDist - remaining99) / v99;
+        if (dist99 > bestEstimation) {
+            bestEstimation = dist99;
+            ans = d99;
+            ansCost = v99 + 10 * remaining99;
+        }
+        double remaining108 = Math.sqrt(l108.distanceSquaredTo(target));
+        double dist108 = (initialDist - remaining108) / v108;
+        if (dist108 > bestEstimation) {
+            bestEstimation = dist108;
+            ans = d108;
+            ansCost = v108 + 10 * remaining108;
+        }
+        double remaining109 = Math.sqrt(l109.distanceSquaredTo(target));
+        double dist109 = (initialDist - remaining109) / v109;
+        if (dist109 > bestEstimation) {
+            bestEstimation = dist109;
+            ans = d109;
+            ansCost = v109 + 10 * remaining109;
+        }
+        double remaining110 = Math.sqrt(l110.distanceSquaredTo(target));
+        double dist110 = (initialDist - remaining110) / v110;
+        if (dist110 > bestEstimation) {
+            bestEstimation = dist110;
+            ans = d110;
+            ansCost = v110 + 10 * remaining110;
+        }
+        double remaining111 = Math.sqrt(l111.distanceSquaredTo(target));
+        double dist111 = (initialDist - remaining111) / v111;
+        if (dist111 > bestEstimation) {
+            bestEstimation = dist111;
+            ans = d111;
+            ansCost = v111 + 10 * remaining111;
+        }
+        double remaining112 = Math.sqrt(l112.distanceSquaredTo(target));
+        double dist112 = (initialDist - remaining112) / v112;
+        if (dist112 > bestEstimation) {
+            bestEstimation = dist112;
+            ans = d112;
+            ansCost = v112 + 10 * remaining112;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+
+    private static Direction getBestDirWithinRing3(MapLocation target) {
+        int dx = target.x - l84.x;
+        int dy = target.y - l84.y;
+        switch (dx) {
+            case -3:
+                switch (dy) {
+                    case -3:
+                        pathCost = v42;
+                        return d42;
+                    case -2:
+                        pathCost = v43;
+                        return d43;
+                    case -1:
+                        pathCost = v44;
+                        return d44;
+                    case 0:
+                        pathCost = v45;
+                        return d45;
+                    case 1:
+                        pathCost = v46;
+                        return d46;
+                    case 2:
+                        pathCost = v47;
+                        return d47;
+                    case 3:
+                        pathCost = v48;
+                        return d48;
+                }
+                break;
+            case -2:
+                switch (dy) {
+                    case -3:
+                        pathCost = v55;
+                        return d55;
+                    case -2:
+                        pathCost = v56;
+                        return d56;
+                    case -1:
+                        pathCost = v57;
+                        return d57;
+                    case 0:
+                        pathCost = v58;
+                        return d58;
+                    case 1:
+                        pathCost = v59;
+                        return d59;
+                    case 2:
+                        pathCost = v60;
+                        return d60;
+                    case 3:
+                        pathCost = v61;
+                        return d61;
+                }
+                break;
+            case -1:
+                switch (dy) {
+                    case -3:
+                        pathCost = v68;
+                        return d68;
+                    case -2:
+                        pathCost = v69;
+                        return d69;
+                    case -1:
+                        pathCost = v70;
+                        return d70;
+                    case 0:
+                        pathCost = v71;
+                        return d71;
+                    case 1:
+                        pathCost = v72;
+                        return d72;
+                    case 2:
+                        pathCost = v73;
+                        return d73;
+                    case 3:
+                        pathCost = v74;
+                        return d74;
+                }
+                break;
+            case 0:
+                switch (dy) {
+                    case -3:
+                        pathCost = v81;
+                        return d81;
+                    case -2:
+                        pathCost = v82;
+                        return d82;
+                    case -1:
+                        pathCost = v83;
+                        return d83;
+                    case 1:
+                        pathCost = v85;
+                        return d85;
+                    case 2:
+                        pathCost = v86;
+                        return d86;
+                    case 3:
+                        pathCost = v87;
+                        return d87;
+                }
+                break;
+            case 1:
+                switch (dy) {
+                    case -3:
+                        pathCost = v94;
+                        return d94;
+                    case -2:
+                        pathCost = v95;
+                        return d95;
+                    case -1:
+                        pathCost = v96;
+                        return d96;
+                    case 0:
+                        pathCost = v97;
+                        return d97;
+                    case 1:
+                        pathCost = v98;
+                        return d98;
+                    case 2:
+                        pathCost = v99;
+                        return d99;
+                    case 3:
+                        pathCost = v100;
+                        return d100;
+                }
+                break;
+            case 2:
+                switch (dy) {
+                    case -3:
+                        pathCost = v107;
+                        return d107;
+                    case -2:
+                        pathCost = v108;
+                        return d108;
+                    case -1:
+                        pathCost = v109;
+                        return d109;
+                    case 0:
+                        pathCost = v110;
+                        return d110;
+                    case 1:
+                        pathCost = v111;
+                        return d111;
+                    case 2:
+                        pathCost = v112;
+                        return d112;
+                    case 3:
+                        pathCost = v113;
+                        return d113;
+                }
+                break;
+            case 3:
+                switch (dy) {
+                    case -3:
+                        pathCost = v120;
+                        return d120;
+                    case -2:
+                        pathCost = v121;
+                        return d121;
+                    case -1:
+                        pathCost = v122;
+                        return d122;
+                    case 0:
+                        pathCost = v123;
+                        return d123;
+                    case 1:
+                        pathCost = v124;
+                        return d124;
+                    case 2:
+                        pathCost = v125;
+                        return d125;
+                    case 3:
+                        pathCost = v126;
+                        return d126;
+                }
+                break;
+        }
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(l84.distanceSquaredTo(target));
+        double remaining42 = Math.sqrt(l42.distanceSquaredTo(target));
+        double dist42 = (initialDist - remaining42) / v42;
+        if (dist42 > bestEstimation) {
+            bestEstimation = dist42;
+            ans = d42;
+            ansCost = v42 + 10 * remaining42;
+        }
+        double remaining43 = Math.sqrt(l43.distanceSquaredTo(target));
+        double dist43 = (initialDist - remaining43) / v43;
+        if (dist43 > bestEstimation) {
+            bestEstimation = dist43;
+            ans = d43;
+            ansCost = v43 + 10 * remaining43;
+        }
+        double remaining44 = Math.sqrt(l44.distanceSquaredTo(target));
+        double dist44 = (initialDist - remaining44) / v44;
+        if (dist44 > bestEstimation) {
+            bestEstimation = dist44;
+            ans = d44;
+            ansCost = v44 + 10 * remaining44;
+        }
+        double remaining45 = Math.sqrt(l45.distanceSquaredTo(target));
+        double dist45 = (initialDist - remaining45) / v45;
+        if (dist45 > bestEstimation) {
+            bestEstimation = dist45;
+            ans = d45;
+            ansCost = v45 + 10 * remaining45;
+        }
+        double remaining46 = Math.sqrt(l46.distanceSquaredTo(target));
+        double dist46 = (initialDist - remaining46) / v46;
+        if (dist46 > bestEstimation) {
+            bestEstimation = dist46;
+            ans = d46;
+            ansCost = v46 + 10 * remaining46;
+        }
+        double remaining47 = Math.sqrt(l47.distanceSquaredTo(target));
+        double dist47 = (initialDist - remaining47) / v47;
+        if (dist47 > bestEstimation) {
+            bestEstimation = dist47;
+            ans = d47;
+            ansCost = v47 + 10 * remaining47;
         }
-        if (rc.onTheMap(l75)) {
-            p75 = 10 + rc.senseRubble(l75);
-            v75 = v87 + p75;
-            d75 = d87;
-            if (v75 > v74 + p75) {
-                v75 = v74 + p75;
-                d75 = d74;
-            }
-            if (v75 > v61 + p75) {
-                v75 = v61 + p75;
-                d75 = d61;
-            }
-            if (v75 > v88 + p75) {
-                v75 = v88 + p75;
-                d75 = d88;
-            }
+        double remaining48 = Math.sqrt(l48.distanceSquaredTo(target));
+        double dist48 = (initialDist - remaining48) / v48;
+        if (dist48 > bestEstimation) {
+            bestEstimation = dist48;
+            ans = d48;
+            ansCost = v48 + 10 * remaining48;
         }
-        if (rc.onTheMap(l93)) {
-            p93 = 10 + rc.senseRubble(l93);
-            v93 = v81 + p93;
-            d93 = d81;
-            if (v93 > v94 + p93) {
-                v93 = v94 + p93;
-                d93 = d94;
-            }
-            if (v93 > v107 + p93) {
-                v93 = v107 + p93;
-                d93 = d107;
-            }
-            if (v93 > v80 + p93) {
-                v93 = v80 + p93;
-                d93 = d80;
-            }
+        double remaining55 = Math.sqrt(l55.distanceSquaredTo(target));
+        double dist55 = (initialDist - remaining55) / v55;
+        if (dist55 > bestEstimation) {
+            bestEstimation = dist55;
+            ans = d55;
+            ansCost = v55 + 10 * remaining55;
         }
-        if (rc.onTheMap(l101)) {
-            p101 = 10 + rc.senseRubble(l101);
-            v101 = v87 + p101;
-            d101 = d87;
-            if (v101 > v100 + p101) {
-                v101 = v100 + p101;
-                d101 = d100;
-            }
-            if (v101 > v113 + p101) {
-                v101 = v113 + p101;
-                d101 = d113;
-            }
-            if (v101 > v88 + p101) {
-                v101 = v88 + p101;
-                d101 = d88;
-            }
+        double remaining61 = Math.sqrt(l61.distanceSquaredTo(target));
+        double dist61 = (initialDist - remaining61) / v61;
+        if (dist61 > bestEstimation) {
+            bestEstimation = dist61;
+            ans = d61;
+            ansCost = v61 + 10 * remaining61;
         }
-        if (rc.onTheMap(l135)) {
-            p135 = 10 + rc.senseRubble(l135);
-            v135 = v123 + p135;
-            d135 = d123;
-            if (v135 > v122 + p135) {
-                v135 = v122 + p135;
-                d135 = d122;
-            }
-            if (v135 > v121 + p135) {
-                v135 = v121 + p135;
-                d135 = d121;
-            }
-            if (v135 > v136 + p135) {
-                v135 = v136 + p135;
-                d135 = d136;
-            }
+        double remaining68 = Math.sqrt(l68.distanceSquaredTo(target));
+        double dist68 = (initialDist - remaining68) / v68;
+        if (dist68 > bestEstimation) {
+            bestEstimation = dist68;
+            ans = d68;
+            ansCost = v68 + 10 * remaining68;
         }
-        if (rc.onTheMap(l137)) {
-            p137 = 10 + rc.senseRubble(l137);
-            v137 = v123 + p137;
-            d137 = d123;
-            if (v137 > v124 + p137) {
-                v137 = v124 + p137;
-                d137 = d124;
-            }
-            if (v137 > v125 + p137) {
-                v137 = v125 + p137;
-                d137 = d125;
-            }
-            if (v137 > v136 + p137) {
-                v137 = v136 + p137;
-                d137 = d136;
-            }
+        double remaining74 = Math.sqrt(l74.distanceSquaredTo(target));
+        double dist74 = (initialDist - remaining74) / v74;
+        if (dist74 > bestEstimation) {
+            bestEstimation = dist74;
+            ans = d74;
+            ansCost = v74 + 10 * remaining74;
         }
-        if (rc.onTheMap(l42)) {
-            p42 = 10 + rc.senseRubble(l42);
-            v42 = v56 + p42;
-            d42 = d56;
-            if (v42 > v43 + p42) {
-                v42 = v43 + p42;
-                d42 = d43;
-            }
-            if (v42 > v55 + p42) {
-                v42 = v55 + p42;
-                d42 = d55;
-            }
+        double remaining81 = Math.sqrt(l81.distanceSquaredTo(target));
+        double dist81 = (initialDist - remaining81) / v81;
+        if (dist81 > bestEstimation) {
+            bestEstimation = dist81;
+            ans = d81;
+            ansCost = v81 + 10 * remaining81;
         }
-        if (rc.onTheMap(l48)) {
-            p48 = 10 + rc.senseRubble(l48);
-            v48 = v60 + p48;
-            d48 = d60;
-            if (v48 > v47 + p48) {
-                v48 = v47 + p48;
-                d48 = d47;
-            }
-            if (v48 > v61 + p48) {
-                v48 = v61 + p48;
-                d48 = d61;
-            }
+        double remaining87 = Math.sqrt(l87.distanceSquaredTo(target));
+        double dist87 = (initialDist - remaining87) / v87;
+        if (dist87 > bestEstimation) {
+            bestEstimation = dist87;
+            ans = d87;
+            ansCost = v87 + 10 * remaining87;
         }
-        if (rc.onTheMap(l120)) {
-            p120 = 10 + rc.senseRubble(l120);
-            v120 = v108 + p120;
-            d120 = d108;
-            if (v120 > v121 + p120) {
-                v120 = v121 + p120;
-                d120 = d121;
-            }
-            if (v120 > v107 + p120) {
-                v120 = v107 + p120;
-                d120 = d107;
-            }
+        double remaining94 = Math.sqrt(l94.distanceSquaredTo(target));
+        double dist94 = (initialDist - remaining94) / v94;
+        if (dist94 > bestEstimation) {
+            bestEstimation = dist94;
+            ans = d94;
+            ansCost = v94 + 10 * remaining94;
         }
-        if (rc.onTheMap(l126)) {
-            p126 = 10 + rc.senseRubble(l126);
-            v126 = v112 + p126;
-            d126 = d112;
-            if (v126 > v113 + p126) {
-                v126 = v113 + p126;
-                d126 = d113;
-            }
-            if (v126 > v125 + p126) {
-                v126 = v125 + p126;
-                d126 = d125;
-            }
+        double remaining100 = Math.sqrt(l100.distanceSquaredTo(target));
+        double dist100 = (initialDist - remaining100) / v100;
+        if (dist100 > bestEstimation) {
+            bestEstimation = dist100;
+            ans = d100;
+            ansCost = v100 + 10 * remaining100;
         }
-        if (rc.onTheMap(l30)) {
-            p30 = 10 + rc.senseRubble(l30);
-            v30 = v44 + p30;
-            d30 = d44;
-            if (v30 > v43 + p30) {
-                v30 = v43 + p30;
-                d30 = d43;
-            }
-            if (v30 > v31 + p30) {
-                v30 = v31 + p30;
-                d30 = d31;
-            }
-            if (v30 > v42 + p30) {
-                v30 = v42 + p30;
-                d30 = d42;
-            }
+        double remaining107 = Math.sqrt(l107.distanceSquaredTo(target));
+        double dist107 = (initialDist - remaining107) / v107;
+        if (dist107 > bestEstimation) {
+            bestEstimation = dist107;
+            ans = d107;
+            ansCost = v107 + 10 * remaining107;
         }
-        if (rc.onTheMap(l34)) {
-            p34 = 10 + rc.senseRubble(l34);
-            v34 = v46 + p34;
-            d34 = d46;
-            if (v34 > v47 + p34) {
-                v34 = v47 + p34;
-                d34 = d47;
-            }
-            if (v34 > v33 + p34) {
-                v34 = v33 + p34;
-                d34 = d33;
-            }
-            if (v34 > v48 + p34) {
-                v34 = v48 + p34;
-                d34 = d48;
-            }
+        double remaining113 = Math.sqrt(l113.distanceSquaredTo(target));
+        double dist113 = (initialDist - remaining113) / v113;
+        if (dist113 > bestEstimation) {
+            bestEstimation = dist113;
+            ans = d113;
+            ansCost = v113 + 10 * remaining113;
         }
-        if (rc.onTheMap(l54)) {
-            p54 = 10 + rc.senseRubble(l54);
-            v54 = v68 + p54;
-            d54 = d68;
-            if (v54 > v55 + p54) {
-                v54 = v55 + p54;
-                d54 = d55;
-            }
-            if (v54 > v67 + p54) {
-                v54 = v67 + p54;
-                d54 = d67;
-            }
-            if (v54 > v42 + p54) {
-                v54 = v42 + p54;
-                d54 = d42;
-            }
+        double remaining120 = Math.sqrt(l120.distanceSquaredTo(target));
+        double dist120 = (initialDist - remaining120) / v120;
+        if (dist120 > bestEstimation) {
+            bestEstimation = dist120;
+            ans = d120;
+            ansCost = v120 + 10 * remaining120;
         }
-        if (rc.onTheMap(l62)) {
-            p62 = 10 + rc.senseRubble(l62);
-            v62 = v74 + p62;
-            d62 = d74;
-            if (v62 > v61 + p62) {
-                v62 = v61 + p62;
-                d62 = d61;
-            }
-            if (v62 > v75 + p62) {
-                v62 = v75 + p62;
-                d62 = d75;
-            }
-            if (v62 > v48 + p62) {
-                v62 = v48 + p62;
-                d62 = d48;
-            }
+        double remaining121 = Math.sqrt(l121.distanceSquaredTo(target));
+        double dist121 = (initialDist - remaining121) / v121;
+        if (dist121 > bestEstimation) {
+            bestEstimation = dist121;
+            ans = d121;
+            ansCost = v121 + 10 * remaining121;
         }
-        if (rc.onTheMap(l106)) {
-            p106 = 10 + rc.senseRubble(l106);
-            v106 = v94 + p106;
-            d106 = d94;
-            if (v106 > v107 + p106) {
-                v106 = v107 + p106;
-                d106 = d107;
-            }
-            if (v106 > v93 + p106) {
-                v106 = v93 + p106;
-                d106 = d93;
-            }
-            if (v106 > v120 + p106) {
-                v106 = v120 + p106;
-                d106 = d120;
-            }
+        double remaining122 = Math.sqrt(l122.distanceSquaredTo(target));
+        double dist122 = (initialDist - remaining122) / v122;
+        if (dist122 > bestEstimation) {
+            bestEstimation = dist122;
+            ans = d122;
+            ansCost = v122 + 10 * remaining122;
         }
-        if (rc.onTheMap(l114)) {
-            p114 = 10 + rc.senseRubble(l114);
-            v114 = v100 + p114;
-            d114 = d100;
-            if (v114 > v113 + p114) {
-                v114 = v113 + p114;
-                d114 = d113;
-            }
-            if (v114 > v101 + p114) {
-                v114 = v101 + p114;
-                d114 = d101;
-            }
-            if (v114 > v126 + p114) {
-                v114 = v126 + p114;
-                d114 = d126;
-            }
+        double remaining123 = Math.sqrt(l123.distanceSquaredTo(target));
+        double dist123 = (initialDist - remaining123) / v123;
+        if (dist123 > bestEstimation) {
+            bestEstimation = dist123;
+            ans = d123;
+            ansCost = v123 + 10 * remaining123;
         }
-        if (rc.onTheMap(l134)) {
-            p134 = 10 + rc.senseRubble(l134);
-            v134 = v122 + p134;
-            d134 = d122;
-            if (v134 > v121 + p134) {
-                v134 = v121 + p134;
-                d134 = d121;
-            }
-            if (v134 > v135 + p134) {
-                v134 = v135 + p134;
-                d134 = d135;
-            }
-            if (v134 > v120 + p134) {
-                v134 = v120 + p134;
-                d134 = d120;
-            }
+        double remaining124 = Math.sqrt(l124.distanceSquaredTo(target));
+        double dist124 = (initialDist - remaining124) / v124;
+        if (dist124 > bestEstimation) {
+            bestEstimation = dist124;
+            ans = d124;
+            ansCost = v124 + 10 * remaining124;
         }
-        if (rc.onTheMap(l138)) {
-            p138 = 10 + rc.senseRubble(l138);
-            v138 = v124 + p138;
-            d138 = d124;
-            if (v138 > v125 + p138) {
-                v138 = v125 + p138;
-                d138 = d125;
-            }
-            if (v138 > v137 + p138) {
-                v138 = v137 + p138;
-                d138 = d137;
-            }
-            if (v138 > v126 + p138) {
-                v138 = v126 + p138;
-                d138 = d126;
-            }
+        double remaining125 = Math.sqrt(l125.distanceSquaredTo(target));
+        double dist125 = (initialDist - remaining125) / v125;
+        if (dist125 > bestEstimation) {
+            bestEstimation = dist125;
+            ans = d125;
+            ansCost = v125 + 10 * remaining125;
         }
-        maxElapsed = Debug.toc(before, "BFSDroid-search", maxElapsed);
+        double remaining126 = Math.sqrt(l126.distanceSquaredTo(target));
+        double dist126 = (initialDist - remaining126) / v126;
+        if (dist126 > bestEstimation) {
+            bestEstimation = dist126;
+            ans = d126;
+            ansCost = v126 + 10 * remaining126;
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
 
+    private static Direction getBestDirWithinRing4(MapLocation target) {
         int dx = target.x - l84.x;
         int dy = target.y - l84.y;
         switch (dx) {
             case -4:
                 switch (dy) {
                     case -2:
+                        pathCost = v30;
                         return d30;
                     case -1:
+                        pathCost = v31;
                         return d31;
                     case 0:
+                        pathCost = v32;
                         return d32;
                     case 1:
+                        pathCost = v33;
                         return d33;
                     case 2:
+                        pathCost = v34;
                         return d34;
                 }
                 break;
             case -3:
                 switch (dy) {
                     case -3:
+                        pathCost = v42;
                         return d42;
                     case -2:
+                        pathCost = v43;
                         return d43;
                     case -1:
+                        pathCost = v44;
                         return d44;
                     case 0:
+                        pathCost = v45;
                         return d45;
                     case 1:
+                        pathCost = v46;
                         return d46;
                     case 2:
+                        pathCost = v47;
                         return d47;
                     case 3:
+                        pathCost = v48;
                         return d48;
                 }
                 break;
             case -2:
                 switch (dy) {
                     case -4:
+                        pathCost = v54;
                         return d54;
                     case -3:
+                        pathCost = v55;
                         return d55;
                     case -2:
+                        pathCost = v56;
                         return d56;
                     case -1:
+                        pathCost = v57;
                         return d57;
                     case 0:
+                        pathCost = v58;
                         return d58;
                     case 1:
+                        pathCost = v59;
                         return d59;
                     case 2:
+                        pathCost = v60;
                         return d60;
                     case 3:
+                        pathCost = v61;
                         return d61;
                     case 4:
+                        pathCost = v62;
                         return d62;
                 }
                 break;
             case -1:
                 switch (dy) {
                     case -4:
+                        pathCost = v67;
                         return d67;
                     case -3:
+                        pathCost = v68;
                         return d68;
                     case -2:
+                        pathCost = v69;
                         return d69;
                     case -1:
+                        pathCost = v70;
                         return d70;
                     case 0:
+                        pathCost = v71;
                         return d71;
                     case 1:
+                        pathCost = v72;
                         return d72;
                     case 2:
+                        pathCost = v73;
                         return d73;
                     case 3:
+                        pathCost = v74;
                         return d74;
                     case 4:
+                        pathCost = v75;
                         return d75;
                 }
                 break;
             case 0:
                 switch (dy) {
                     case -4:
+                        pathCost = v80;
                         return d80;
                     case -3:
+                        pathCost = v81;
                         return d81;
                     case -2:
+                        pathCost = v82;
                         return d82;
                     case -1:
+                        pathCost = v83;
                         return d83;
-                    case 0:
-                        return d84;
                     case 1:
+                        pathCost = v85;
                         return d85;
                     case 2:
+                        pathCost = v86;
                         return d86;
                     case 3:
+                        pathCost = v87;
                         return d87;
                     case 4:
+                        pathCost = v88;
                         return d88;
                 }
                 break;
             case 1:
                 switch (dy) {
                     case -4:
+                        pathCost = v93;
                         return d93;
                     case -3:
+                        pathCost = v94;
                         return d94;
                     case -2:
+                        pathCost = v95;
                         return d95;
                     case -1:
+                        pathCost = v96;
                         return d96;
                     case 0:
+                        pathCost = v97;
                         return d97;
                     case 1:
+                        pathCost = v98;
                         return d98;
                     case 2:
+                        pathCost = v99;
                         return d99;
                     case 3:
+                        pathCost = v100;
                         return d100;
                     case 4:
+                        pathCost = v101;
                         return d101;
                 }
                 break;
             case 2:
                 switch (dy) {
                     case -4:
+                        pathCost = v106;
                         return d106;
                     case -3:
+                        pathCost = v107;
                         return d107;
                     case -2:
+                        pathCost = v108;
                         return d108;
                     case -1:
+                        pathCost = v109;
                         return d109;
                     case 0:
+                        pathCost = v110;
                         return d110;
                     case 1:
+                        pathCost = v111;
                         return d111;
                     case 2:
+                        pathCost = v112;
                         return d112;
                     case 3:
+                        pathCost = v113;
                         return d113;
                     case 4:
+                        pathCost = v114;
                         return d114;
                 }
                 break;
             case 3:
                 switch (dy) {
                     case -3:
+                        pathCost = v120;
                         return d120;
                     case -2:
+                        pathCost = v121;
                         return d121;
                     case -1:
+                        pathCost = v122;
                         return d122;
                     case 0:
+                        pathCost = v123;
                         return d123;
                     case 1:
+                        pathCost = v124;
                         return d124;
                     case 2:
+                        pathCost = v125;
                         return d125;
                     case 3:
+                        pathCost = v126;
                         return d126;
                 }
                 break;
             case 4:
                 switch (dy) {
                     case -2:
+                        pathCost = v134;
                         return d134;
                     case -1:
+                        pathCost = v135;
                         return d135;
                     case 0:
+                        pathCost = v136;
                         return d136;
                     case 1:
+                        pathCost = v137;
                         return d137;
                     case 2:
+                        pathCost = v138;
                         return d138;
                 }
                 break;
         }
-
         Direction ans = null;
         double bestEstimation = 0;
+        double ansCost = 0;
         double initialDist = Math.sqrt(l84.distanceSquaredTo(target));
-
-        double dist30 = (initialDist - Math.sqrt(l30.distanceSquaredTo(target))) / v30;
+        double remaining30 = Math.sqrt(l30.distanceSquaredTo(target));
+        double dist30 = (initialDist - remaining30) / v30;
         if (dist30 > bestEstimation) {
             bestEstimation = dist30;
             ans = d30;
+            ansCost = v30 + 10 * remaining30;
         }
-        double dist31 = (initialDist - Math.sqrt(l31.distanceSquaredTo(target))) / v31;
+        double remaining31 = Math.sqrt(l31.distanceSquaredTo(target));
+        double dist31 = (initialDist - remaining31) / v31;
         if (dist31 > bestEstimation) {
             bestEstimation = dist31;
             ans = d31;
+            ansCost = v31 + 10 * remaining31;
         }
-        double dist32 = (initialDist - Math.sqrt(l32.distanceSquaredTo(target))) / v32;
+        double remaining32 = Math.sqrt(l32.distanceSquaredTo(target));
+        double dist32 = (initialDist - remaining32) / v32;
         if (dist32 > bestEstimation) {
             bestEstimation = dist32;
             ans = d32;
+            ansCost = v32 + 10 * remaining32;
         }
-        double dist33 = (initialDist - Math.sqrt(l33.distanceSquaredTo(target))) / v33;
+        double remaining33 = Math.sqrt(l33.distanceSquaredTo(target));
+        double dist33 = (initialDist - remaining33) / v33;
         if (dist33 > bestEstimation) {
             bestEstimation = dist33;
             ans = d33;
+            ansCost = v33 + 10 * remaining33;
         }
-        double dist34 = (initialDist - Math.sqrt(l34.distanceSquaredTo(target))) / v34;
+        double remaining34 = Math.sqrt(l34.distanceSquaredTo(target));
+        double dist34 = (initialDist - remaining34) / v34;
         if (dist34 > bestEstimation) {
             bestEstimation = dist34;
             ans = d34;
+            ansCost = v34 + 10 * remaining34;
         }
-        double dist42 = (initialDist - Math.sqrt(l42.distanceSquaredTo(target))) / v42;
+        double remaining42 = Math.sqrt(l42.distanceSquaredTo(target));
+        double dist42 = (initialDist - remaining42) / v42;
         if (dist42 > bestEstimation) {
             bestEstimation = dist42;
             ans = d42;
+            ansCost = v42 + 10 * remaining42;
         }
-        double dist43 = (initialDist - Math.sqrt(l43.distanceSquaredTo(target))) / v43;
+        double remaining43 = Math.sqrt(l43.distanceSquaredTo(target));
+        double dist43 = (initialDist - remaining43) / v43;
         if (dist43 > bestEstimation) {
             bestEstimation = dist43;
             ans = d43;
+            ansCost = v43 + 10 * remaining43;
         }
-        double dist47 = (initialDist - Math.sqrt(l47.distanceSquaredTo(target))) / v47;
+        double remaining47 = Math.sqrt(l47.distanceSquaredTo(target));
+        double dist47 = (initialDist - remaining47) / v47;
         if (dist47 > bestEstimation) {
             bestEstimation = dist47;
             ans = d47;
+            ansCost = v47 + 10 * remaining47;
         }
-        double dist48 = (initialDist - Math.sqrt(l48.distanceSquaredTo(target))) / v48;
+        double remaining48 = Math.sqrt(l48.distanceSquaredTo(target));
+        double dist48 = (initialDist - remaining48) / v48;
         if (dist48 > bestEstimation) {
             bestEstimation = dist48;
             ans = d48;
+            ansCost = v48 + 10 * remaining48;
         }
-        double dist54 = (initialDist - Math.sqrt(l54.distanceSquaredTo(target))) / v54;
+        double remaining54 = Math.sqrt(l54.distanceSquaredTo(target));
+        double dist54 = (initialDist - remaining54) / v54;
         if (dist54 > bestEstimation) {
             bestEstimation = dist54;
             ans = d54;
+            ansCost = v54 + 10 * remaining54;
         }
-        double dist62 = (initialDist - Math.sqrt(l62.distanceSquaredTo(target))) / v62;
+        double remaining55 = Math.sqrt(l55.distanceSquaredTo(target));
+        double dist55 = (initialDist - remaining55) / v55;
+        if (dist55 > bestEstimation) {
+            bestEstimation = dist55;
+            ans = d55;
+            ansCost = v55 + 10 * remaining55;
+        }
+        double remaining61 = Math.sqrt(l61.distanceSquaredTo(target));
+        double dist61 = (initialDist - remaining61) / v61;
+        if (dist61 > bestEstimation) {
+            bestEstimation = dist61;
+            ans = d61;
+            ansCost = v61 + 10 * remaining61;
+        }
+        double remaining62 = Math.sqrt(l62.distanceSquaredTo(target));
+        double dist62 = (initialDist - remaining62) / v62;
         if (dist62 > bestEstimation) {
             bestEstimation = dist62;
             ans = d62;
+            ansCost = v62 + 10 * remaining62;
         }
-        double dist67 = (initialDist - Math.sqrt(l67.distanceSquaredTo(target))) / v67;
+        double remaining67 = Math.sqrt(l67.distanceSquaredTo(target));
+        double dist67 = (initialDist - remaining67) / v67;
         if (dist67 > bestEstimation) {
             bestEstimation = dist67;
             ans = d67;
+            ansCost = v67 + 10 * remaining67;
         }
-        double dist75 = (initialDist - Math.sqrt(l75.distanceSquaredTo(target))) / v75;
+        double remaining75 = Math.sqrt(l75.distanceSquaredTo(target));
+        double dist75 = (initialDist - remaining75) / v75;
         if (dist75 > bestEstimation) {
             bestEstimation = dist75;
             ans = d75;
+            ansCost = v75 + 10 * remaining75;
         }
-        double dist80 = (initialDist - Math.sqrt(l80.distanceSquaredTo(target))) / v80;
+        double remaining80 = Math.sqrt(l80.distanceSquaredTo(target));
+        double dist80 = (initialDist - remaining80) / v80;
         if (dist80 > bestEstimation) {
             bestEstimation = dist80;
             ans = d80;
+            ansCost = v80 + 10 * remaining80;
         }
-        double dist88 = (initialDist - Math.sqrt(l88.distanceSquaredTo(target))) / v88;
+        double remaining88 = Math.sqrt(l88.distanceSquaredTo(target));
+        double dist88 = (initialDist - remaining88) / v88;
         if (dist88 > bestEstimation) {
             bestEstimation = dist88;
             ans = d88;
+            ansCost = v88 + 10 * remaining88;
         }
-        double dist93 = (initialDist - Math.sqrt(l93.distanceSquaredTo(target))) / v93;
+        double remaining93 = Math.sqrt(l93.distanceSquaredTo(target));
+        double dist93 = (initialDist - remaining93) / v93;
         if (dist93 > bestEstimation) {
             bestEstimation = dist93;
             ans = d93;
+            ansCost = v93 + 10 * remaining93;
         }
-        double dist101 = (initialDist - Math.sqrt(l101.distanceSquaredTo(target))) / v101;
+        double remaining101 = Math.sqrt(l101.distanceSquaredTo(target));
+        double dist101 = (initialDist - remaining101) / v101;
         if (dist101 > bestEstimation) {
             bestEstimation = dist101;
             ans = d101;
+            ansCost = v101 + 10 * remaining101;
         }
-        double dist106 = (initialDist - Math.sqrt(l106.distanceSquaredTo(target))) / v106;
+        double remaining106 = Math.sqrt(l106.distanceSquaredTo(target));
+        double dist106 = (initialDist - remaining106) / v106;
         if (dist106 > bestEstimation) {
             bestEstimation = dist106;
             ans = d106;
+            ansCost = v106 + 10 * remaining106;
         }
-        double dist107 = (initialDist - Math.sqrt(l107.distanceSquaredTo(target))) / v107;
+        double remaining107 = Math.sqrt(l107.distanceSquaredTo(target));
+        double dist107 = (initialDist - remaining107) / v107;
         if (dist107 > bestEstimation) {
             bestEstimation = dist107;
             ans = d107;
+            ansCost = v107 + 10 * remaining107;
         }
-        double dist113 = (initialDist - Math.sqrt(l113.distanceSquaredTo(target))) / v113;
+        double remaining113 = Math.sqrt(l113.distanceSquaredTo(target));
+        double dist113 = (initialDist - remaining113) / v113;
         if (dist113 > bestEstimation) {
             bestEstimation = dist113;
             ans = d113;
+            ansCost = v113 + 10 * remaining113;
         }
-        double dist114 = (initialDist - Math.sqrt(l114.distanceSquaredTo(target))) / v114;
+        double remaining114 = Math.sqrt(l114.distanceSquaredTo(target));
+        double dist114 = (initialDist - remaining114) / v114;
         if (dist114 > bestEstimation) {
             bestEstimation = dist114;
             ans = d114;
+            ansCost = v114 + 10 * remaining114;
         }
-        double dist120 = (initialDist - Math.sqrt(l120.distanceSquaredTo(target))) / v120;
+        double remaining120 = Math.sqrt(l120.distanceSquaredTo(target));
+        double dist120 = (initialDist - remaining120) / v120;
         if (dist120 > bestEstimation) {
             bestEstimation = dist120;
             ans = d120;
+            ansCost = v120 + 10 * remaining120;
         }
-        double dist121 = (initialDist - Math.sqrt(l121.distanceSquaredTo(target))) / v121;
+        double remaining121 = Math.sqrt(l121.distanceSquaredTo(target));
+        double dist121 = (initialDist - remaining121) / v121;
         if (dist121 > bestEstimation) {
             bestEstimation = dist121;
             ans = d121;
+            ansCost = v121 + 10 * remaining121;
         }
-        double dist125 = (initialDist - Math.sqrt(l125.distanceSquaredTo(target))) / v125;
+        double remaining125 = Math.sqrt(l125.distanceSquaredTo(target));
+        double dist125 = (initialDist - remaining125) / v125;
         if (dist125 > bestEstimation) {
             bestEstimation = dist125;
             ans = d125;
+            ansCost = v125 + 10 * remaining125;
         }
-        double dist126 = (initialDist - Math.sqrt(l126.distanceSquaredTo(target))) / v126;
+        double remaining126 = Math.sqrt(l126.distanceSquaredTo(target));
+        double dist126 = (initialDist - remaining126) / v126;
         if (dist126 > bestEstimation) {
             bestEstimation = dist126;
             ans = d126;
+            ansCost = v126 + 10 * remaining126;
         }
-        double dist134 = (initialDist - Math.sqrt(l134.distanceSquaredTo(target))) / v134;
+        double remaining134 = Math.sqrt(l134.distanceSquaredTo(target));
+        double dist134 = (initialDist - remaining134) / v134;
         if (dist134 > bestEstimation) {
             bestEstimation = dist134;
             ans = d134;
+            ansCost = v134 + 10 * remaining134;
         }
-        double dist135 = (initialDist - Math.sqrt(l135.distanceSquaredTo(target))) / v135;
+        double remaining135 = Math.sqrt(l135.distanceSquaredTo(target));
+        double dist135 = (initialDist - remaining135) / v135;
         if (dist135 > bestEstimation) {
             bestEstimation = dist135;
             ans = d135;
+            ansCost = v135 + 10 * remaining135;
         }
-        double dist136 = (initialDist - Math.sqrt(l136.distanceSquaredTo(target))) / v136;
+        double remaining136 = Math.sqrt(l136.distanceSquaredTo(target));
+        double dist136 = (initialDist - remaining136) / v136;
         if (dist136 > bestEstimation) {
             bestEstimation = dist136;
             ans = d136;
+            ansCost = v136 + 10 * remaining136;
         }
-        double dist137 = (initialDist - Math.sqrt(l137.distanceSquaredTo(target))) / v137;
+        double remaining137 = Math.sqrt(l137.distanceSquaredTo(target));
+        double dist137 = (initialDist - remaining137) / v137;
         if (dist137 > bestEstimation) {
             bestEstimation = dist137;
             ans = d137;
+            ansCost = v137 + 10 * remaining137;
         }
-        double dist138 = (initialDist - Math.sqrt(l138.distanceSquaredTo(target))) / v138;
+        double remaining138 = Math.sqrt(l138.distanceSquaredTo(target));
+        double dist138 = (initialDist - remaining138) / v138;
         if (dist138 > bestEstimation) {
             bestEstimation = dist138;
             ans = d138;
+            ansCost = v138 + 10 * remaining138;
         }
+        pathCost = (int) ansCost;
         return ans;
     }
-
-
 }
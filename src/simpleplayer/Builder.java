@@ -53,7 +53,8 @@ public class Builder {
         if (!rc.isActionReady()) {
             return;
         }
-        if (ourLead < RobotType.WATCHTOWER.buildCostLead) {
+        // archons get the lead first
+        if (LeadLedger.getAvailableLead(LeadLedger.NONE) < RobotType.WATCHTOWER.buildCostLead) {
             return;
         }
         buildInLowestRubbleDirection(RobotType.WATCHTOWER);
@@ -0,0 +1,93 @@
+package simpleplayer;
+
+import battlecode.common.*;
+
+import static simpleplayer.RobotPlayer.*;
+
+/**
+ * Counts our units by type and by region, by having every unit report itself once per round.
+ * <p>
+ * There are two buffers, one for even and one for odd rounds. The units that run in round r add themselves to buffer
+ * r % 2, so buffer (r - 1) % 2 holds the complete counts from the previous round. Reads always come from that one.
+ * <p>
+ * The census round is the token for buffer ownership: the first unit to report in a round sees that the token is out
+ * of date, clears the buffer (which still holds the counts from 2 rounds ago), and takes the token. This works no
+ * matter which unit types are alive, and no matter which of them runs first, unlike guessing from the archon count.
+ * <p>
+ * Counts are 8 bits, and saturate at 255.
+ */
+public final class Census {
+
+    public static final int NUM_TYPES = RobotType.values().length;
+    // the map is split into REGIONS_PER_SIDE x REGIONS_PER_SIDE regions
+    public static final int REGIONS_PER_SIDE = 2;
+    public static final int NUM_REGIONS = REGIONS_PER_SIDE * REGIONS_PER_SIDE;
+
+    private static final int TYPES_PER_BUFFER = SharedArrayLayout.CENSUS_TYPE_COUNT_COUNT / 2;
+    private static final int REGIONS_PER_BUFFER = SharedArrayLayout.CENSUS_REGION_COUNT_COUNT / 2;
+    private static final int MAX_COUNT = SharedArrayLayout.CENSUS_TYPE_COUNT_MASK;
+
+    public static int getRegion(MapLocation loc) {
+        return (loc.x * REGIONS_PER_SIDE / rc.getMapWidth()) * REGIONS_PER_SIDE
+                + loc.y * REGIONS_PER_SIDE / rc.getMapHeight();
+    }
+
+    /**
+     * Adds us to this round's counts. Must be called exactly once per turn.
+     */
+    public static void report() throws GameActionException {
+        final int round = rc.getRoundNum();
+        final int parity = round & 1;
+        if (SharedArrayLayout.readCensusRound() != round) {
+            // we're the first one this round
+            SharedArrayLayout.writeCensusRound(round);
+            // by entry rather than by word, since the two type buffers share a word
+            int typeIndex = parity * TYPES_PER_BUFFER;
+            for (int i = TYPES_PER_BUFFER; --i >= 0; ) {
+                SharedArrayLayout.writeCensusTypeCount(typeIndex + i, 0);
+            }
+            int regionIndex = parity * REGIONS_PER_BUFFER;
+            for (int i = REGIONS_PER_BUFFER; --i >= 0; ) {
+                SharedArrayLayout.writeCensusRegionCount(regionIndex + i, 0);
+            }
+        }
+
+        int typeIndex = parity * TYPES_PER_BUFFER + myType.ordinal();
+        int count = SharedArrayLayout.readCensusTypeCount(typeIndex);
+        if (count < MAX_COUNT) {
+            SharedArrayLayout.writeCensusTypeCount(typeIndex, count + 1);
+        }
+        int regionIndex = parity * REGIONS_PER_BUFFER + getRegion(locAfterMovement);
+        count = SharedArrayLayout.readCensusRegionCount(regionIndex);
+        if (count < MAX_COUNT) {
+            SharedArrayLayout.writeCensusRegionCount(regionIndex, count + 1);
+        }
+    }
+
+    /**
+     * @return The number of units of the given type last round
+     */
+    public static int getLastRoundCount(RobotType type) throws GameActionException {
+        return SharedArrayLayout.readCensusTypeCount(((rc.getRoundNum() + 1) & 1) * TYPES_PER_BUFFER + type.ordinal());
+    }
+
+    /**
+     * Fills counts (which needs room for NUM_TYPES entries) with last round's counts, indexed by RobotType ordinal.
+     */
+    public static void readLastRoundTypeCounts(int[] counts) throws GameActionException {
+        final int offset = ((rc.getRoundNum() + 1) & 1) * TYPES_PER_BUFFER;
+        for (int i = NUM_TYPES; --i >= 0; ) {
+            counts[i] = SharedArrayLayout.readCensusTypeCount(offset + i);
+        }
+    }
+
+    /**
+     * Fills counts (which needs room for NUM_REGIONS entries) with last round's counts, indexed by getRegion().
+     */
+    public static void readLastRoundRegionCounts(int[] counts) throws GameActionException {
+        final int offset = ((rc.getRoundNum() + 1) & 1) * REGIONS_PER_BUFFER;
+        for (int i = NUM_REGIONS; --i >= 0; ) {
+            counts[i] = SharedArrayLayout.readCensusRegionCount(offset + i);
+        }
+    }
+}
@@ -22,226 +22,75 @@ public class Communication {
     //
     // This file provides a simple implementation of several of these, but it may be work reimplementing in the future.
 
-    private static final int ARCHON_INDEX_OFFSET = 0;
-    private static final int ARCHON_INDEX_LENGTH = 4;
-    private static final int ENEMY_ARCHON_INDEX_OFFSET = ARCHON_INDEX_OFFSET + ARCHON_INDEX_LENGTH;
-    private static final int ENEMY_ARCHON_INDEX_LENGTH = 4;
-    private static final int UNIT_COUNT_OFFSET = ENEMY_ARCHON_INDEX_OFFSET + ENEMY_ARCHON_INDEX_LENGTH;
-    private static final int UNIT_COUNT_LENGTH = 14;
-    private static final int ARCHON_UNDER_ATTACK_OFFSET = UNIT_COUNT_OFFSET + UNIT_COUNT_LENGTH;
-    private static final int ARCHON_UNDER_ATTACK_LENGTH = 1;
-
-    public static int myArchonIndex = -1;
-
-    public static void initArchonIndex() throws GameActionException {
-        for (myArchonIndex = 0; myArchonIndex < 4; ++myArchonIndex) {
-            MapLocation otherArchonLoc = readInterestingLocationWithCoarseExpiry(myArchonIndex);
-            if (otherArchonLoc == null) {
-                break;
-            }
-        }
-    }
-
-    public static void writeArchonLocation() throws GameActionException {
-        if (myArchonIndex == -1) {
-            initArchonIndex();
-        }
-        writeInterestingLocationWithCoarseExpiry(myArchonIndex, locAtStartOfTurn);
-    }
-
-    public static MapLocation[] readArchonLocations() throws GameActionException {
-        MapLocation a0 = readInterestingLocationWithCoarseExpiry(0);
-        MapLocation a1 = readInterestingLocationWithCoarseExpiry(1);
-        MapLocation a2 = readInterestingLocationWithCoarseExpiry(2);
-        MapLocation a3 = readInterestingLocationWithCoarseExpiry(3);
-        int numReported = (a0 != null ? 1 : 0) + (a1 != null ? 1 : 0) + (a2 != null ? 1 : 0) + (a3 != null ? 1 : 0);
-        MapLocation[] result = new MapLocation[numReported];
-        int tail = 0;
-        if (a0 != null) {
-            result[tail++] = a0;
-        }
-        if (a1 != null) {
-            result[tail++] = a1;
-        }
-        if (a2 != null) {
-            result[tail++] = a2;
-        }
-        if (a3 != null) {
-            result[tail] = a3;
-        }
-        return result;
-    }
-
-
-    private static final int SAVING_FOR_SOLDIER_OFFSET = 4;
-
-    public static void writeArchonUnderAttack(boolean amIUnderAttack, boolean amISavingForSoldier) throws GameActionException {
-        if (myArchonIndex == -1) {
-            initArchonIndex();
-        }
-        int archonsUnderAttack = rc.readSharedArray(ARCHON_UNDER_ATTACK_OFFSET);
-        if (amIUnderAttack) {
-            archonsUnderAttack = (archonsUnderAttack | (1 << myArchonIndex));
-        } else {
-            archonsUnderAttack = (archonsUnderAttack & ~(1 << myArchonIndex));
-        }
-        if (amISavingForSoldier) {
-            archonsUnderAttack = (archonsUnderAttack | (1 << (myArchonIndex + SAVING_FOR_SOLDIER_OFFSET)));
-        } else {
-            archonsUnderAttack = (archonsUnderAttack & ~(1 << (myArchonIndex + SAVING_FOR_SOLDIER_OFFSET)));
-        }
-        rc.writeSharedArray(ARCHON_UNDER_ATTACK_OFFSET, archonsUnderAttack);
-    }
-
-    private static int cachedArchonsUnderAttack;
-
-    public static void cacheArchonsUnderAttack() throws GameActionException {
-        cachedArchonsUnderAttack = rc.readSharedArray(ARCHON_UNDER_ATTACK_OFFSET);
-    }
-
-    public static boolean readArchonUnderAttack(int index) throws GameActionException {
-        return (cachedArchonsUnderAttack & (1 << index)) > 0;
-    }
-
-    public static boolean readArchonNeedsMoneyForSoldier(int index) throws GameActionException {
-        return (cachedArchonsUnderAttack & (1 << (index + SAVING_FOR_SOLDIER_OFFSET))) > 0;
-    }
+    // The layout itself is declared in generators/schema/simpleplayer.schema, see SharedArrayLayout. Our own archons
+    // are handled by ArchonRegistry.
+    private static final int ENEMY_ARCHON_INDEX_OFFSET = SharedArrayLayout.ENEMY_ARCHON_LOCATION_INDEX;
+
+    // Enemy archons are stored in 2x2 cells, which is plenty to find them again, and leaves room for 28 round ticks.
+    // Archons move at most a tile every other turn, so the merge distance is enough to follow one that's being
+    // watched, even across cell boundaries.
+    private static final int ENEMY_ARCHON_MERGE_DISTANCE_SQ = 8;
+    // if nobody has seen an archon for this long, it has probably moved, or nobody is close enough to check
+    public static final int ENEMY_ARCHON_MAX_AGE = 100;
+    // units only cross the map for archons that were seen more recently than this
+    public static final int ENEMY_ARCHON_CHASE_AGE = 60;
+    private static final LocationRegistry enemyArchons = new LocationRegistry(ENEMY_ARCHON_INDEX_OFFSET,
+            SharedArrayLayout.ENEMY_ARCHON_LOCATION_COUNT, LocationCodec.CELL_2X2, ENEMY_ARCHON_MAX_AGE,
+            ENEMY_ARCHON_MERGE_DISTANCE_SQ);
 
     public static void writeEnemyArchonLocation(RobotInfo enemyArchon) throws GameActionException {
-        // This isn't documented anywhere, but archons always seem to get IDs in the range 2-9, and they always seems
-        // to alternate between teams (might be a quirk of the map generator). This means we can easily hash enemy
-        // archons to unique ids in [0,3].
-        // TODO: might want to check if this has already been stored, otherwise the write is a waste.
-        int enemyArchonIndex = (enemyArchon.ID / 2 - 1) % 4;
-        writeInterestingLocationWithCoarseExpiry(ENEMY_ARCHON_INDEX_OFFSET + enemyArchonIndex, enemyArchon.location);
+        MapLocation lastReported = enemyArchons.insert(enemyArchon.location);
+        if (lastReported != null && !lastReported.equals(LocationCodec.CELL_2X2.quantize(enemyArchon.location))) {
+            Events.broadcast(Events.ARCHON_MOVED, enemyArchon.location);
+        }
     }
 
     public static void clearEnemyArchonLocation(int enemyArchonIndex) throws GameActionException {
-        writeInterestingLocationWithCoarseExpiry(ENEMY_ARCHON_INDEX_OFFSET + enemyArchonIndex, null);
+        enemyArchons.expire(enemyArchonIndex);
     }
 
+    /**
+     * @return The known enemy archon locations, with nulls for empty slots. The indices can be passed to
+     * clearEnemyArchonLocation().
+     */
     public static MapLocation[] readEnemyArchonLocations() throws GameActionException {
-        MapLocation a0 = readInterestingLocationWithCoarseExpiry(ENEMY_ARCHON_INDEX_OFFSET + 0);
-        MapLocation a1 = readInterestingLocationWithCoarseExpiry(ENEMY_ARCHON_INDEX_OFFSET + 1);
-        MapLocation a2 = readInterestingLocationWithCoarseExpiry(ENEMY_ARCHON_INDEX_OFFSET + 2);
-        MapLocation a3 = readInterestingLocationWithCoarseExpiry(ENEMY_ARCHON_INDEX_OFFSET + 3);
-        return new MapLocation[]{a0, a1, a2, a3};
+        return enemyArchons.queryAll();
     }
 
-    private static void writeInterestingLocationSparse(int index, MapLocation location) throws GameActionException {
-        // writes a location using 2^12 bits, leaving 4 bits unused
-        // actually, this uses slightly less than 2^12
-        // offset by 1, so that 0 represents null values
-        if (location == null) {
-            rc.writeSharedArray(index, 0);
-        } else {
-            int encoded = location.x * GameConstants.MAP_MAX_HEIGHT + location.y + 1;
-            rc.writeSharedArray(index, encoded);
+    /**
+     * Like readEnemyArchonLocations(), but only with the archons that were seen within the last maxAge rounds.
+     */
+    public static MapLocation[] readEnemyArchonLocationsSeenWithin(int maxAge) throws GameActionException {
+        MapLocation[] result = new MapLocation[enemyArchons.capacity()];
+        for (int slot = result.length; --slot >= 0; ) {
+            result[slot] = enemyArchons.queryIfSeenWithin(slot, maxAge);
         }
+        return result;
     }
 
-    private static MapLocation readInterestingLocationSparse(int index) throws GameActionException {
-        int encoded = rc.readSharedArray(index);
-        if (encoded == 0) {
-            return null;
-        }
-        encoded -= 1;
-        int y = encoded % GameConstants.MAP_MAX_HEIGHT;
-        int x = encoded / GameConstants.MAP_MAX_HEIGHT;
-        return new MapLocation(x, y);
-    }
-
-    // number of coarse timestamps over the course of the game
-    private static final int TIMESTAMP_GRANULARITY =
-            0xFFFF / (GameConstants.MAP_MAX_WIDTH * GameConstants.MAP_MAX_HEIGHT);
-
-    private static void writeInterestingLocationWithCoarseExpiry(int index, MapLocation location) throws GameActionException {
-        // writes a location using around 2^12 bits, using the remaining bits to store a timestamp which expires
-        // after about 100-200 turns
-
-        if (location == null) {
-            rc.writeSharedArray(index, 0);
-        } else {
-            int timestamp = TIMESTAMP_GRANULARITY * rc.getRoundNum() / (GameConstants.GAME_MAX_NUMBER_OF_ROUNDS + 1);
-
-            int encoded = (location.x * GameConstants.MAP_MAX_HEIGHT + location.y) * TIMESTAMP_GRANULARITY + timestamp + 1;
-            rc.writeSharedArray(index, encoded);
-        }
-    }
-
-    private static MapLocation readInterestingLocationWithCoarseExpiry(int index) throws GameActionException {
-        int encoded = rc.readSharedArray(index);
-        if (encoded == 0) {
-            return null;
-        }
-        encoded -= 1;
-        int timestamp = encoded % TIMESTAMP_GRANULARITY;
-        int curTimestamp = TIMESTAMP_GRANULARITY * rc.getRoundNum() / (GameConstants.GAME_MAX_NUMBER_OF_ROUNDS + 1);
-        if (curTimestamp - timestamp > 1) {
-            // this event was broadcasted at least 2 epochs ago, so probably it's out of date
-            return null;
-        }
-
-        encoded /= TIMESTAMP_GRANULARITY;
-        int y = encoded % GameConstants.MAP_MAX_HEIGHT;
-        int x = encoded / GameConstants.MAP_MAX_HEIGHT;
-        return new MapLocation(x, y);
-    }
-
-    private static final int ODD_UNIT_COUNT_OFFSET = 7;
-
-    // mantain 2 unit counts: 1 for the current turn, one for the last turn
-    // (we could also sample less frequently to save bytecounts/comms space if we need)
-    // Each count is 7 12-bit numbers (can go up to 4096), although in real games, they will probably be in low 100s.
-    // If we pack them like this:
-    // aaaaaaaaaaaabbbb|bbbbbbbbcccccccc|ccccdddddddddddd|eeeeeeeeeeeeffff|ffffffffgggggggg|gggg
-    // Then they fit into 6 shorts/
-    // On the otherhand, if we pack them like this:
-    // aaaaaaaaaaaa....|bbbbbbbbbbbb....|cccccccccccc....|dddddddddddd....|eeeeeeeeeeee...|ffffffffffff....|gggggggggggg....|
-    // Then they fit into 7 shorts, but editing a single value only requires accessing one short, which helps other
-    // bots.
-    public static void clearUnitCounts() throws GameActionException {
-        // this method should only be called by an archon, to clear counts
-        int curOffset = 0;
-        if (rc.getRoundNum() % 2 == 1) {
-            curOffset = 7;
-        }
-
-        if (archonCount > 1) {
-            // need to check if it's been cleared already
-            int reportedCount = rc.readSharedArray(UNIT_COUNT_OFFSET + curOffset + RobotType.ARCHON.ordinal());
-            // if we're first, the reported count should be last turn's archon count, which is equal to or greater to
-            // the current archon count. Or it might be the first turn of the game, so it's 0.
-            // if we're the second or third or fourth archon, that won't hold, since the counts will start coming in.
-            if (reportedCount > 0 && reportedCount < archonCount) {
-                return;
+    /**
+     * @return Whether we can see every tile of the cell that loc (as read from readEnemyArchonLocations()) stands for,
+     * and there's no enemy archon on any of them
+     */
+    public static boolean isEnemyArchonGone(MapLocation loc) throws GameActionException {
+        final int cellSize = LocationCodec.CELL_2X2.cellSize();
+        final int left = loc.x / cellSize * cellSize;
+        final int bot = loc.y / cellSize * cellSize;
+        for (int x = left + cellSize; --x >= left; ) {
+            for (int y = bot + cellSize; --y >= bot; ) {
+                MapLocation tile = new MapLocation(x, y);
+                if (!rc.onTheMap(tile)) {
+                    continue;
+                }
+                if (!rc.canSenseLocation(tile)) {
+                    return false;
+                }
+                RobotInfo robot = rc.senseRobotAtLocation(tile);
+                if (robot != null && robot.team == them && robot.type == RobotType.ARCHON) {
+                    return false;
+                }
             }
         }
-        for (int i = 0; i < 7; ++i) {
-            rc.writeSharedArray(UNIT_COUNT_OFFSET + curOffset + i, 0);
-        }
-    }
-
-    public static void incrementUnitCount() throws GameActionException {
-        int curOffset = 0;
-        if (rc.getRoundNum() % 2 == 1) {
-            curOffset = 7;
-        }
-
-        int oldValue = rc.readSharedArray(UNIT_COUNT_OFFSET + curOffset + myType.ordinal());
-        rc.writeSharedArray(UNIT_COUNT_OFFSET + curOffset + myType.ordinal(), oldValue + 1);
-    }
-
-    public static int[] getLastTurnUnitCount() throws GameActionException {
-        int[] result = new int[7];
-        int lastOffset = 0;
-        if (rc.getRoundNum() % 2 == 0) {
-            lastOffset = 7;
-        }
-
-        for (int i = 0; i < 7; ++i) {
-            result[i] = rc.readSharedArray(UNIT_COUNT_OFFSET + lastOffset + i);
-        }
-        return result;
+        return true;
     }
 }
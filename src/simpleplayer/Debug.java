@@ -6,6 +6,8 @@ public class Debug {
 
     public static final boolean SHOULD_LOG_BYTECODES = false;
     public static final boolean SHOULD_SHOW_VISUALIZATIONS = false;
+    // see SharedArrayProfiler
+    public static final boolean SHOULD_PROFILE_SHARED_ARRAY = false;
 
     /**
      * Gets the current bytecode count. Designed to be used with toc.
@@ -11,6 +11,8 @@ public class DebugProperties {
     public static int soldierThreshold = 50;
     public static int minerTileMantained = 10;
     public static boolean shouldRush = false;
+    // use the exact (but slower) DialBFS instead of the generated pathfinders, so the two can be benchmarked
+    public static boolean useDialPathfinder = false;
 
     static {
         if (LOCAL_TESTING_ENABLED) {
@@ -18,11 +20,15 @@ public class DebugProperties {
             String soldierThresholdProp = null;
             String minerTileMantainedProp = null;
             String shouldRushProp = null;
+            String useDialPathfinderProp = null;
             if (param != null && param.length() > 0) {
                 String[] tokens = param.split(",");
                 soldierThresholdProp = tokens[0];
                 minerTileMantainedProp = tokens[1];
                 shouldRushProp = tokens[2];
+                if (tokens.length > 3) {
+                    useDialPathfinderProp = tokens[3];
+                }
             }
             if (soldierThresholdProp != null) {
                 soldierThreshold = Integer.parseInt(soldierThresholdProp);
@@ -33,6 +39,9 @@ public class DebugProperties {
             if (shouldRushProp != null) {
                 shouldRush = Boolean.parseBoolean(shouldRushProp);
             }
+            if (useDialPathfinderProp != null) {
+                useDialPathfinder = Boolean.parseBoolean(useDialPathfinderProp);
+            }
         }
     }
 
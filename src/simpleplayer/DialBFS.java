@@ -0,0 +1,300 @@
+package simpleplayer;
+
+import battlecode.common.*;
+
+import static simpleplayer.RobotPlayer.*;
+
+/**
+ * An exact alternative to the generated BFS pathfinders, using a bucketed Dijkstra (Dial's algorithm).
+ * <p>
+ * The generated pathfinders relax tiles in a fixed order, from neighbors closer to the center only, so they miss paths
+ * that bend back toward us, e.g. around a high-rubble blob. This finds the true cheapest paths instead. Moving onto a
+ * tile with r rubble adds (1 + r / 10) times our base cooldown, so a step costs 10 + r in tenths of our base cooldown,
+ * which is between 10 and 110. All edges cost less than NUM_BUCKETS, so a circular array of buckets is enough.
+ * <p>
+ * Tiles are stored in arrays indexed by (dx + offset) * width + (dy + offset), like the generated pathfinders. The
+ * arrays have a border of tiles outside the search disk that are never relaxed, so the 8 neighbors of a tile in the
+ * disk are always at the same index offsets, and the neighbor relaxation can be unrolled without bounds checks.
+ * <p>
+ * Rubble costs are cached by absolute location, so they survive any kind of movement, and each tile only has to be
+ * sensed once.
+ * <p>
+ * This is slower than the generated pathfinders, so it's only used when selected through DebugProperties.
+ */
+public class DialBFS extends BFS {
+
+    private static final int NUM_BUCKETS = 128;
+    private static final int BUCKET_MASK = NUM_BUCKETS - 1;
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int LOG_MAP_SIZE = 6;
+
+    private final int offset, width, center;
+    // tiles in the search disk, in order of increasing distance from the center
+    private final int[] diskTiles;
+    // the disk tiles that have a neighbor outside the disk
+    private final int[] frontierTiles;
+    // per tile, (dx << LOG_MAP_SIZE) + dy, and its Chebyshev distance from the center
+    private final int[] absoluteOffset;
+    private final int[] ring;
+    private final int[] tileDx, tileDy;
+
+    // rubble cost of every tile on the map we have sensed, indexed by (x << LOG_MAP_SIZE) + y, or 0 if unknown
+    private final int[] knownCost = new int[1 << (2 * LOG_MAP_SIZE)];
+
+    // per search state
+    private final int[] cost, dist, next, prev, head;
+    private final Direction[] firstStep;
+    private MapLocation searchCenter;
+    private boolean complete;
+
+    private static int maxElapsed = 0;
+
+    public DialBFS(int radiusSquared) {
+        int radius = (int) Math.sqrt(radiusSquared);
+        offset = radius + 1;
+        width = 2 * offset + 1;
+        center = offset * width + offset;
+        int size = width * width;
+        cost = new int[size];
+        dist = new int[size];
+        next = new int[size];
+        prev = new int[size];
+        head = new int[NUM_BUCKETS];
+        firstStep = new Direction[size];
+        absoluteOffset = new int[size];
+        ring = new int[size];
+        tileDx = new int[size];
+        tileDy = new int[size];
+
+        int numDisk = 0;
+        int[] byDistance = new int[size];
+        for (int d = 1; d <= radiusSquared; ++d) {
+            for (int dx = -radius; dx <= radius; ++dx) {
+                for (int dy = -radius; dy <= radius; ++dy) {
+                    if (dx * dx + dy * dy == d) {
+                        byDistance[numDisk++] = (dx + offset) * width + (dy + offset);
+                    }
+                }
+            }
+        }
+        diskTiles = new int[numDisk];
+        System.arraycopy(byDistance, 0, diskTiles, 0, numDisk);
+
+        for (int i = size; --i >= 0; ) {
+            // everything starts out blocked, the disk tiles get their real cost before each search
+            cost[i] = -1;
+            int dx = i / width - offset;
+            int dy = i % width - offset;
+            tileDx[i] = dx;
+            tileDy[i] = dy;
+            absoluteOffset[i] = (dx << LOG_MAP_SIZE) + dy;
+            ring[i] = Math.max(Math.abs(dx), Math.abs(dy));
+        }
+
+        int numFrontier = 0;
+        int[] frontier = new int[numDisk];
+        for (int i = numDisk; --i >= 0; ) {
+            int t = diskTiles[i];
+            int dx = tileDx[t];
+            int dy = tileDy[t];
+            if ((dx + 1) * (dx + 1) + dy * dy > radiusSquared || (dx - 1) * (dx - 1) + dy * dy > radiusSquared
+                    || dx * dx + (dy + 1) * (dy + 1) > radiusSquared || dx * dx + (dy - 1) * (dy - 1) > radiusSquared) {
+                frontier[numFrontier++] = t;
+            }
+        }
+        frontierTiles = new int[numFrontier];
+        System.arraycopy(frontier, 0, frontierTiles, 0, numFrontier);
+    }
+
+    // fills in the cost of every disk tile for this search, sensing the ones we haven't seen yet
+    private void loadCosts(MapLocation myLoc) throws GameActionException {
+        final int[] cost = this.cost;
+        final int[] knownCost = this.knownCost;
+        final int[] absoluteOffset = this.absoluteOffset;
+        final int[] ring = this.ring;
+        final int base = (myLoc.x << LOG_MAP_SIZE) + myLoc.y;
+        int margin = myLoc.x;
+        if (myLoc.y < margin) margin = myLoc.y;
+        int edge = rc.getMapWidth() - 1 - myLoc.x;
+        if (edge < margin) margin = edge;
+        edge = rc.getMapHeight() - 1 - myLoc.y;
+        if (edge < margin) margin = edge;
+
+        for (int i = diskTiles.length; --i >= 0; ) {
+            int t = diskTiles[i];
+            if (ring[t] > margin) {
+                MapLocation loc = myLoc.translate(tileDx[t], tileDy[t]);
+                if (!rc.onTheMap(loc)) {
+                    // the absolute index would wrap around, so don't cache this
+                    cost[t] = -1;
+                    continue;
+                }
+            }
+            int abs = base + absoluteOffset[t];
+            int c = knownCost[abs];
+            if (c == 0) {
+                MapLocation loc = myLoc.translate(tileDx[t], tileDy[t]);
+                int rubble = rc.senseRubble(loc);
+                RubbleMemory.record(loc, rubble);
+                c = knownCost[abs] = 10 + rubble;
+            }
+            cost[t] = c;
+        }
+        // robots only block the first step, since they will probably have moved by the time we get further
+        for (Direction d : Directions.ACTUAL_DIRECTIONS) {
+            if (rc.canSenseRobotAtLocation(myLoc.add(d))) {
+                cost[center + d.dx * width + d.dy] = -1;
+            }
+        }
+    }
+
+    @Override
+    int computeField() throws GameActionException {
+        int before = Debug.tic();
+        MapLocation myLoc = rc.getLocation();
+        searchCenter = myLoc;
+        loadCosts(myLoc);
+
+        final int[] cost = this.cost;
+        final int[] dist = this.dist;
+        final int[] next = this.next;
+        final int[] prev = this.prev;
+        final int[] head = this.head;
+        final Direction[] firstStep = this.firstStep;
+        final int width = this.width;
+
+        for (int i = diskTiles.length; --i >= 0; ) {
+            dist[diskTiles[i]] = INFINITY;
+        }
+        for (int i = NUM_BUCKETS; --i >= 0; ) {
+            head[i] = -1;
+        }
+
+        // the first steps get their own direction, after that it's inherited from the parent
+        dist[center] = 0;
+        int queued = 0;
+        for (Direction d : Directions.ACTUAL_DIRECTIONS) {
+            int n = center + d.dx * width + d.dy;
+            int c = cost[n];
+            if (c > 0) {
+                dist[n] = c;
+                firstStep[n] = d;
+                int b = c & BUCKET_MASK;
+                int h = head[b];
+                next[n] = h;
+                prev[n] = -1;
+                if (h >= 0) prev[h] = n;
+                head[b] = n;
+                ++queued;
+            }
+        }
+
+        complete = false;
+        int current = 0;
+        while (queued > 0) {
+            int b = current & BUCKET_MASK;
+            int t = head[b];
+            if (t < 0) {
+                ++current;
+                continue;
+            }
+            if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE) {
+                maxElapsed = Debug.toc(before, "DialBFS-search", maxElapsed);
+                return 0;
+            }
+            // pop, everything in this bucket is at distance current
+            int h = next[t];
+            head[b] = h;
+            if (h >= 0) prev[h] = -1;
+            --queued;
+            // mark as settled, so that it's never relaxed again
+            next[t] = -2;
+            Direction step = firstStep[t];
+
+            queued += relax(t + 1, current, step);
+            queued += relax(t - 1, current, step);
+            queued += relax(t + width, current, step);
+            queued += relax(t - width, current, step);
+            queued += relax(t + width + 1, current, step);
+            queued += relax(t + width - 1, current, step);
+            queued += relax(t - width + 1, current, step);
+            queued += relax(t - width - 1, current, step);
+        }
+        complete = true;
+        maxElapsed = Debug.toc(before, "DialBFS-search", maxElapsed);
+        return 1;
+    }
+
+    // returns 1 if n was newly added to a bucket, 0 otherwise
+    private int relax(int n, int d, Direction step) {
+        int c = cost[n];
+        if (c <= 0) {
+            return 0;
+        }
+        int nd = d + c;
+        int old = dist[n];
+        if (nd >= old) {
+            return 0;
+        }
+        int added = 1;
+        if (old != INFINITY) {
+            // already queued, so move it to its new bucket
+            int p = prev[n];
+            int q = next[n];
+            if (p >= 0) next[p] = q;
+            else head[old & BUCKET_MASK] = q;
+            if (q >= 0) prev[q] = p;
+            added = 0;
+        }
+        dist[n] = nd;
+        firstStep[n] = step;
+        int b = nd & BUCKET_MASK;
+        int h = head[b];
+        next[n] = h;
+        prev[n] = -1;
+        if (h >= 0) prev[h] = n;
+        head[b] = n;
+        return added;
+    }
+
+    private boolean isSettled(int t) {
+        return t == center || next[t] == -2 && dist[t] != INFINITY;
+    }
+
+    @Override
+    Direction getBestDir(MapLocation target, int rings) {
+        int dx = target.x - searchCenter.x;
+        int dy = target.y - searchCenter.y;
+        if (dx >= -offset && dx <= offset && dy >= -offset && dy <= offset) {
+            int t = (dx + offset) * width + (dy + offset);
+            if (t != center && cost[t] > 0 && dist[t] != INFINITY && isSettled(t)) {
+                pathCost = dist[t];
+                return firstStep[t];
+            }
+        }
+
+        // otherwise, pick the tile with the best progress per unit of cost, like the generated pathfinders
+        final int[] candidates = complete ? frontierTiles : diskTiles;
+        Direction ans = null;
+        double bestEstimation = 0;
+        double ansCost = 0;
+        double initialDist = Math.sqrt(dx * dx + dy * dy);
+        for (int i = candidates.length; --i >= 0; ) {
+            int t = candidates[i];
+            if (dist[t] == INFINITY || !isSettled(t)) {
+                continue;
+            }
+            int rx = dx - tileDx[t];
+            int ry = dy - tileDy[t];
+            double remaining = Math.sqrt(rx * rx + ry * ry);
+            double estimation = (initialDist - remaining) / dist[t];
+            if (estimation > bestEstimation) {
+                bestEstimation = estimation;
+                ans = firstStep[t];
+                ansCost = dist[t] + 10 * remaining;
+            }
+        }
+        pathCost = (int) ansCost;
+        return ans;
+    }
+}
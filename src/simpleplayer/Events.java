@@ -0,0 +1,134 @@
+package simpleplayer;
+
+import battlecode.common.*;
+
+import static simpleplayer.RobotPlayer.*;
+
+/**
+ * A small ring buffer of typed events in the shared array, so that units can react to things that were seen far away.
+ * <p>
+ * Every event fits into a single word: a valid bit, its type, its location rounded to a 4x4 cell, and the low bits of
+ * the round it was broadcast in. The head counts the events that were ever written (modulo 128), and event n lives in
+ * slot n % SLOTS. Every robot keeps a cursor to the first event it hasn't seen yet, so each turn it only reads the
+ * slots that were written since its last turn, if any. If more than SLOTS events were written since then, the oldest
+ * ones are lost.
+ * <p>
+ * The round stamps wrap around, so archons clear every event older than MAX_AGE each turn (see expire()), long before
+ * an old stamp could look recent again. Readers and broadcast() ignore slots without the valid bit, which also covers
+ * the slots that were never written.
+ * <p>
+ * Broadcasting an event that is already in the buffer (same type and cell, and recent) does nothing, so a whole army
+ * seeing the same thing only uses up one slot.
+ * <p>
+ * Usage:
+ * <pre>
+ *     while (Events.next()) {
+ *         if (Events.type == Events.DISTRESS) {
+ *             help(Events.location);
+ *         }
+ *     }
+ * </pre>
+ */
+public final class Events {
+
+    // a group of enemy attackers
+    public static final int ENEMY_ARMY = 0;
+    // an enemy archon was seen somewhere else than where it was last reported
+    public static final int ARCHON_MOVED = 1;
+    // lots of lead, and not many miners around it
+    public static final int LEAD_FIELD = 2;
+    // a unit of ours is being attacked
+    public static final int DISTRESS = 3;
+
+    private static final int SLOTS = SharedArrayLayout.EVENT_COUNT;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int HEAD_MASK = SharedArrayLayout.EVENT_HEAD_MASK;
+
+    // word layout: valid (1 bit) | type (2 bits) | cell x (4 bits) | cell y (4 bits) | round (5 bits)
+    private static final int ROUND_BITS = 5;
+    private static final int ROUND_MASK = (1 << ROUND_BITS) - 1;
+    private static final int LOG_CELL_SIZE = 2;
+    private static final int CELL_COORD_BITS = 4;
+    private static final int CELL_COORD_MASK = (1 << CELL_COORD_BITS) - 1;
+    private static final int CELL_Y_SHIFT = ROUND_BITS;
+    private static final int CELL_X_SHIFT = CELL_Y_SHIFT + CELL_COORD_BITS;
+    private static final int TYPE_SHIFT = CELL_X_SHIFT + CELL_COORD_BITS;
+    private static final int TYPE_MASK = 3;
+    private static final int VALID_BIT = 1 << (TYPE_SHIFT + 2);
+
+    // older events are skipped by readers, and cleared by expire(). The round stamps wrap around after 32 rounds, so
+    // this must be smaller, with some slack for rounds in which no archon got to run expire().
+    public static final int MAX_AGE = 20;
+    // the same event isn't broadcast again for this many rounds
+    private static final int REPEAT_INTERVAL = 10;
+
+    // the head value of the first event we haven't seen yet, or -1 before the first call to next()
+    private static int cursor = -1;
+
+    // the event returned by the last successful call to next()
+    public static int type;
+    public static MapLocation location;
+    public static int age;
+
+    public static void broadcast(int eventType, MapLocation loc) throws GameActionException {
+        final int round = rc.getRoundNum();
+        final int key = VALID_BIT | (eventType << TYPE_SHIFT)
+                | ((loc.x >> LOG_CELL_SIZE) << CELL_X_SHIFT)
+                | ((loc.y >> LOG_CELL_SIZE) << CELL_Y_SHIFT);
+        for (int i = SLOTS; --i >= 0; ) {
+            int word = SharedArrayLayout.readEvent(i);
+            if ((word & ~ROUND_MASK) == key && ((round - word) & ROUND_MASK) < REPEAT_INTERVAL) {
+                return;
+            }
+        }
+        int head = SharedArrayLayout.readEventHead();
+        SharedArrayLayout.writeEvent(head & SLOT_MASK, key | (round & ROUND_MASK));
+        SharedArrayLayout.writeEventHead((head + 1) & HEAD_MASK);
+    }
+
+    /**
+     * Clears the events older than MAX_AGE, before their round stamps wrap around. Archons call this every turn.
+     */
+    public static void expire() throws GameActionException {
+        final int round = rc.getRoundNum();
+        for (int i = SLOTS; --i >= 0; ) {
+            int word = SharedArrayLayout.readEvent(i);
+            if ((word & VALID_BIT) != 0 && ((round - word) & ROUND_MASK) > MAX_AGE) {
+                SharedArrayLayout.writeEvent(i, 0);
+            }
+        }
+    }
+
+    /**
+     * Moves on to the next event we haven't seen yet, and stores it in type, location and age.
+     *
+     * @return false if there are no more unseen events
+     */
+    public static boolean next() throws GameActionException {
+        final int head = SharedArrayLayout.readEventHead();
+        if (cursor == -1) {
+            // new robots get whatever is still in the buffer. Slots that were never written, or that expired, aren't
+            // valid, so they're skipped below.
+            cursor = (head - SLOTS) & HEAD_MASK;
+        } else if (((head - cursor) & HEAD_MASK) > SLOTS) {
+            // we missed some, they've already been overwritten
+            cursor = (head - SLOTS) & HEAD_MASK;
+        }
+        final int round = rc.getRoundNum();
+        while (cursor != head) {
+            int word = SharedArrayLayout.readEvent(cursor & SLOT_MASK);
+            cursor = (cursor + 1) & HEAD_MASK;
+            int eventAge = (round - word) & ROUND_MASK;
+            if ((word & VALID_BIT) == 0 || eventAge > MAX_AGE) {
+                continue;
+            }
+            type = (word >> TYPE_SHIFT) & TYPE_MASK;
+            int x = (((word >> CELL_X_SHIFT) & CELL_COORD_MASK) << LOG_CELL_SIZE) + (1 << (LOG_CELL_SIZE - 1));
+            int y = (((word >> CELL_Y_SHIFT) & CELL_COORD_MASK) << LOG_CELL_SIZE) + (1 << (LOG_CELL_SIZE - 1));
+            location = new MapLocation(Math.min(x, rc.getMapWidth() - 1), Math.min(y, rc.getMapHeight() - 1));
+            age = eventAge;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,415 @@
+package simpleplayer;
+
+import battlecode.common.*;
+
+import static simpleplayer.RobotPlayer.*;
+
+/**
+ * A coarse flow field toward the current attack target, computed by one archon and shared with everyone else.
+ * <p>
+ * The archon runs Dijkstra over the blocks of AdaptiveGridStrategy (blockSize x blockSize tiles each), with block costs
+ * estimated from its RubbleMemory, and publishes one step of advice per block. Archons hardly move, so their
+ * RubbleMemory only covers the area around them, and most blocks are unknown. There's no room in the shared array for
+ * other units to publish the rubble they've seen, so unknown tiles deliberately count as the average of the known ones:
+ * the field detours around terrain the archon knows is worse than average, and is a straight line everywhere else,
+ * instead of preferring unknown terrain just because it's unknown. Since the shared array only has room
+ * for 2 bits per block, the advice is relative to the straight line toward the target block: go straight, turn 45
+ * degrees left, turn 45 degrees right, or no advice (we're at the target, it's unreachable, or a bigger detour is
+ * needed). Other units then get a heading for a far-away target with a single readSharedArray, instead of having to
+ * plan it themselves.
+ * <p>
+ * The computation is far too expensive for a single turn, so it's spread over several turns, using whatever bytecodes
+ * the archon has left at the end of each one. Only the archon in the lowest live ArchonRegistry slot computes it, so
+ * there's never more than one archon publishing. Publishing can take several turns as well, so the header is cleared
+ * in the same turn as the first advice word is written, and only set again once every word is, so that no one ever
+ * reads a mix of the old and new fields.
+ */
+public final class FlowField {
+
+    private static final int BITS_PER_BLOCK = SharedArrayLayout.FLOW_FIELD_BITS;
+    private static final int LOG_BLOCKS_PER_INDEX = 3;
+    private static final int BLOCK_IN_INDEX_MASK = (1 << LOG_BLOCKS_PER_INDEX) - 1;
+
+    private static final int ADVICE_STRAIGHT = 0;
+    private static final int ADVICE_LEFT = 1;
+    private static final int ADVICE_RIGHT = 2;
+    private static final int ADVICE_NONE = 3;
+
+    // a block index fits into 8 bits, even on the largest maps
+    private static final int BLOCK_BITS = 8;
+    private static final int BLOCK_MASK = (1 << BLOCK_BITS) - 1;
+
+    // the header is (publish round / 8) << 8 | (target block + 1), and 0 means there is no field, or it's being
+    // published
+    private static final int LOG_HEADER_ROUND_GRANULARITY = 3;
+
+    // the terrain doesn't change, but our knowledge of it and the target do
+    private static final int RECOMPUTE_INTERVAL = 50;
+    // if the field is this old, whoever computed it is probably dead, so it's ignored
+    private static final int STALE_ROUNDS = 150;
+    // targets closer than this are left to the regular pathfinding
+    private static final int MIN_DIST_SQ = 50;
+    // leaves room for flushing the shared array cache at the end of the turn
+    private static final int BYTECODE_RESERVE = 2500;
+
+    private static final int PHASE_IDLE = 0;
+    private static final int PHASE_COSTS = 1;
+    private static final int PHASE_SEARCH = 2;
+    private static final int PHASE_PUBLISH = 3;
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int SAMPLES_PER_BLOCK = 5;
+
+    // indexed by (sign(dx) + 1) * 3 + (sign(dy) + 1)
+    private static final Direction[] DIRECTION_BY_SIGN = {
+            Direction.SOUTHWEST, Direction.WEST, Direction.NORTHWEST,
+            Direction.SOUTH, Direction.CENTER, Direction.NORTH,
+            Direction.SOUTHEAST, Direction.EAST, Direction.NORTHEAST,
+    };
+
+    private static int rows = -1, cols;
+
+    // producer state, only used by archons
+    private static int phase = PHASE_IDLE;
+    private static int cursor;
+    private static int targetBlock = -1;
+    private static int lastStartRound = -RECOMPUTE_INTERVAL;
+    private static int[] blockCost = null;
+    // over all the samples of the blocks whose costs are computed so far
+    private static int knownRubble, knownSamples;
+    private static int[] dist = null;
+    private static IntHeap heap = null;
+
+    // consumer state, so that the header is only read once per turn
+    private static int cachedHeaderRound = -1;
+    private static int cachedHeader;
+
+    private static void init() {
+        AdaptiveGridStrategy.initGeometry();
+        cols = AdaptiveGridStrategy.cols;
+        rows = AdaptiveGridStrategy.rows;
+    }
+
+    private static Direction straightDirection(int fromX, int fromY, int toX, int toY) {
+        int sx = toX > fromX ? 2 : toX == fromX ? 1 : 0;
+        int sy = toY > fromY ? 2 : toY == fromY ? 1 : 0;
+        return DIRECTION_BY_SIGN[sx * 3 + sy];
+    }
+
+    private static int getPublishRound(int header) {
+        return (header >> BLOCK_BITS) << LOG_HEADER_ROUND_GRANULARITY;
+    }
+
+    private static int readHeader() throws GameActionException {
+        int round = rc.getRoundNum();
+        if (cachedHeaderRound != round) {
+            cachedHeader = SharedArrayLayout.readFlowFieldHeader();
+            cachedHeaderRound = round;
+        }
+        return cachedHeader;
+    }
+
+    /**
+     * @return The center of the next block to head for on the way to target, or null if the field has no advice for
+     * this location and target
+     */
+    public static MapLocation getNextStop(MapLocation loc, MapLocation target) throws GameActionException {
+        if (loc.distanceSquaredTo(target) < MIN_DIST_SQ) {
+            return null;
+        }
+        int header = readHeader();
+        if (header == 0) {
+            return null;
+        }
+        if (rows == -1) {
+            init();
+        }
+        final int blockSize = AdaptiveGridStrategy.blockSize;
+        int tx = target.x / blockSize;
+        int ty = target.y / blockSize;
+        if (rc.getRoundNum() - getPublishRound(header) > STALE_ROUNDS) {
+            return null;
+        }
+        int fieldTarget = (header & BLOCK_MASK) - 1;
+        if (tx * rows + ty != fieldTarget) {
+            return null;
+        }
+        int bx = loc.x / blockSize;
+        int by = loc.y / blockSize;
+        int block = bx * rows + by;
+        int advice = SharedArrayLayout.readFlowField(block);
+        Direction dir = straightDirection(bx, by, tx, ty);
+        switch (advice) {
+            case ADVICE_STRAIGHT:
+                break;
+            case ADVICE_LEFT:
+                dir = dir.rotateLeft();
+                break;
+            case ADVICE_RIGHT:
+                dir = dir.rotateRight();
+                break;
+            default:
+                return null;
+        }
+        return AdaptiveGridStrategy.getBlockCenter(bx + dir.dx, by + dir.dy);
+    }
+
+    private static boolean isProducer() throws GameActionException {
+        for (int slot = 0; slot < ArchonRegistry.NUM_SLOTS; ++slot) {
+            if (ArchonRegistry.isAlive(slot)) {
+                return slot == ArchonRegistry.myArchonIndex;
+            }
+        }
+        return false;
+    }
+
+    private static MapLocation chooseTarget() throws GameActionException {
+        MapLocation best = null;
+        int bestDist = Integer.MAX_VALUE;
+        for (MapLocation loc : Communication.readEnemyArchonLocations()) {
+            if (loc == null) {
+                continue;
+            }
+            int d = locAtStartOfTurn.distanceSquaredTo(loc);
+            if (d < bestDist) {
+                bestDist = d;
+                best = loc;
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        return GridStrategy.instance.findClosestAttackLocation();
+    }
+
+    /**
+     * Advances the computation of the field with whatever bytecodes are left this turn. Only archons should call this.
+     */
+    public static void produce() throws GameActionException {
+        if (!isProducer()) {
+            if (phase != PHASE_IDLE) {
+                // we lost our slot halfway through, so whoever took over starts from scratch, and so will we
+                phase = PHASE_IDLE;
+                lastStartRound = -RECOMPUTE_INTERVAL;
+            }
+            return;
+        }
+        if (rows == -1) {
+            init();
+        }
+        final int numBlocks = rows * cols;
+        if (phase == PHASE_IDLE) {
+            MapLocation target = chooseTarget();
+            if (target == null) {
+                return;
+            }
+            int block = target.x / AdaptiveGridStrategy.blockSize * rows + target.y / AdaptiveGridStrategy.blockSize;
+            if (block == targetBlock && rc.getRoundNum() - lastStartRound < RECOMPUTE_INTERVAL) {
+                return;
+            }
+            // allocations cost one bytecode per element, so spread them out if we need to
+            if (blockCost == null) {
+                if (Clock.getBytecodesLeft() < 3 * numBlocks + BYTECODE_RESERVE) {
+                    return;
+                }
+                blockCost = new int[numBlocks];
+                dist = new int[numBlocks];
+            }
+            if (heap == null) {
+                if (Clock.getBytecodesLeft() < 8 * numBlocks + BYTECODE_RESERVE) {
+                    return;
+                }
+                heap = new IntHeap(8 * numBlocks);
+            }
+            targetBlock = block;
+            lastStartRound = rc.getRoundNum();
+            cursor = 0;
+            knownRubble = 0;
+            knownSamples = 0;
+            phase = PHASE_COSTS;
+        }
+        if (phase == PHASE_COSTS) {
+            if (!computeCosts(numBlocks)) {
+                return;
+            }
+            startSearch(numBlocks);
+            phase = PHASE_SEARCH;
+        }
+        if (phase == PHASE_SEARCH) {
+            if (!search()) {
+                return;
+            }
+            cursor = 0;
+            phase = PHASE_PUBLISH;
+        }
+        if (phase == PHASE_PUBLISH) {
+            if (!publish(numBlocks)) {
+                return;
+            }
+            phase = PHASE_IDLE;
+        }
+    }
+
+    // the rubble of a few sample tiles per block: the total of the known ones, times 8, plus the number of unknown ones.
+    // startSearch turns that into the cost of entering the block, once the average of all known samples is known.
+    private static boolean computeCosts(int numBlocks) {
+        final int[] blockCost = FlowField.blockCost;
+        final int blockSize = AdaptiveGridStrategy.blockSize;
+        final int rows = FlowField.rows;
+        // the samples are a quarter and three quarters of the way across the block, and its center
+        final int near = blockSize / 4;
+        final int mid = blockSize / 2;
+        final int far = 3 * blockSize / 4;
+        // the blocks at the edges may be narrower
+        final int widthm1 = rc.getMapWidth() - 1;
+        final int heightm1 = rc.getMapHeight() - 1;
+        while (cursor < numBlocks) {
+            if (Clock.getBytecodesLeft() < BYTECODE_RESERVE) {
+                return false;
+            }
+            int left = cursor / rows * blockSize;
+            int bot = cursor % rows * blockSize;
+            int x1 = Math.min(left + near, widthm1);
+            int x2 = Math.min(left + far, widthm1);
+            int y1 = Math.min(bot + near, heightm1);
+            int y2 = Math.min(bot + far, heightm1);
+            int total = 0;
+            int unknown = 0;
+            int r = RubbleMemory.getRubble(x1, y1);
+            if (r >= 0) total += r; else ++unknown;
+            r = RubbleMemory.getRubble(x2, y1);
+            if (r >= 0) total += r; else ++unknown;
+            r = RubbleMemory.getRubble(Math.min(left + mid, widthm1), Math.min(bot + mid, heightm1));
+            if (r >= 0) total += r; else ++unknown;
+            r = RubbleMemory.getRubble(x1, y2);
+            if (r >= 0) total += r; else ++unknown;
+            r = RubbleMemory.getRubble(x2, y2);
+            if (r >= 0) total += r; else ++unknown;
+            knownRubble += total;
+            knownSamples += SAMPLES_PER_BLOCK - unknown;
+            blockCost[cursor++] = (total << 3) | unknown;
+        }
+        return true;
+    }
+
+    // Dijkstra from the target block, so that dist is the cost of getting from each block to the target
+    private static void startSearch(int numBlocks) {
+        final int[] dist = FlowField.dist;
+        final int[] blockCost = FlowField.blockCost;
+        // the cost of entering a block is 10 plus the average rubble of its samples
+        final int averageRubble = knownSamples == 0 ? 0 : knownRubble / knownSamples;
+        for (int i = numBlocks; --i >= 0; ) {
+            dist[i] = UNREACHABLE;
+            int samples = blockCost[i];
+            blockCost[i] = 10 + ((samples >> 3) + (samples & 7) * averageRubble) / SAMPLES_PER_BLOCK;
+        }
+        dist[targetBlock] = 0;
+        heap.clear();
+        heap.push(targetBlock);
+    }
+
+    private static boolean search() {
+        final int[] dist = FlowField.dist;
+        final int[] blockCost = FlowField.blockCost;
+        final IntHeap heap = FlowField.heap;
+        final int rows = FlowField.rows;
+        final int cols = FlowField.cols;
+        while (!heap.isEmpty()) {
+            if (Clock.getBytecodesLeft() < BYTECODE_RESERVE) {
+                return false;
+            }
+            int top = heap.pop();
+            int block = top & BLOCK_MASK;
+            int d = top >>> BLOCK_BITS;
+            if (d > dist[block]) {
+                // stale entry
+                continue;
+            }
+            // moving from a neighbor into this block costs this block's cost
+            int nd = d + blockCost[block];
+            int bx = block / rows;
+            int by = block % rows;
+            for (int dx = -1; dx <= 1; ++dx) {
+                int nx = bx + dx;
+                if (nx < 0 || nx >= cols) {
+                    continue;
+                }
+                for (int dy = -1; dy <= 1; ++dy) {
+                    int ny = by + dy;
+                    if (ny < 0 || ny >= rows) {
+                        continue;
+                    }
+                    int n = nx * rows + ny;
+                    if (nd < dist[n]) {
+                        dist[n] = nd;
+                        heap.push((nd << BLOCK_BITS) | n);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    // only advises a step that lies on a cheapest path, otherwise the units would be steered into walls that the
+    // cheapest path goes around
+    private static int getAdvice(int block) {
+        final int rows = FlowField.rows;
+        int myDist = dist[block];
+        if (block == targetBlock || myDist == UNREACHABLE) {
+            return ADVICE_NONE;
+        }
+        int bx = block / rows;
+        int by = block % rows;
+        Direction straight = straightDirection(bx, by, targetBlock / rows, targetBlock % rows);
+        if (costThrough(bx, by, straight) == myDist) {
+            return ADVICE_STRAIGHT;
+        }
+        int left = costThrough(bx, by, straight.rotateLeft());
+        int right = costThrough(bx, by, straight.rotateRight());
+        if (left == myDist && left <= right) {
+            return ADVICE_LEFT;
+        }
+        if (right == myDist) {
+            return ADVICE_RIGHT;
+        }
+        return ADVICE_NONE;
+    }
+
+    // the cost of getting to the target by stepping into the neighbor in direction dir first
+    private static int costThrough(int bx, int by, Direction dir) {
+        int nx = bx + dir.dx;
+        int ny = by + dir.dy;
+        if (nx < 0 || ny < 0 || nx >= cols || ny >= rows) {
+            return UNREACHABLE;
+        }
+        int n = nx * rows + ny;
+        int d = dist[n];
+        return d == UNREACHABLE ? UNREACHABLE : d + blockCost[n];
+    }
+
+    private static boolean publish(int numBlocks) throws GameActionException {
+        int numIndices = (numBlocks + BLOCK_IN_INDEX_MASK) >> LOG_BLOCKS_PER_INDEX;
+        if (cursor == 0) {
+            SharedArrayLayout.writeFlowFieldHeader(0);
+            cachedHeader = 0;
+        }
+        while (cursor < numIndices) {
+            if (Clock.getBytecodesLeft() < BYTECODE_RESERVE) {
+                return false;
+            }
+            int first = cursor << LOG_BLOCKS_PER_INDEX;
+            int last = Math.min(numBlocks, first + BLOCK_IN_INDEX_MASK + 1);
+            int value = 0;
+            for (int block = first; block < last; ++block) {
+                value |= getAdvice(block) << ((block - first) * BITS_PER_BLOCK);
+            }
+            // the cache skips the engine write if nothing changed
+            SharedArrayCache.write(SharedArrayLayout.FLOW_FIELD_INDEX + cursor, value);
+            ++cursor;
+        }
+        int header = ((rc.getRoundNum() >> LOG_HEADER_ROUND_GRANULARITY) << BLOCK_BITS) | (targetBlock + 1);
+        SharedArrayLayout.writeFlowFieldHeader(header);
+        cachedHeader = header;
+        return true;
+    }
+}
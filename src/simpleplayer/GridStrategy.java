@@ -5,11 +5,15 @@ import battlecode.common.MapLocation;
 
 public abstract class GridStrategy {
 
-        public static GridStrategy instance = new Grid5x5Strategy();
+        public static GridStrategy instance = new AdaptiveGridStrategy();
 
         public abstract void updatePerTurn() throws GameActionException;
         public abstract void setAttackLocation(MapLocation loc) throws GameActionException;
         public abstract MapLocation findClosestMiningLocation() throws GameActionException;
         public abstract MapLocation findClosestAttackLocation() throws GameActionException;
+        // one of the closest blocks other than ours that nobody has had a good look at lately (picked by robot ID, so
+        // that idle units spread out), or null
+        public abstract MapLocation findClosestStaleLocation() throws GameActionException;
+        public abstract boolean isStale(MapLocation loc) throws GameActionException;
         public abstract void showDebug() throws GameActionException;
 }
@@ -0,0 +1,74 @@
+package simpleplayer;
+
+/**
+ * A binary min-heap of ints, backed by a fixed-size array.
+ * <p>
+ * Callers usually pack a priority into the high bits and an id into the low bits, so that a single int comparison
+ * orders the entries. java.util.PriorityQueue boxes every element and costs ~40 bytecodes just to allocate, so this is
+ * much cheaper for searches that push thousands of entries.
+ */
+public final class IntHeap {
+
+    private final int[] heap;
+    private int size = 0;
+
+    public IntHeap(final int capacity) {
+        heap = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == heap.length;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void push(final int value) {
+        final int[] heap = this.heap;
+        int i = size++;
+        while (i > 0) {
+            final int parent = (i - 1) >> 1;
+            final int parentValue = heap[parent];
+            if (parentValue <= value) {
+                break;
+            }
+            heap[i] = parentValue;
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    public int pop() {
+        final int[] heap = this.heap;
+        final int result = heap[0];
+        final int value = heap[--size];
+        final int size = this.size;
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            int childValue = heap[child];
+            if (child + 1 < size && heap[child + 1] < childValue) {
+                childValue = heap[++child];
+            }
+            if (value <= childValue) {
+                break;
+            }
+            heap[i] = childValue;
+            i = child;
+        }
+        heap[i] = value;
+        return result;
+    }
+}
@@ -0,0 +1,139 @@
+package simpleplayer;
+
+import battlecode.common.*;
+
+import static simpleplayer.RobotPlayer.*;
+
+/**
+ * A coarse map of how much unclaimed lead there is, so that miners and archons can pick the most valuable field to
+ * go to, instead of the first block that needs a worker.
+ * <p>
+ * The map is split into FIELDS_PER_SIDE x FIELDS_PER_SIDE fields, and each field gets a 2-bit level. Whenever a unit
+ * scans the grid blocks around it (see AdaptiveGridStrategy.scan), it reports every block it saw whole, and then
+ * publishes the highest level it saw in each field:
+ * <ul>
+ * <li>A higher level than the stored one, or any level for an unknown field, replaces the stored level, so that a
+ * single rich block makes the whole field worth visiting.</li>
+ * <li>A lower level only lowers the stored level by one, so that one scan of an empty corner doesn't hide a rich block
+ * elsewhere in the field. A scan that sees both only counts the rich one, so units that can see several blocks don't
+ * flip the level back and forth.</li>
+ * </ul>
+ * Nothing is written unless the level actually changes, so most scans don't write anything.
+ */
+public final class LeadDensity {
+
+    public static final int FIELDS_PER_SIDE = 4;
+    public static final int NUM_FIELDS = SharedArrayLayout.LEAD_DENSITY_COUNT;
+
+    // nobody scanned this field yet
+    public static final int UNKNOWN = 0;
+    // no lead that isn't already being mined
+    public static final int EMPTY = 1;
+    public static final int SOME = 2;
+    public static final int RICH = 3;
+
+    // unclaimed resources (see AdaptiveGridStrategy.scan) worth at least a whole tile of lead
+    private static final int RICH_RESOURCES = 45;
+
+    // how much each level is worth, for ranking fields against each other. Unknown blocks that need a worker are
+    // worth as much as some lead, since the grid strategy only knows that they haven't been scanned.
+    private static final int[] LEVEL_VALUE = {1, 0, 1, 3};
+    // added to the distance, so that nearby fields don't win just for being nearby
+    private static final int DISTANCE_OFFSET = 8;
+
+    // the level of the field returned by the last call to findBestField()
+    public static int bestLevel;
+
+    // the highest level each field was seen at since the last publish(), and one bit per field that was seen at all
+    private static final int[] observed = new int[NUM_FIELDS];
+    private static int observedFields = 0;
+
+    public static int getField(MapLocation loc) {
+        return (loc.x * FIELDS_PER_SIDE / rc.getMapWidth()) * FIELDS_PER_SIDE
+                + loc.y * FIELDS_PER_SIDE / rc.getMapHeight();
+    }
+
+    public static MapLocation getCenter(int field) {
+        int fieldX = field / FIELDS_PER_SIDE;
+        int fieldY = field % FIELDS_PER_SIDE;
+        return new MapLocation((2 * fieldX + 1) * rc.getMapWidth() / (2 * FIELDS_PER_SIDE),
+                (2 * fieldY + 1) * rc.getMapHeight() / (2 * FIELDS_PER_SIDE));
+    }
+
+    public static int read(MapLocation loc) throws GameActionException {
+        return SharedArrayLayout.readLeadDensity(getField(loc));
+    }
+
+    /**
+     * Reports the result of scanning a block around loc. Nothing is written until publish().
+     *
+     * @param unclaimedResources The resources in the block, minus what the miners already there can handle
+     */
+    public static void report(MapLocation loc, double unclaimedResources) {
+        int level;
+        if (unclaimedResources <= 0) {
+            level = EMPTY;
+        } else if (unclaimedResources < RICH_RESOURCES) {
+            level = SOME;
+        } else {
+            level = RICH;
+        }
+        int field = getField(loc);
+        if (level > observed[field]) {
+            observed[field] = level;
+        }
+        observedFields |= 1 << field;
+    }
+
+    /**
+     * Updates the levels of the fields reported since the last call. Must be called at the end of every scan.
+     */
+    public static void publish() throws GameActionException {
+        final int[] observed = LeadDensity.observed;
+        while (observedFields != 0) {
+            int field = Integer.numberOfTrailingZeros(observedFields);
+            observedFields &= observedFields - 1;
+            int level = observed[field];
+            observed[field] = UNKNOWN;
+            int stored = SharedArrayLayout.readLeadDensity(field);
+            if (stored == UNKNOWN || level > stored) {
+                SharedArrayLayout.writeLeadDensity(field, level);
+            } else if (level < stored) {
+                SharedArrayLayout.writeLeadDensity(field, stored - 1);
+            }
+        }
+    }
+
+    /**
+     * @return How much it's worth going to a place with the given level at the given location, higher is better
+     */
+    public static int score(int level, MapLocation from, MapLocation to) {
+        int distance = Math.max(Math.abs(from.x - to.x), Math.abs(from.y - to.y));
+        return LEVEL_VALUE[level] * 256 / (distance + DISTANCE_OFFSET);
+    }
+
+    /**
+     * Finds the field with the highest score from here, not counting the one we're in (the grid strategy already covers
+     * that), and unknown or empty fields. Sets bestLevel to its level.
+     *
+     * @return The center of the best field, or null if there is none
+     */
+    public static MapLocation findBestField(MapLocation from) throws GameActionException {
+        int ourField = getField(from);
+        int bestField = -1;
+        int bestScore = 0;
+        for (int field = NUM_FIELDS; --field >= 0; ) {
+            int level = SharedArrayLayout.readLeadDensity(field);
+            if (level < SOME || field == ourField) {
+                continue;
+            }
+            int score = score(level, from, getCenter(field));
+            if (score > bestScore) {
+                bestScore = score;
+                bestField = field;
+                bestLevel = level;
+            }
+        }
+        return bestField == -1 ? null : getCenter(bestField);
+    }
+}
@@ -0,0 +1,60 @@
+package simpleplayer;
+
+import battlecode.common.*;
+
+import static simpleplayer.RobotPlayer.*;
+
+/**
+ * Lead reservations, so that producers that run earlier in the round don't spend the lead a more important producer
+ * is saving up for.
+ * <p>
+ * Every archon has a claim in its ArchonRegistry slot: the priority of what it's trying to build, or NONE. Before
+ * building, a producer only counts the lead that isn't claimed by another live archon with a higher priority. An
+ * archon that can't afford its build keeps its claim, so on the next round the archons and builders that run before
+ * it leave the lead alone, and it gets to build. Archons redo their claim on every turn they can act, so claims never
+ * outlive the build order that made them, and ArchonRegistry clears the claims of dead archons.
+ * <p>
+ * There are only 2 bits per archon, so a claim reserves the most expensive thing its priority is used for, rather
+ * than an exact amount. Builders don't claim anything, they just build watchtowers with whatever is left.
+ */
+public final class LeadLedger {
+
+    public static final int NONE = 0;
+    // miners, builders, and soldiers when we're rich
+    public static final int ECONOMY = 1;
+    // soldiers in the normal build order
+    public static final int ARMY = 2;
+    // anything an archon that's under attack builds
+    public static final int DEFENSE = 3;
+
+    private static final int[] RESERVED_LEAD = {
+            0,
+            Math.max(RobotType.MINER.buildCostLead, RobotType.BUILDER.buildCostLead),
+            RobotType.SOLDIER.buildCostLead,
+            Math.max(RobotType.MINER.buildCostLead, RobotType.SOLDIER.buildCostLead),
+    };
+
+    /**
+     * Sets our archon's claim. Archons only.
+     */
+    public static void claim(int priority) throws GameActionException {
+        SharedArrayLayout.writeLeadClaim(ArchonRegistry.myArchonIndex, priority);
+    }
+
+    /**
+     * @return The lead that no other archon claimed with a higher priority than this
+     */
+    public static int getAvailableLead(int priority) throws GameActionException {
+        int available = ourLead;
+        for (int slot = ArchonRegistry.NUM_SLOTS; --slot >= 0; ) {
+            if (slot == ArchonRegistry.myArchonIndex) {
+                continue;
+            }
+            int claim = SharedArrayLayout.readLeadClaim(slot);
+            if (claim > priority && ArchonRegistry.isAlive(slot)) {
+                available -= RESERVED_LEAD[claim];
+            }
+        }
+        return available;
+    }
+}
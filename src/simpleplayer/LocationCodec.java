@@ -0,0 +1,111 @@
+package simpleplayer;
+
+import battlecode.common.*;
+
+import static simpleplayer.RobotPlayer.rc;
+
+/**
+ * Encodes a location together with the round it was written in, so that readers can ask whether it was seen within the
+ * last N rounds.
+ * <p>
+ * The location is stored as a cell index, and the timestamp as a tick (a fixed number of rounds), packed into one word
+ * as cell * ticks + tick + 1, which uses almost all of the 16 bits. Bigger cells leave room for more ticks, so each
+ * field can trade location precision for time precision: 1x1 cells get 18 ticks of 112 rounds, 2x2 cells get 72 ticks
+ * of 28 rounds, 3x3 cells get 163 ticks of 13 rounds. Ticks count from the start of the game instead of wrapping around,
+ * so old entries never come back to life. Ages are rounded up to the start of their tick, so a reader never thinks an
+ * entry is fresher than it is. 0 means there is no location.
+ * <p>
+ * Nothing needs the exact round yet. A field that does should keep it in a word of its own.
+ */
+public final class LocationCodec {
+
+    // the same encoding Communication always used: exact locations, and expiry within 112-224 rounds
+    public static final LocationCodec COARSE = new LocationCodec(1);
+    // 2x2 cells, with 28 rounds per tick
+    public static final LocationCodec CELL_2X2 = new LocationCodec(2);
+
+    private static final int MAX_ENCODED = 0xFFFF;
+
+    private final int cellSize;
+    private final int cellsPerColumn;
+    private final int numTicks;
+    private final int roundsPerTick;
+
+    private LocationCodec(int cellSize) {
+        this.cellSize = cellSize;
+        cellsPerColumn = (GameConstants.MAP_MAX_HEIGHT + cellSize - 1) / cellSize;
+        int cellsPerRow = (GameConstants.MAP_MAX_WIDTH + cellSize - 1) / cellSize;
+        numTicks = MAX_ENCODED / (cellsPerRow * cellsPerColumn);
+        roundsPerTick = (GameConstants.GAME_MAX_NUMBER_OF_ROUNDS + numTicks) / numTicks;
+    }
+
+    public int roundsPerTick() {
+        return roundsPerTick;
+    }
+
+    public int cellSize() {
+        return cellSize;
+    }
+
+    public void write(int index, MapLocation loc) throws GameActionException {
+        if (loc == null) {
+            SharedArrayCache.write(index, 0);
+            return;
+        }
+        int cell = (loc.x / cellSize) * cellsPerColumn + loc.y / cellSize;
+        SharedArrayCache.write(index, cell * numTicks + rc.getRoundNum() / roundsPerTick + 1);
+    }
+
+    /**
+     * @return The number of rounds since the entry at index was written (rounded up to the start of its tick), or -1 if
+     * there is no entry
+     */
+    public int age(int index) throws GameActionException {
+        int encoded = SharedArrayCache.read(index);
+        if (encoded == 0) {
+            return -1;
+        }
+        return rc.getRoundNum() - ((encoded - 1) % numTicks) * roundsPerTick;
+    }
+
+    /**
+     * @return The location at index, or null if there is none
+     */
+    public MapLocation read(int index) throws GameActionException {
+        int encoded = SharedArrayCache.read(index);
+        if (encoded == 0) {
+            return null;
+        }
+        int cell = (encoded - 1) / numTicks;
+        if (cellSize == 1) {
+            return new MapLocation(cell / cellsPerColumn, cell % cellsPerColumn);
+        }
+        // the center of the cell, or as close as we can get on this map
+        int x = (cell / cellsPerColumn) * cellSize + cellSize / 2;
+        int y = (cell % cellsPerColumn) * cellSize + cellSize / 2;
+        return new MapLocation(Math.min(x, rc.getMapWidth() - 1), Math.min(y, rc.getMapHeight() - 1));
+    }
+
+    /**
+     * @return The location at index, or null if there is none or it wasn't seen within the last maxAge rounds
+     */
+    public MapLocation readIfSeenWithin(int index, int maxAge) throws GameActionException {
+        int age = age(index);
+        if (age < 0 || age > maxAge) {
+            return null;
+        }
+        return read(index);
+    }
+
+    /**
+     * @return The location that loc will be read back as
+     */
+    public MapLocation quantize(MapLocation loc) {
+        if (cellSize == 1) {
+            return loc;
+        }
+        int x = (loc.x / cellSize) * cellSize + cellSize / 2;
+        int y = (loc.y / cellSize) * cellSize + cellSize / 2;
+        return new MapLocation(Math.min(x, rc.getMapWidth() - 1), Math.min(y, rc.getMapHeight() - 1));
+    }
+}
@@ -0,0 +1,123 @@
+package simpleplayer;
+
+import battlecode.common.*;
+
+/**
+ * A set of locations in the shared array, where every entry expires on its own unless it's refreshed.
+ * <p>
+ * Entries are keyed by the location itself: anything within mergeDistanceSquared of an existing entry is treated as the
+ * same thing, and just moves that entry along. So insert() is also how entries are refreshed, there's no separate
+ * refresh: a unit that sees something can't tell whether it's already in the registry without the same probing that
+ * insert() does anyway. That way, a target that's being watched by many units (e.g. an enemy
+ * archon) only takes up one slot, and can be followed as it moves. New entries go into the first free (empty or
+ * expired) slot, probing linearly from a slot picked by hashing the location, so that far-apart locations don't all
+ * fight over the first slot. If every slot is taken, the oldest entry is replaced.
+ * <p>
+ * Values are only written if they differ from what's already in the shared array, so if 30 soldiers report the same
+ * archon in the same turn, at most the first one changes anything (and only once per timestamp tick at that).
+ * <p>
+ * The capacity has to be a power of two, and can be as large as there's room for in the shared array. Each entry takes
+ * one word, and how precisely locations and ages are stored is up to the LocationCodec.
+ */
+public final class LocationRegistry {
+
+    private static final int LOG_HASH_CELL_SIZE = 2;
+    private static final int HASH_CELLS_PER_ROW = (GameConstants.MAP_MAX_HEIGHT >> LOG_HASH_CELL_SIZE) + 1;
+
+    private final int firstIndex;
+    private final int capacity;
+    private final int mask;
+    private final LocationCodec codec;
+    private final int maxAge;
+    private final int mergeDistanceSquared;
+
+    /**
+     * @param firstIndex           The first word of the registry in the shared array
+     * @param capacity             The number of entries, which must be a power of two
+     * @param codec                How entries are encoded
+     * @param maxAge               Entries that weren't refreshed for longer than this many rounds are expired
+     * @param mergeDistanceSquared Locations this close to an existing entry refresh it instead of adding a new one
+     */
+    public LocationRegistry(int firstIndex, int capacity, LocationCodec codec, int maxAge, int mergeDistanceSquared) {
+        this.firstIndex = firstIndex;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.codec = codec;
+        this.maxAge = maxAge;
+        this.mergeDistanceSquared = mergeDistanceSquared;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int homeSlot(MapLocation loc) {
+        return ((loc.x >> LOG_HASH_CELL_SIZE) * HASH_CELLS_PER_ROW + (loc.y >> LOG_HASH_CELL_SIZE)) & mask;
+    }
+
+    /**
+     * Adds a location, or refreshes the entry for it if there already is one close enough, which restarts its expiry
+     * and moves it to loc.
+     *
+     * @return The location the refreshed entry had before, or null if a new entry was added
+     */
+    public MapLocation insert(MapLocation loc) throws GameActionException {
+        final int home = homeSlot(loc);
+        int free = -1;
+        int oldest = home;
+        int oldestAge = -1;
+        for (int i = 0; i < capacity; ++i) {
+            int slot = (home + i) & mask;
+            int index = firstIndex + slot;
+            int age = codec.age(index);
+            if (age < 0 || age > maxAge) {
+                if (free == -1) {
+                    free = slot;
+                }
+                continue;
+            }
+            MapLocation existing = codec.read(index);
+            if (existing.distanceSquaredTo(loc) <= mergeDistanceSquared) {
+                codec.write(index, loc);
+                return existing;
+            }
+            if (age > oldestAge) {
+                oldestAge = age;
+                oldest = slot;
+            }
+        }
+        codec.write(firstIndex + (free != -1 ? free : oldest), loc);
+        return null;
+    }
+
+    /**
+     * @return The location in the given slot, or null if it's empty or expired
+     */
+    public MapLocation query(int slot) throws GameActionException {
+        return codec.readIfSeenWithin(firstIndex + slot, maxAge);
+    }
+
+    /**
+     * @return The location in the given slot, or null if it's empty or wasn't refreshed within the last maxAge rounds
+     * (which can be stricter than the registry's own expiry)
+     */
+    public MapLocation queryIfSeenWithin(int slot, int maxAge) throws GameActionException {
+        return codec.readIfSeenWithin(firstIndex + slot, Math.min(maxAge, this.maxAge));
+    }
+
+    /**
+     * @return Every slot's location, with nulls for empty or expired slots, so that the indices can be passed to
+     * expire()
+     */
+    public MapLocation[] queryAll() throws GameActionException {
+        MapLocation[] result = new MapLocation[capacity];
+        for (int slot = capacity; --slot >= 0; ) {
+            result[slot] = query(slot);
+        }
+        return result;
+    }
+
+    public void expire(int slot) throws GameActionException {
+        codec.write(firstIndex + slot, null);
+    }
+}
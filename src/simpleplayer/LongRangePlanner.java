@@ -0,0 +1,245 @@
+package simpleplayer;
+
+import battlecode.common.Clock;
+import battlecode.common.MapLocation;
+
+import static simpleplayer.RobotPlayer.rc;
+
+/**
+ * A long-range A* planner over remembered terrain (see RubbleMemory).
+ * <p>
+ * The BFS pathfinders only see the vision disk, so on maze-like maps they happily walk into dead ends. This planner
+ * searches the whole map, but it's far too expensive to finish in one turn, so it runs like a coroutine: run() expands
+ * nodes until the bytecodes for this turn are nearly used up, and the next call picks up where it left off. All of the
+ * search state lives in primitive arrays, so nothing needs to be rebuilt between turns.
+ * <p>
+ * Once the goal is reached, the path is published as a list of tiles, and getWaypoint() returns the furthest tile on
+ * it that is still close enough for the BFS to route to directly.
+ * <p>
+ * Targets tend to jitter between turns (a fleeing enemy, the next block over), so a new goal close to the current one
+ * keeps the current search or path instead of starting over. The BFS takes over for the last few tiles anyway.
+ * <p>
+ * Tiles that haven't been sensed are assumed to have no rubble, so the planner is optimistic about unexplored areas.
+ */
+public class LongRangePlanner {
+
+    // tiles are encoded as (x << 6) | y, which fits into 12 bits
+    private static final int LOG_MAP_SIZE = 6;
+    private static final int COORD_MASK = (1 << LOG_MAP_SIZE) - 1;
+    private static final int TILE_BITS = 2 * LOG_MAP_SIZE;
+    private static final int NUM_TILES = 1 << TILE_BITS;
+    private static final int TILE_MASK = NUM_TILES - 1;
+
+    // score entries are packed as searchId | parent direction | g, so that starting a new search doesn't require
+    // clearing the array
+    private static final int G_MASK = 0xFFFF;
+    private static final int DIR_SHIFT = 16;
+    private static final int DIR_MASK = 0xF;
+    private static final int SEARCH_ID_SHIFT = 20;
+    private static final int MAX_SEARCH_ID = (1 << (31 - SEARCH_ID_SHIFT)) - 1;
+
+    private static final int HEAP_CAPACITY = 4096;
+
+    // expanding a node pushes up to 8 entries onto the heap, which can cost over a thousand bytecodes
+    private static final int BYTECODE_RESERVE = 2000;
+    // targets closer than this are left to the BFS
+    private static final int MIN_PLANNING_DIST_SQ = 100;
+    // the waypoint should stay well inside even the smallest BFS disk
+    private static final int WAYPOINT_RADIUS_SQ = 8;
+    // if we end up this far from the path, it's no longer useful
+    private static final int OFF_PATH_DIST_SQ = 34;
+    // a new goal this close to the current one keeps the current plan, the BFS can cover the difference at the end
+    private static final int SAME_GOAL_DIST_SQ = 8;
+
+    private static final int[] DX = {0, 1, 1, 1, 0, -1, -1, -1};
+    private static final int[] DY = {1, 1, 0, -1, -1, -1, 0, 1};
+
+    private int[] score = null;
+    private IntHeap heap = null;
+    private int searchId = 0;
+
+    private MapLocation goal = null;
+    private int goalX, goalY;
+    private int startTile;
+    private boolean needsNewSearch = false;
+    private boolean searching = false;
+
+    // the finished path, as tiles from the start to the goal
+    private int[] path = null;
+    private int pathCursor = 0;
+
+    /**
+     * Sets the goal to plan toward. The search itself doesn't start until the next call to run().
+     */
+    void setGoal(MapLocation target) {
+        if (goal != null && goal.distanceSquaredTo(target) <= SAME_GOAL_DIST_SQ) {
+            return;
+        }
+        path = null;
+        searching = false;
+        MapLocation myLoc = rc.getLocation();
+        if (myLoc.distanceSquaredTo(target) < MIN_PLANNING_DIST_SQ) {
+            goal = null;
+            needsNewSearch = false;
+            return;
+        }
+        goal = target;
+        goalX = target.x;
+        goalY = target.y;
+        startTile = (myLoc.x << LOG_MAP_SIZE) | myLoc.y;
+        needsNewSearch = true;
+    }
+
+    /**
+     * @return The next waypoint on the planned path toward the goal, or null if there is no path (yet), or we're close
+     * enough to the goal for the BFS to take over
+     */
+    MapLocation getWaypoint(MapLocation myLoc) {
+        if (path == null) {
+            return null;
+        }
+        int last = path.length - 1;
+        while (pathCursor < last) {
+            int next = path[pathCursor + 1];
+            int dx = (next >> LOG_MAP_SIZE) - myLoc.x;
+            int dy = (next & COORD_MASK) - myLoc.y;
+            if (dx * dx + dy * dy > WAYPOINT_RADIUS_SQ) {
+                break;
+            }
+            ++pathCursor;
+        }
+        if (pathCursor == last) {
+            // the goal may be a little off from the actual target, see SAME_GOAL_DIST_SQ
+            return null;
+        }
+        int tile = path[pathCursor];
+        MapLocation waypoint = new MapLocation(tile >> LOG_MAP_SIZE, tile & COORD_MASK);
+        if (myLoc.distanceSquaredTo(waypoint) > OFF_PATH_DIST_SQ) {
+            // we've been pushed off the path, so plan again from here
+            path = null;
+            startTile = (myLoc.x << LOG_MAP_SIZE) | myLoc.y;
+            needsNewSearch = true;
+            return null;
+        }
+        return waypoint;
+    }
+
+    /**
+     * Continues the search with whatever bytecodes are left this turn.
+     */
+    void run() {
+        if (!needsNewSearch && !searching) {
+            return;
+        }
+        // allocations cost one bytecode per element, so spread them out if we need to
+        if (score == null) {
+            if (Clock.getBytecodesLeft() < NUM_TILES + BYTECODE_RESERVE) {
+                return;
+            }
+            score = new int[NUM_TILES];
+        }
+        if (heap == null) {
+            if (Clock.getBytecodesLeft() < HEAP_CAPACITY + BYTECODE_RESERVE) {
+                return;
+            }
+            heap = new IntHeap(HEAP_CAPACITY);
+        }
+        if (needsNewSearch) {
+            startSearch();
+        }
+
+        final int[] score = this.score;
+        final int width = rc.getMapWidth();
+        final int height = rc.getMapHeight();
+        final int goalTile = (goalX << LOG_MAP_SIZE) | goalY;
+        final int idBits = searchId << SEARCH_ID_SHIFT;
+        final IntHeap heap = this.heap;
+        while (!heap.isEmpty() && Clock.getBytecodesLeft() > BYTECODE_RESERVE) {
+            int top = heap.pop();
+            int tile = top & TILE_MASK;
+            if (tile == goalTile) {
+                publishPath();
+                searching = false;
+                return;
+            }
+            int g = score[tile] & G_MASK;
+            int x = tile >> LOG_MAP_SIZE;
+            int y = tile & COORD_MASK;
+            if ((top >>> TILE_BITS) > g + heuristic(x, y)) {
+                // stale entry, we've already found a shorter way here
+                continue;
+            }
+            for (int d = 8; --d >= 0; ) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) {
+                    continue;
+                }
+                int rubble = RubbleMemory.getRubble(nx, ny);
+                int ng = g + 10 + (rubble > 0 ? rubble : 0);
+                if (ng > G_MASK) {
+                    continue;
+                }
+                int nTile = (nx << LOG_MAP_SIZE) | ny;
+                int entry = score[nTile];
+                if ((entry >>> SEARCH_ID_SHIFT) == searchId && (entry & G_MASK) <= ng) {
+                    continue;
+                }
+                score[nTile] = idBits | (d << DIR_SHIFT) | ng;
+                if (heap.isFull()) {
+                    // shouldn't happen on real maps, but give up rather than plan with a truncated open set
+                    searching = false;
+                    return;
+                }
+                heap.push(((ng + heuristic(nx, ny)) << TILE_BITS) | nTile);
+            }
+        }
+        if (heap.isEmpty()) {
+            searching = false;
+        }
+    }
+
+    private void startSearch() {
+        needsNewSearch = false;
+        searching = true;
+        if (++searchId > MAX_SEARCH_ID) {
+            searchId = 1;
+            score = new int[NUM_TILES];
+        }
+        heap.clear();
+        score[startTile] = searchId << SEARCH_ID_SHIFT;
+        heap.push((heuristic(startTile >> LOG_MAP_SIZE, startTile & COORD_MASK) << TILE_BITS) | startTile);
+    }
+
+    // every move costs at least 10, so this never overestimates
+    private int heuristic(int x, int y) {
+        int dx = goalX - x;
+        if (dx < 0) {
+            dx = -dx;
+        }
+        int dy = goalY - y;
+        if (dy < 0) {
+            dy = -dy;
+        }
+        return 10 * (dx > dy ? dx : dy);
+    }
+
+    private void publishPath() {
+        int length = 1;
+        int tile = (goalX << LOG_MAP_SIZE) | goalY;
+        while (tile != startTile) {
+            int d = (score[tile] >> DIR_SHIFT) & DIR_MASK;
+            tile = (((tile >> LOG_MAP_SIZE) - DX[d]) << LOG_MAP_SIZE) | ((tile & COORD_MASK) - DY[d]);
+            ++length;
+        }
+        int[] result = new int[length];
+        tile = (goalX << LOG_MAP_SIZE) | goalY;
+        for (int i = length; --i >= 0; ) {
+            result[i] = tile;
+            int d = (score[tile] >> DIR_SHIFT) & DIR_MASK;
+            tile = (((tile >> LOG_MAP_SIZE) - DX[d]) << LOG_MAP_SIZE) | ((tile & COORD_MASK) - DY[d]);
+        }
+        path = result;
+        pathCursor = 0;
+    }
+}
@@ -12,9 +12,21 @@ public class Miner {
 
     private static final int MIN_LEAD_AMOUNT = 2;
 
+    // the closest few lead tiles are compared by path cost, since the closest one might be behind rubble
+    private static final int MAX_LEAD_CANDIDATES = 4;
+    private static final MapLocation[] leadCandidates = new MapLocation[MAX_LEAD_CANDIDATES];
+    private static final int[] leadCandidateDists = new int[MAX_LEAD_CANDIDATES];
+
     private static Mat3x3l resourcesAvailable = null;
     private static RobotInfo[] minersToConsider = null;
 
+    // a lead field reported by someone else, see Events
+    private static MapLocation reportedLeadField = null;
+    private static int reportedLeadFieldRound;
+    // report a lead field if we see at least this many lead tiles, and at most this many other miners
+    private static final int LEAD_FIELD_MIN_TILES = 15;
+    private static final int LEAD_FIELD_MAX_MINERS = 2;
+
     private static MapLocation[] nearbyLead;
     private static MapLocation[] nearbyGold;
 
@@ -422,7 +434,10 @@ public class Miner {
         nearbyLead = rc.senseNearbyLocationsWithLead(myType.visionRadiusSquared);
         nearbyGold = rc.senseNearbyLocationsWithGold(myType.visionRadiusSquared);
 
+        readEvents();
+
         if (inRangeOfNearestEnemyAttacker()) {
+            Events.broadcast(Events.DISTRESS, locAtStartOfTurn);
             tryMiningAdjacentTiles();
             fleeNearestAttacker();
             tryMiningAdjacentTiles();
@@ -436,6 +451,10 @@ public class Miner {
 
         // now check the ones assigned to us. How many did we get?
 
+        if (nearbyLead.length >= LEAD_FIELD_MIN_TILES) {
+            reportLeadField();
+        }
+
         if (numTilesAssignedToUs >= 5) {
             int start2 = tic();
             // just stay here
@@ -475,6 +494,7 @@ public class Miner {
         }
 
         if (nearestVisibleUnassignedLocation == null) {
+            int numCandidates = 0;
             for (int i = nearbyLead.length; --i >= 0; ) {
                 MapLocation resourceLocation = nearbyLead[i];
                 int dx = resourceLocation.x - myX;
@@ -487,6 +507,21 @@ public class Miner {
                     continue;
                 }
                 int rSquare = dx * dx + dy * dy;
+                if (numCandidates < MAX_LEAD_CANDIDATES) {
+                    leadCandidates[numCandidates] = resourceLocation;
+                    leadCandidateDists[numCandidates++] = rSquare;
+                } else {
+                    int worst = 0;
+                    for (int j = MAX_LEAD_CANDIDATES; --j > 0; ) {
+                        if (leadCandidateDists[j] > leadCandidateDists[worst]) {
+                            worst = j;
+                        }
+                    }
+                    if (rSquare < leadCandidateDists[worst]) {
+                        leadCandidates[worst] = resourceLocation;
+                        leadCandidateDists[worst] = rSquare;
+                    }
+                }
                 if (rSquare < closestRadiusSquared) {
                     closestRadiusSquared = rSquare;
                     nearestVisibleUnassignedLocation = resourceLocation;
@@ -498,6 +533,12 @@ public class Miner {
                     }
                 }
             }
+            if (numCandidates > 1) {
+                MapLocation cheapest = pathfinder.rankTargets(leadCandidates, numCandidates);
+                if (cheapest != null) {
+                    nearestVisibleUnassignedLocation = cheapest;
+                }
+            }
         }
         MapLocation closestResource = nearestVisibleUnassignedLocation;
 
@@ -519,6 +560,17 @@ public class Miner {
         if (newTargetMiningLocation == null) {
             // See if there's anywhere to explore
             newTargetMiningLocation = GridStrategy.instance.findClosestMiningLocation();
+            // a rich field further away may be worth more than the closest block that needs a worker
+            MapLocation bestField = LeadDensity.findBestField(locAtStartOfTurn);
+            if (bestField != null && (newTargetMiningLocation == null
+                    || LeadDensity.score(LeadDensity.bestLevel, locAtStartOfTurn, bestField)
+                    > LeadDensity.score(LeadDensity.read(newTargetMiningLocation), locAtStartOfTurn,
+                    newTargetMiningLocation))) {
+                newTargetMiningLocation = bestField;
+            }
+        }
+        if (newTargetMiningLocation == null && reportedLeadField != null) {
+            newTargetMiningLocation = reportedLeadField;
         }
         if (newTargetMiningLocation == null) {
             // try following a fighter, will probably find rubble to loot
@@ -540,6 +592,33 @@ public class Miner {
 
     }
 
+    private static void readEvents() throws GameActionException {
+        if (reportedLeadField != null && (rc.getRoundNum() - reportedLeadFieldRound > Events.MAX_AGE
+                || locAtStartOfTurn.distanceSquaredTo(reportedLeadField) <= 2)) {
+            reportedLeadField = null;
+        }
+        while (Events.next()) {
+            if (Events.type != Events.LEAD_FIELD) {
+                continue;
+            }
+            if (reportedLeadField == null || locAtStartOfTurn.distanceSquaredTo(Events.location)
+                    < locAtStartOfTurn.distanceSquaredTo(reportedLeadField)) {
+                reportedLeadField = Events.location;
+                reportedLeadFieldRound = rc.getRoundNum() - Events.age;
+            }
+        }
+    }
+
+    private static void reportLeadField() throws GameActionException {
+        int numMiners = 0;
+        for (int i = visibleAllies.length; --i >= 0; ) {
+            if (visibleAllies[i].type == RobotType.MINER && ++numMiners > LEAD_FIELD_MAX_MINERS) {
+                return;
+            }
+        }
+        Events.broadcast(Events.LEAD_FIELD, locAtStartOfTurn);
+    }
+
     private static RobotInfo nearestAttacker = null;
 
     private static boolean inRangeOfNearestEnemyAttacker() {
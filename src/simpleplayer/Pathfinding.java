@@ -2,8 +2,6 @@ package simpleplayer;
 
 import battlecode.common.*;
 
-import java.util.HashSet;
-
 import static simpleplayer.RobotPlayer.*;
 
 // Largely copied from https://github.com/IvanGeffner/battlecode2021
@@ -50,7 +48,8 @@ public class Pathfinding {
         try {
             if (loc.distanceSquaredTo(target) == 0) return 0;
             int d = distance(target, loc);
-            double r = rc.senseRubble(loc);
+            int r = rc.senseRubble(loc);
+            RubbleMemory.record(loc, r);
             return 1.0 + r / 10.0 + (d - 1) * avgImpassabilityInv;
         } catch (Throwable e) {
             e.printStackTrace();
@@ -132,23 +131,39 @@ public class Pathfinding {
         MapLocation lastObstacleFound = null; //latest obstacle I've found in my way
         int minDistToEnemy = INF; //minimum distance I've been to the enemy while going around an obstacle
         MapLocation prevTarget = null; //previous target
-        HashSet<Integer> visited = new HashSet<>();
+
+        // Visited (x, y, obstacle direction, rotation) states, as a bitset. Each tile has 16 states, so each long holds
+        // 4 tiles. A long only counts if its generation matches the current one, which makes resetting O(1). Together
+        // these cost about 1800 bytecodes to allocate, compared to ~25 for a HashSet, but every lookup afterwards is
+        // much cheaper and there's no boxing.
+        final long[] visited = new long[MAX_MAP_SIZE * MAX_MAP_SIZE / 4];
+        final int[] visitedGeneration = new int[MAX_MAP_SIZE * MAX_MAP_SIZE / 4];
+        int generation = 1;
 
         boolean move() {
             try {
+                MapLocation myLoc = rc.getLocation();
 
                 //different target? ==> previous data does not help!
                 if (prevTarget == null || target.distanceSquaredTo(prevTarget) > 0) resetPathfinding();
 
                 //If I'm at a minimum distance to the target, I'm free!
-                MapLocation myLoc = rc.getLocation();
                 int d = myLoc.distanceSquaredTo(target);
                 if (d <= minDistToEnemy) resetPathfinding();
 
-                int code = getCode();
-
-                if (visited.contains(code)) resetPathfinding();
-                visited.add(code);
+                int code = getCode(myLoc);
+                if (code >= 0) {
+                    int tile = myLoc.x * MAX_MAP_SIZE + myLoc.y;
+                    int word = tile >> 2;
+                    long bit = 1L << (((tile & 3) << 4) | code);
+                    if (visitedGeneration[word] == generation && (visited[word] & bit) != 0) resetPathfinding();
+                    if (visitedGeneration[word] == generation) {
+                        visited[word] |= bit;
+                    } else {
+                        visitedGeneration[word] = generation;
+                        visited[word] = bit;
+                    }
+                }
 
                 //Update data
                 prevTarget = target;
@@ -162,6 +177,9 @@ public class Pathfinding {
                     return false;
                 }
 
+                //This is a new obstacle, so go around it on whichever side looks shorter
+                if (lastObstacleFound == null) chooseRotation(myLoc, dir);
+
                 //I rotate clockwise or counterclockwise (depends on 'rotateRight'). If I try to go out of the map I change the orientation
                 //Note that we have to try at most 16 times since we can switch orientation in the middle of the loop. (It can be done more efficiently)
                 for (int i = 8; i-- > 0; ) {
@@ -173,7 +191,7 @@ public class Pathfinding {
                     MapLocation newLoc = myLoc.add(dir);
                     if (!rc.onTheMap(newLoc)) rotateRight = !rotateRight;
                         //If I could not go in that direction and it was not outside of the map, then this is the latest obstacle found
-                    else lastObstacleFound = myLoc.add(dir);
+                    else lastObstacleFound = newLoc;
                     if (rotateRight) dir = dir.rotateRight();
                     else dir = dir.rotateLeft();
                 }
@@ -188,20 +206,46 @@ public class Pathfinding {
             return true;
         }
 
+        // Looks for the first open direction on each side of dir, and follows the wall on the side whose first step
+        // ends up closer to the target (or needs less turning, if they're equally close).
+        void chooseRotation(MapLocation myLoc, Direction dir) {
+            Direction right = dir;
+            int rightTurns = 0;
+            while (++rightTurns < 8) {
+                right = right.rotateRight();
+                if (canMove(right)) break;
+            }
+            Direction left = dir;
+            int leftTurns = 0;
+            while (++leftTurns < 8) {
+                left = left.rotateLeft();
+                if (canMove(left)) break;
+            }
+            if (rightTurns == 8 || leftTurns == 8) {
+                // surrounded, or only one way out which both sides will find
+                return;
+            }
+            int rightDist = myLoc.add(right).distanceSquaredTo(target);
+            int leftDist = myLoc.add(left).distanceSquaredTo(target);
+            rotateRight = rightDist < leftDist || (rightDist == leftDist && rightTurns <= leftTurns);
+        }
+
         //clear some of the previous data
         void resetPathfinding() {
             lastObstacleFound = null;
             minDistToEnemy = INF;
-            visited.clear();
+            // forgets every visited state at once. There are far fewer than 2^31 turns in a game, so this can't wrap.
+            ++generation;
         }
 
-        int getCode() {
-            int x = rc.getLocation().x % MAX_MAP_SIZE;
-            int y = rc.getLocation().y % MAX_MAP_SIZE;
-            Direction obstacleDir = rc.getLocation().directionTo(target);
-            if (lastObstacleFound != null) obstacleDir = rc.getLocation().directionTo(lastObstacleFound);
+        // 3 bits of obstacle direction, and 1 bit of rotation. Or -1 if we're standing on the target, since CENTER
+        // doesn't fit into 3 bits, and there's no obstacle to go around anyway.
+        int getCode(MapLocation myLoc) {
+            Direction obstacleDir = myLoc.directionTo(target);
+            if (lastObstacleFound != null) obstacleDir = myLoc.directionTo(lastObstacleFound);
+            if (obstacleDir == Direction.CENTER) return -1;
             int bit = rotateRight ? 1 : 0;
-            return (((((x << 6) | y) << 4) | obstacleDir.ordinal()) << 1) | bit;
+            return (obstacleDir.ordinal() << 1) | bit;
         }
     }
 
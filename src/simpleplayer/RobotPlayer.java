@@ -26,7 +26,7 @@ public strictfp class RobotPlayer {
     public static RobotInfo[] actableEnemies;
     public static MapLocation locAfterMovement; // anyone calling rc.move() MUST update this variable
 
-    public static final BFS pathfinder = new BFSDroid();
+    public static BFS pathfinder;
 
     private static int getRandomSeed() {
         String key;
@@ -42,6 +42,23 @@ public strictfp class RobotPlayer {
         return Integer.parseInt(value);
     }
 
+    private static BFS choosePathfinder(RobotType type) {
+        // The BFS radius should match our vision, but it also has to fit into our bytecode budget. The generated
+        // pathfinders are listed in build.gradle (see generateBFS).
+        switch (type) {
+            case ARCHON:
+            case WATCHTOWER:
+            case SAGE:
+                // vision 34, and either plenty of bytecodes or not much else to do with them
+                return DebugProperties.useDialPathfinder ? new DialBFS(34) : new BFS34();
+            case LABORATORY:
+                // vision 53, but only a small bytecode budget
+                return DebugProperties.useDialPathfinder ? new DialBFS(13) : new BFS13();
+            default:
+                return DebugProperties.useDialPathfinder ? new DialBFS(20) : new BFSDroid();
+        }
+    }
+
     @SuppressWarnings("unused")
     public static void run(RobotController inputRobotController) {
         final int randomSeed = getRandomSeed();
@@ -52,6 +69,7 @@ public strictfp class RobotPlayer {
         gen = new Random(id * 131071L + randomSeed);
         myType = rc.getType();
         myInitialLocation = rc.getLocation();
+        pathfinder = choosePathfinder(myType);
 
         Directions.initRandomDirections(gen);
         MapSymmetry.init();
@@ -65,6 +83,7 @@ public strictfp class RobotPlayer {
         } catch (Exception e) {
             // :(
             e.printStackTrace();
+            flushSharedArrayAfterException();
             Clock.yield();
         }
 
@@ -72,6 +91,7 @@ public strictfp class RobotPlayer {
         while (true) {
             try {
                 while (true) {
+                    SharedArrayCache.beginTurn();
                     locAfterMovement = locAtStartOfTurn = rc.getLocation();
                     robotCount = rc.getRobotCount();
                     archonCount = rc.getArchonCount();
@@ -85,7 +105,7 @@ public strictfp class RobotPlayer {
                     String debugMessage = "AC: " + rc.getActionCooldownTurns() + ", MC: " + rc.getMovementCooldownTurns();
                     rc.setIndicatorString(debugMessage);
 
-                    reportEnemyArchons();
+                    reportEnemies();
 
                     pathfinder.initTurn();
                     GridStrategy.instance.updatePerTurn();
@@ -115,25 +135,59 @@ public strictfp class RobotPlayer {
                             break;
                     }
 
-                    Communication.incrementUnitCount();
+                    Census.report();
+                    if (myType == RobotType.ARCHON) {
+                        FlowField.produce();
+                    }
+
+                    SharedArrayCache.flush();
+                    if (Debug.SHOULD_PROFILE_SHARED_ARRAY) {
+                        SharedArrayProfiler.endTurn();
+                    }
+
+                    pathfinder.endTurn();
 
                     Clock.yield();
                 }
             } catch (Exception e) {
                 // :(
                 e.printStackTrace();
+                flushSharedArrayAfterException();
                 Clock.yield();
             }
         }
     }
 
-    private static void reportEnemyArchons() throws GameActionException {
+    // still write back whatever we did manage to do this turn, and don't let the cache carry over to the next one
+    private static void flushSharedArrayAfterException() {
+        try {
+            SharedArrayCache.flush();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    // this many enemy attackers in sight is worth telling everyone about
+    private static final int ENEMY_ARMY_SIZE = 3;
+
+    private static void reportEnemies() throws GameActionException {
+        int numAttackers = 0;
+        MapLocation firstAttackerLocation = null;
         for (RobotInfo r : visibleEnemies) {
+            if (r.type.canAttack()) {
+                if (numAttackers++ == 0) {
+                    firstAttackerLocation = r.location;
+                }
+                continue;
+            }
             if (r.type != RobotType.ARCHON) {
                 continue;
             }
             Communication.writeEnemyArchonLocation(r);
         }
+        if (numAttackers >= ENEMY_ARMY_SIZE) {
+            Events.broadcast(Events.ENEMY_ARMY, firstAttackerLocation);
+        }
     }
 
 }
@@ -0,0 +1,70 @@
+package simpleplayer;
+
+import battlecode.common.GameConstants;
+import battlecode.common.MapLocation;
+
+/**
+ * Remembers the rubble of every tile this robot has sensed, so that planners can route around rubble that is no longer
+ * in vision.
+ * <p>
+ * Like BooleanGrid, this is backed by longs instead of an int[][] (allocating a long[225] is far cheaper than an
+ * int[60][60]). Each tile gets 4 bits, so 16 tiles fit into one long. A value of 0 means the tile hasn't been sensed
+ * yet, and values 1-15 are the rubble, quantized into buckets of RUBBLE_PER_LEVEL.
+ * <p>
+ * Writes are meant to be opportunistic: whenever something senses rubble anyway, it should call record(), which only
+ * costs a handful of bytecodes.
+ */
+public final class RubbleMemory {
+
+    private static final int BITS_PER_TILE = 4;
+    private static final int LOG_TILES_PER_LONG = 4;
+    private static final int TILE_IN_LONG_MASK = (1 << LOG_TILES_PER_LONG) - 1;
+    private static final long LEVEL_MASK = (1L << BITS_PER_TILE) - 1;
+    public static final int RUBBLE_PER_LEVEL = 7;
+    public static final int UNKNOWN = -1;
+
+    private static final long[] grid =
+            new long[(GameConstants.MAP_MAX_WIDTH * GameConstants.MAP_MAX_HEIGHT) >> LOG_TILES_PER_LONG];
+
+    public static void record(final MapLocation loc, final int rubble) {
+        final int gridIdx = loc.y * GameConstants.MAP_MAX_WIDTH + loc.x;
+        final int shift = (gridIdx & TILE_IN_LONG_MASK) << 2;
+        final int elementIdx = gridIdx >> LOG_TILES_PER_LONG;
+        grid[elementIdx] = (grid[elementIdx] & ~(LEVEL_MASK << shift)) | ((long) (rubble / RUBBLE_PER_LEVEL + 1) << shift);
+    }
+
+    public static void record(final int x, final int y, final int rubble) {
+        final int gridIdx = y * GameConstants.MAP_MAX_WIDTH + x;
+        final int shift = (gridIdx & TILE_IN_LONG_MASK) << 2;
+        final int elementIdx = gridIdx >> LOG_TILES_PER_LONG;
+        grid[elementIdx] = (grid[elementIdx] & ~(LEVEL_MASK << shift)) | ((long) (rubble / RUBBLE_PER_LEVEL + 1) << shift);
+    }
+
+    /**
+     * @return The raw quantized level: 0 if unknown, otherwise 1 + rubble / RUBBLE_PER_LEVEL
+     */
+    public static int getLevel(final int x, final int y) {
+        final int gridIdx = y * GameConstants.MAP_MAX_WIDTH + x;
+        return (int) ((grid[gridIdx >> LOG_TILES_PER_LONG] >>> ((gridIdx & TILE_IN_LONG_MASK) << 2)) & LEVEL_MASK);
+    }
+
+    public static boolean isKnown(final int x, final int y) {
+        return getLevel(x, y) != 0;
+    }
+
+    /**
+     * @return A lower bound on the rubble at (x, y), or UNKNOWN if it was never sensed. Since it never overestimates,
+     * it's safe to use in admissible heuristics.
+     */
+    public static int getRubble(final int x, final int y) {
+        final int level = getLevel(x, y);
+        if (level == 0) {
+            return UNKNOWN;
+        }
+        return (level - 1) * RUBBLE_PER_LEVEL;
+    }
+
+    public static int getRubble(final MapLocation loc) {
+        return getRubble(loc.x, loc.y);
+    }
+}
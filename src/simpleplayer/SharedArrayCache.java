@@ -0,0 +1,127 @@
+package simpleplayer;
+
+import battlecode.common.Clock;
+import battlecode.common.GameActionException;
+import battlecode.common.GameConstants;
+
+import static simpleplayer.RobotPlayer.rc;
+
+/**
+ * A per-turn cache in front of the shared array.
+ * <p>
+ * Each word is read from the engine at most once per turn, and writes only go to the cache. At the end of the turn,
+ * flush() writes back the words that actually changed, so repeated read-modify-writes of the same word (e.g. the grid
+ * blocks or the archon bits) only cost one engine write. Nobody else can run in the middle of our turn, so the cache
+ * can't go stale before it's flushed.
+ * <p>
+ * Everything in this package should go through this class instead of calling rc.readSharedArray() or
+ * rc.writeSharedArray() directly, otherwise a later flush() would overwrite the direct write. That also makes this the
+ * one place to count accesses, see SharedArrayProfiler.
+ * <p>
+ * If we run out of bytecode, our turn carries on into the next round without reaching flush(), and other robots may
+ * have written to the array in between. Checking the round on every access would cost more than the cache saves, so
+ * the cache only checks it once per turn: beginTurn() and flush() compare it to the round the cache was filled in, and
+ * when that changed, forget everything that was read, and rebase the words we changed onto their current values,
+ * keeping only the bits we actually changed. In between, a turn that ran into the next round keeps seeing what it read
+ * before, just as if it had finished in time.
+ */
+public final class SharedArrayCache {
+
+    private static final int[] values = new int[GameConstants.SHARED_ARRAY_LENGTH];
+    // what the engine had when we read each word, so we know which bits we changed
+    private static final int[] original = new int[GameConstants.SHARED_ARRAY_LENGTH];
+    // one bit per word
+    private static long loaded = 0;
+    private static long dirty = 0;
+    // the round the loaded words were read in
+    private static int round = -1;
+
+    /**
+     * Must be called at the start of every turn, and after every Clock.yield() that isn't preceded by a flush().
+     */
+    public static void beginTurn() throws GameActionException {
+        if (rc.getRoundNum() != round) {
+            rebase();
+        }
+    }
+
+    public static int read(final int index) throws GameActionException {
+        final long bit = 1L << index;
+        if (Debug.SHOULD_PROFILE_SHARED_ARRAY) {
+            final int before = Clock.getBytecodeNum();
+            final boolean engine = (loaded & bit) == 0;
+            if (engine) {
+                loaded |= bit;
+                values[index] = original[index] = rc.readSharedArray(index);
+            }
+            SharedArrayProfiler.recordRead(index, engine, Clock.getBytecodeNum() - before);
+            return values[index];
+        }
+        if ((loaded & bit) == 0) {
+            loaded |= bit;
+            return values[index] = original[index] = rc.readSharedArray(index);
+        }
+        return values[index];
+    }
+
+    public static void write(final int index, final int value) throws GameActionException {
+        if (Debug.SHOULD_PROFILE_SHARED_ARRAY) {
+            // the read is counted as well
+            final int before = Clock.getBytecodeNum();
+            if (read(index) != value) {
+                values[index] = value;
+                dirty |= 1L << index;
+            }
+            SharedArrayProfiler.recordWrite(index, Clock.getBytecodeNum() - before);
+            return;
+        }
+        if (read(index) == value) {
+            return;
+        }
+        values[index] = value;
+        dirty |= 1L << index;
+    }
+
+    /**
+     * Writes back every word that changed this turn, and forgets everything that was read, since other robots may
+     * change the array before our next turn. Must be called at the end of every turn. If the turn ran into the next
+     * round, the changed words are rebased first, so we don't overwrite what other robots wrote in between.
+     */
+    public static void flush() throws GameActionException {
+        if (rc.getRoundNum() != round) {
+            rebase();
+        }
+        long toWrite = dirty;
+        while (toWrite != 0) {
+            final int index = Long.numberOfTrailingZeros(toWrite);
+            if (Debug.SHOULD_PROFILE_SHARED_ARRAY) {
+                final int before = Clock.getBytecodeNum();
+                rc.writeSharedArray(index, values[index]);
+                SharedArrayProfiler.recordEngineWrite(index, Clock.getBytecodeNum() - before);
+            } else {
+                rc.writeSharedArray(index, values[index]);
+            }
+            toWrite &= toWrite - 1;
+        }
+        dirty = 0;
+        loaded = 0;
+    }
+
+    /**
+     * Starts over in a new round: forgets every word we read, and re-reads the ones we changed, applying just the bits
+     * we changed on top of whatever other robots wrote since.
+     */
+    private static void rebase() throws GameActionException {
+        round = rc.getRoundNum();
+        loaded = dirty;
+        long toRebase = dirty;
+        while (toRebase != 0) {
+            final int index = Long.numberOfTrailingZeros(toRebase);
+            toRebase &= toRebase - 1;
+            final int changed = values[index] ^ original[index];
+            final int current = rc.readSharedArray(index);
+            original[index] = current;
+            values[index] = (current & ~changed) | (values[index] & changed);
+        }
+    }
+}
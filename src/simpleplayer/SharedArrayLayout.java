@@ -0,0 +1,318 @@
+package simpleplayer;
+
+import battlecode.common.GameActionException;
+
+// Generated by codegen.SharedArrayGenerator from simpleplayer.schema.
+// Don't edit this by hand, run `./gradlew generateSharedArray` instead.
+public final class SharedArrayLayout {
+
+    public static final int ARCHON_LOCATION_INDEX = 0;
+    public static final int ARCHON_LOCATION_WORDS = 4;
+    public static final int ARCHON_LOCATION_SHIFT = 0;
+    public static final int ARCHON_LOCATION_BITS = 12;
+    public static final int ARCHON_LOCATION_MASK = 4095;
+    public static final int ARCHON_LOCATION_COUNT = 4;
+
+    public static final int ARCHON_HEARTBEAT_INDEX = 0;
+    public static final int ARCHON_HEARTBEAT_WORDS = 4;
+    public static final int ARCHON_HEARTBEAT_SHIFT = 12;
+    public static final int ARCHON_HEARTBEAT_BITS = 2;
+    public static final int ARCHON_HEARTBEAT_MASK = 3;
+    public static final int ARCHON_HEARTBEAT_COUNT = 4;
+
+    public static final int LEAD_CLAIM_INDEX = 0;
+    public static final int LEAD_CLAIM_WORDS = 4;
+    public static final int LEAD_CLAIM_SHIFT = 14;
+    public static final int LEAD_CLAIM_BITS = 2;
+    public static final int LEAD_CLAIM_MASK = 3;
+    public static final int LEAD_CLAIM_COUNT = 4;
+
+    public static final int ENEMY_ARCHON_LOCATION_INDEX = 4;
+    public static final int ENEMY_ARCHON_LOCATION_WORDS = 4;
+    public static final int ENEMY_ARCHON_LOCATION_SHIFT = 0;
+    public static final int ENEMY_ARCHON_LOCATION_BITS = 16;
+    public static final int ENEMY_ARCHON_LOCATION_MASK = 65535;
+    public static final int ENEMY_ARCHON_LOCATION_COUNT = 4;
+
+    public static final int CENSUS_ROUND_INDEX = 8;
+    public static final int CENSUS_ROUND_WORDS = 1;
+    public static final int CENSUS_ROUND_SHIFT = 0;
+    public static final int CENSUS_ROUND_BITS = 12;
+    public static final int CENSUS_ROUND_MASK = 4095;
+
+    public static final int ARCHON_UNDER_ATTACK_INDEX = 8;
+    public static final int ARCHON_UNDER_ATTACK_WORDS = 1;
+    public static final int ARCHON_UNDER_ATTACK_SHIFT = 12;
+    public static final int ARCHON_UNDER_ATTACK_BITS = 1;
+    public static final int ARCHON_UNDER_ATTACK_MASK = 1;
+    public static final int ARCHON_UNDER_ATTACK_COUNT = 4;
+
+    public static final int CENSUS_TYPE_COUNT_INDEX = 9;
+    public static final int CENSUS_TYPE_COUNT_WORDS = 7;
+    public static final int CENSUS_TYPE_COUNT_SHIFT = 0;
+    public static final int CENSUS_TYPE_COUNT_BITS = 8;
+    public static final int CENSUS_TYPE_COUNT_MASK = 255;
+    public static final int CENSUS_TYPE_COUNT_COUNT = 14;
+
+    public static final int CENSUS_REGION_COUNT_INDEX = 16;
+    public static final int CENSUS_REGION_COUNT_WORDS = 4;
+    public static final int CENSUS_REGION_COUNT_SHIFT = 0;
+    public static final int CENSUS_REGION_COUNT_BITS = 8;
+    public static final int CENSUS_REGION_COUNT_MASK = 255;
+    public static final int CENSUS_REGION_COUNT_COUNT = 8;
+
+    public static final int LEAD_DENSITY_INDEX = 20;
+    public static final int LEAD_DENSITY_WORDS = 2;
+    public static final int LEAD_DENSITY_SHIFT = 0;
+    public static final int LEAD_DENSITY_BITS = 2;
+    public static final int LEAD_DENSITY_MASK = 3;
+    public static final int LEAD_DENSITY_COUNT = 16;
+
+    public static final int EVENT_HEAD_INDEX = 22;
+    public static final int EVENT_HEAD_WORDS = 1;
+    public static final int EVENT_HEAD_SHIFT = 0;
+    public static final int EVENT_HEAD_BITS = 7;
+    public static final int EVENT_HEAD_MASK = 127;
+
+    public static final int GRID_SUMMARY_INDEX = 22;
+    public static final int GRID_SUMMARY_WORDS = 1;
+    public static final int GRID_SUMMARY_SHIFT = 7;
+    public static final int GRID_SUMMARY_BITS = 1;
+    public static final int GRID_SUMMARY_MASK = 1;
+    public static final int GRID_SUMMARY_COUNT = 9;
+
+    public static final int FLOW_FIELD_HEADER_INDEX = 23;
+    public static final int FLOW_FIELD_HEADER_WORDS = 1;
+    public static final int FLOW_FIELD_HEADER_SHIFT = 0;
+    public static final int FLOW_FIELD_HEADER_BITS = 16;
+    public static final int FLOW_FIELD_HEADER_MASK = 65535;
+
+    public static final int FLOW_FIELD_INDEX = 24;
+    public static final int FLOW_FIELD_WORDS = 14;
+    public static final int FLOW_FIELD_SHIFT = 0;
+    public static final int FLOW_FIELD_BITS = 2;
+    public static final int FLOW_FIELD_MASK = 3;
+    public static final int FLOW_FIELD_COUNT = 112;
+
+    public static final int EVENT_INDEX = 38;
+    public static final int EVENT_WORDS = 4;
+    public static final int EVENT_SHIFT = 0;
+    public static final int EVENT_BITS = 16;
+    public static final int EVENT_MASK = 65535;
+    public static final int EVENT_COUNT = 4;
+
+    public static final int GRID_CONFIDENCE_INDEX = 42;
+    public static final int GRID_CONFIDENCE_WORDS = 7;
+    public static final int GRID_CONFIDENCE_SHIFT = 0;
+    public static final int GRID_CONFIDENCE_BITS = 1;
+    public static final int GRID_CONFIDENCE_MASK = 1;
+    public static final int GRID_CONFIDENCE_COUNT = 112;
+
+    public static final int GRID_SWEEP_EPOCH_INDEX = 49;
+    public static final int GRID_SWEEP_EPOCH_WORDS = 1;
+    public static final int GRID_SWEEP_EPOCH_SHIFT = 0;
+    public static final int GRID_SWEEP_EPOCH_BITS = 8;
+    public static final int GRID_SWEEP_EPOCH_MASK = 255;
+
+    public static final int GRID_BLOCK_INDEX = 63;
+    public static final int GRID_BLOCK_WORDS = 14;
+    public static final int GRID_BLOCK_SHIFT = 0;
+    public static final int GRID_BLOCK_BITS = 2;
+    public static final int GRID_BLOCK_MASK = 3;
+    public static final int GRID_BLOCK_COUNT = 112;
+
+    public static int readArchonLocation(int i) throws GameActionException {
+        return SharedArrayCache.read(ARCHON_LOCATION_INDEX + i) & 4095;
+    }
+
+    public static void writeArchonLocation(int i, int value) throws GameActionException {
+        int index = ARCHON_LOCATION_INDEX + i;
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & 61440) | value);
+    }
+
+    public static int readArchonHeartbeat(int i) throws GameActionException {
+        return (SharedArrayCache.read(ARCHON_HEARTBEAT_INDEX + i) >> 12) & 3;
+    }
+
+    public static void writeArchonHeartbeat(int i, int value) throws GameActionException {
+        int index = ARCHON_HEARTBEAT_INDEX + i;
+        int shift = 12;
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(3 << shift)) | (value << shift));
+    }
+
+    public static int readLeadClaim(int i) throws GameActionException {
+        return (SharedArrayCache.read(LEAD_CLAIM_INDEX + i) >> 14) & 3;
+    }
+
+    public static void writeLeadClaim(int i, int value) throws GameActionException {
+        int index = LEAD_CLAIM_INDEX + i;
+        int shift = 14;
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(3 << shift)) | (value << shift));
+    }
+
+    public static int readEnemyArchonLocation(int i) throws GameActionException {
+        return SharedArrayCache.read(ENEMY_ARCHON_LOCATION_INDEX + i);
+    }
+
+    public static void writeEnemyArchonLocation(int i, int value) throws GameActionException {
+        SharedArrayCache.write(ENEMY_ARCHON_LOCATION_INDEX + i, value);
+    }
+
+    public static int readCensusRound() throws GameActionException {
+        return (SharedArrayCache.read(CENSUS_ROUND_INDEX) >> 0) & 4095;
+    }
+
+    public static void writeCensusRound(int value) throws GameActionException {
+        SharedArrayCache.write(CENSUS_ROUND_INDEX, (SharedArrayCache.read(CENSUS_ROUND_INDEX) & 61440) | (value << 0));
+    }
+
+    public static int readArchonUnderAttack(int i) throws GameActionException {
+        return (SharedArrayCache.read(ARCHON_UNDER_ATTACK_INDEX) >> 12 + i) & 1;
+    }
+
+    public static void writeArchonUnderAttack(int i, int value) throws GameActionException {
+        int index = ARCHON_UNDER_ATTACK_INDEX;
+        int shift = 12 + i;
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(1 << shift)) | (value << shift));
+    }
+
+    public static int readCensusTypeCount(int i) throws GameActionException {
+        return (SharedArrayCache.read(CENSUS_TYPE_COUNT_INDEX + (i >> 1)) >> ((i & 1) << 3)) & 255;
+    }
+
+    public static void writeCensusTypeCount(int i, int value) throws GameActionException {
+        int index = CENSUS_TYPE_COUNT_INDEX + (i >> 1);
+        int shift = ((i & 1) << 3);
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(255 << shift)) | (value << shift));
+    }
+
+    public static int readCensusRegionCount(int i) throws GameActionException {
+        return (SharedArrayCache.read(CENSUS_REGION_COUNT_INDEX + (i >> 1)) >> ((i & 1) << 3)) & 255;
+    }
+
+    public static void writeCensusRegionCount(int i, int value) throws GameActionException {
+        int index = CENSUS_REGION_COUNT_INDEX + (i >> 1);
+        int shift = ((i & 1) << 3);
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(255 << shift)) | (value << shift));
+    }
+
+    public static int readLeadDensity(int i) throws GameActionException {
+        return (SharedArrayCache.read(LEAD_DENSITY_INDEX + (i >> 3)) >> ((i & 7) << 1)) & 3;
+    }
+
+    public static void writeLeadDensity(int i, int value) throws GameActionException {
+        int index = LEAD_DENSITY_INDEX + (i >> 3);
+        int shift = ((i & 7) << 1);
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(3 << shift)) | (value << shift));
+    }
+
+    public static int readEventHead() throws GameActionException {
+        return (SharedArrayCache.read(EVENT_HEAD_INDEX) >> 0) & 127;
+    }
+
+    public static void writeEventHead(int value) throws GameActionException {
+        SharedArrayCache.write(EVENT_HEAD_INDEX, (SharedArrayCache.read(EVENT_HEAD_INDEX) & 65408) | (value << 0));
+    }
+
+    public static int readGridSummary(int i) throws GameActionException {
+        return (SharedArrayCache.read(GRID_SUMMARY_INDEX) >> 7 + i) & 1;
+    }
+
+    public static void writeGridSummary(int i, int value) throws GameActionException {
+        int index = GRID_SUMMARY_INDEX;
+        int shift = 7 + i;
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(1 << shift)) | (value << shift));
+    }
+
+    public static int readFlowFieldHeader() throws GameActionException {
+        return SharedArrayCache.read(FLOW_FIELD_HEADER_INDEX);
+    }
+
+    public static void writeFlowFieldHeader(int value) throws GameActionException {
+        SharedArrayCache.write(FLOW_FIELD_HEADER_INDEX, value);
+    }
+
+    public static int readFlowField(int i) throws GameActionException {
+        return (SharedArrayCache.read(FLOW_FIELD_INDEX + (i >> 3)) >> ((i & 7) << 1)) & 3;
+    }
+
+    public static void writeFlowField(int i, int value) throws GameActionException {
+        int index = FLOW_FIELD_INDEX + (i >> 3);
+        int shift = ((i & 7) << 1);
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(3 << shift)) | (value << shift));
+    }
+
+    public static int readEvent(int i) throws GameActionException {
+        return SharedArrayCache.read(EVENT_INDEX + i);
+    }
+
+    public static void writeEvent(int i, int value) throws GameActionException {
+        SharedArrayCache.write(EVENT_INDEX + i, value);
+    }
+
+    public static int readGridConfidence(int i) throws GameActionException {
+        return (SharedArrayCache.read(GRID_CONFIDENCE_INDEX + (i >> 4)) >> (i & 15)) & 1;
+    }
+
+    public static void writeGridConfidence(int i, int value) throws GameActionException {
+        int index = GRID_CONFIDENCE_INDEX + (i >> 4);
+        int shift = (i & 15);
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(1 << shift)) | (value << shift));
+    }
+
+    public static int readGridSweepEpoch() throws GameActionException {
+        return (SharedArrayCache.read(GRID_SWEEP_EPOCH_INDEX) >> 0) & 255;
+    }
+
+    public static void writeGridSweepEpoch(int value) throws GameActionException {
+        SharedArrayCache.write(GRID_SWEEP_EPOCH_INDEX, (SharedArrayCache.read(GRID_SWEEP_EPOCH_INDEX) & 65280) | (value << 0));
+    }
+
+    public static int readGridBlock(int i) throws GameActionException {
+        return (SharedArrayCache.read(GRID_BLOCK_INDEX - (i >> 3)) >> ((i & 7) << 1)) & 3;
+    }
+
+    public static void writeGridBlock(int i, int value) throws GameActionException {
+        int index = GRID_BLOCK_INDEX - (i >> 3);
+        int shift = ((i & 7) << 1);
+        SharedArrayCache.write(index, (SharedArrayCache.read(index) & ~(3 << shift)) | (value << shift));
+    }
+
+    /**
+     * @return The names of the fields stored in the given word, for SharedArrayProfiler
+     */
+    public static String fieldsAt(int index) {
+        switch (index) {
+            case 0: case 1: case 2: case 3:
+                return "archonLocation/archonHeartbeat/leadClaim";
+            case 4: case 5: case 6: case 7:
+                return "enemyArchonLocation";
+            case 8:
+                return "censusRound/archonUnderAttack";
+            case 9: case 10: case 11: case 12: case 13: case 14: case 15:
+                return "censusTypeCount";
+            case 16: case 17: case 18: case 19:
+                return "censusRegionCount";
+            case 20: case 21:
+                return "leadDensity";
+            case 22:
+                return "eventHead/gridSummary";
+            case 23:
+                return "flowFieldHeader";
+            case 24: case 25: case 26: case 27: case 28: case 29: case 30: case 31: case 32:
+            case 33: case 34: case 35: case 36: case 37:
+                return "flowField";
+            case 38: case 39: case 40: case 41:
+                return "event";
+            case 42: case 43: case 44: case 45: case 46: case 47: case 48:
+                return "gridConfidence";
+            case 49:
+                return "gridSweepEpoch";
+            case 50: case 51: case 52: case 53: case 54: case 55: case 56: case 57: case 58:
+            case 59: case 60: case 61: case 62: case 63:
+                return "gridBlock";
+            default:
+                return "unused";
+        }
+    }
+}
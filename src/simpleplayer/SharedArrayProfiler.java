@@ -0,0 +1,94 @@
+package simpleplayer;
+
+import battlecode.common.*;
+
+import static simpleplayer.RobotPlayer.*;
+
+/**
+ * Debug-only statistics about how this robot uses the shared array, enabled by Debug.SHOULD_PROFILE_SHARED_ARRAY.
+ * <p>
+ * SharedArrayCache reports every access, and this counts reads and writes (both the ones our code asks for, and the
+ * ones that actually reach the engine), and the bytecodes spent in the cache, per word. Every DUMP_INTERVAL rounds, in
+ * the last round of the game, and when an archon sees that it's the last one left (after which the game may end at
+ * any moment), it prints the per-round averages since the last dump, grouped by the fields in SharedArrayLayout. The
+ * lines are tagged with our type, so that the logs can be summed up by type.
+ * <p>
+ * All the calls are behind the compile-time flag, so when it's off, this class isn't even loaded.
+ */
+public final class SharedArrayProfiler {
+
+    private static final int DUMP_INTERVAL = 500;
+
+    private static final int NUM_WORDS = GameConstants.SHARED_ARRAY_LENGTH;
+    private static final int[] reads = new int[NUM_WORDS];
+    private static final int[] engineReads = new int[NUM_WORDS];
+    private static final int[] writes = new int[NUM_WORDS];
+    private static final int[] engineWrites = new int[NUM_WORDS];
+    private static final int[] bytecodes = new int[NUM_WORDS];
+    private static int firstRound = -1;
+    private static boolean wasLastArchon = false;
+
+    public static void recordRead(int index, boolean engine, int elapsed) {
+        ++reads[index];
+        if (engine) {
+            ++engineReads[index];
+        }
+        bytecodes[index] += elapsed;
+    }
+
+    public static void recordWrite(int index, int elapsed) {
+        ++writes[index];
+        bytecodes[index] += elapsed;
+    }
+
+    public static void recordEngineWrite(int index, int elapsed) {
+        ++engineWrites[index];
+        bytecodes[index] += elapsed;
+    }
+
+    // rounded to 2 decimal places, without going through String.format
+    private static double perRound(int total, double numRounds) {
+        return Math.round(100 * total / numRounds) / 100.;
+    }
+
+    /**
+     * Must be called at the end of every turn, after SharedArrayCache.flush().
+     */
+    public static void endTurn() {
+        final int round = rc.getRoundNum();
+        if (firstRound == -1) {
+            firstRound = round;
+        }
+        final boolean lastArchon = myType == RobotType.ARCHON && archonCount == 1;
+        final boolean becameLastArchon = lastArchon && !wasLastArchon;
+        wasLastArchon = lastArchon;
+        if (round % DUMP_INTERVAL != 0 && round != GameConstants.GAME_MAX_NUMBER_OF_ROUNDS && !becameLastArchon) {
+            return;
+        }
+        final double numRounds = round - firstRound + 1;
+        System.out.println("[shared array] " + myType + " rounds " + firstRound + "-" + round
+                + ", per round: reads (engine) / writes (engine) / bytecodes");
+        int start = 0;
+        while (start < NUM_WORDS) {
+            String fields = SharedArrayLayout.fieldsAt(start);
+            int end = start;
+            int r = 0, er = 0, w = 0, ew = 0, bc = 0;
+            while (end < NUM_WORDS && SharedArrayLayout.fieldsAt(end).equals(fields)) {
+                r += reads[end];
+                er += engineReads[end];
+                w += writes[end];
+                ew += engineWrites[end];
+                bc += bytecodes[end];
+                reads[end] = engineReads[end] = writes[end] = engineWrites[end] = bytecodes[end] = 0;
+                ++end;
+            }
+            if (r + w > 0) {
+                System.out.println("[shared array]   " + fields + ": " + perRound(r, numRounds) + " ("
+                        + perRound(er, numRounds) + ") / " + perRound(w, numRounds) + " (" + perRound(ew, numRounds)
+                        + ") / " + perRound(bc, numRounds));
+            }
+            start = end;
+        }
+        firstRound = round + 1;
+    }
+}
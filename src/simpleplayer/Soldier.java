@@ -9,11 +9,16 @@ public class Soldier {
     private static MapLocation nearestArchonLocation;
     private static boolean shouldHeal = false;
 
+    // the closest fight someone else asked for help with, see Events
+    private static MapLocation reportedTarget = null;
+    private static int reportedTargetRound;
+
     public static void runSoldier() throws GameActionException {
         RobotInfo[] nearbyAllies = visibleAllies;
         RobotInfo[] nearbyEnemies = visibleEnemies;
 
         nearestArchonLocation = findNearestArchonLocation();
+        readEvents();
         shouldHeal = (shouldHeal && rc.getHealth() < myType.getMaxHealth(rc.getLevel())) || rc.getHealth() < 18;
 
         // do micro if we're near enemies
@@ -46,16 +51,24 @@ public class Soldier {
                 return;
             }
 
+            if (tryMoveToReportedTarget()) {
+                return;
+            }
+
             if (tryMoveToInitialEnemyArchonLocations()) {
                 return;
             }
+
+            if (tryMoveToStaleBlock()) {
+                return;
+            }
             tryMoveToRandomTarget();
 
         }
     }
 
     private static MapLocation findNearestArchonLocation() throws GameActionException {
-        MapLocation[] archonLocations = Communication.readArchonLocations();
+        MapLocation[] archonLocations = ArchonRegistry.readArchonLocations();
         MapLocation closestArchon = null;
         int closestDistSq = Integer.MAX_VALUE;
         for (MapLocation a : archonLocations) {
@@ -76,20 +89,24 @@ public class Soldier {
     }
 
     private static boolean tryMoveToClosestKnownEnemyArchonLocation() throws GameActionException {
-        MapLocation[] enemyArchonLocations = Communication.readEnemyArchonLocations();
+        MapLocation[] enemyArchonLocations =
+                Communication.readEnemyArchonLocationsSeenWithin(Communication.ENEMY_ARCHON_CHASE_AGE);
         MapLocation closest = null;
         int closestDist = Integer.MAX_VALUE;
+        int numCandidates = 0;
         for (int i = 0; i < enemyArchonLocations.length; ++i) {
             MapLocation loc = enemyArchonLocations[i];
             if (loc == null) {
                 continue;
             }
             int distsq = loc.distanceSquaredTo(locAtStartOfTurn);
-            if (distsq <= myType.visionRadiusSquared) {
-                // we should have seen it by this point. let everyone else know it's gone.
+            if (distsq <= myType.visionRadiusSquared && Communication.isEnemyArchonGone(loc)) {
+                // we can see where it was, and it isn't there anymore. let everyone else know it's gone.
                 Communication.clearEnemyArchonLocation(i);
+                enemyArchonLocations[i] = null;
                 continue;
             }
+            ++numCandidates;
             if (distsq < closestDist) {
                 closestDist = distsq;
                 closest = loc;
@@ -98,6 +115,13 @@ public class Soldier {
         if (closest == null) {
             return false;
         }
+        if (numCandidates > 1) {
+            // the closest one as the crow flies might be behind a wall, so let the pathfinder compare them
+            MapLocation cheapest = pathfinder.rankTargets(enemyArchonLocations, enemyArchonLocations.length);
+            if (cheapest != null) {
+                closest = cheapest;
+            }
+        }
         pathfinder.move(closest);
         return true;
     }
@@ -111,6 +135,32 @@ public class Soldier {
         return true;
     }
 
+    private static void readEvents() throws GameActionException {
+        if (reportedTarget != null && (rc.getRoundNum() - reportedTargetRound > Events.MAX_AGE
+                || locAtStartOfTurn.distanceSquaredTo(reportedTarget) <= myType.actionRadiusSquared)) {
+            // either it's over, or we're there and there's nothing to fight (otherwise we'd be doing micro)
+            reportedTarget = null;
+        }
+        while (Events.next()) {
+            if (Events.type == Events.LEAD_FIELD) {
+                continue;
+            }
+            if (reportedTarget == null || locAtStartOfTurn.distanceSquaredTo(Events.location)
+                    < locAtStartOfTurn.distanceSquaredTo(reportedTarget)) {
+                reportedTarget = Events.location;
+                reportedTargetRound = rc.getRoundNum() - Events.age;
+            }
+        }
+    }
+
+    private static boolean tryMoveToReportedTarget() throws GameActionException {
+        if (reportedTarget == null) {
+            return false;
+        }
+        pathfinder.move(reportedTarget);
+        return true;
+    }
+
     private static boolean[] checkedArchonLocation = null;
     private static MapLocation lastArchonTarget = null;
     private static int curSymmetryInvestigation = -1;
@@ -147,6 +197,25 @@ public class Soldier {
         return true;
     }
 
+    // a block nobody has had a good look at lately, see GridStrategy.findClosestStaleLocation
+    private static MapLocation rescanTarget = null;
+
+    private static boolean tryMoveToStaleBlock() throws GameActionException {
+        if (rescanTarget != null && (locAtStartOfTurn.distanceSquaredTo(rescanTarget) <= 2
+                || !GridStrategy.instance.isStale(rescanTarget))) {
+            // either we scanned it, or someone else did
+            rescanTarget = null;
+        }
+        if (rescanTarget == null) {
+            rescanTarget = GridStrategy.instance.findClosestStaleLocation();
+            if (rescanTarget == null) {
+                return false;
+            }
+        }
+        pathfinder.move(rescanTarget);
+        return true;
+    }
+
     private static MapLocation lastTargetAttackLocation = null;
 
     private static boolean tryMoveToRandomTarget() throws GameActionException {
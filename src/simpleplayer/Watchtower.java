@@ -63,20 +63,24 @@ public class Watchtower {
     }
 
     private static boolean tryMoveToClosestKnownEnemyArchonLocation() throws GameActionException {
-        MapLocation[] enemyArchonLocations = Communication.readEnemyArchonLocations();
+        MapLocation[] enemyArchonLocations =
+                Communication.readEnemyArchonLocationsSeenWithin(Communication.ENEMY_ARCHON_CHASE_AGE);
         MapLocation closest = null;
         int closestDist = Integer.MAX_VALUE;
+        int numCandidates = 0;
         for (int i = 0; i < enemyArchonLocations.length; ++i) {
             MapLocation loc = enemyArchonLocations[i];
             if (loc == null) {
                 continue;
             }
             int distsq = loc.distanceSquaredTo(locAtStartOfTurn);
-            if (distsq <= myType.visionRadiusSquared) {
-                // we should have seen it by this point. let everyone else know it's gone.
+            if (distsq <= myType.visionRadiusSquared && Communication.isEnemyArchonGone(loc)) {
+                // we can see where it was, and it isn't there anymore. let everyone else know it's gone.
                 Communication.clearEnemyArchonLocation(i);
+                enemyArchonLocations[i] = null;
                 continue;
             }
+            ++numCandidates;
             if (distsq < closestDist) {
                 closestDist = distsq;
                 closest = loc;
@@ -85,6 +89,13 @@ public class Watchtower {
         if (closest == null) {
             return false;
         }
+        if (numCandidates > 1) {
+            // the closest one as the crow flies might be behind a wall, so let the pathfinder compare them
+            MapLocation cheapest = pathfinder.rankTargets(enemyArchonLocations, enemyArchonLocations.length);
+            if (cheapest != null) {
+                closest = cheapest;
+            }
+        }
         pathfinder.move(closest);
         return true;
     }
@@ -0,0 +1,98 @@
+package codegen;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class BFSGeneratorTest {
+
+    private static final int[] RADII = {13, 20, 34, 53};
+
+    @Test
+    public void coversEveryTileInRangeOnce() {
+        for (int radiusSquared : RADII) {
+            BFSGenerator generator = new BFSGenerator("simpleplayer", "BFSTest", radiusSquared);
+            Set<Integer> seen = new HashSet<>();
+            for (BFSGenerator.Tile t : generator.tiles) {
+                assertTrue(t.distSq() <= radiusSquared);
+                assertTrue(seen.add(t.index));
+            }
+            int expected = 0;
+            for (int dx = -8; dx <= 8; ++dx) {
+                for (int dy = -8; dy <= 8; ++dy) {
+                    if ((dx != 0 || dy != 0) && dx * dx + dy * dy <= radiusSquared) {
+                        ++expected;
+                    }
+                }
+            }
+            assertEquals(expected, generator.tiles.size());
+        }
+    }
+
+    @Test
+    public void ringsAreContiguousAndInOrder() {
+        for (int radiusSquared : RADII) {
+            BFSGenerator generator = new BFSGenerator("simpleplayer", "BFSTest", radiusSquared);
+            int position = 0;
+            for (int ring = 1; ring <= generator.numRings(); ++ring) {
+                List<BFSGenerator.Tile> tiles = generator.ring(ring);
+                assertFalse(tiles.isEmpty());
+                for (BFSGenerator.Tile t : tiles) {
+                    assertEquals(ring, BFSGenerator.chebyshev(t));
+                    assertSame(t, generator.tiles.get(position++));
+                }
+            }
+            assertEquals(generator.tiles.size(), position);
+        }
+    }
+
+    @Test
+    public void everyTileIsRelaxedAfterItsParent() {
+        for (int radiusSquared : RADII) {
+            BFSGenerator generator = new BFSGenerator("simpleplayer", "BFSTest", radiusSquared);
+            for (BFSGenerator.Tile t : generator.tiles) {
+                BFSGenerator.Tile parent = generator.parent(t);
+                assertNotNull(parent);
+                if (parent != generator.center) {
+                    assertTrue(generator.order(parent) < generator.order(t));
+                }
+                for (BFSGenerator.Tile p : generator.predecessors(t)) {
+                    assertTrue(p == generator.center || generator.order(p) < generator.order(t));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void ringsOnlyStartWithEnoughBytecodesToFinish() throws Exception {
+        BFSGenerator generator = new BFSGenerator("simpleplayer", "BFSTest", 34);
+        String code = generator.generate();
+        int minTileCost = BFSGenerator.TILE_SETUP_BYTECODES + BFSGenerator.TILE_SENSING_BYTECODES
+                + BFSGenerator.RELAXATION_BYTECODES;
+        for (int ring = 2; ring <= generator.numRings(); ++ring) {
+            int cost = generator.ringCost(ring);
+            assertTrue(cost >= minTileCost * generator.ring(ring).size());
+            assertTrue(code.contains("if (Clock.getBytecodesLeft() < SEARCH_BYTECODE_RESERVE + " + cost + ") {\n"
+                    + "            maxElapsed = Debug.toc(before, \"BFSTest-search\", maxElapsed);\n"
+                    + "            return " + (ring - 1) + ";"));
+        }
+    }
+
+    @Test
+    public void checkedInPathfindersAreUpToDate() throws Exception {
+        String[][] specs = {{"BFSDroid", "20"}, {"BFS13", "13"}, {"BFS34", "34"}};
+        for (String[] spec : specs) {
+            BFSGenerator generator = new BFSGenerator("simpleplayer", spec[0], Integer.parseInt(spec[1]));
+            String checkedIn = new String(Files.readAllBytes(Paths.get("src", "simpleplayer", spec[0] + ".java")),
+                    StandardCharsets.UTF_8);
+            assertEquals("run ./gradlew generateBFS", checkedIn, generator.generate());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package codegen;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class SharedArrayGeneratorTest {
+
+    private static SharedArrayGenerator parse(String... lines) {
+        SharedArrayGenerator generator = new SharedArrayGenerator("roundtrip", "Layout");
+        generator.parse(Arrays.asList(lines));
+        return generator;
+    }
+
+    private static void assertRejected(String expected, String... lines) {
+        SharedArrayGenerator generator = parse(lines);
+        assertFalse("expected an error for " + Arrays.toString(lines), generator.errors.isEmpty());
+        assertTrue(generator.errors.toString(), generator.errors.get(0).contains(expected));
+    }
+
+    @Test
+    public void rejectsOverlappingFields() {
+        assertRejected("overlaps", "a 0 0 8", "b 0 4 8");
+    }
+
+    @Test
+    public void rejectsArraysOverlappingLaterWords() {
+        assertRejected("overlaps", "a 10 0 2 16", "b 11 15 1");
+    }
+
+    @Test
+    public void rejectsDownArraysOverlappingEarlierWords() {
+        assertRejected("overlaps", "a 63 0 2 16 down", "b 62 0 1");
+    }
+
+    @Test
+    public void rejectsPerWordArraysOverlappingOnTheSameBits() {
+        assertRejected("overlaps", "a 0 0 12 4 perword", "b 3 8 8");
+    }
+
+    @Test
+    public void acceptsPerWordArraysSharingWords() {
+        assertTrue(parse("a 0 0 12 4 perword", "b 0 12 4 4 perword").errors.isEmpty());
+    }
+
+    @Test
+    public void rejectsFieldsStraddlingWords() {
+        assertRejected("doesn't fit into its word", "a 0 10 8");
+    }
+
+    @Test
+    public void rejectsArraysThatCantBeIndexedWithShifts() {
+        assertRejected("power-of-two", "a 0 0 3 8");
+        assertRejected("power-of-two", "a 0 2 2 16");
+    }
+
+    @Test
+    public void rejectsFieldsOutsideTheArray() {
+        assertRejected("doesn't fit into the shared array", "a 63 0 2 16");
+        assertRejected("doesn't fit into the shared array", "a 0 0 2 16 down");
+        assertRejected("doesn't fit into the shared array", "a 62 0 4 4 perword");
+        assertRejected("doesn't fit into the shared array", "a 64 0 1");
+    }
+
+    @Test
+    public void rejectsUnknownLayouts() {
+        assertRejected("layout", "a 0 0 2 4 sideways");
+    }
+
+    @Test
+    public void ignoresCommentsAndBlankLines() {
+        SharedArrayGenerator generator = parse("# comment", "", "a 0 0 4  # trailing");
+        assertTrue(generator.errors.isEmpty());
+        assertEquals(1, generator.fields.size());
+    }
+
+    @Test
+    public void checkedInLayoutIsUpToDate() throws Exception {
+        Path schema = Paths.get("generators", "schema", "simpleplayer.schema");
+        SharedArrayGenerator generator = new SharedArrayGenerator("simpleplayer", "SharedArrayLayout");
+        generator.parse(Files.readAllLines(schema, StandardCharsets.UTF_8));
+        assertTrue(generator.errors.toString(), generator.errors.isEmpty());
+        String checkedIn = new String(Files.readAllBytes(Paths.get("src", "simpleplayer", "SharedArrayLayout.java")),
+                StandardCharsets.UTF_8);
+        assertEquals("run ./gradlew generateSharedArray", checkedIn, generator.generate("simpleplayer.schema"));
+    }
+
+    // a SharedArrayCache for the generated class to talk to, backed by a plain array
+    private static final String FAKE_CACHE = "package roundtrip;\n"
+            + "public final class SharedArrayCache {\n"
+            + "    public static final int[] words = new int[64];\n"
+            + "    public static int read(int index) { return words[index]; }\n"
+            + "    public static void write(int index, int value) {\n"
+            + "        if ((value & ~0xFFFF) != 0) throw new IllegalArgumentException(index + \": \" + value);\n"
+            + "        words[index] = value;\n"
+            + "    }\n"
+            + "}\n";
+
+    private static ClassLoader compile(SharedArrayGenerator generator) throws Exception {
+        Path dir = Files.createTempDirectory("layout");
+        Path sources = Files.createDirectories(dir.resolve("roundtrip"));
+        Files.write(sources.resolve("Layout.java"), generator.generate("test").getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("SharedArrayCache.java"), FAKE_CACHE.getBytes(StandardCharsets.UTF_8));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null, "-d", dir.toString(),
+                "-cp", System.getProperty("java.class.path"),
+                sources.resolve("Layout.java").toString(), sources.resolve("SharedArrayCache.java").toString());
+        assertEquals("the generated code doesn't compile", 0, result);
+        return new URLClassLoader(new URL[]{dir.toUri().toURL()}, SharedArrayGeneratorTest.class.getClassLoader());
+    }
+
+    @Test
+    public void generatedAccessorsRoundTrip() throws Exception {
+        SharedArrayGenerator generator = parse(
+                "scalar 0 0 16",
+                "low 1 0 5",
+                "high 1 5 11",
+                "packed 2 0 3 5",
+                "up 3 0 2 24",
+                "wide 6 0 16 3",
+                "down 63 0 4 10 down",
+                "wideDown 60 0 16 2 down",
+                "perWordLow 10 0 12 4 perword",
+                "perWordHigh 10 12 4 4 perword",
+                "bits 14 0 1 20");
+        assertTrue(generator.errors.toString(), generator.errors.isEmpty());
+        ClassLoader loader = compile(generator);
+        Class<?> layout = loader.loadClass("roundtrip.Layout");
+        int[] words = (int[]) loader.loadClass("roundtrip.SharedArrayCache").getField("words").get(null);
+
+        // one entry per element of every field
+        List<SharedArrayGenerator.Field> fields = new ArrayList<>();
+        List<Integer> elements = new ArrayList<>();
+        for (SharedArrayGenerator.Field f : generator.fields) {
+            for (int i = 0; i < f.count; ++i) {
+                fields.add(f);
+                elements.add(i);
+            }
+        }
+        int[] expected = new int[fields.size()];
+        Random random = new Random(1);
+        for (int round = 0; round < 2000; ++round) {
+            int e = random.nextInt(fields.size());
+            SharedArrayGenerator.Field f = fields.get(e);
+            int value = random.nextInt(1 << f.bits);
+            String suffix = SharedArrayGenerator.methodSuffix(f.name);
+            if (f.isArray) {
+                layout.getMethod("write" + suffix, int.class, int.class).invoke(null, elements.get(e), value);
+            } else {
+                layout.getMethod("write" + suffix, int.class).invoke(null, value);
+            }
+            expected[e] = value;
+
+            for (int j = 0; j < fields.size(); ++j) {
+                SharedArrayGenerator.Field g = fields.get(j);
+                String s = SharedArrayGenerator.methodSuffix(g.name);
+                Object actual = g.isArray
+                        ? layout.getMethod("read" + s, int.class).invoke(null, elements.get(j))
+                        : layout.getMethod("read" + s).invoke(null);
+                assertEquals(g.name + "[" + elements.get(j) + "]", expected[j], ((Integer) actual).intValue());
+            }
+        }
+        // words that no field uses are never touched
+        for (int word = 16; word < 59; ++word) {
+            assertEquals(0, words[word]);
+        }
+        Method fieldsAt = layout.getMethod("fieldsAt", int.class);
+        assertEquals("perWordLow/perWordHigh", fieldsAt.invoke(null, 11));
+        assertEquals("unused", fieldsAt.invoke(null, 30));
+    }
+
+    @Test
+    public void constantNamesFollowJavaConventions() {
+        assertEquals("GRID_BLOCK", SharedArrayGenerator.constantName("gridBlock"));
+        assertEquals("GridBlock", SharedArrayGenerator.methodSuffix("gridBlock"));
+    }
+}
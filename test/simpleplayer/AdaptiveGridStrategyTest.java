@@ -0,0 +1,257 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.MapLocation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class AdaptiveGridStrategyTest {
+
+    private static final int RING_ENTRY_OFFSET = 32;
+    private static final int MAX_RING = 14;
+
+    private FakeRobotController rc;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+        AdaptiveGridStrategy.blockSize = -1;
+    }
+
+    private static String ringOrder() throws Exception {
+        Field field = AdaptiveGridStrategy.class.getDeclaredField("RING_ORDER");
+        field.setAccessible(true);
+        return (String) field.get(null);
+    }
+
+    @Test
+    public void ringOrderCoversEveryOffsetOnceRingByRing() throws Exception {
+        String order = ringOrder();
+        int side = 2 * MAX_RING + 1;
+        assertEquals(side * side, order.length());
+        boolean[][] seen = new boolean[side][side];
+        for (int i = 0; i < order.length(); ++i) {
+            int dx = (order.charAt(i) >> 6) - RING_ENTRY_OFFSET;
+            int dy = (order.charAt(i) & 63) - RING_ENTRY_OFFSET;
+            int ring = Math.max(Math.abs(dx), Math.abs(dy));
+            // ring r takes up entries (2r - 1)^2 to (2r + 1)^2
+            assertTrue(i >= (ring == 0 ? 0 : (2 * ring - 1) * (2 * ring - 1)));
+            assertTrue(i < (2 * ring + 1) * (2 * ring + 1));
+            assertFalse(seen[dx + MAX_RING][dy + MAX_RING]);
+            seen[dx + MAX_RING][dy + MAX_RING] = true;
+            if (i > 0 && Math.max(Math.abs((order.charAt(i - 1) >> 6) - RING_ENTRY_OFFSET),
+                    Math.abs((order.charAt(i - 1) & 63) - RING_ENTRY_OFFSET)) == ring) {
+                // closer offsets first within a ring
+                int previousDx = (order.charAt(i - 1) >> 6) - RING_ENTRY_OFFSET;
+                int previousDy = (order.charAt(i - 1) & 63) - RING_ENTRY_OFFSET;
+                assertTrue(previousDx * previousDx + previousDy * previousDy <= dx * dx + dy * dy);
+            }
+        }
+    }
+
+    @Test
+    public void gridFitsTheSharedArray() {
+        for (int width = 20; width <= 60; ++width) {
+            for (int height = 20; height <= 60; height += 5) {
+                rc.mapWidth = width;
+                rc.mapHeight = height;
+                AdaptiveGridStrategy.blockSize = -1;
+                AdaptiveGridStrategy.initGeometry();
+                int blockSize = AdaptiveGridStrategy.blockSize;
+                assertTrue(AdaptiveGridStrategy.cols * AdaptiveGridStrategy.rows
+                        <= SharedArrayLayout.GRID_BLOCK_COUNT);
+                // every tile is in a block, and there are no empty blocks
+                assertTrue(AdaptiveGridStrategy.cols * blockSize >= width);
+                assertTrue((AdaptiveGridStrategy.cols - 1) * blockSize < width);
+                assertTrue(AdaptiveGridStrategy.rows * blockSize >= height);
+                assertTrue((AdaptiveGridStrategy.rows - 1) * blockSize < height);
+                // the ring table reaches every block from every block
+                assertTrue(AdaptiveGridStrategy.cols <= MAX_RING + 1);
+                assertTrue(AdaptiveGridStrategy.rows <= MAX_RING + 1);
+            }
+        }
+    }
+
+    @Test
+    public void findsTheClosestBlockThatNeedsAnAttacker() throws Exception {
+        Random random = new Random(1);
+        Method writeBlock = AdaptiveGridStrategy.class.getDeclaredMethod("writeBlock", int.class, int.class,
+                int.class);
+        writeBlock.setAccessible(true);
+        Method init = AdaptiveGridStrategy.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        for (int trial = 0; trial < 300; ++trial) {
+            rc = FakeRobotController.install();
+            rc.mapWidth = 20 + random.nextInt(41);
+            rc.mapHeight = 20 + random.nextInt(41);
+            AdaptiveGridStrategy.blockSize = -1;
+            AdaptiveGridStrategy grid = new AdaptiveGridStrategy();
+            AdaptiveGridStrategy.initGeometry();
+            int cols = AdaptiveGridStrategy.cols;
+            int rows = AdaptiveGridStrategy.rows;
+            int blockSize = AdaptiveGridStrategy.blockSize;
+            init.invoke(grid);
+            double density = random.nextDouble() * 0.1;
+            for (int x = 0; x < cols; ++x) {
+                for (int y = 0; y < rows; ++y) {
+                    writeBlock.invoke(grid, x, y, random.nextDouble() < density ? 3 : 1);
+                }
+            }
+            RobotPlayer.locAtStartOfTurn = new MapLocation(random.nextInt(rc.mapWidth), random.nextInt(rc.mapHeight));
+            int myX = RobotPlayer.locAtStartOfTurn.x / blockSize;
+            int myY = RobotPlayer.locAtStartOfTurn.y / blockSize;
+            int closest = Integer.MAX_VALUE;
+            for (int x = 0; x < cols; ++x) {
+                for (int y = 0; y < rows; ++y) {
+                    if (SharedArrayLayout.readGridBlock(x * rows + y) == 3) {
+                        closest = Math.min(closest, Math.max(Math.abs(x - myX), Math.abs(y - myY)));
+                    }
+                }
+            }
+            MapLocation found = grid.findClosestAttackLocation();
+            if (closest == Integer.MAX_VALUE) {
+                assertNull(found);
+                continue;
+            }
+            assertNotNull(found);
+            int x = found.x / blockSize;
+            int y = found.y / blockSize;
+            assertEquals(3, SharedArrayLayout.readGridBlock(x * rows + y));
+            assertEquals(closest, Math.max(Math.abs(x - myX), Math.abs(y - myY)));
+        }
+    }
+
+    private AdaptiveGridStrategy newGrid() throws Exception {
+        AdaptiveGridStrategy grid = new AdaptiveGridStrategy();
+        Method init = AdaptiveGridStrategy.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(grid);
+        return grid;
+    }
+
+    @Test
+    public void idleUnitsSpreadOverTheClosestStaleBlocks() throws Exception {
+        AdaptiveGridStrategy grid = newGrid();
+        int rows = AdaptiveGridStrategy.rows;
+        int blockSize = AdaptiveGridStrategy.blockSize;
+        for (int i = 0; i < AdaptiveGridStrategy.cols * rows; ++i) {
+            SharedArrayLayout.writeGridConfidence(i, 1);
+        }
+        // we're in block (5, 5), with stale blocks in rings 1, 2 and 4
+        RobotPlayer.locAtStartOfTurn = new MapLocation(5 * blockSize, 5 * blockSize);
+        int[][] stale = {{5, 6}, {3, 5}, {7, 7}, {1, 1}};
+        for (int[] block : stale) {
+            SharedArrayLayout.writeGridConfidence(block[0] * rows + block[1], 0);
+        }
+        Set<MapLocation> picked = new HashSet<>();
+        for (int id = 0; id < 8; ++id) {
+            rc.id = id;
+            MapLocation found = grid.findClosestStaleLocation();
+            assertNotNull(found);
+            assertTrue(grid.isStale(found));
+            int ring = Math.max(Math.abs(found.x / blockSize - 5), Math.abs(found.y / blockSize - 5));
+            assertTrue(ring <= 2);
+            picked.add(found);
+        }
+        // the one in ring 4 is too far out, and the extra IDs share the last one in range
+        assertEquals(3, picked.size());
+
+        // with a single stale block, everyone goes there
+        SharedArrayLayout.writeGridConfidence(3 * rows + 5, 1);
+        SharedArrayLayout.writeGridConfidence(7 * rows + 7, 1);
+        for (int id = 0; id < 4; ++id) {
+            rc.id = id;
+            assertEquals(AdaptiveGridStrategy.getBlockCenter(5, 6), grid.findClosestStaleLocation());
+        }
+    }
+
+    @Test
+    public void skippingRingsWithoutStaleBlocksFindsTheSameOnes() throws Exception {
+        AdaptiveGridStrategy grid = newGrid();
+        int rows = AdaptiveGridStrategy.rows;
+        int cols = AdaptiveGridStrategy.cols;
+        int blockSize = AdaptiveGridStrategy.blockSize;
+        String order = ringOrder();
+        Random random = new Random(25);
+        for (int trial = 0; trial < 200; ++trial) {
+            // a few stale blocks, sometimes all in one column or one word, which is where the bounds are tightest
+            int numStale = random.nextInt(4);
+            int column = random.nextInt(cols);
+            boolean[] stale = new boolean[cols * rows];
+            for (int i = 0; i < cols * rows; ++i) {
+                SharedArrayLayout.writeGridConfidence(i, 1);
+            }
+            for (int j = 0; j < numStale; ++j) {
+                int idx = trial % 2 == 0 ? column * rows + random.nextInt(rows) : random.nextInt(cols * rows);
+                stale[idx] = true;
+                SharedArrayLayout.writeGridConfidence(idx, 0);
+            }
+            int gridX = random.nextInt(cols);
+            int gridY = random.nextInt(rows);
+            RobotPlayer.locAtStartOfTurn = new MapLocation(gridX * blockSize, gridY * blockSize);
+            rc.id = random.nextInt(1000);
+
+            // every ring, past our own block
+            MapLocation expected = null;
+            int found = 0;
+            int end = order.length();
+            for (int i = 1; i < end; ++i) {
+                int dx = (order.charAt(i) >> 6) - RING_ENTRY_OFFSET;
+                int dy = (order.charAt(i) & 63) - RING_ENTRY_OFFSET;
+                int x = gridX + dx;
+                int y = gridY + dy;
+                if (x < 0 || y < 0 || x >= cols || y >= rows || !stale[x * rows + y]) {
+                    continue;
+                }
+                if (found == 0) {
+                    int nextRing = Math.max(Math.abs(dx), Math.abs(dy)) + 1;
+                    end = Math.min(end, (2 * nextRing + 1) * (2 * nextRing + 1));
+                }
+                expected = AdaptiveGridStrategy.getBlockCenter(x, y);
+                if (found++ == rc.id % 4) {
+                    break;
+                }
+            }
+            assertEquals(expected, grid.findClosestStaleLocation());
+        }
+    }
+
+    @Test
+    public void shortVisionSeesMostOfASixBySixBlockFromAllButItsCorners() {
+        // a 6x6 block from (12, 12) to (17, 17)
+        for (int x = 12; x <= 17; ++x) {
+            for (int y = 12; y <= 17; ++y) {
+                MapLocation loc = new MapLocation(x, y);
+                int seen = 0;
+                for (int tx = 12; tx <= 17; ++tx) {
+                    for (int ty = 12; ty <= 17; ++ty) {
+                        if (loc.distanceSquaredTo(new MapLocation(tx, ty)) <= 20) {
+                            ++seen;
+                        }
+                    }
+                }
+                assertEquals(4 * seen >= 3 * 36, AdaptiveGridStrategy.isMostlySeen(loc, 12, 17, 12, 17, 20));
+                boolean corner = (x == 12 || x == 17) && (y == 12 || y == 17);
+                assertEquals(!corner, AdaptiveGridStrategy.isMostlySeen(loc, 12, 17, 12, 17, 20));
+            }
+        }
+    }
+
+    @Test
+    public void sweepEpochOnlyUsesItsOwnBits() throws Exception {
+        AdaptiveGridStrategy grid = newGrid();
+        SharedArrayCache.write(SharedArrayLayout.GRID_SWEEP_EPOCH_INDEX, 0xAB00);
+        Method sweep = AdaptiveGridStrategy.class.getDeclaredMethod("sweep", int.class);
+        sweep.setAccessible(true);
+        sweep.invoke(grid, 300);
+        assertEquals(300 & 255, SharedArrayLayout.readGridSweepEpoch());
+        assertEquals(0xAB00, SharedArrayCache.read(SharedArrayLayout.GRID_SWEEP_EPOCH_INDEX) & 0xFF00);
+    }
+}
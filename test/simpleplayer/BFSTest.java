@@ -0,0 +1,73 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.Direction;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotType;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BFSTest {
+
+    private static final MapLocation START = new MapLocation(20, 20);
+    // a long-range plan that wants to go the other way
+    private static final MapLocation WAYPOINT = new MapLocation(17, 20);
+
+    private FakeRobotController rc;
+    private BFS bfs;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+        RobotPlayer.myType = RobotType.SOLDIER;
+        rc.location = START;
+        RobotPlayer.locAtStartOfTurn = START;
+        // a field that reaches every target in a straight line, at the cost of its distance
+        bfs = new BFS() {
+            @Override
+            int computeField() {
+                return 1;
+            }
+
+            @Override
+            Direction getBestDir(MapLocation target, int rings) {
+                pathCost = rc.location.distanceSquaredTo(target);
+                return rc.location.directionTo(target);
+            }
+        };
+        bfs.planner = new LongRangePlanner() {
+            @Override
+            MapLocation getWaypoint(MapLocation myLoc) {
+                return WAYPOINT;
+            }
+        };
+    }
+
+    @Test
+    public void rankedTargetsTakeTheirOwnStepOverTheWaypoint() throws Exception {
+        MapLocation east = new MapLocation(23, 20);
+        MapLocation north = new MapLocation(20, 25);
+        MapLocation ranked = bfs.rankTargets(new MapLocation[]{north, east}, 2);
+        assertEquals(east, ranked);
+        bfs.move(ranked);
+        assertEquals(new MapLocation(21, 20), rc.location);
+    }
+
+    @Test
+    public void otherTargetsFollowTheWaypoint() throws Exception {
+        MapLocation east = new MapLocation(23, 20);
+        bfs.rankTargets(new MapLocation[]{east}, 1);
+        bfs.move(new MapLocation(20, 25));
+        assertEquals(new MapLocation(19, 20), rc.location);
+    }
+
+    @Test
+    public void aRankingFromAnotherRoundIsIgnored() throws Exception {
+        MapLocation east = new MapLocation(23, 20);
+        MapLocation ranked = bfs.rankTargets(new MapLocation[]{east}, 1);
+        rc.nextRound();
+        bfs.move(ranked);
+        assertEquals(new MapLocation(19, 20), rc.location);
+    }
+}
@@ -0,0 +1,166 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.Direction;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+public class DialBFSTest {
+
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private FakeRobotController rc;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+        RobotPlayer.myType = RobotType.SOLDIER;
+    }
+
+    // a search that never runs out of bytecodes, since there's no real Clock in tests
+    private static DialBFS newSearch(int radiusSquared) throws Exception {
+        DialBFS bfs = new DialBFS(radiusSquared);
+        Field reserve = BFS.class.getDeclaredField("SEARCH_BYTECODE_RESERVE");
+        reserve.setAccessible(true);
+        reserve.setInt(bfs, Integer.MIN_VALUE);
+        return bfs;
+    }
+
+    private boolean inSearch(MapLocation center, int radiusSquared, MapLocation loc) {
+        return !loc.equals(center) && center.distanceSquaredTo(loc) <= radiusSquared && rc.onTheMap(loc)
+                && !(center.isAdjacentTo(loc) && rc.robots.contains(loc));
+    }
+
+    // plain Dijkstra over the same tiles the search may use, from source to every tile
+    private int[][] dijkstra(MapLocation center, int radiusSquared, MapLocation source) {
+        int[][] dist = new int[rc.mapWidth][rc.mapHeight];
+        for (int[] column : dist) {
+            Arrays.fill(column, UNREACHABLE);
+        }
+        dist[source.x][source.y] = 0;
+        PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> Integer.compare(a[0], b[0]));
+        queue.add(new int[]{0, source.x, source.y});
+        while (!queue.isEmpty()) {
+            int[] top = queue.poll();
+            if (top[0] > dist[top[1]][top[2]]) {
+                continue;
+            }
+            MapLocation loc = new MapLocation(top[1], top[2]);
+            for (Direction d : Directions.ACTUAL_DIRECTIONS) {
+                MapLocation n = loc.add(d);
+                if (!inSearch(center, radiusSquared, n)) {
+                    continue;
+                }
+                int nd = top[0] + 10 + rc.rubble[n.x][n.y];
+                if (nd < dist[n.x][n.y]) {
+                    dist[n.x][n.y] = nd;
+                    queue.add(new int[]{nd, n.x, n.y});
+                }
+            }
+        }
+        return dist;
+    }
+
+    private void checkAgainstDijkstra(int radiusSquared) throws Exception {
+        MapLocation me = rc.location;
+        DialBFS bfs = newSearch(radiusSquared);
+        assertEquals(1, bfs.computeField());
+        int[][] expected = dijkstra(me, radiusSquared, me);
+        int reachable = 0;
+        for (int x = 0; x < rc.mapWidth; ++x) {
+            for (int y = 0; y < rc.mapHeight; ++y) {
+                MapLocation target = new MapLocation(x, y);
+                if (!inSearch(me, radiusSquared, target) || expected[x][y] == UNREACHABLE) {
+                    continue;
+                }
+                ++reachable;
+                Direction dir = bfs.getBestDir(target, 0);
+                assertNotNull(target.toString(), dir);
+                assertEquals(target.toString(), expected[x][y], BFS.pathCost);
+
+                // the first step has to be on some cheapest path
+                MapLocation first = me.add(dir);
+                assertTrue(inSearch(me, radiusSquared, first));
+                int rest = dijkstra(me, radiusSquared, first)[x][y];
+                assertEquals(target.toString(), expected[x][y], 10 + rc.rubble[first.x][first.y] + rest);
+            }
+        }
+        assertTrue(reachable > 0);
+    }
+
+    @Test
+    public void emptyMapCostsTenPerStep() throws Exception {
+        rc.location = new MapLocation(30, 30);
+        DialBFS bfs = newSearch(20);
+        bfs.computeField();
+        // any step north is as good as any other
+        assertEquals(1, bfs.getBestDir(new MapLocation(30, 34), 0).dy);
+        assertEquals(40, BFS.pathCost);
+        assertEquals(Direction.NORTHEAST, bfs.getBestDir(new MapLocation(33, 33), 0));
+        assertEquals(30, BFS.pathCost);
+    }
+
+    @Test
+    public void goesBackAroundAWall() throws Exception {
+        // a wall right in front of us, that is cheaper to walk around through a tile behind us
+        rc.location = new MapLocation(30, 30);
+        for (int x = 26; x <= 34; ++x) {
+            rc.rubble[x][31] = 100;
+        }
+        rc.rubble[26][31] = 0;
+        for (int y = 28; y <= 31; ++y) {
+            rc.rubble[26][y] = 0;
+        }
+        checkAgainstDijkstra(20);
+    }
+
+    @Test
+    public void robotsOnlyBlockTheFirstStep() throws Exception {
+        rc.location = new MapLocation(30, 30);
+        for (Direction d : Directions.ACTUAL_DIRECTIONS) {
+            if (d != Direction.SOUTH) {
+                rc.robots.add(rc.location.add(d));
+            }
+        }
+        rc.robots.add(new MapLocation(30, 27));
+        DialBFS bfs = newSearch(20);
+        bfs.computeField();
+        assertEquals(Direction.SOUTH, bfs.getBestDir(new MapLocation(30, 33), 0));
+        assertEquals(Direction.SOUTH, bfs.getBestDir(new MapLocation(30, 27), 0));
+        assertEquals(30, BFS.pathCost);
+        checkAgainstDijkstra(20);
+    }
+
+    @Test
+    public void matchesDijkstraOnRandomMaps() throws Exception {
+        Random random = new Random(2022);
+        for (int trial = 0; trial < 40; ++trial) {
+            rc = FakeRobotController.install();
+            rc.mapWidth = 20 + random.nextInt(41);
+            rc.mapHeight = 20 + random.nextInt(41);
+            for (int x = 0; x < rc.mapWidth; ++x) {
+                for (int y = 0; y < rc.mapHeight; ++y) {
+                    // mostly open, with some walls and mud
+                    int roll = random.nextInt(10);
+                    rc.rubble[x][y] = roll < 5 ? 0 : roll < 8 ? random.nextInt(30) : 50 + random.nextInt(51);
+                }
+            }
+            // sometimes hug an edge or a corner, so that the search disk is cut off by the map
+            int x = random.nextBoolean() ? random.nextInt(3) : random.nextInt(rc.mapWidth);
+            int y = random.nextBoolean() ? rc.mapHeight - 1 - random.nextInt(3) : random.nextInt(rc.mapHeight);
+            rc.location = new MapLocation(x, y);
+            for (int i = random.nextInt(4); --i >= 0; ) {
+                rc.robots.add(rc.location.add(Directions.ACTUAL_DIRECTIONS[random.nextInt(8)]));
+            }
+            checkAgainstDijkstra(trial % 2 == 0 ? 20 : 34);
+        }
+    }
+}
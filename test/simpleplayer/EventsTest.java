@@ -0,0 +1,139 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.MapLocation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+public class EventsTest {
+
+    private FakeRobotController rc;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+        rc.round = 1000;
+        becomeNewRobot();
+    }
+
+    // forgets the cursor, like a robot that was just built
+    private static void becomeNewRobot() throws Exception {
+        Field cursor = Events.class.getDeclaredField("cursor");
+        cursor.setAccessible(true);
+        cursor.setInt(null, -1);
+    }
+
+    private void endTurn() throws Exception {
+        SharedArrayCache.flush();
+    }
+
+    private void advance(int rounds) throws Exception {
+        for (int i = 0; i < rounds; ++i) {
+            endTurn();
+            ++rc.round;
+            Events.expire();
+        }
+        endTurn();
+    }
+
+    private static int drain() throws Exception {
+        int n = 0;
+        while (Events.next()) {
+            ++n;
+        }
+        return n;
+    }
+
+    @Test
+    public void readsWhatWasBroadcast() throws Exception {
+        Events.broadcast(Events.DISTRESS, new MapLocation(21, 34));
+        endTurn();
+        assertTrue(Events.next());
+        assertEquals(Events.DISTRESS, Events.type);
+        assertEquals(new MapLocation(22, 34), Events.location);
+        assertEquals(0, Events.age);
+        assertFalse(Events.next());
+    }
+
+    @Test
+    public void emptySlotsAreNotEvents() throws Exception {
+        assertEquals(0, drain());
+    }
+
+    @Test
+    public void eventAtTheOriginIsNotMistakenForAnEmptySlot() throws Exception {
+        rc.round = 1024;
+        Events.broadcast(Events.ENEMY_ARMY, new MapLocation(0, 0));
+        endTurn();
+        assertEquals(1, SharedArrayLayout.readEventHead());
+        assertTrue(Events.next());
+        assertEquals(Events.ENEMY_ARMY, Events.type);
+    }
+
+    @Test
+    public void sameEventIsOnlyBroadcastOnce() throws Exception {
+        Events.broadcast(Events.ENEMY_ARMY, new MapLocation(10, 10));
+        advance(3);
+        Events.broadcast(Events.ENEMY_ARMY, new MapLocation(11, 9));
+        endTurn();
+        assertEquals(1, SharedArrayLayout.readEventHead());
+    }
+
+    @Test
+    public void expiredEventDoesNotBlockTheSameEventAfterTheStampsWrap() throws Exception {
+        Events.broadcast(Events.ENEMY_ARMY, new MapLocation(10, 10));
+        // a whole number of wraps of the round stamps later
+        advance(64);
+        Events.broadcast(Events.ENEMY_ARMY, new MapLocation(10, 10));
+        endTurn();
+        assertEquals(2, SharedArrayLayout.readEventHead());
+    }
+
+    @Test
+    public void newRobotsSkipEventsThatAreOlderThanTheStampsCanTell() throws Exception {
+        for (int i = 0; i < 4; ++i) {
+            Events.broadcast(i, new MapLocation(8 * i, 8));
+        }
+        advance(64);
+        becomeNewRobot();
+        assertEquals(0, drain());
+    }
+
+    @Test
+    public void newRobotsReadTheWholeBufferAfterTheHeadWrapped() throws Exception {
+        for (int i = 0; i < 130; ++i) {
+            Events.broadcast(Events.DISTRESS, new MapLocation(4 * (i % 15), 4 * (i / 15)));
+        }
+        endTurn();
+        assertEquals(2, SharedArrayLayout.readEventHead());
+        assertEquals(SharedArrayLayout.EVENT_COUNT, drain());
+    }
+
+    @Test
+    public void cursorFollowsTheHeadAcrossTheWrap() throws Exception {
+        for (int i = 0; i < 126; ++i) {
+            Events.broadcast(Events.DISTRESS, new MapLocation(4 * (i % 15), 4 * (i / 15)));
+        }
+        endTurn();
+        drain();
+        Events.broadcast(Events.LEAD_FIELD, new MapLocation(1, 1));
+        Events.broadcast(Events.LEAD_FIELD, new MapLocation(5, 1));
+        Events.broadcast(Events.LEAD_FIELD, new MapLocation(9, 1));
+        endTurn();
+        assertEquals(1, SharedArrayLayout.readEventHead());
+        assertEquals(3, drain());
+    }
+
+    @Test
+    public void oldEventsAreExpired() throws Exception {
+        Events.broadcast(Events.DISTRESS, new MapLocation(30, 30));
+        advance(Events.MAX_AGE);
+        assertEquals(1, drain());
+        becomeNewRobot();
+        advance(1);
+        assertEquals(0, drain());
+    }
+}
@@ -0,0 +1,106 @@
+package simpleplayer;
+
+import battlecode.common.Direction;
+import battlecode.common.GameConstants;
+import battlecode.common.MapLocation;
+import battlecode.common.RobotController;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Just enough of a RobotController to test the code that talks to the shared array, senses the map or moves: the
+ * array itself, the round number, our ID, the map size, our location, rubble and which tiles hold robots. Moving is
+ * always ready, and only blocked by robots and the edge of the map. Anything else throws.
+ */
+final class FakeRobotController implements InvocationHandler {
+
+    // every fake starts in a round the cache hasn't seen yet
+    private static int nextRound = 1;
+
+    final int[] sharedArray = new int[GameConstants.SHARED_ARRAY_LENGTH];
+    int round = nextRound++;
+    int id = 1;
+    int mapWidth = 60;
+    int mapHeight = 60;
+    MapLocation location = new MapLocation(0, 0);
+    final int[][] rubble = new int[GameConstants.MAP_MAX_WIDTH][GameConstants.MAP_MAX_HEIGHT];
+    final Set<MapLocation> robots = new HashSet<>();
+    int engineReads = 0;
+    int engineWrites = 0;
+
+    /**
+     * Makes a new fake the robot's controller, after writing back anything the cache still holds for the old one, and
+     * begins its first turn.
+     */
+    static FakeRobotController install() throws Exception {
+        if (RobotPlayer.rc != null) {
+            SharedArrayCache.flush();
+        }
+        FakeRobotController fake = new FakeRobotController();
+        RobotPlayer.rc = (RobotController) Proxy.newProxyInstance(FakeRobotController.class.getClassLoader(),
+                new Class<?>[]{RobotController.class}, fake);
+        SharedArrayCache.beginTurn();
+        return fake;
+    }
+
+    void nextRound() {
+        round = nextRound++;
+    }
+
+    boolean onTheMap(MapLocation loc) {
+        return loc.x >= 0 && loc.y >= 0 && loc.x < mapWidth && loc.y < mapHeight;
+    }
+
+    boolean canMove(Direction dir) {
+        MapLocation loc = location.add(dir);
+        return onTheMap(loc) && !robots.contains(loc);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "getRoundNum":
+                return round;
+            case "getID":
+                return id;
+            case "getMapWidth":
+                return mapWidth;
+            case "getMapHeight":
+                return mapHeight;
+            case "getLocation":
+                return location;
+            case "onTheMap":
+                return onTheMap((MapLocation) args[0]);
+            case "senseRubble":
+                if (!onTheMap((MapLocation) args[0])) {
+                    throw new IllegalArgumentException("off the map: " + args[0]);
+                }
+                return rubble[((MapLocation) args[0]).x][((MapLocation) args[0]).y];
+            case "canSenseRobotAtLocation":
+                return robots.contains((MapLocation) args[0]);
+            case "isMovementReady":
+                return true;
+            case "canMove":
+                return canMove((Direction) args[0]);
+            case "move":
+                if (!canMove((Direction) args[0])) {
+                    throw new IllegalStateException("can't move " + args[0] + " from " + location);
+                }
+                location = location.add((Direction) args[0]);
+                return null;
+            case "readSharedArray":
+                ++engineReads;
+                return sharedArray[(Integer) args[0]];
+            case "writeSharedArray":
+                ++engineWrites;
+                sharedArray[(Integer) args[0]] = (Integer) args[1];
+                return null;
+            default:
+                throw new UnsupportedOperationException(method.getName());
+        }
+    }
+}
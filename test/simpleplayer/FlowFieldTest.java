@@ -0,0 +1,94 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.MapLocation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+public class FlowFieldTest {
+
+    private FakeRobotController rc;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+        ArchonRegistry.myArchonIndex = -1;
+    }
+
+    // an archon in the given slot that ran this round
+    private void archon(int slot) throws Exception {
+        SharedArrayLayout.writeArchonLocation(slot, slot + 1);
+        SharedArrayLayout.writeArchonHeartbeat(slot, rc.round & SharedArrayLayout.ARCHON_HEARTBEAT_MASK);
+    }
+
+    private static boolean isProducer() throws Exception {
+        Method isProducer = FlowField.class.getDeclaredMethod("isProducer");
+        isProducer.setAccessible(true);
+        return (Boolean) isProducer.invoke(null);
+    }
+
+    @Test
+    public void onlyTheLowestLiveSlotProduces() throws Exception {
+        archon(1);
+        archon(2);
+        ArchonRegistry.myArchonIndex = 1;
+        assertTrue(isProducer());
+        ArchonRegistry.myArchonIndex = 2;
+        assertFalse(isProducer());
+
+        // not even if the field has gone stale
+        rc.round += 1000;
+        archon(1);
+        archon(2);
+        assertFalse(isProducer());
+
+        // but once slot 1 stops running, slot 2 takes over
+        rc.round += 2;
+        archon(2);
+        assertTrue(isProducer());
+    }
+
+    @Test
+    public void headerIsClearedBeforeTheFirstAdviceWord() throws Exception {
+        SharedArrayLayout.writeFlowFieldHeader(0x1234);
+        SharedArrayCache.flush();
+
+        Field cursor = FlowField.class.getDeclaredField("cursor");
+        cursor.setAccessible(true);
+        cursor.setInt(null, 0);
+        Method publish = FlowField.class.getDeclaredMethod("publish", int.class);
+        publish.setAccessible(true);
+        // there's no Clock in tests, so this runs out of bytecodes before writing any advice
+        assertFalse((Boolean) publish.invoke(null, 112));
+        SharedArrayCache.flush();
+        assertEquals(0, rc.sharedArray[SharedArrayLayout.FLOW_FIELD_HEADER_INDEX]);
+        assertNull(FlowField.getNextStop(new MapLocation(0, 0), new MapLocation(50, 50)));
+    }
+
+    private static void setStatic(String name, Object value) throws Exception {
+        Field field = FlowField.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(null, value);
+    }
+
+    @Test
+    public void unknownSamplesCountAsTheAverageOfTheKnownOnes() throws Exception {
+        // 4 blocks: all samples unknown, all known with 0 rubble, all known with 50, and 2 unknown next to 3 at 10
+        int[] blockCost = {5, 0, 250 << 3, (30 << 3) | 2};
+        setStatic("blockCost", blockCost);
+        setStatic("dist", new int[4]);
+        setStatic("heap", new IntHeap(32));
+        setStatic("targetBlock", 0);
+        setStatic("knownRubble", 280);
+        setStatic("knownSamples", 18);
+        Method startSearch = FlowField.class.getDeclaredMethod("startSearch", int.class);
+        startSearch.setAccessible(true);
+        startSearch.invoke(null, 4);
+        // the average known sample has 280 / 18 = 15 rubble
+        assertArrayEquals(new int[]{10 + 15, 10, 10 + 50, 10 + (30 + 2 * 15) / 5}, blockCost);
+    }
+}
@@ -0,0 +1,73 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.MapLocation;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LeadDensityTest {
+
+    private static final double NOTHING = 0;
+    private static final double SOME = 10;
+    private static final double LOTS = 100;
+
+    // two blocks in the same field
+    private static final MapLocation A = new MapLocation(2, 2);
+    private static final MapLocation B = new MapLocation(12, 12);
+
+    private FakeRobotController rc;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+        assertEquals(LeadDensity.getField(A), LeadDensity.getField(B));
+        scan(A, LOTS);
+    }
+
+    private void scan(MapLocation loc, double resources) throws Exception {
+        LeadDensity.report(loc, resources);
+        LeadDensity.publish();
+    }
+
+    @Test
+    public void richBlocksRaiseTheLevelRightAway() throws Exception {
+        SharedArrayLayout.writeLeadDensity(LeadDensity.getField(A), LeadDensity.UNKNOWN);
+        scan(A, NOTHING);
+        assertEquals(LeadDensity.EMPTY, LeadDensity.read(A));
+        scan(A, SOME);
+        assertEquals(LeadDensity.SOME, LeadDensity.read(A));
+        scan(B, LOTS);
+        assertEquals(LeadDensity.RICH, LeadDensity.read(A));
+    }
+
+    @Test
+    public void onlyTheBestBlockOfAScanCounts() throws Exception {
+        for (int i = 0; i < 10; ++i) {
+            LeadDensity.report(A, NOTHING);
+            LeadDensity.report(B, LOTS);
+            LeadDensity.publish();
+            assertEquals(LeadDensity.RICH, LeadDensity.read(A));
+        }
+    }
+
+    @Test
+    public void everyScanThatSeesLessLowersByOneLevel() throws Exception {
+        scan(A, NOTHING);
+        assertEquals(LeadDensity.SOME, LeadDensity.read(A));
+        scan(B, NOTHING);
+        assertEquals(LeadDensity.EMPTY, LeadDensity.read(A));
+        scan(A, NOTHING);
+        assertEquals(LeadDensity.EMPTY, LeadDensity.read(A));
+    }
+
+    @Test
+    public void otherFieldsAreLeftAlone() throws Exception {
+        MapLocation far = new MapLocation(59, 59);
+        int before = LeadDensity.read(far);
+        for (int i = 0; i < 5; ++i) {
+            scan(A, NOTHING);
+        }
+        assertEquals(before, LeadDensity.read(far));
+    }
+}
@@ -0,0 +1,97 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.RobotType;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LeadLedgerTest {
+
+    private static final int LEAD = 1000;
+
+    private FakeRobotController rc;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+        RobotPlayer.ourLead = LEAD;
+        ArchonRegistry.myArchonIndex = -1;
+    }
+
+    // an archon in the given slot that ran this round
+    private void archon(int slot, int claim) throws Exception {
+        SharedArrayLayout.writeArchonLocation(slot, slot + 1);
+        SharedArrayLayout.writeArchonHeartbeat(slot, rc.round & SharedArrayLayout.ARCHON_HEARTBEAT_MASK);
+        SharedArrayLayout.writeLeadClaim(slot, claim);
+    }
+
+    @Test
+    public void everythingIsAvailableWithoutClaims() throws Exception {
+        for (int slot = 0; slot < ArchonRegistry.NUM_SLOTS; ++slot) {
+            archon(slot, LeadLedger.NONE);
+        }
+        for (int priority = LeadLedger.NONE; priority <= LeadLedger.DEFENSE; ++priority) {
+            assertEquals(LEAD, LeadLedger.getAvailableLead(priority));
+        }
+    }
+
+    @Test
+    public void onlyHigherClaimsReserveLead() throws Exception {
+        archon(1, LeadLedger.ARMY);
+        assertEquals(LEAD - RobotType.SOLDIER.buildCostLead, LeadLedger.getAvailableLead(LeadLedger.NONE));
+        assertEquals(LEAD - RobotType.SOLDIER.buildCostLead, LeadLedger.getAvailableLead(LeadLedger.ECONOMY));
+        assertEquals(LEAD, LeadLedger.getAvailableLead(LeadLedger.ARMY));
+        assertEquals(LEAD, LeadLedger.getAvailableLead(LeadLedger.DEFENSE));
+    }
+
+    @Test
+    public void claimsReserveTheMostExpensiveThingTheirPriorityBuilds() throws Exception {
+        archon(0, LeadLedger.ECONOMY);
+        archon(1, LeadLedger.ARMY);
+        archon(2, LeadLedger.DEFENSE);
+        int economy = Math.max(RobotType.MINER.buildCostLead, RobotType.BUILDER.buildCostLead);
+        int army = RobotType.SOLDIER.buildCostLead;
+        int defense = Math.max(RobotType.MINER.buildCostLead, RobotType.SOLDIER.buildCostLead);
+        assertEquals(LEAD - economy - army - defense, LeadLedger.getAvailableLead(LeadLedger.NONE));
+        assertEquals(LEAD - army - defense, LeadLedger.getAvailableLead(LeadLedger.ECONOMY));
+        assertEquals(LEAD - defense, LeadLedger.getAvailableLead(LeadLedger.ARMY));
+        assertEquals(LEAD, LeadLedger.getAvailableLead(LeadLedger.DEFENSE));
+    }
+
+    @Test
+    public void ourOwnClaimDoesNotCount() throws Exception {
+        archon(2, LeadLedger.NONE);
+        ArchonRegistry.myArchonIndex = 2;
+        LeadLedger.claim(LeadLedger.DEFENSE);
+        assertEquals(LeadLedger.DEFENSE, SharedArrayLayout.readLeadClaim(2));
+        assertEquals(LEAD, LeadLedger.getAvailableLead(LeadLedger.ECONOMY));
+
+        // but everyone else sees it
+        ArchonRegistry.myArchonIndex = 0;
+        assertTrue(LeadLedger.getAvailableLead(LeadLedger.ECONOMY) < LEAD);
+    }
+
+    @Test
+    public void deadArchonsDoNotHoldOnToLead() throws Exception {
+        archon(3, LeadLedger.DEFENSE);
+        rc.nextRound();
+        assertTrue(LeadLedger.getAvailableLead(LeadLedger.NONE) < LEAD);
+        rc.nextRound();
+        assertEquals(LEAD, LeadLedger.getAvailableLead(LeadLedger.NONE));
+    }
+
+    @Test
+    public void emptySlotsDoNotHoldOnToLead() throws Exception {
+        archon(3, LeadLedger.DEFENSE);
+        SharedArrayLayout.writeArchonLocation(3, 0);
+        assertEquals(LEAD, LeadLedger.getAvailableLead(LeadLedger.NONE));
+    }
+
+    @Test
+    public void reservationsCanLeaveNothing() throws Exception {
+        RobotPlayer.ourLead = 10;
+        archon(0, LeadLedger.ARMY);
+        assertTrue(LeadLedger.getAvailableLead(LeadLedger.ECONOMY) < 0);
+    }
+}
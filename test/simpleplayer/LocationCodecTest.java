@@ -0,0 +1,157 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.GameConstants;
+import battlecode.common.MapLocation;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LocationCodecTest {
+
+    private static final int INDEX = 10;
+    private static final LocationCodec[] CODECS = {LocationCodec.COARSE, LocationCodec.CELL_2X2};
+
+    private FakeRobotController rc;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+    }
+
+    // writes in one turn, and reads in a later one
+    private void writeAt(LocationCodec codec, int round, MapLocation loc) throws Exception {
+        rc.round = round;
+        codec.write(INDEX, loc);
+        SharedArrayCache.flush();
+    }
+
+    private void readAt(int round) {
+        rc.round = round;
+    }
+
+    @Test
+    public void exactLocationsRoundTripEverywhere() throws Exception {
+        LocationCodec codec = LocationCodec.COARSE;
+        for (int x = 0; x < GameConstants.MAP_MAX_WIDTH; ++x) {
+            for (int y = 0; y < GameConstants.MAP_MAX_HEIGHT; ++y) {
+                MapLocation loc = new MapLocation(x, y);
+                codec.write(INDEX, loc);
+                assertEquals(loc, codec.read(INDEX));
+                assertEquals(loc, codec.quantize(loc));
+            }
+        }
+    }
+
+    @Test
+    public void cellsReadBackAsTheirCenter() throws Exception {
+        LocationCodec codec = LocationCodec.CELL_2X2;
+        assertEquals(2, codec.cellSize());
+        for (int x = 0; x < GameConstants.MAP_MAX_WIDTH; ++x) {
+            for (int y = 0; y < GameConstants.MAP_MAX_HEIGHT; ++y) {
+                MapLocation loc = new MapLocation(x, y);
+                codec.write(INDEX, loc);
+                MapLocation read = codec.read(INDEX);
+                assertEquals(new MapLocation(x / 2 * 2 + 1, y / 2 * 2 + 1), read);
+                assertEquals(read, codec.quantize(loc));
+            }
+        }
+    }
+
+    @Test
+    public void cellCentersStayOnOddSizedMaps() throws Exception {
+        rc.mapWidth = 59;
+        rc.mapHeight = 21;
+        LocationCodec codec = LocationCodec.CELL_2X2;
+        codec.write(INDEX, new MapLocation(58, 20));
+        assertEquals(new MapLocation(58, 20), codec.read(INDEX));
+        assertEquals(new MapLocation(58, 20), codec.quantize(new MapLocation(58, 20)));
+        codec.write(INDEX, new MapLocation(57, 19));
+        assertEquals(new MapLocation(57, 19), codec.read(INDEX));
+    }
+
+    @Test
+    public void nullAndZeroMeanNoLocation() throws Exception {
+        for (LocationCodec codec : CODECS) {
+            assertNull(codec.read(INDEX));
+            assertEquals(-1, codec.age(INDEX));
+            assertNull(codec.readIfSeenWithin(INDEX, Integer.MAX_VALUE));
+            // the origin in the first round still isn't 0
+            MapLocation origin = new MapLocation(0, 0);
+            writeAt(codec, 0, origin);
+            readAt(0);
+            assertEquals(codec.quantize(origin), codec.read(INDEX));
+            assertEquals(0, codec.age(INDEX));
+            writeAt(codec, 1, null);
+            assertNull(codec.read(INDEX));
+            assertEquals(-1, codec.age(INDEX));
+        }
+    }
+
+    @Test
+    public void ticksNeverMakeEntriesLookFresher() throws Exception {
+        for (LocationCodec codec : CODECS) {
+            int tick = codec.roundsPerTick();
+            for (int round = 0; round <= GameConstants.GAME_MAX_NUMBER_OF_ROUNDS; ++round) {
+                writeAt(codec, round, new MapLocation(30, 30));
+                int tickStart = round / tick * tick;
+                readAt(round);
+                assertEquals(round - tickStart, codec.age(INDEX));
+                readAt(round + 50);
+                int age = codec.age(INDEX);
+                assertTrue(age >= 50);
+                assertTrue(age < 50 + tick);
+            }
+        }
+    }
+
+    @Test
+    public void tickEdges() throws Exception {
+        LocationCodec codec = LocationCodec.COARSE;
+        int tick = codec.roundsPerTick();
+        assertEquals(112, tick);
+
+        // the last round of a tick is as old as the first one
+        writeAt(codec, tick - 1, new MapLocation(3, 4));
+        readAt(tick - 1);
+        assertEquals(tick - 1, codec.age(INDEX));
+        readAt(tick);
+        assertEquals(tick, codec.age(INDEX));
+
+        // the first round of the next tick starts over
+        writeAt(codec, tick, new MapLocation(3, 4));
+        readAt(tick);
+        assertEquals(0, codec.age(INDEX));
+        readAt(2 * tick - 1);
+        assertEquals(tick - 1, codec.age(INDEX));
+        assertEquals(new MapLocation(3, 4), codec.readIfSeenWithin(INDEX, tick - 1));
+        assertNull(codec.readIfSeenWithin(INDEX, tick - 2));
+    }
+
+    @Test
+    public void lastRoundInTheLastCellFitsInAWord() throws Exception {
+        for (LocationCodec codec : new LocationCodec[]{LocationCodec.COARSE, LocationCodec.CELL_2X2}) {
+            MapLocation corner = new MapLocation(GameConstants.MAP_MAX_WIDTH - 1, GameConstants.MAP_MAX_HEIGHT - 1);
+            writeAt(codec, GameConstants.GAME_MAX_NUMBER_OF_ROUNDS, corner);
+            int encoded = rc.sharedArray[INDEX];
+            assertTrue(encoded > 0);
+            assertTrue(encoded <= 0xFFFF);
+            readAt(GameConstants.GAME_MAX_NUMBER_OF_ROUNDS);
+            assertEquals(codec.quantize(corner), codec.read(INDEX));
+            assertTrue(codec.age(INDEX) < codec.roundsPerTick());
+        }
+    }
+
+    @Test
+    public void differentRoundsNeverCollideWithDifferentCells() throws Exception {
+        LocationCodec codec = LocationCodec.CELL_2X2;
+        MapLocation first = new MapLocation(0, 0);
+        MapLocation second = new MapLocation(0, 2);
+        writeAt(codec, GameConstants.GAME_MAX_NUMBER_OF_ROUNDS, first);
+        int late = rc.sharedArray[INDEX];
+        writeAt(codec, 0, second);
+        assertNotEquals(late, rc.sharedArray[INDEX]);
+        readAt(0);
+        assertEquals(codec.quantize(second), codec.read(INDEX));
+    }
+}
@@ -0,0 +1,124 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.MapLocation;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LocationRegistryTest {
+
+    private static final int FIRST_INDEX = 10;
+    private static final int CAPACITY = 4;
+    private static final int MAX_AGE = 100;
+    private static final int MERGE_DISTANCE_SQ = 8;
+
+    // the enemy archons' codec, with 28-round ticks
+    private static final LocationCodec CODEC = LocationCodec.CELL_2X2;
+
+    private FakeRobotController rc;
+    private LocationRegistry registry;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+        // the start of a tick, so that ages are exact
+        rc.round = 20 * CODEC.roundsPerTick();
+        registry = new LocationRegistry(FIRST_INDEX, CAPACITY, CODEC, MAX_AGE, MERGE_DISTANCE_SQ);
+    }
+
+    private int count() throws Exception {
+        int n = 0;
+        for (MapLocation loc : registry.queryAll()) {
+            if (loc != null) {
+                ++n;
+            }
+        }
+        return n;
+    }
+
+    @Test
+    public void insertAddsNewLocations() throws Exception {
+        assertNull(registry.insert(new MapLocation(5, 5)));
+        assertNull(registry.insert(new MapLocation(40, 40)));
+        assertEquals(2, count());
+    }
+
+    @Test
+    public void insertRefreshesAndMovesCloseEntries() throws Exception {
+        assertNull(registry.insert(new MapLocation(5, 5)));
+        rc.round += 84;
+        assertEquals(new MapLocation(5, 5), registry.insert(new MapLocation(7, 7)));
+        assertEquals(1, count());
+        // the refresh restarted its expiry, and it has moved
+        rc.round += 84;
+        MapLocation[] all = registry.queryAll();
+        int found = 0;
+        for (MapLocation loc : all) {
+            if (loc != null) {
+                assertEquals(new MapLocation(7, 7), loc);
+                ++found;
+            }
+        }
+        assertEquals(1, found);
+    }
+
+    @Test
+    public void entriesExpireOnTheirOwn() throws Exception {
+        registry.insert(new MapLocation(5, 5));
+        rc.round += MAX_AGE + CODEC.roundsPerTick();
+        assertEquals(0, count());
+        // and an expired entry isn't refreshed, its slot is reused
+        assertNull(registry.insert(new MapLocation(5, 5)));
+        assertEquals(1, count());
+    }
+
+    @Test
+    public void expireClearsASlot() throws Exception {
+        registry.insert(new MapLocation(5, 5));
+        MapLocation[] all = registry.queryAll();
+        for (int slot = 0; slot < CAPACITY; ++slot) {
+            if (all[slot] != null) {
+                registry.expire(slot);
+            }
+        }
+        assertEquals(0, count());
+    }
+
+    @Test
+    public void queryIfSeenWithinIsStricter() throws Exception {
+        registry.insert(new MapLocation(5, 5));
+        int slot = 0;
+        while (registry.query(slot) == null) {
+            ++slot;
+        }
+        rc.round += 56;
+        assertNotNull(registry.queryIfSeenWithin(slot, MAX_AGE));
+        assertNull(registry.queryIfSeenWithin(slot, 10));
+        // but never looser than the registry's own expiry
+        rc.round += MAX_AGE;
+        assertNull(registry.queryIfSeenWithin(slot, 10 * MAX_AGE));
+    }
+
+    @Test
+    public void aFullRegistryReplacesTheOldestEntry() throws Exception {
+        for (int i = 0; i < CAPACITY; ++i) {
+            registry.insert(new MapLocation(10 * i + 1, 10 * i + 1));
+            rc.round += CODEC.roundsPerTick();
+        }
+        registry.insert(new MapLocation(55, 7));
+        assertEquals(CAPACITY, count());
+        boolean oldestGone = true;
+        boolean newestThere = false;
+        for (MapLocation loc : registry.queryAll()) {
+            if (new MapLocation(1, 1).equals(loc)) {
+                oldestGone = false;
+            }
+            if (new MapLocation(55, 7).equals(loc)) {
+                newestThere = true;
+            }
+        }
+        assertTrue(newestThere);
+        assertTrue(oldestGone);
+    }
+}
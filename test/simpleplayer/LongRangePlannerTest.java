@@ -0,0 +1,75 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.MapLocation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+public class LongRangePlannerTest {
+
+    private FakeRobotController rc;
+    private LongRangePlanner planner;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+        rc.location = new MapLocation(5, 5);
+        planner = new LongRangePlanner();
+    }
+
+    private Object get(String name) throws Exception {
+        Field field = LongRangePlanner.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(planner);
+    }
+
+    private void set(String name, Object value) throws Exception {
+        Field field = LongRangePlanner.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(planner, value);
+    }
+
+    @Test
+    public void closeTargetsAreLeftToTheBFS() throws Exception {
+        planner.setGoal(new MapLocation(10, 10));
+        assertNull(get("goal"));
+        assertFalse((Boolean) get("needsNewSearch"));
+    }
+
+    @Test
+    public void aNearbyGoalKeepsTheCurrentSearch() throws Exception {
+        MapLocation goal = new MapLocation(40, 40);
+        planner.setGoal(goal);
+        assertEquals(goal, get("goal"));
+        // the search got going
+        set("needsNewSearch", false);
+        set("searching", true);
+
+        planner.setGoal(new MapLocation(42, 38));
+        assertEquals(goal, get("goal"));
+        assertTrue((Boolean) get("searching"));
+        assertFalse((Boolean) get("needsNewSearch"));
+
+        planner.setGoal(new MapLocation(43, 40));
+        assertEquals(new MapLocation(43, 40), get("goal"));
+        assertFalse((Boolean) get("searching"));
+        assertTrue((Boolean) get("needsNewSearch"));
+    }
+
+    @Test
+    public void theBFSTakesOverAtTheEndOfThePath() throws Exception {
+        planner.setGoal(new MapLocation(5, 20));
+        int[] path = new int[16];
+        for (int i = 0; i < path.length; ++i) {
+            path[i] = (5 << 6) | (5 + i);
+        }
+        set("path", path);
+        for (int y = 5; y < 18; ++y) {
+            assertEquals(new MapLocation(5, y + 2), planner.getWaypoint(new MapLocation(5, y)));
+        }
+        assertNull(planner.getWaypoint(new MapLocation(5, 18)));
+    }
+}
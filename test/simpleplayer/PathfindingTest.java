@@ -0,0 +1,144 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.Direction;
+import battlecode.common.MapLocation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+public class PathfindingTest {
+
+    private static Pathfinding.BugNav bugNavTo(MapLocation target) throws Exception {
+        Pathfinding pathfinding = new Pathfinding();
+        Field field = Pathfinding.class.getDeclaredField("target");
+        field.setAccessible(true);
+        field.set(pathfinding, target);
+        pathfinding.initTurn();
+        return pathfinding.new BugNav();
+    }
+
+    private FakeRobotController rc;
+
+    // a new turn at loc
+    private void startTurnAt(MapLocation loc) {
+        rc.location = loc;
+        RobotPlayer.locAtStartOfTurn = loc;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+    }
+
+    @Test
+    public void everyVisitedStateHasItsOwnBit() throws Exception {
+        MapLocation target = new MapLocation(30, 30);
+        Pathfinding.BugNav bugNav = bugNavTo(target);
+        boolean[] used = new boolean[16];
+        for (Direction d : Directions.ACTUAL_DIRECTIONS) {
+            // the direction from here to the target is d
+            MapLocation myLoc = target.subtract(d);
+            for (boolean rotateRight : new boolean[]{false, true}) {
+                bugNav.rotateRight = rotateRight;
+                int code = bugNav.getCode(myLoc);
+                assertTrue(code >= 0 && code < 16);
+                assertFalse(used[code]);
+                used[code] = true;
+            }
+        }
+    }
+
+    @Test
+    public void standingOnTheTargetIsNotAState() throws Exception {
+        MapLocation target = new MapLocation(30, 30);
+        Pathfinding.BugNav bugNav = bugNavTo(target);
+        assertEquals(-1, bugNav.getCode(target));
+        bugNav.lastObstacleFound = new MapLocation(31, 30);
+        assertEquals(Direction.EAST.ordinal() << 1 | 1, bugNav.getCode(target));
+    }
+
+    @Test
+    public void followsTheWallOnTheSideThatEndsUpCloser() throws Exception {
+        MapLocation start = new MapLocation(10, 10);
+        MapLocation target = new MapLocation(10, 20);
+        // the way north is blocked, and so is the first step on the right
+        rc.robots.add(start.add(Direction.NORTH));
+        rc.robots.add(start.add(Direction.NORTHEAST));
+        startTurnAt(start);
+        Pathfinding.BugNav bugNav = bugNavTo(target);
+        assertTrue(bugNav.move());
+        assertFalse(bugNav.rotateRight);
+        assertEquals(start.add(Direction.NORTHWEST), rc.location);
+
+        // and the other way around
+        rc = FakeRobotController.install();
+        rc.robots.add(start.add(Direction.NORTH));
+        rc.robots.add(start.add(Direction.NORTHWEST));
+        startTurnAt(start);
+        bugNav = bugNavTo(target);
+        assertTrue(bugNav.move());
+        assertTrue(bugNav.rotateRight);
+        assertEquals(start.add(Direction.NORTHEAST), rc.location);
+    }
+
+    @Test
+    public void keepsItsRotationWhenSurrounded() throws Exception {
+        MapLocation start = new MapLocation(10, 10);
+        for (Direction d : Directions.ACTUAL_DIRECTIONS) {
+            rc.robots.add(start.add(d));
+        }
+        startTurnAt(start);
+        Pathfinding.BugNav bugNav = bugNavTo(new MapLocation(10, 20));
+        for (boolean rotateRight : new boolean[]{false, true}) {
+            bugNav.rotateRight = rotateRight;
+            bugNav.chooseRotation(start, Direction.NORTH);
+            assertEquals(rotateRight, bugNav.rotateRight);
+        }
+    }
+
+    // goes around a wall right in front of us, and then comes back to the start with a given rotation
+    private Pathfinding.BugNav comeBackToTheStart(boolean rotateRight) throws Exception {
+        MapLocation start = new MapLocation(10, 10);
+        rc.robots.add(start.add(Direction.NORTH));
+        startTurnAt(start);
+        Pathfinding.BugNav bugNav = bugNavTo(new MapLocation(10, 20));
+        assertTrue(bugNav.move());
+        assertEquals(start.add(Direction.NORTH), bugNav.lastObstacleFound);
+        // never get free by getting closer, so that only the visited states can reset the search
+        bugNav.minDistToEnemy = 0;
+        bugNav.rotateRight = rotateRight;
+        startTurnAt(start);
+        return bugNav;
+    }
+
+    @Test
+    public void comingBackToAStateResetsTheSearch() throws Exception {
+        Pathfinding.BugNav bugNav = comeBackToTheStart(true);
+        int generation = bugNav.generation;
+        assertTrue(bugNav.move());
+        assertEquals(generation + 1, bugNav.generation);
+    }
+
+    @Test
+    public void comingBackWithTheOtherRotationIsANewState() throws Exception {
+        Pathfinding.BugNav bugNav = comeBackToTheStart(false);
+        int generation = bugNav.generation;
+        assertTrue(bugNav.move());
+        assertEquals(generation, bugNav.generation);
+        assertNotNull(bugNav.lastObstacleFound);
+    }
+
+    @Test
+    public void resettingForgetsEveryVisitedState() throws Exception {
+        Pathfinding.BugNav bugNav = comeBackToTheStart(true);
+        bugNav.resetPathfinding();
+        bugNav.lastObstacleFound = new MapLocation(10, 11);
+        bugNav.minDistToEnemy = 0;
+        int generation = bugNav.generation;
+        assertTrue(bugNav.move());
+        assertEquals(generation, bugNav.generation);
+    }
+}
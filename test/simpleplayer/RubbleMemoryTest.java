@@ -0,0 +1,91 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import battlecode.common.GameConstants;
+import battlecode.common.MapLocation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+public class RubbleMemoryTest {
+
+    private static final int MAX_RUBBLE = 100;
+
+    // RubbleMemory is static, and other tests sense rubble too
+    @Before
+    public void setUp() throws Exception {
+        Field grid = RubbleMemory.class.getDeclaredField("grid");
+        grid.setAccessible(true);
+        Arrays.fill((long[]) grid.get(null), 0);
+    }
+
+    @Test
+    public void unsensedTilesAreUnknown() {
+        for (int x = 0; x < GameConstants.MAP_MAX_WIDTH; ++x) {
+            for (int y = 0; y < GameConstants.MAP_MAX_HEIGHT; ++y) {
+                assertFalse(RubbleMemory.isKnown(x, y));
+                assertEquals(0, RubbleMemory.getLevel(x, y));
+                assertEquals(RubbleMemory.UNKNOWN, RubbleMemory.getRubble(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void levelsAreLowerBounds() {
+        int x = 1;
+        for (int rubble = 0; rubble <= MAX_RUBBLE; ++rubble) {
+            RubbleMemory.record(x, 7, rubble);
+            assertTrue(RubbleMemory.isKnown(x, 7));
+            assertEquals(rubble / RubbleMemory.RUBBLE_PER_LEVEL + 1, RubbleMemory.getLevel(x, 7));
+            int remembered = RubbleMemory.getRubble(x, 7);
+            assertTrue(remembered <= rubble);
+            assertTrue(remembered > rubble - RubbleMemory.RUBBLE_PER_LEVEL);
+        }
+        // zero rubble is still known, and remembered as zero
+        RubbleMemory.record(x, 7, 0);
+        assertTrue(RubbleMemory.isKnown(x, 7));
+        assertEquals(0, RubbleMemory.getRubble(new MapLocation(x, 7)));
+    }
+
+    @Test
+    public void maxRubbleFitsInANibble() {
+        RubbleMemory.record(2, 0, MAX_RUBBLE);
+        assertEquals(MAX_RUBBLE / RubbleMemory.RUBBLE_PER_LEVEL + 1, RubbleMemory.getLevel(2, 0));
+        assertTrue(RubbleMemory.getLevel(2, 0) <= 15);
+        // and doesn't spill into the next tile
+        assertFalse(RubbleMemory.isKnown(3, 0));
+    }
+
+    @Test
+    public void overwritingLowersAsWellAsRaises() {
+        RubbleMemory.record(new MapLocation(4, 4), MAX_RUBBLE);
+        RubbleMemory.record(new MapLocation(4, 4), 8);
+        assertEquals(7, RubbleMemory.getRubble(4, 4));
+        RubbleMemory.record(4, 4, 50);
+        assertEquals(49, RubbleMemory.getRubble(4, 4));
+    }
+
+    @Test
+    public void everyTileKeepsItsOwnNibble() {
+        // every position within a long is covered, including the sign bits
+        int level = 0;
+        for (int y = 0; y < GameConstants.MAP_MAX_HEIGHT; ++y) {
+            for (int x = 0; x < GameConstants.MAP_MAX_WIDTH; ++x) {
+                RubbleMemory.record(x, y, (level++ % 15) * RubbleMemory.RUBBLE_PER_LEVEL);
+            }
+        }
+        level = 0;
+        for (int y = 0; y < GameConstants.MAP_MAX_HEIGHT; ++y) {
+            for (int x = 0; x < GameConstants.MAP_MAX_WIDTH; ++x) {
+                assertEquals(level++ % 15 + 1, RubbleMemory.getLevel(x, y));
+            }
+        }
+        // rewriting one tile leaves both of its neighbours alone
+        RubbleMemory.record(30, 30, MAX_RUBBLE);
+        assertEquals((30 * 60 + 29) % 15 + 1, RubbleMemory.getLevel(29, 30));
+        assertEquals((30 * 60 + 31) % 15 + 1, RubbleMemory.getLevel(31, 30));
+    }
+}
@@ -0,0 +1,86 @@
+package simpleplayer;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class SharedArrayCacheTest {
+
+    private FakeRobotController rc;
+
+    @Before
+    public void setUp() throws Exception {
+        rc = FakeRobotController.install();
+    }
+
+    @Test
+    public void readsEachWordOncePerTurn() throws Exception {
+        rc.sharedArray[5] = 42;
+        assertEquals(42, SharedArrayCache.read(5));
+        assertEquals(42, SharedArrayCache.read(5));
+        assertEquals(1, rc.engineReads);
+    }
+
+    @Test
+    public void onlyWritesChangedWordsOnFlush() throws Exception {
+        rc.sharedArray[3] = 7;
+        SharedArrayCache.write(3, 7);
+        SharedArrayCache.write(4, 1);
+        SharedArrayCache.write(4, 2);
+        assertEquals(0, rc.engineWrites);
+        SharedArrayCache.flush();
+        assertEquals(1, rc.engineWrites);
+        assertEquals(2, rc.sharedArray[4]);
+    }
+
+    @Test
+    public void forgetsReadsAfterFlush() throws Exception {
+        assertEquals(0, SharedArrayCache.read(9));
+        SharedArrayCache.flush();
+        rc.sharedArray[9] = 3;
+        assertEquals(3, SharedArrayCache.read(9));
+    }
+
+    @Test
+    public void keepsItsReadsUntilTheNextTurnBegins() throws Exception {
+        assertEquals(0, SharedArrayCache.read(12));
+        // we ran out of bytecode, and someone else wrote in between
+        rc.nextRound();
+        rc.sharedArray[12] = 5;
+        assertEquals(0, SharedArrayCache.read(12));
+        assertEquals(1, rc.engineReads);
+        SharedArrayCache.beginTurn();
+        assertEquals(5, SharedArrayCache.read(12));
+    }
+
+    @Test
+    public void beginningATurnInTheSameRoundKeepsTheReads() throws Exception {
+        assertEquals(0, SharedArrayCache.read(12));
+        rc.sharedArray[12] = 5;
+        SharedArrayCache.beginTurn();
+        assertEquals(0, SharedArrayCache.read(12));
+    }
+
+    @Test
+    public void keepsOtherRobotsBitsWhenANewTurnBeginsBeforeAFlush() throws Exception {
+        rc.sharedArray[8] = 0x0001;
+        SharedArrayCache.write(8, SharedArrayCache.read(8) | 0x0100);
+        rc.nextRound();
+        // another robot cleared bit 0 and set bit 4 before we got to flush
+        rc.sharedArray[8] = 0x0010;
+        SharedArrayCache.beginTurn();
+        assertEquals(0x0110, SharedArrayCache.read(8));
+        SharedArrayCache.flush();
+        assertEquals(0x0110, rc.sharedArray[8]);
+    }
+
+    @Test
+    public void rebasesOnFlushAfterTheRoundChanged() throws Exception {
+        SharedArrayCache.write(30, 0x00F0);
+        rc.nextRound();
+        rc.sharedArray[30] = 0x0F0F;
+        SharedArrayCache.flush();
+        assertEquals(0x0FFF, rc.sharedArray[30]);
+    }
+}